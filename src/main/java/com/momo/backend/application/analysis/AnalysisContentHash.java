@@ -0,0 +1,48 @@
+package com.momo.backend.application.analysis;
+
+import com.momo.backend.domain.analysis.entity.AnalysisPeriod;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.domain.diary.repository.DiaryVersionRow;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 분석 입력 해시
+ * SHA-256(타입, 기간, id 순으로 정렬한 (일기 id, 버전) 목록)
+ * 일기 작성/수정/삭제는 목록이나 버전을 바꾸므로, 해시가 같으면 같은 입력으로 본다.
+ * */
+public final class AnalysisContentHash {
+
+    private AnalysisContentHash() {
+    }
+
+    public static String of(AnalysisType analysisType, AnalysisPeriod period, List<DiaryVersionRow> diaries) {
+        MessageDigest digest = sha256();
+        digest.update((analysisType.name() + "|" + period.startDate() + "|" + period.endDate() + "|")
+                .getBytes(StandardCharsets.UTF_8));
+
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 2);
+        diaries.stream()
+                .sorted(Comparator.comparing(DiaryVersionRow::id))
+                .forEach(diary -> {
+                    buffer.clear();
+                    buffer.putLong(diary.id()).putLong(diary.version() != null ? diary.version() : 0L);
+                    digest.update(buffer.array());
+                });
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.momo.backend.application.analysis;
+
+import com.momo.backend.application.analysis.lexicon.PreliminaryEmotion;
+
+import java.time.Duration;
+
+/**
+ * 분석 생성 결과
+ * @param estimatedTime 완료까지 예상 소요 시간 (이미 완료된 경우 0)
+ * @param preliminary 어휘 사전 기반 예비 결과 (이미 완료된 경우 null)
+ * */
+public record AnalysisCreation(
+        AnalysisSnapshot analysis,
+        Duration estimatedTime,
+        PreliminaryEmotion preliminary
+) {
+}
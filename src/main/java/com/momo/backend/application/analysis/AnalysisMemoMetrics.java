@@ -0,0 +1,45 @@
+package com.momo.backend.application.analysis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분석 결과 재사용(메모이제이션) 지표
+ * hit 1건은 모델 호출 1건(재시도 제외)을 아낀 것이다.
+ * */
+@Component
+public class AnalysisMemoMetrics {
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public AnalysisMemoMetrics(MeterRegistry meterRegistry) {
+        this.hitCounter = Counter.builder("momo.analysis.memo.lookups")
+                .description("분석 생성 시 완료된 결과 재사용 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("momo.analysis.memo.lookups")
+                .description("분석 생성 시 완료된 결과 재사용 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("momo.analysis.memo.hit-rate", this, AnalysisMemoMetrics::hitRate)
+                .description("완료된 결과를 재사용한 분석 생성 비율 (기동 이후 누적)")
+                .register(meterRegistry);
+    }
+
+    public void hit() {
+        hitCounter.increment();
+    }
+
+    public void miss() {
+        missCounter.increment();
+    }
+
+    double hitRate() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+}
@@ -0,0 +1,149 @@
+package com.momo.backend.application.analysis;
+
+import com.momo.backend.application.analysis.inflight.InFlightAnalyses;
+import com.momo.backend.application.analysis.inflight.InFlightAnalysisKey;
+import com.momo.backend.application.analysis.job.AnalysisBacklog;
+import com.momo.backend.application.analysis.job.AnalysisEtaEstimator;
+import com.momo.backend.application.analysis.job.AnalysisJobDispatcher;
+import com.momo.backend.application.analysis.latest.LatestAnalysisCache;
+import com.momo.backend.application.analysis.lexicon.LexiconEmotionScorer;
+import com.momo.backend.application.analysis.lexicon.PreliminaryEmotion;
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import com.momo.backend.domain.analysis.entity.Analysis;
+import com.momo.backend.domain.analysis.entity.AnalysisJob;
+import com.momo.backend.domain.analysis.entity.AnalysisPeriod;
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.domain.analysis.event.AnalysisRequestedEvent;
+import com.momo.backend.domain.analysis.repository.AnalysisJobRepository;
+import com.momo.backend.domain.analysis.repository.AnalysisListRow;
+import com.momo.backend.domain.analysis.repository.AnalysisRepository;
+import com.momo.backend.domain.diary.repository.DiaryAnalysisRow;
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import com.momo.backend.domain.diary.repository.DiaryVersionRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 감정 분석 요청/조회
+ * 생성은 분석과 작업 행을 저장하고 바로 반환하며, 실제 분석은 커밋 후 AnalysisJobDispatcher 가 백그라운드로 실행한다.
+ * 기간 안 일기의 (id, 버전)이 지난 완료 분석과 같으면 작업을 만들지 않고 그 결과를 돌려준다.
+ * 새로 분석하는 경우 모델 분석을 기다리는 동안 보여줄 예비 결과를 어휘 사전으로 계산해 함께 돌려준다.
+ * 같은 (사용자, 타입, 기간) 분석이 진행 중이면 작업을 더 만들지 않고 진행 중인 분석을 돌려준다.
+ * 대기열이 포화면 새 작업을 만들지 않고 429 로 거절한다. (진행 중인 요청 합치기, 기존 결과 재사용은 대기열을 늘리지 않으므로 받는다)
+ * */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AnalysisService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final AnalysisRepository analysisRepository;
+    private final AnalysisJobRepository analysisJobRepository;
+    private final DiaryRepository diaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AnalysisEtaEstimator etaEstimator;
+    private final AnalysisJobDispatcher jobDispatcher;
+    private final AnalysisBacklog analysisBacklog;
+    private final AnalysisMemoMetrics memoMetrics;
+    private final LexiconEmotionScorer lexiconEmotionScorer;
+    private final LatestAnalysisCache latestAnalysisCache;
+    private final InFlightAnalyses inFlightAnalyses;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    /**
+     * 진행 중인 같은 요청을 기다리는 동안 DB 커넥션을 잡지 않도록, 트랜잭션은 실제로 생성하는 요청만 연다.
+     * */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public AnalysisCreation createAnalysis(Long userId, String analysisType) {
+        AnalysisType type = AnalysisType.from(analysisType);
+        AnalysisPeriod period = type.periodEndingAt(LocalDate.now(clock));
+        InFlightAnalysisKey key = new InFlightAnalysisKey(userId, type, period);
+        return inFlightAnalyses.coalesce(key, () -> transactionTemplate.execute(status -> create(key)));
+    }
+
+    private AnalysisCreation create(InFlightAnalysisKey key) {
+        Long userId = key.userId();
+        AnalysisType type = key.analysisType();
+        AnalysisPeriod period = key.period();
+        List<DiaryVersionRow> diaries = diaryRepository.findVersionRows(userId, period.startDate(), period.endDate());
+        if (diaries.isEmpty()) {
+            throw new BusinessException(ErrorCode.NO_DIARY_TO_ANALYZE);
+        }
+
+        String contentHash = AnalysisContentHash.of(type, period, diaries);
+        Optional<Analysis> memoized = analysisRepository.findFirstByUserIdAndContentHashAndStatusOrderByIdDesc(
+                userId, contentHash, AnalysisStatus.COMPLETED);
+        if (memoized.isPresent()) {
+            memoMetrics.hit();
+            log.info("변경 없는 기간 재분석 요청, 기존 결과 재사용 - 사용자: {}, 분석: {}", userId, memoized.get().getId());
+            return new AnalysisCreation(AnalysisSnapshot.from(memoized.get()), Duration.ZERO, null);
+        }
+        memoMetrics.miss();
+        analysisBacklog.admit(jobDispatcher.queuedJobs());
+
+        // 본문은 재사용되지 않을 때만 읽는다
+        List<DiaryAnalysisRow> contents = diaryRepository.findAnalysisRows(userId, period.startDate(), period.endDate());
+        PreliminaryEmotion preliminary = contents.isEmpty() ? null : lexiconEmotionScorer.score(contents);
+
+        Analysis analysis = analysisRepository.save(Analysis.builder()
+                .userId(userId)
+                .analysisType(type)
+                .period(period)
+                .diaryCount(diaries.size())
+                .build());
+        inFlightAnalyses.attach(key, analysis.getId());
+        AnalysisJob job = analysisJobRepository.save(new AnalysisJob(analysis, LocalDateTime.now(clock)));
+        eventPublisher.publishEvent(new AnalysisRequestedEvent(job.getId(), analysis.getId(), userId, type));
+
+        // 작업은 커밋 후 큐에 들어가므로 지금 같은 레인에 있는 작업이 모두 앞선다
+        Duration estimatedTime = etaEstimator.estimate(type, diaries.size(), jobDispatcher.jobsAhead());
+        return new AnalysisCreation(AnalysisSnapshot.from(analysis), estimatedTime, preliminary);
+    }
+
+    public AnalysisSnapshot getAnalysis(Long userId, Long analysisId) {
+        return analysisRepository.findByIdAndUserId(analysisId, userId)
+                .map(AnalysisSnapshot::from)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ANALYSIS_NOT_FOUND));
+    }
+
+    /**
+     * page 는 1부터 시작, status/analysisType 은 null 이면 필터하지 않음
+     * */
+    public Page<AnalysisListRow> getAnalysisPage(Long userId, String status, String analysisType, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return analysisRepository.findListPage(
+                userId,
+                status != null ? AnalysisStatus.from(status) : null,
+                analysisType != null ? AnalysisType.from(analysisType) : null,
+                PageRequest.of(Math.max(page - 1, 0), pageSize));
+    }
+
+    /**
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션을 열지 않는다. (미스 시 결과 컬렉션까지 읽는 동안만 트랜잭션으로 실행)
+     * */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<AnalysisSnapshot> getLatestAnalysis(Long userId) {
+        return latestAnalysisCache.get(userId, () -> transactionTemplate.execute(status ->
+                analysisRepository.findFirstByUserIdAndStatusOrderByIdDesc(userId, AnalysisStatus.COMPLETED)
+                        .map(AnalysisSnapshot::from)));
+    }
+}
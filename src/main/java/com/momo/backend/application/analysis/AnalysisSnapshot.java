@@ -0,0 +1,48 @@
+package com.momo.backend.application.analysis;
+
+import com.momo.backend.domain.analysis.entity.Analysis;
+import com.momo.backend.domain.analysis.entity.AnalysisPeriod;
+import com.momo.backend.domain.analysis.entity.AnalysisResult;
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 영속성 컨텍스트와 분리된 분석 값 (결과 컬렉션까지 읽어 둔 상태)
+ * @param result 완료된 경우에만 존재
+ * */
+public record AnalysisSnapshot(
+        Long id,
+        Long userId,
+        AnalysisType analysisType,
+        AnalysisStatus status,
+        AnalysisPeriod period,
+        int diaryCount,
+        AnalysisResult result,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt
+) {
+    public static AnalysisSnapshot from(Analysis analysis) {
+        AnalysisResult result = analysis.getStatus() == AnalysisStatus.COMPLETED
+                ? new AnalysisResult(
+                        analysis.getOverallMood(),
+                        analysis.getMoodScore(),
+                        analysis.getDominantEmotions(),
+                        analysis.getRiskLevel(),
+                        analysis.getSummary(),
+                        analysis.getRecommendations())
+                : null;
+        return new AnalysisSnapshot(
+                analysis.getId(),
+                analysis.getUserId(),
+                analysis.getAnalysisType(),
+                analysis.getStatus(),
+                analysis.getPeriod(),
+                analysis.getDiaryCount(),
+                result,
+                analysis.getCreatedAt(),
+                analysis.getCompletedAt()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.momo.backend.application.analysis.feedback;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 분석 피드백 저장 설정
+ * @param batchSize     한 트랜잭션에 묶는 최대 건수 (analysis_feedback_seq allocationSize, hibernate.jdbc.batch_size 와 맞춘다)
+ * @param linger        첫 피드백 이후 배치를 채우기 위해 기다리는 최대 시간
+ * @param queueCapacity 대기 큐 크기 - 가득 차면 해당 피드백은 즉시 단건 저장한다
+ * @param awaitTimeout  종료 시 남은 피드백을 저장하도록 기다리는 최대 시간
+ * @param accuracyRefreshInterval 피드백 로그로 정확도를 다시 집계하는 간격 (momo.analysis.feedback.accuracy-refresh-interval 로 @Scheduled 에서 읽음)
+ * */
+@ConfigurationProperties(prefix = "momo.analysis.feedback")
+public record AnalysisFeedbackProperties(
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("500ms") Duration linger,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("10s") Duration awaitTimeout,
+        @DefaultValue("1m") Duration accuracyRefreshInterval
+) {
+}
@@ -0,0 +1,51 @@
+package com.momo.backend.application.analysis.feedback;
+
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import com.momo.backend.domain.analysis.entity.FeedbackType;
+import com.momo.backend.domain.analysis.repository.AnalysisFeedbackTarget;
+import com.momo.backend.domain.analysis.repository.AnalysisRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 분석 결과 피드백
+ * 대상 분석 확인(조회 한 번)만 요청 스레드에서 하고, 저장은 write-behind 가 모아서 한다.
+ * */
+@Service
+@RequiredArgsConstructor
+public class AnalysisFeedbackService {
+
+    // 모델 버전 기록 전에 완료된 분석
+    static final String UNKNOWN_MODEL_VERSION = "unknown";
+
+    private final AnalysisRepository analysisRepository;
+    private final AnalysisFeedbackWriteBehind feedbackWriteBehind;
+    private final FeedbackAccuracyTally accuracyTally;
+    private final Clock clock;
+
+    public void submitFeedback(Long userId, Long analysisId, boolean accurate, String feedbackType, String comment) {
+        FeedbackType type = FeedbackType.from(feedbackType);
+        AnalysisFeedbackTarget target = analysisRepository.findFeedbackTarget(analysisId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ANALYSIS_NOT_FOUND));
+        if (target.status() != AnalysisStatus.COMPLETED) {
+            throw new BusinessException(ErrorCode.ANALYSIS_NOT_COMPLETED);
+        }
+
+        String modelVersion = target.modelVersion() != null ? target.modelVersion() : UNKNOWN_MODEL_VERSION;
+        feedbackWriteBehind.submit(new FeedbackSubmission(analysisId, userId, type, accurate, modelVersion,
+                comment, LocalDateTime.now(clock)));
+    }
+
+    /**
+     * 피드백 로그를 마지막으로 다시 집계한 값 (accuracy-refresh-interval 만큼 늦을 수 있다)
+     * */
+    public List<FeedbackAccuracy> getAccuracy() {
+        return accuracyTally.snapshot();
+    }
+}
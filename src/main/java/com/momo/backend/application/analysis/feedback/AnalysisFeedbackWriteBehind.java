@@ -0,0 +1,162 @@
+package com.momo.backend.application.analysis.feedback;
+
+import com.momo.backend.domain.analysis.repository.AnalysisFeedbackRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석 피드백 write-behind
+ * 피드백은 탭 한 번마다 들어오므로 요청마다 커밋하지 않고, 큐에 모아 전용 스레드가 batchSize 건씩 한 트랜잭션으로 저장한다.
+ * 요청 스레드는 큐에 넣고 바로 돌아간다. 정확도 집계는 FeedbackAccuracyTally 가 피드백 로그에서 주기적으로 다시 만든다.
+ * */
+@Slf4j
+@Component
+public class AnalysisFeedbackWriteBehind {
+
+    private static final long IDLE_POLL_MILLIS = 200;
+
+    private final AnalysisFeedbackProperties properties;
+    private final AnalysisFeedbackRepository feedbackRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<FeedbackSubmission> queue;
+    private final Counter commitCounter;
+    private final Counter droppedCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    private volatile boolean running;
+    private Thread committer;
+
+    public AnalysisFeedbackWriteBehind(AnalysisFeedbackProperties properties,
+                                       AnalysisFeedbackRepository feedbackRepository,
+                                       TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.feedbackRepository = feedbackRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.commitCounter = Counter.builder("momo.analysis.feedback.commits")
+                .description("피드백 배치 커밋 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("momo.analysis.feedback.dropped")
+                .description("저장에 실패해 버린 피드백 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("momo.analysis.feedback.batch.size")
+                .description("커밋 한 번에 저장한 피드백 수")
+                .register(meterRegistry);
+        Gauge.builder("momo.analysis.feedback.queue.size", queue, BlockingQueue::size)
+                .description("저장을 기다리는 피드백 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        committer = Thread.ofPlatform()
+                .name("analysis-feedback-write-behind")
+                .daemon()
+                .start(this::commitLoop);
+        log.info("분석 피드백 write-behind 시작 - 배치 크기: {}, 대기 시간: {}", properties.batchSize(), properties.linger());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (committer != null) {
+            // 남은 큐를 비우고 끝나도록 기다린다
+            committer.join(properties.awaitTimeout().toMillis());
+        }
+    }
+
+    /**
+     * 피드백을 큐에 넣는다. 큐가 가득 찼거나 종료 중이면 호출 스레드에서 바로 저장한다.
+     * */
+    void submit(FeedbackSubmission submission) {
+        if (running && queue.offer(submission)) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> feedbackRepository.save(submission.toEntity()));
+        recordCommitted(List.of(submission));
+    }
+
+    private void commitLoop() {
+        List<FeedbackSubmission> batch = new ArrayList<>(properties.batchSize());
+        long lingerNanos = properties.linger().toNanos();
+
+        while (running || !queue.isEmpty()) {
+            try {
+                FeedbackSubmission first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < properties.batchSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    FeedbackSubmission next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                commit(batch);
+                break;
+            } catch (RuntimeException e) {
+                log.error("분석 피드백 write-behind 처리 중 예외", e);
+            } finally {
+                batch.clear();
+            }
+        }
+
+        int left = queue.size();
+        if (left > 0) {
+            droppedCounter.increment(left);
+            log.warn("분석 피드백 write-behind 종료 - 저장하지 못한 피드백: {}건", left);
+        }
+        log.info("분석 피드백 write-behind 종료");
+    }
+
+    private void commit(List<FeedbackSubmission> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                feedbackRepository.saveAll(batch.stream().map(FeedbackSubmission::toEntity).toList());
+                feedbackRepository.flush();
+            });
+            recordCommitted(batch);
+        } catch (RuntimeException e) {
+            // 한 건 때문에 배치 전체가 버려지지 않도록 건별로 다시 저장한다
+            log.warn("분석 피드백 배치 저장 실패, 건별로 재시도 - 건수: {}", batch.size(), e);
+            for (FeedbackSubmission submission : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> feedbackRepository.save(submission.toEntity()));
+                    recordCommitted(List.of(submission));
+                } catch (RuntimeException single) {
+                    droppedCounter.increment();
+                    log.warn("분석 피드백 저장 실패 - 분석: {}", submission.analysisId(), single);
+                }
+            }
+        }
+    }
+
+    private void recordCommitted(List<FeedbackSubmission> submissions) {
+        commitCounter.increment();
+        batchSizeSummary.record(submissions.size());
+    }
+}
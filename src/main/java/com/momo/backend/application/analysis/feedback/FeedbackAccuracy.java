@@ -0,0 +1,25 @@
+package com.momo.backend.application.analysis.feedback;
+
+import com.momo.backend.domain.analysis.entity.FeedbackType;
+
+/**
+ * 피드백 타입/모델 버전별 정확도 집계
+ * */
+public record FeedbackAccuracy(
+        FeedbackType feedbackType,
+        String modelVersion,
+        long accurateCount,
+        long inaccurateCount
+) {
+    public long totalCount() {
+        return accurateCount + inaccurateCount;
+    }
+
+    /**
+     * @return 0-1, 피드백이 없으면 0
+     * */
+    public double accuracy() {
+        long total = totalCount();
+        return total == 0 ? 0.0 : (double) accurateCount / total;
+    }
+}
@@ -0,0 +1,68 @@
+package com.momo.backend.application.analysis.feedback;
+
+import com.momo.backend.domain.analysis.entity.FeedbackType;
+import com.momo.backend.domain.analysis.repository.AnalysisFeedbackRepository;
+import com.momo.backend.domain.analysis.repository.FeedbackTallyRow;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 피드백 타입/모델 버전별 정확/부정확 건수
+ * 노드마다 따로 세면 노드별로 답이 달라지므로, 피드백 로그(analysis_feedback)를 주기적으로 다시 집계한 스냅샷만 돌려준다.
+ * 새 피드백은 write-behind 가 커밋한 뒤 다음 집계(accuracy-refresh-interval)부터 모든 노드에 같은 값으로 보인다.
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedbackAccuracyTally {
+
+    private final AnalysisFeedbackRepository feedbackRepository;
+
+    private volatile List<FeedbackAccuracy> snapshot = List.of();
+
+    // 기동 시 집계에 실패하면 빈 값으로 답하지 않도록 기동을 멈춘다
+    @PostConstruct
+    public void load() {
+        snapshot = tally(feedbackRepository.tallyAll());
+    }
+
+    @Scheduled(fixedDelayString = "${momo.analysis.feedback.accuracy-refresh-interval:PT1M}")
+    public void refresh() {
+        try {
+            snapshot = tally(feedbackRepository.tallyAll());
+        } catch (RuntimeException e) {
+            log.warn("피드백 정확도 다시 집계 실패, 이전 집계 유지", e);
+        }
+    }
+
+    public List<FeedbackAccuracy> snapshot() {
+        return snapshot;
+    }
+
+    private static List<FeedbackAccuracy> tally(List<FeedbackTallyRow> rows) {
+        // [정확, 부정확]
+        Map<TallyKey, long[]> counts = new HashMap<>();
+        for (FeedbackTallyRow row : rows) {
+            long[] count = counts.computeIfAbsent(new TallyKey(row.feedbackType(), row.modelVersion()),
+                    key -> new long[2]);
+            count[row.accurate() ? 0 : 1] += row.count();
+        }
+        return counts.entrySet().stream()
+                .map(entry -> new FeedbackAccuracy(entry.getKey().feedbackType(), entry.getKey().modelVersion(),
+                        entry.getValue()[0], entry.getValue()[1]))
+                .sorted(Comparator.comparing(FeedbackAccuracy::feedbackType)
+                        .thenComparing(FeedbackAccuracy::modelVersion))
+                .toList();
+    }
+
+    private record TallyKey(FeedbackType feedbackType, String modelVersion) {
+    }
+}
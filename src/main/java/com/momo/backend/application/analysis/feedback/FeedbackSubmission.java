@@ -0,0 +1,32 @@
+package com.momo.backend.application.analysis.feedback;
+
+import com.momo.backend.domain.analysis.entity.AnalysisFeedback;
+import com.momo.backend.domain.analysis.entity.FeedbackType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장을 기다리는 피드백
+ * */
+record FeedbackSubmission(
+        Long analysisId,
+        Long userId,
+        FeedbackType feedbackType,
+        boolean accurate,
+        String modelVersion,
+        String comment,
+        LocalDateTime submittedAt
+) {
+    // 재시도 때 롤백된 엔티티(id 가 채워진)를 재사용하지 않도록 매번 새로 만든다
+    AnalysisFeedback toEntity() {
+        return AnalysisFeedback.builder()
+                .analysisId(analysisId)
+                .userId(userId)
+                .feedbackType(feedbackType)
+                .accurate(accurate)
+                .modelVersion(modelVersion)
+                .comment(comment)
+                .createdAt(submittedAt)
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.momo.backend.application.analysis.inflight;
+
+import com.momo.backend.application.analysis.AnalysisCreation;
+import com.momo.backend.domain.analysis.event.AnalysisFinishedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 진행 중인 분석 요청 레지스트리
+ * 더블 탭/클라이언트 재시도로 같은 (사용자, 타입, 기간) 요청이 연달아 들어오면 먼저 들어온 요청만 작업을 만들고,
+ * 나머지는 그 결과(같은 analysisId)를 기다려 돌려받는다. 모델 호출이 중복으로 큐에 쌓이지 않는다.
+ *
+ * 엔트리는 생성 전에 맵에 넣고, 생성 트랜잭션 안에서 분석 id 를 붙인다. (커밋 후 큐에 들어가므로 작업이 끝나기 전에 붙는다)
+ * 분석이 완료/실패로 끝나면(AnalysisFinishedEvent) 엔트리를 지우고, 작업을 만들지 않은 요청(기존 결과 재사용)이나
+ * 생성 실패는 바로 지운다.
+ * */
+@Component
+public class InFlightAnalyses {
+
+    private final ConcurrentHashMap<InFlightAnalysisKey, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, InFlightAnalysisKey> keysByAnalysisId = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+    private final InFlightAnalysisProperties properties;
+
+    public InFlightAnalyses(InFlightAnalysisProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        FunctionCounter.builder("momo.analysis.in-flight.coalesced", coalesced, LongAdder::sum)
+                .description("진행 중인 같은 요청에 합쳐진 분석 생성 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("momo.analysis.in-flight.size", entries, ConcurrentHashMap::size)
+                .description("진행 중인 분석 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 요청이 진행 중이면 그 결과를, 아니면 creator 로 만든 결과를 돌려준다.
+     * @param creator 분석과 작업을 저장하고 커밋까지 끝내는 함수 (작업을 만들었다면 그 안에서 attach 를 호출한다)
+     * */
+    public AnalysisCreation coalesce(InFlightAnalysisKey key, Supplier<AnalysisCreation> creator) {
+        Entry created = new Entry();
+        Entry existing = entries.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            try {
+                return existing.value().join();
+            } catch (CompletionException e) {
+                // 먼저 들어온 요청과 같은 예외를 받는다 (일기 없음 등)
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        AnalysisCreation creation;
+        try {
+            creation = creator.get();
+        } catch (RuntimeException e) {
+            release(key, created);
+            created.value().completeExceptionally(e);
+            throw e;
+        }
+        created.value().complete(creation);
+        if (created.analysisId() == null) {
+            // 작업을 만들지 않았으므로 기다릴 대상이 없다
+            entries.remove(key, created);
+        }
+        return creation;
+    }
+
+    /**
+     * 생성 트랜잭션 안에서 새로 저장한 분석 id 를 엔트리에 붙인다.
+     * */
+    public void attach(InFlightAnalysisKey key, Long analysisId) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.attach(analysisId);
+            keysByAnalysisId.put(analysisId, key);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(AnalysisFinishedEvent event) {
+        InFlightAnalysisKey key = keysByAnalysisId.remove(event.analysisId());
+        if (key != null) {
+            entries.computeIfPresent(key, (k, entry) -> event.analysisId().equals(entry.analysisId()) ? null : entry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "PT10M")
+    public void evictStale() {
+        long threshold = System.nanoTime() - properties.maxAge().toNanos();
+        entries.forEach((key, entry) -> {
+            if (entry.value().isDone() && entry.createdAt() - threshold < 0) {
+                release(key, entry);
+            }
+        });
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void release(InFlightAnalysisKey key, Entry entry) {
+        entries.remove(key, entry);
+        Long analysisId = entry.analysisId();
+        if (analysisId != null) {
+            keysByAnalysisId.remove(analysisId, key);
+        }
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<AnalysisCreation> value = new CompletableFuture<>();
+        private final long createdAt = System.nanoTime();
+        private volatile Long analysisId;
+
+        CompletableFuture<AnalysisCreation> value() {
+            return value;
+        }
+
+        void attach(Long analysisId) {
+            this.analysisId = analysisId;
+        }
+
+        Long analysisId() {
+            return analysisId;
+        }
+
+        long createdAt() {
+            return createdAt;
+        }
+    }
+}
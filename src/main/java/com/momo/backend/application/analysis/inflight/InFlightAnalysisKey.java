@@ -0,0 +1,14 @@
+package com.momo.backend.application.analysis.inflight;
+
+import com.momo.backend.domain.analysis.entity.AnalysisPeriod;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+
+/**
+ * 같은 분석 요청을 판단하는 키 - 같은 사용자가 같은 타입으로 같은 기간을 요청하면 중복이다.
+ * */
+public record InFlightAnalysisKey(
+        Long userId,
+        AnalysisType analysisType,
+        AnalysisPeriod period
+) {
+}
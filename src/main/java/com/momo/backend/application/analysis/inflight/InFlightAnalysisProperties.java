@@ -0,0 +1,16 @@
+package com.momo.backend.application.analysis.inflight;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 진행 중 분석 요청 합치기 설정
+ * @param maxAge 완료 이벤트를 받지 못한 엔트리(작업 유실 등)를 정리하는 기준 시간
+ * */
+@ConfigurationProperties(prefix = "momo.analysis.in-flight")
+public record InFlightAnalysisProperties(
+        @DefaultValue("PT30M") Duration maxAge
+) {
+}
@@ -0,0 +1,133 @@
+package com.momo.backend.application.analysis.job;
+
+import com.momo.backend.common.exception.ErrorCode;
+import com.momo.backend.common.exception.RetryLaterException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 분석 대기열 상한 (back-pressure)
+ * 모델이 느려지면 대기열이 끝없이 늘어 힙을 채우므로, 대기 작업이 high-water mark 에 이르면 새 분석 요청을 429 로 거절하고
+ * low-water mark 이하로 줄면 다시 받는다.
+ * Retry-After 는 low-water mark 까지 줄어드는 데 걸릴 시간을 최근 처리 속도로 계산한다.
+ * 처리 속도는 초 단위 슬롯에 디스패처가 꺼낸 작업 수를 세어 최근 drainWindow 구간 평균으로 구한다.
+ * */
+@Slf4j
+@Component
+public class AnalysisBacklog {
+
+    private final AnalysisBacklogProperties properties;
+    private final Clock clock;
+    private final int windowSeconds;
+    // 슬롯마다 (몇 번째 초인지, 그 초에 꺼낸 작업 수)
+    private final AtomicLongArray slotSeconds;
+    private final AtomicLongArray slotCounts;
+    private final LongAdder rejections = new LongAdder();
+
+    private boolean saturated;
+
+    public AnalysisBacklog(AnalysisBacklogProperties properties, Clock clock, MeterRegistry meterRegistry) {
+        if (properties.lowWaterMark() >= properties.highWaterMark()) {
+            throw new IllegalArgumentException("low-water mark 는 high-water mark 보다 작아야 합니다.");
+        }
+        this.properties = properties;
+        this.clock = clock;
+        this.windowSeconds = (int) Math.max(properties.drainWindow().toSeconds(), 1);
+        // 지금 채우는 초는 평균에서 빼므로 한 칸 더 둔다
+        this.slotSeconds = new AtomicLongArray(windowSeconds + 1);
+        this.slotCounts = new AtomicLongArray(windowSeconds + 1);
+        for (int i = 0; i < slotSeconds.length(); i++) {
+            slotSeconds.set(i, -1);
+        }
+
+        FunctionCounter.builder("momo.analysis.backlog.rejections", rejections, LongAdder::sum)
+                .description("대기열 포화로 거절한 분석 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("momo.analysis.backlog.drain-rate", this, AnalysisBacklog::drainRate)
+                .description("최근 초당 실행을 시작한 분석 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("momo.analysis.backlog.saturated", this, backlog -> backlog.isSaturated() ? 1 : 0)
+                .description("대기열 포화로 새 분석 요청을 거절 중인지 (1: 거절 중)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 분석 작업을 받을 수 있는지 확인한다.
+     * @param queuedJobs 지금 실행을 기다리는 작업 수
+     * @throws RetryLaterException 포화 상태면 (429, Retry-After)
+     * */
+    public void admit(int queuedJobs) {
+        if (!updateSaturation(queuedJobs)) {
+            return;
+        }
+        rejections.increment();
+        throw new RetryLaterException(ErrorCode.ANALYSIS_BACKLOG_FULL, retryAfter(queuedJobs));
+    }
+
+    /**
+     * 디스패처가 대기열에서 작업을 꺼낼 때마다 호출한다.
+     * */
+    public void recordDrained() {
+        long second = currentSecond();
+        int slot = (int) (second % slotSeconds.length());
+        long seen = slotSeconds.get(slot);
+        // 지난 주기의 슬롯이면 비우고 쓴다 (경합 시 몇 건 덜 셀 수 있지만 속도 추정에는 충분하다)
+        if (seen != second && slotSeconds.compareAndSet(slot, seen, second)) {
+            slotCounts.set(slot, 0);
+        }
+        slotCounts.incrementAndGet(slot);
+    }
+
+    /**
+     * 최근 drainWindow 동안 초당 꺼낸 작업 수 (지금 채우는 초는 제외)
+     * */
+    public double drainRate() {
+        long now = currentSecond();
+        long drained = 0;
+        for (int i = 0; i < slotSeconds.length(); i++) {
+            long age = now - slotSeconds.get(i);
+            if (age >= 1 && age <= windowSeconds) {
+                drained += slotCounts.get(i);
+            }
+        }
+        return (double) drained / windowSeconds;
+    }
+
+    public synchronized boolean isSaturated() {
+        return saturated;
+    }
+
+    Duration retryAfter(int queuedJobs) {
+        long maxSeconds = properties.maxRetryAfter().toSeconds();
+        double rate = drainRate();
+        if (rate <= 0) {
+            return Duration.ofSeconds(maxSeconds);
+        }
+        int excess = Math.max(queuedJobs - properties.lowWaterMark(), 1);
+        long seconds = (long) Math.ceil(excess / rate);
+        return Duration.ofSeconds(Math.min(Math.max(seconds, 1), maxSeconds));
+    }
+
+    private synchronized boolean updateSaturation(int queuedJobs) {
+        if (!saturated && queuedJobs >= properties.highWaterMark()) {
+            saturated = true;
+            log.warn("분석 대기열 포화, 새 요청 거절 시작 - 대기: {}, 처리 속도: {}/s", queuedJobs, drainRate());
+        } else if (saturated && queuedJobs <= properties.lowWaterMark()) {
+            saturated = false;
+            log.info("분석 대기열 해소, 새 요청 받기 재개 - 대기: {}", queuedJobs);
+        }
+        return saturated;
+    }
+
+    private long currentSecond() {
+        return clock.millis() / 1000;
+    }
+}
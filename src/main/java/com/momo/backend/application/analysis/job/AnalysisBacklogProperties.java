@@ -0,0 +1,22 @@
+package com.momo.backend.application.analysis.job;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 분석 대기열 상한 설정
+ * @param highWaterMark 대기 작업이 이 수에 이르면 새 분석 요청을 거절하기 시작한다
+ * @param lowWaterMark  거절 중에는 대기 작업이 이 수 이하로 줄어야 다시 받는다 (경계에서 거절/허용이 번갈아 바뀌지 않도록)
+ * @param drainWindow   처리 속도(초당 꺼낸 작업 수)를 계산하는 최근 구간
+ * @param maxRetryAfter Retry-After 상한 (처리 속도를 모를 때도 이 값을 쓴다)
+ * */
+@ConfigurationProperties(prefix = "momo.analysis.backlog")
+public record AnalysisBacklogProperties(
+        @DefaultValue("2000") int highWaterMark,
+        @DefaultValue("1000") int lowWaterMark,
+        @DefaultValue("30s") Duration drainWindow,
+        @DefaultValue("60s") Duration maxRetryAfter
+) {
+}
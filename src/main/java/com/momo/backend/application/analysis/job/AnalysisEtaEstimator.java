@@ -0,0 +1,120 @@
+package com.momo.backend.application.analysis.job;
+
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 분석 완료 예상 시간 추정
+ * 완료된 작업의 소요 시간을 (분석 타입, 일기 수 구간)별 지수 이동 평균(EWMA)으로 유지하고,
+ * 같은 레인의 앞선 작업 수, 레인 가중치와 동시 실행 수로 대기 시간을 더해 예상 시간을 만든다.
+ * 생성 요청마다 읽으므로 평균은 double 비트를 AtomicLong 에 담아 CAS 로만 갱신한다. (잠금 없음)
+ * */
+@Component
+public class AnalysisEtaEstimator {
+
+    // 일기 수 구간: 1, 2-3, 4-7, 8-15, 16+
+    private static final String[] DIARY_COUNT_BUCKETS = {"1", "2-3", "4-7", "8-15", "16+"};
+    private static final AnalysisType[] ANALYSIS_TYPES = AnalysisType.values();
+    private static final long NO_SAMPLE = Double.doubleToRawLongBits(Double.NaN);
+
+    private final AnalysisJobProperties properties;
+    private final AtomicLongArray averageNanos;
+    // 앞선 작업의 타입/일기 수는 모르므로 대기 시간은 전체 평균으로 계산한다
+    private final AtomicLong overallAverageNanos = new AtomicLong(NO_SAMPLE);
+
+    public AnalysisEtaEstimator(AnalysisJobProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.averageNanos = new AtomicLongArray(ANALYSIS_TYPES.length * DIARY_COUNT_BUCKETS.length);
+        for (int i = 0; i < averageNanos.length(); i++) {
+            averageNanos.set(i, NO_SAMPLE);
+        }
+
+        for (AnalysisType type : ANALYSIS_TYPES) {
+            for (int bucket = 0; bucket < DIARY_COUNT_BUCKETS.length; bucket++) {
+                int slot = slotOf(type, bucket);
+                Gauge.builder("momo.analysis.eta.ewma", averageNanos, values -> seconds(values.get(slot)))
+                        .description("분석 작업 소요 시간 지수 이동 평균 (초)")
+                        .tags("analysis_type", type.getValue(), "diary_count", DIARY_COUNT_BUCKETS[bucket])
+                        .baseUnit("seconds")
+                        .register(meterRegistry);
+            }
+        }
+        Gauge.builder("momo.analysis.eta.ewma", overallAverageNanos, value -> seconds(value.get()))
+                .description("분석 작업 소요 시간 지수 이동 평균 (초)")
+                .tags("analysis_type", "all", "diary_count", "all")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 성공한 작업의 소요 시간을 반영한다.
+     * */
+    public void record(AnalysisType analysisType, int diaryCount, long elapsedNanos) {
+        int slot = slotOf(analysisType, bucketOf(diaryCount));
+        double alpha = properties.etaSmoothing();
+        long previous;
+        long next;
+        do {
+            previous = averageNanos.get(slot);
+            next = Double.doubleToRawLongBits(smooth(previous, elapsedNanos, alpha));
+        } while (!averageNanos.compareAndSet(slot, previous, next));
+
+        do {
+            previous = overallAverageNanos.get();
+            next = Double.doubleToRawLongBits(smooth(previous, elapsedNanos, alpha));
+        } while (!overallAverageNanos.compareAndSet(previous, next));
+    }
+
+    /**
+     * 대기열은 레인마다 가중치 비율로 차례를 주므로, 새 작업의 대기 시간은 전체 대기 작업 수가 아니라
+     * 같은 레인의 앞선 작업 수와 그동안 다른 레인이 가져가는 차례로 정해진다.
+     * @param jobsAhead 지금 실행 중인 작업 수와 레인별 대기 작업 수
+     * */
+    public Duration estimate(AnalysisType analysisType, int diaryCount, AnalysisJobsAhead jobsAhead) {
+        double own = averageOr(averageNanos.get(slotOf(analysisType, bucketOf(diaryCount))));
+        // 같은 레인의 앞선 작업과 새 작업이 꺼내지는 동안 다른 레인은 가중치 비율만큼, 단 남은 작업 수까지만 차례를 받는다
+        int ownWeight = properties.weightOf(analysisType);
+        double lanePicks = jobsAhead.queued(analysisType) + 1;
+        double picks = lanePicks;
+        for (AnalysisType other : ANALYSIS_TYPES) {
+            if (other != analysisType) {
+                picks += Math.min(jobsAhead.queued(other), lanePicks * properties.weightOf(other) / ownWeight);
+            }
+        }
+        // 빈 자리만큼은 바로 꺼내고, 나머지는 실행 중인 작업이 끝날 때마다 동시 실행 수만큼씩 한 바퀴로 꺼낸다
+        int concurrency = properties.concurrency();
+        int idle = Math.max(concurrency - jobsAhead.running(), 0);
+        double waves = Math.max(picks - idle, 0) / concurrency;
+        double wait = waves * averageOr(overallAverageNanos.get());
+        return Duration.ofNanos((long) (own + wait));
+    }
+
+    private double averageOr(long bits) {
+        double average = Double.longBitsToDouble(bits);
+        return Double.isNaN(average) ? properties.estimatedTime().toNanos() : average;
+    }
+
+    private static double smooth(long previousBits, long sampleNanos, double alpha) {
+        double previous = Double.longBitsToDouble(previousBits);
+        return Double.isNaN(previous) ? sampleNanos : previous + alpha * (sampleNanos - previous);
+    }
+
+    private static double seconds(long bits) {
+        return Double.longBitsToDouble(bits) / 1_000_000_000.0;
+    }
+
+    private static int slotOf(AnalysisType analysisType, int bucket) {
+        return analysisType.ordinal() * DIARY_COUNT_BUCKETS.length + bucket;
+    }
+
+    static int bucketOf(int diaryCount) {
+        int log2 = 31 - Integer.numberOfLeadingZeros(Math.max(diaryCount, 1));
+        return Math.min(log2, DIARY_COUNT_BUCKETS.length - 1);
+    }
+}
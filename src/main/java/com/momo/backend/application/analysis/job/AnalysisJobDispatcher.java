@@ -0,0 +1,158 @@
+package com.momo.backend.application.analysis.job;
+
+import com.momo.backend.domain.analysis.entity.AnalysisJobState;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.domain.analysis.event.AnalysisRequestedEvent;
+import com.momo.backend.domain.analysis.repository.AnalysisJobRepository;
+import com.momo.backend.domain.analysis.repository.QueuedAnalysisJob;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 분석 작업 디스패처
+ * 커밋된 작업을 대기열에서 꺼내 작업마다 가상 스레드로 실행한다.
+ * 가상 스레드는 사실상 무제한이므로 동시 실행 수는 세마포어(concurrency)로 제한한다.
+ * 실행 자리를 먼저 잡은 뒤 대기열에서 꺼내므로, 어떤 작업을 실행할지는 자리가 난 시점의 레인/사용자 순번으로 정해진다.
+ * 요청 스레드는 큐에 넣기만 하고 분석을 기다리지 않는다.
+ * */
+@Slf4j
+@Component
+public class AnalysisJobDispatcher {
+
+    private static final long POLL_MILLIS = 500;
+
+    private final AnalysisJobRunner runner;
+    private final AnalysisBacklog backlog;
+    private final AnalysisJobRepository analysisJobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AnalysisJobQueue queue;
+    private final Semaphore permits;
+    // 대기열을 기다리는 동안 디스패처가 쥔 자리는 빼고 센다
+    private final AtomicInteger runningJobs = new AtomicInteger();
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public AnalysisJobDispatcher(AnalysisJobRunner runner, AnalysisBacklog backlog,
+                                 AnalysisJobRepository analysisJobRepository, TransactionTemplate transactionTemplate,
+                                 AnalysisJobProperties properties, MeterRegistry meterRegistry) {
+        this.runner = runner;
+        this.backlog = backlog;
+        this.analysisJobRepository = analysisJobRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.permits = new Semaphore(properties.concurrency());
+        this.queue = new AnalysisJobQueue(properties::weightOf);
+        for (AnalysisType type : AnalysisType.values()) {
+            Gauge.builder("momo.analysis.queue.size", queue, q -> q.size(type))
+                    .description("실행을 기다리는 분석 작업 수")
+                    .tag("analysis_type", type.getValue())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("momo.analysis.running", runningJobs, AtomicInteger::get)
+                .description("실행 중인 분석 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이전 실행에서 끝나지 못한 작업(QUEUED, 중단된 RUNNING)을 다시 큐에 넣고 디스패치를 시작한다.
+     * */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<QueuedAnalysisJob> pending = transactionTemplate.execute(status -> {
+            analysisJobRepository.requeueRunning();
+            return analysisJobRepository.findQueuedByStateIn(EnumSet.of(AnalysisJobState.QUEUED));
+        });
+        if (pending != null && !pending.isEmpty()) {
+            pending.forEach(queue::offer);
+            log.info("미완료 분석 작업 복구 - 건수: {}", pending.size());
+        }
+
+        running = true;
+        dispatcher = Thread.ofVirtual().name("analysis-dispatcher").start(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+        // 큐에 남은 작업은 QUEUED 로 남아 다음 기동 때 복구된다
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("종료 시점에 끝나지 않은 분석 작업이 있습니다. 다음 기동 때 다시 실행됩니다.");
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(AnalysisRequestedEvent event) {
+        submit(new QueuedAnalysisJob(event.jobId(), event.userId(), event.analysisType()));
+    }
+
+    public void submit(QueuedAnalysisJob job) {
+        queue.offer(job);
+    }
+
+    /**
+     * 실행을 기다리는 작업 수
+     * */
+    public int queuedJobs() {
+        return queue.size();
+    }
+
+    /**
+     * 지금 실행 중인 작업 수와 레인별로 큐에서 기다리는 작업 수 (새 작업 앞에 있는 작업)
+     * */
+    public AnalysisJobsAhead jobsAhead() {
+        return new AnalysisJobsAhead(runningJobs.get(), queue.sizeByLane());
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                permits.acquire();
+                QueuedAnalysisJob job = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (job == null) {
+                    permits.release();
+                    continue;
+                }
+                backlog.recordDrained();
+                runningJobs.incrementAndGet();
+                try {
+                    workers.execute(() -> {
+                        try {
+                            runner.run(job.jobId());
+                        } finally {
+                            runningJobs.decrementAndGet();
+                            permits.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    runningJobs.decrementAndGet();
+                    permits.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.momo.backend.application.analysis.job;
+
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 분석 작업 실행 설정
+ * @param concurrency   동시에 실행하는 분석 작업 수 (가상 스레드라도 외부 모델 호출량을 제한하기 위해 둔다)
+ * @param estimatedTime 완료된 작업이 아직 없을 때 쓰는 작업 1건의 예상 소요 시간 (이후에는 측정값으로 추정)
+ * @param etaSmoothing  소요 시간 지수 이동 평균의 가중치 (0-1, 클수록 최근 작업을 크게 반영)
+ * @param dailyWeight   실행 자리가 날 때 일간 레인이 차례를 받는 비중
+ * @param weeklyWeight  주간 레인 비중
+ * @param monthlyWeight 월간 레인 비중 (작업이 무거우므로 가장 작게 둔다)
+ * */
+@ConfigurationProperties(prefix = "momo.analysis.job")
+public record AnalysisJobProperties(
+        @DefaultValue("8") int concurrency,
+        @DefaultValue("30s") Duration estimatedTime,
+        @DefaultValue("0.2") double etaSmoothing,
+        @DefaultValue("6") int dailyWeight,
+        @DefaultValue("2") int weeklyWeight,
+        @DefaultValue("1") int monthlyWeight
+) {
+
+    public int weightOf(AnalysisType analysisType) {
+        return switch (analysisType) {
+            case DAILY -> dailyWeight;
+            case WEEKLY -> weeklyWeight;
+            case MONTHLY -> monthlyWeight;
+        };
+    }
+}
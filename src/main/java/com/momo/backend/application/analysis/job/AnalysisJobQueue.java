@@ -0,0 +1,171 @@
+package com.momo.backend.application.analysis.job;
+
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.domain.analysis.repository.QueuedAnalysisJob;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * 분석 작업 대기열
+ * 분석 타입마다 레인을 두고, 실행 자리가 날 때마다 작업이 있는 레인 중 하나를 가중치 비율로 고른다. (smooth weighted round-robin)
+ * 레인 안에서는 사용자별로 줄을 따로 세워 한 건씩 돌아가며 꺼내므로, 한 사용자가 요청을 몰아 넣어도 다른 사용자는 한 바퀴만 기다린다.
+ * 무거운 월간 작업이 몰려도 일간/주간 레인은 자기 비중만큼 계속 차례를 받는다.
+ * */
+final class AnalysisJobQueue {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Lane[] lanes;
+    private int size;
+
+    AnalysisJobQueue(ToIntFunction<AnalysisType> weights) {
+        AnalysisType[] types = AnalysisType.values();
+        this.lanes = new Lane[types.length];
+        for (AnalysisType type : types) {
+            int weight = weights.applyAsInt(type);
+            if (weight <= 0) {
+                throw new IllegalArgumentException("레인 가중치는 1 이상이어야 합니다: " + type);
+            }
+            lanes[type.ordinal()] = new Lane(weight);
+        }
+    }
+
+    void offer(QueuedAnalysisJob job) {
+        lock.lock();
+        try {
+            lanes[job.analysisType().ordinal()].add(job);
+            size++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다음 차례 작업을 꺼낸다.
+     * @return 대기 작업이 없으면 null
+     * */
+    QueuedAnalysisJob poll() {
+        lock.lock();
+        try {
+            return size == 0 ? null : next();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    QueuedAnalysisJob poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (remaining <= 0) {
+                    return null;
+                }
+                remaining = notEmpty.awaitNanos(remaining);
+            }
+            return next();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size(AnalysisType analysisType) {
+        lock.lock();
+        try {
+            return lanes[analysisType.ordinal()].size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 레인별 대기 작업 수를 한 시점에 맞춰 읽는다.
+     * @return index = AnalysisType.ordinal()
+     * */
+    int[] sizeByLane() {
+        lock.lock();
+        try {
+            int[] sizes = new int[lanes.length];
+            for (int i = 0; i < lanes.length; i++) {
+                sizes[i] = lanes[i].size;
+            }
+            return sizes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private QueuedAnalysisJob next() {
+        // 작업이 있는 레인마다 가중치만큼 적립하고 가장 많이 쌓인 레인을 고른 뒤, 고른 레인에서 적립 합계를 뺀다
+        Lane selected = null;
+        int totalWeight = 0;
+        for (Lane lane : lanes) {
+            if (lane.size == 0) {
+                continue;
+            }
+            lane.credit += lane.weight;
+            totalWeight += lane.weight;
+            if (selected == null || lane.credit > selected.credit) {
+                selected = lane;
+            }
+        }
+        selected.credit -= totalWeight;
+        size--;
+        return selected.next();
+    }
+
+    private static final class Lane {
+
+        private final int weight;
+        private final Map<Long, ArrayDeque<QueuedAnalysisJob>> jobsByUser = new HashMap<>();
+        // 대기 작업이 있는 사용자의 차례 순서
+        private final ArrayDeque<Long> turns = new ArrayDeque<>();
+        private int credit;
+        private int size;
+
+        private Lane(int weight) {
+            this.weight = weight;
+        }
+
+        private void add(QueuedAnalysisJob job) {
+            jobsByUser.computeIfAbsent(job.userId(), userId -> {
+                turns.addLast(userId);
+                return new ArrayDeque<>();
+            }).addLast(job);
+            size++;
+        }
+
+        private QueuedAnalysisJob next() {
+            Long userId = turns.pollFirst();
+            ArrayDeque<QueuedAnalysisJob> jobs = jobsByUser.get(userId);
+            QueuedAnalysisJob job = jobs.pollFirst();
+            if (jobs.isEmpty()) {
+                jobsByUser.remove(userId);
+            } else {
+                turns.addLast(userId);
+            }
+            size--;
+            if (size == 0) {
+                // 비어 있던 동안의 적립분으로 다른 레인을 밀어내지 않도록 초기화한다
+                credit = 0;
+            }
+            return job;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.momo.backend.application.analysis.job;
+
+import com.momo.backend.application.analysis.AnalysisContentHash;
+import com.momo.backend.application.analysis.provider.EmotionAnalysisGateway;
+import com.momo.backend.application.analysis.provider.EmotionAnalysisRequest;
+import com.momo.backend.application.analysis.provider.EmotionNarrative;
+import com.momo.backend.application.analysis.recommendation.RecommendationRules;
+import com.momo.backend.application.analysis.rollup.EmotionRollup;
+import com.momo.backend.application.analysis.rollup.EmotionStatistics;
+import com.momo.backend.domain.analysis.entity.Analysis;
+import com.momo.backend.domain.analysis.entity.AnalysisJob;
+import com.momo.backend.domain.analysis.entity.AnalysisJobState;
+import com.momo.backend.domain.analysis.entity.AnalysisPeriod;
+import com.momo.backend.domain.analysis.entity.AnalysisResult;
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.domain.analysis.event.AnalysisFinishedEvent;
+import com.momo.backend.domain.analysis.repository.AnalysisJobRepository;
+import com.momo.backend.domain.analysis.repository.AnalysisRepository;
+import com.momo.backend.domain.diary.repository.DiaryAnalysisRow;
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import com.momo.backend.domain.diary.repository.DiaryVersionRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 분석 작업 1건 실행 (워커 가상 스레드에서 호출)
+ * 시작/완료 상태 변경만 짧은 트랜잭션으로 나누고, 모델 호출은 트랜잭션·커넥션 없이 EmotionAnalysisGateway 로 실행한다.
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisJobRunner {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final AnalysisJobRepository analysisJobRepository;
+    private final AnalysisRepository analysisRepository;
+    private final DiaryRepository diaryRepository;
+    private final EmotionRollup emotionRollup;
+    private final EmotionAnalysisGateway emotionAnalysisGateway;
+    private final RecommendationRules recommendationRules;
+    private final AnalysisEtaEstimator etaEstimator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    public void run(Long jobId) {
+        JobTarget target;
+        try {
+            target = transactionTemplate.execute(status -> start(jobId));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 같은 작업이 큐에 두 번 들어가 다른 워커가 먼저 시작한 경우
+            log.debug("이미 시작된 분석 작업 - 작업: {}", jobId);
+            return;
+        }
+        if (target == null) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            List<DiaryAnalysisRow> diaries = diaryRepository.findAnalysisRows(
+                    target.userId(), target.period().startDate(), target.period().endDate());
+            // 통계는 일 단위 부분 집계를 합쳐 만들고, 모델은 요약문만 작성한다
+            EmotionStatistics statistics = emotionRollup.statistics(target.userId(), target.period(), diaries);
+            EmotionNarrative narrative = emotionAnalysisGateway.analyze(
+                    new EmotionAnalysisRequest(target.analysisType(), statistics, diaries));
+            AnalysisResult result = new AnalysisResult(
+                    statistics.overallMood(),
+                    statistics.moodScore(),
+                    statistics.dominantEmotions(),
+                    statistics.riskLevel(),
+                    narrative.summary(),
+                    recommendationRules.recommend(statistics));
+            // 생성 이후 일기가 바뀌었을 수 있으므로 실제로 분석한 일기로 해시를 만든다
+            String contentHash = AnalysisContentHash.of(target.analysisType(), target.period(),
+                    diaries.stream().map(diary -> new DiaryVersionRow(diary.id(), diary.version())).toList());
+            transactionTemplate.executeWithoutResult(status -> complete(target, result, narrative.modelVersion(), contentHash));
+            long elapsedNanos = System.nanoTime() - startedAt;
+            etaEstimator.record(target.analysisType(), diaries.size(), elapsedNanos);
+            log.info("분석 작업 완료 - 작업: {}, 분석: {}, 소요: {}ms",
+                    jobId, target.analysisId(), elapsedNanos / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("분석 작업 실패 - 작업: {}, 분석: {}", jobId, target.analysisId(), e);
+            transactionTemplate.executeWithoutResult(status -> fail(target, e));
+        }
+    }
+
+    private JobTarget start(Long jobId) {
+        AnalysisJob job = analysisJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getState() != AnalysisJobState.QUEUED) {
+            return null;
+        }
+        job.start(LocalDateTime.now(clock));
+        Analysis analysis = analysisRepository.findById(job.getAnalysisId()).orElseThrow();
+        // 시작 표시를 바로 반영해 다른 워커의 중복 실행을 버전 충돌로 막는다
+        analysisJobRepository.flush();
+        return new JobTarget(job.getId(), analysis.getId(), analysis.getUserId(), analysis.getAnalysisType(),
+                analysis.getPeriod());
+    }
+
+    private void complete(JobTarget target, AnalysisResult result, String modelVersion, String contentHash) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        analysisJobRepository.findById(target.jobId()).orElseThrow().succeed(now);
+        analysisRepository.findById(target.analysisId()).orElseThrow().complete(result, modelVersion, contentHash, now);
+        eventPublisher.publishEvent(new AnalysisFinishedEvent(target.analysisId(), target.userId(), AnalysisStatus.COMPLETED));
+    }
+
+    private void fail(JobTarget target, RuntimeException cause) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        String error = String.valueOf(cause.getMessage());
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        analysisJobRepository.findById(target.jobId()).orElseThrow().fail(error, now);
+        analysisRepository.findById(target.analysisId()).orElseThrow().fail("분석 중 오류가 발생했습니다.", now);
+        eventPublisher.publishEvent(new AnalysisFinishedEvent(target.analysisId(), target.userId(), AnalysisStatus.FAILED));
+    }
+
+    private record JobTarget(Long jobId, Long analysisId, Long userId, AnalysisType analysisType,
+                             AnalysisPeriod period) {
+    }
+}
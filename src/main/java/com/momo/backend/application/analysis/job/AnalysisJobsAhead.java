@@ -0,0 +1,17 @@
+package com.momo.backend.application.analysis.job;
+
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+
+/**
+ * 새 작업 앞에 있는 작업 - 실행 중인 작업 수와 레인(분석 타입)별 대기 작업 수
+ * @param queuedByLane index = AnalysisType.ordinal()
+ * */
+public record AnalysisJobsAhead(
+        int running,
+        int[] queuedByLane
+) {
+
+    public int queued(AnalysisType analysisType) {
+        return queuedByLane[analysisType.ordinal()];
+    }
+}
@@ -0,0 +1,211 @@
+package com.momo.backend.application.analysis.latest;
+
+import com.momo.backend.application.analysis.AnalysisSnapshot;
+import com.momo.backend.domain.analysis.entity.AnalysisRecommendation;
+import com.momo.backend.domain.analysis.entity.AnalysisResult;
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import com.momo.backend.domain.analysis.event.AnalysisFinishedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 최신 완료 분석 캐시
+ * - 완료된 분석이 없다는 결과도 캐시한다. (네거티브 캐시)
+ * - TTL 없이, 분석이 완료되어 커밋되면(AnalysisFinishedEvent) 엔트리를 지운다.
+ * - 같은 사용자의 동시 미스는 한 번만 DB 를 읽고 나머지는 그 결과를 기다린다. (무효화 직후 몰리는 조회 대비)
+ *
+ * 엔트리는 적재 전에 맵에 넣고, 무효화는 맵에서 엔트리를 지운다.
+ * 커밋 전에 DB 를 읽던 적재는 이미 맵에서 빠진 엔트리를 채우므로 오래된 결과가 남지 않는다.
+ * */
+@Component
+public class LatestAnalysisCache {
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LatestAnalysisCacheProperties properties;
+
+    public LatestAnalysisCache(LatestAnalysisCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        FunctionCounter.builder("momo.analysis.latest.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("최신 분석 캐시 조회 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("momo.analysis.latest.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("최신 분석 캐시 조회 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("momo.analysis.latest.cache.requests", coalesced, LongAdder::sum)
+                .tag("result", "coalesced")
+                .description("최신 분석 캐시 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("momo.analysis.latest.cache.hit-ratio", this, LatestAnalysisCache::hitRatio)
+                .description("최신 분석 캐시 적중률 (적재를 기다린 조회 포함)")
+                .register(meterRegistry);
+        Gauge.builder("momo.analysis.latest.cache.size", entries, ConcurrentHashMap::size)
+                .description("최신 분석 캐시 엔트리 수")
+                .register(meterRegistry);
+        Gauge.builder("momo.analysis.latest.cache.entry.bytes", this, LatestAnalysisCache::averageEntryBytes)
+                .description("최신 분석 캐시 엔트리당 추정 메모리 (bytes)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param loader 미스일 때 DB 에서 최신 완료 분석을 읽는 함수
+     * */
+    public Optional<AnalysisSnapshot> get(Long userId, Supplier<Optional<AnalysisSnapshot>> loader) {
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            Entry created = new Entry();
+            entry = entries.putIfAbsent(userId, created);
+            if (entry == null) {
+                misses.increment();
+                return load(userId, created, loader);
+            }
+        }
+
+        entry.touch();
+        if (entry.value().isDone()) {
+            hits.increment();
+        } else {
+            coalesced.increment();
+        }
+        try {
+            return entry.value().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void invalidate(Long userId) {
+        entries.remove(userId);
+    }
+
+    /**
+     * 실패한 분석은 최신 완료 분석을 바꾸지 않는다.
+     * */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(AnalysisFinishedEvent event) {
+        if (event.status() == AnalysisStatus.COMPLETED) {
+            invalidate(event.userId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "PT10M")
+    public void evictIdle() {
+        long threshold = System.nanoTime() - properties.idleExpiry().toNanos();
+        entries.values().removeIf(entry -> entry.value().isDone() && entry.lastAccessedAt() - threshold < 0);
+    }
+
+    public double hitRatio() {
+        long hit = hits.sum() + coalesced.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+
+    public double averageEntryBytes() {
+        long bytes = 0;
+        int count = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.estimatedBytes() > 0) {
+                bytes += entry.estimatedBytes();
+                count++;
+            }
+        }
+        return count == 0 ? 0.0 : (double) bytes / count;
+    }
+
+    private Optional<AnalysisSnapshot> load(Long userId, Entry entry, Supplier<Optional<AnalysisSnapshot>> loader) {
+        Optional<AnalysisSnapshot> loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            // 실패는 캐시하지 않는다. 기다리던 조회도 같은 예외를 받는다
+            entries.remove(userId, entry);
+            entry.value().completeExceptionally(e);
+            throw e;
+        }
+        entry.complete(loaded);
+        return loaded;
+    }
+
+    /**
+     * 엔트리 추정 크기 (64비트, compressed oops 기준 대략값)
+     * 문자열은 한글이 섞이면 UTF-16 으로 저장되므로 글자당 2바이트로 센다.
+     * */
+    static long estimateBytes(Optional<AnalysisSnapshot> value) {
+        // 맵 노드 + Long 키 + Entry + CompletableFuture + Optional
+        long bytes = 32 + 16 + 24 + 24 + 16;
+        if (value.isEmpty()) {
+            return bytes;
+        }
+        AnalysisSnapshot snapshot = value.get();
+        // 스냅샷 + 기간(LocalDate 2개) + 날짜시간 2개
+        bytes += 48 + 16 + 2 * 24 + 2 * 48;
+        AnalysisResult result = snapshot.result();
+        if (result == null) {
+            return bytes;
+        }
+        bytes += 40 + stringBytes(result.overallMood()) + stringBytes(result.riskLevel()) + stringBytes(result.summary());
+        bytes += 16 + 4L * result.dominantEmotions().size();
+        for (String emotion : result.dominantEmotions()) {
+            bytes += stringBytes(emotion);
+        }
+        bytes += 16 + 4L * result.recommendations().size();
+        for (AnalysisRecommendation recommendation : result.recommendations()) {
+            bytes += 32 + stringBytes(recommendation.getType()) + stringBytes(recommendation.getTitle())
+                    + stringBytes(recommendation.getDescription()) + stringBytes(recommendation.getPriority());
+        }
+        return bytes;
+    }
+
+    private static long stringBytes(String value) {
+        // String + byte[] 헤더
+        return value == null ? 0 : 24 + 16 + 2L * value.length();
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<Optional<AnalysisSnapshot>> value = new CompletableFuture<>();
+        private volatile long lastAccessedAt = System.nanoTime();
+        private volatile long estimatedBytes;
+
+        CompletableFuture<Optional<AnalysisSnapshot>> value() {
+            return value;
+        }
+
+        void complete(Optional<AnalysisSnapshot> loaded) {
+            estimatedBytes = estimateBytes(loaded);
+            value.complete(loaded);
+        }
+
+        void touch() {
+            lastAccessedAt = System.nanoTime();
+        }
+
+        long lastAccessedAt() {
+            return lastAccessedAt;
+        }
+
+        long estimatedBytes() {
+            return estimatedBytes;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.momo.backend.application.analysis.latest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 최신 분석 결과 캐시 설정
+ * @param idleExpiry 이 시간 동안 조회하지 않은 사용자의 엔트리는 메모리에서 내린다 (결과 갱신은 완료 이벤트로만 한다)
+ * */
+@ConfigurationProperties(prefix = "momo.analysis.latest-cache")
+public record LatestAnalysisCacheProperties(
+        @DefaultValue("PT1H") Duration idleExpiry
+) {
+}
@@ -0,0 +1,175 @@
+package com.momo.backend.application.analysis.lexicon;
+
+import com.momo.backend.domain.diary.entity.EmotionType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 감정 어휘 사전 (배열로 압축한 트라이)
+ * 노드의 자식 간선을 BFS 순서로 연속 배치해 [edgeStart[n], edgeStart[n + 1]) 구간이 노드 n 의 간선이 된다.
+ * 간선 글자는 정렬되어 있어 이진 탐색하고, 조회 중 객체를 만들지 않는다.
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드가 동시에 조회해도 된다.
+ * */
+public final class EmotionLexicon {
+
+    private static final int ROOT = 0;
+
+    private final int[] edgeStart;    // 노드 수 + 1
+    private final char[] edgeLabels;
+    private final int[] edgeTargets;
+    private final byte[] emotionCodes; // 노드별, 0 이면 단어 끝 아님
+    private final float[] weights;
+
+    private EmotionLexicon(int[] edgeStart, char[] edgeLabels, int[] edgeTargets, byte[] emotionCodes, float[] weights) {
+        this.edgeStart = edgeStart;
+        this.edgeLabels = edgeLabels;
+        this.edgeTargets = edgeTargets;
+        this.emotionCodes = emotionCodes;
+        this.weights = weights;
+    }
+
+    /**
+     * "어휘\t감정 타입\t가중치" 형식 (# 주석, 빈 줄 무시)
+     * */
+    public static EmotionLexicon load(InputStream inputStream) throws IOException {
+        Builder builder = new Builder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.strip();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = trimmed.split("\t");
+                if (fields.length != 3) {
+                    throw new IllegalArgumentException("감정 어휘 사전 형식 오류 - " + lineNumber + "행: " + line);
+                }
+                builder.add(fields[0], EmotionType.from(fields[1]), Float.parseFloat(fields[2]));
+            }
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        int words = 0;
+        for (byte code : emotionCodes) {
+            words += code != 0 ? 1 : 0;
+        }
+        return words;
+    }
+
+    /**
+     * text[from, to) 의 앞부분과 일치하는 가장 긴 어휘를 찾는다.
+     * @return 일치하면 (노드 << 32 | 길이), 없으면 -1
+     * */
+    public long longestMatch(CharSequence text, int from, int to) {
+        int node = ROOT;
+        long match = -1;
+        for (int i = from; i < to; i++) {
+            node = child(node, text.charAt(i));
+            if (node < 0) {
+                break;
+            }
+            if (emotionCodes[node] != 0) {
+                match = ((long) node << 32) | (i - from + 1);
+            }
+        }
+        return match;
+    }
+
+    public static int matchLength(long match) {
+        return (int) match;
+    }
+
+    public byte emotionCodeOf(long match) {
+        return emotionCodes[(int) (match >>> 32)];
+    }
+
+    public float weightOf(long match) {
+        return weights[(int) (match >>> 32)];
+    }
+
+    private int child(int node, char label) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midLabel = edgeLabels[mid];
+            if (midLabel < label) {
+                low = mid + 1;
+            } else if (midLabel > label) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    private static final class Builder {
+
+        private final Node root = new Node();
+        private int nodeCount = 1;
+
+        void add(String word, EmotionType emotionType, float weight) {
+            Node node = root;
+            for (int i = 0; i < word.length(); i++) {
+                Node next = node.children.get(word.charAt(i));
+                if (next == null) {
+                    next = new Node();
+                    node.children.put(word.charAt(i), next);
+                    nodeCount++;
+                }
+                node = next;
+            }
+            node.emotionCode = emotionType.getCode();
+            node.weight = weight;
+        }
+
+        EmotionLexicon build() {
+            int[] edgeStart = new int[nodeCount + 1];
+            char[] edgeLabels = new char[nodeCount - 1];
+            int[] edgeTargets = new int[nodeCount - 1];
+            byte[] emotionCodes = new byte[nodeCount];
+            float[] weights = new float[nodeCount];
+
+            // BFS 로 번호를 매기면 각 노드의 자식 간선이 연속 구간에 놓인다
+            Deque<Node> queue = new ArrayDeque<>();
+            queue.add(root);
+            int nextIndex = 1;
+            int edge = 0;
+            int index = 0;
+            while (!queue.isEmpty()) {
+                Node node = queue.poll();
+                emotionCodes[index] = node.emotionCode;
+                weights[index] = node.weight;
+                edgeStart[index] = edge;
+                for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                    edgeLabels[edge] = child.getKey();
+                    edgeTargets[edge] = nextIndex++;
+                    edge++;
+                    queue.add(child.getValue());
+                }
+                index++;
+            }
+            edgeStart[nodeCount] = edge;
+            return new EmotionLexicon(edgeStart, edgeLabels, edgeTargets, emotionCodes, weights);
+        }
+
+        private static final class Node {
+            private final TreeMap<Character, Node> children = new TreeMap<>();
+            private byte emotionCode;
+            private float weight;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.momo.backend.application.analysis.lexicon;
+
+import com.momo.backend.application.analysis.rollup.EmotionStatistics;
+import com.momo.backend.domain.analysis.entity.EmotionCounts;
+import com.momo.backend.domain.diary.entity.EmotionType;
+import com.momo.backend.domain.diary.repository.DiaryAnalysisRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 어휘 사전 기반 예비 감정 점수
+ * 본문을 글자/숫자 연속 구간(어절)으로 한 번 훑으면서, 어절 안에서 가장 긴 사전 어휘를 찾아 감정별 가중치를 더한다.
+ * 일기에 직접 고른 감정은 SELECTED_EMOTION_WEIGHT 로 더해 본문이 짧아도 결과가 나온다.
+ * 앞 어절이 "안"/"못" 이거나 다음 어절이 "않"으로 시작하면 부정으로 보고 그 어절은 세지 않는다.
+ * 모델 분석보다 거칠지만 일기 한 건에 1ms 미만이라 분석 생성 응답에 바로 싣는다.
+ * */
+@Slf4j
+@Component
+public class LexiconEmotionScorer {
+
+    private static final String LEXICON_PATH = "analysis/emotion-lexicon.tsv";
+    private static final float SELECTED_EMOTION_WEIGHT = 2.0f;
+    private static final int DOMINANT_EMOTION_LIMIT = 3;
+    private static final EmotionType[] EMOTION_TYPES = EmotionType.values();
+
+    private final EmotionLexicon lexicon;
+
+    public LexiconEmotionScorer() {
+        this(loadLexicon());
+    }
+
+    LexiconEmotionScorer(EmotionLexicon lexicon) {
+        this.lexicon = lexicon;
+        log.info("감정 어휘 사전 로드 - 어휘 수: {}", lexicon.size());
+    }
+
+    public PreliminaryEmotion score(List<DiaryAnalysisRow> diaries) {
+        float[] weights = new float[EmotionCounts.MAX_CODE + 1];
+        for (DiaryAnalysisRow diary : diaries) {
+            weights[EmotionType.from(diary.emotionType()).getCode()] += SELECTED_EMOTION_WEIGHT;
+            accumulate(diary.content(), weights);
+        }
+
+        float totalWeight = 0;
+        double weightedScore = 0;
+        List<EmotionType> present = new ArrayList<>();
+        for (EmotionType type : EMOTION_TYPES) {
+            float weight = weights[type.getCode()];
+            if (weight > 0) {
+                totalWeight += weight;
+                weightedScore += weight * EmotionStatistics.moodScoreOf(type);
+                present.add(type);
+            }
+        }
+        if (totalWeight == 0) {
+            throw new IllegalStateException("분석할 일기가 없습니다.");
+        }
+
+        List<String> dominantEmotions = present.stream()
+                .sorted(Comparator.comparingDouble((EmotionType type) -> weights[type.getCode()]).reversed())
+                .limit(DOMINANT_EMOTION_LIMIT)
+                .map(EmotionStatistics::emotionNameOf)
+                .toList();
+        return new PreliminaryEmotion(Math.round(weightedScore / totalWeight * 10) / 10.0, dominantEmotions);
+    }
+
+    /**
+     * 본문 한 건의 감정별 가중치를 weights[감정 코드]에 더한다.
+     * @return 훑은 어절 수
+     * */
+    int accumulate(CharSequence content, float[] weights) {
+        int length = content.length();
+        int tokens = 0;
+        boolean negatedByPrevious = false;
+        int i = 0;
+        while (i < length) {
+            if (!Character.isLetterOrDigit(content.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < length && Character.isLetterOrDigit(content.charAt(i))) {
+                i++;
+            }
+            int end = i;
+            tokens++;
+
+            if (!negatedByPrevious && !negatedByNext(content, end)) {
+                scoreToken(content, start, end, weights);
+            }
+            negatedByPrevious = isNegationAdverb(content, start, end);
+        }
+        return tokens;
+    }
+
+    private void scoreToken(CharSequence content, int start, int end, float[] weights) {
+        int position = start;
+        while (position < end) {
+            long match = lexicon.longestMatch(content, position, end);
+            if (match < 0) {
+                position++;
+                continue;
+            }
+            weights[lexicon.emotionCodeOf(match)] += lexicon.weightOf(match);
+            position += EmotionLexicon.matchLength(match);
+        }
+    }
+
+    // "안 좋았다", "못 잤다"
+    private static boolean isNegationAdverb(CharSequence content, int start, int end) {
+        if (end - start != 1) {
+            return false;
+        }
+        char c = content.charAt(start);
+        return c == '안' || c == '못';
+    }
+
+    // "좋지 않았다"
+    private static boolean negatedByNext(CharSequence content, int end) {
+        int i = end;
+        while (i < content.length() && Character.isWhitespace(content.charAt(i))) {
+            i++;
+        }
+        return i > end && i < content.length() && content.charAt(i) == '않';
+    }
+
+    private static EmotionLexicon loadLexicon() {
+        try (InputStream inputStream = new ClassPathResource(LEXICON_PATH).getInputStream()) {
+            return EmotionLexicon.load(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("감정 어휘 사전을 읽을 수 없습니다: " + LEXICON_PATH, e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.momo.backend.application.analysis.lexicon;
+
+import java.util.List;
+
+/**
+ * 어휘 사전으로 즉시 계산한 예비 감정 결과 (모델 분석이 끝나기 전 응답용)
+ * @param moodScore 1-10
+ * */
+public record PreliminaryEmotion(
+        double moodScore,
+        List<String> dominantEmotions
+) {
+    public PreliminaryEmotion {
+        dominantEmotions = List.copyOf(dominantEmotions);
+    }
+}
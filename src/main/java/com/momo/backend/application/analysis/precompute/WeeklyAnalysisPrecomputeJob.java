@@ -0,0 +1,194 @@
+package com.momo.backend.application.analysis.precompute;
+
+import com.momo.backend.application.analysis.AnalysisCreation;
+import com.momo.backend.application.analysis.AnalysisService;
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.RetryLaterException;
+import com.momo.backend.domain.analysis.entity.AnalysisBatchCheckpoint;
+import com.momo.backend.domain.analysis.entity.AnalysisPeriod;
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.domain.analysis.repository.AnalysisBatchCheckpointRepository;
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 주간 분석 사전 계산 배치
+ * 월요일 아침처럼 모두가 같은 시각에 주간 분석을 요청하기 전에, 지난 7일 안에 일기를 쓴 사용자의 주간 분석을 미리 만들어 둔다.
+ * 분석 기간은 실행일로 끝나므로 같은 날 사용자가 요청하면(일기 변경이 없으면) 결과 재사용으로 바로 완료 결과를 받는다.
+ * - 사용자 id 순으로 청크를 읽고, 청크마다 체크포인트를 저장해 재시작 후 이어서 처리한다.
+ * - 분석 요청은 초당 ratePerSecond 건으로 제한해 분석 작업 큐와 모델 호출이 한꺼번에 몰리지 않게 한다.
+ * - 분석 작업 큐가 포화(RetryLaterException)면 Retry-After 만큼 기다린 뒤 같은 사용자부터 다시 요청한다.
+ * */
+@Slf4j
+@Component
+public class WeeklyAnalysisPrecomputeJob {
+
+    static final String BATCH_NAME = "weekly-analysis-precompute";
+
+    private final DiaryRepository diaryRepository;
+    private final AnalysisService analysisService;
+    private final AnalysisBatchCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final WeeklyPrecomputeProperties properties;
+    private final Clock clock;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public WeeklyAnalysisPrecomputeJob(DiaryRepository diaryRepository, AnalysisService analysisService,
+                                       AnalysisBatchCheckpointRepository checkpointRepository,
+                                       TransactionTemplate transactionTemplate, WeeklyPrecomputeProperties properties,
+                                       Clock clock) {
+        this.diaryRepository = diaryRepository;
+        this.analysisService = analysisService;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${momo.analysis.precompute.cron:0 0 2 * * *}", zone = "${momo.zone:Asia/Seoul}")
+    public void runNightly() {
+        if (properties.enabled()) {
+            run(LocalDate.now(clock));
+        }
+    }
+
+    /**
+     * 오늘 실행이 중간에 끊겼으면(배포, 장애) 기동 후 이어서 처리한다.
+     * */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        LocalDate today = LocalDate.now(clock);
+        if (!properties.enabled()) {
+            return;
+        }
+        checkpointRepository.findById(BATCH_NAME)
+                .filter(checkpoint -> checkpoint.isPendingOn(today))
+                .ifPresent(checkpoint -> {
+                    log.info("중단된 주간 분석 사전 계산 재개 - 마지막 사용자: {}", checkpoint.getLastUserId());
+                    Thread.ofVirtual().name("weekly-analysis-precompute").start(() -> run(today));
+                });
+    }
+
+    public void run(LocalDate runDate) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("주간 분석 사전 계산이 이미 진행 중입니다.");
+            return;
+        }
+        try {
+            precompute(runDate);
+        } catch (ObjectOptimisticLockingFailureException | ConcurrentPrecomputeException e) {
+            log.warn("다른 인스턴스가 주간 분석 사전 계산을 진행 중이어서 중단합니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("주간 분석 사전 계산 중단 - 다음 기동 때 이어서 처리합니다.");
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void precompute(LocalDate runDate) throws InterruptedException {
+        AnalysisBatchCheckpoint checkpoint = transactionTemplate.execute(status -> startCheckpoint(runDate));
+        if (checkpoint == null || checkpoint.isCompleted()) {
+            return;
+        }
+
+        AnalysisPeriod period = AnalysisType.WEEKLY.periodEndingAt(runDate);
+        long lastUserId = checkpoint.getLastUserId();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(properties.ratePerSecond(), 1);
+        long nextAt = System.nanoTime();
+        int enqueued = 0;
+        int reused = 0;
+        int skipped = 0;
+        int backedOff = 0;
+        log.info("주간 분석 사전 계산 시작 - 실행일: {}, 시작 사용자: {}", runDate, lastUserId);
+
+        while (true) {
+            List<Long> userIds = diaryRepository.findActiveUserIdsAfter(lastUserId, period.startDate(),
+                    period.endDate(), PageRequest.of(0, properties.chunkSize()));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            for (Long userId : userIds) {
+                while (true) {
+                    // 고정 간격으로 흘려보내는 단순 속도 제한
+                    long waitNanos = nextAt - System.nanoTime();
+                    if (waitNanos > 0) {
+                        TimeUnit.NANOSECONDS.sleep(waitNanos);
+                    }
+                    nextAt = Math.max(nextAt, System.nanoTime() - intervalNanos) + intervalNanos;
+
+                    try {
+                        AnalysisCreation creation = analysisService.createAnalysis(userId, AnalysisType.WEEKLY.getValue());
+                        if (creation.analysis().status() == AnalysisStatus.PROCESSING) {
+                            enqueued++;
+                        } else {
+                            reused++;
+                        }
+                        break;
+                    } catch (RetryLaterException e) {
+                        // 분석 작업 큐 포화 - 이 사용자를 건너뛰면 체크포인트가 지나쳐 버리므로 기다렸다가 같은 사용자로 다시 요청한다
+                        backedOff++;
+                        log.debug("분석 작업 큐 포화, {} 후 재시도 - 사용자: {}", e.getRetryAfter(), userId);
+                        TimeUnit.MILLISECONDS.sleep(e.getRetryAfter().toMillis());
+                        nextAt = System.nanoTime();
+                    } catch (BusinessException e) {
+                        // 그 사이 일기가 삭제된 경우 등
+                        skipped++;
+                        log.debug("주간 분석 사전 계산 건너뜀 - 사용자: {}, 사유: {}", userId, e.getMessage());
+                        break;
+                    }
+                }
+            }
+
+            long previousUserId = lastUserId;
+            lastUserId = userIds.get(userIds.size() - 1);
+            long chunkLastUserId = lastUserId;
+            transactionTemplate.executeWithoutResult(status ->
+                    advanceCheckpoint(previousUserId, chunkLastUserId, userIds.size()));
+        }
+
+        transactionTemplate.executeWithoutResult(status ->
+                checkpointRepository.findById(BATCH_NAME).orElseThrow().complete(LocalDateTime.now(clock)));
+        log.info("주간 분석 사전 계산 완료 - 실행일: {}, 요청: {}, 재사용: {}, 건너뜀: {}, 큐 포화 대기: {}",
+                runDate, enqueued, reused, skipped, backedOff);
+    }
+
+    private AnalysisBatchCheckpoint startCheckpoint(LocalDate runDate) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        AnalysisBatchCheckpoint checkpoint = checkpointRepository.findById(BATCH_NAME).orElse(null);
+        if (checkpoint == null) {
+            return checkpointRepository.save(new AnalysisBatchCheckpoint(BATCH_NAME, runDate, now));
+        }
+        if (!checkpoint.getRunDate().equals(runDate)) {
+            checkpoint.restart(runDate, now);
+        }
+        return checkpoint;
+    }
+
+    private void advanceCheckpoint(long previousUserId, long lastUserId, int processed) {
+        AnalysisBatchCheckpoint checkpoint = checkpointRepository.findById(BATCH_NAME).orElseThrow();
+        if (checkpoint.getLastUserId() != previousUserId) {
+            // 다른 인스턴스가 같은 배치를 진행해 체크포인트를 옮겼다
+            throw new ConcurrentPrecomputeException();
+        }
+        checkpoint.advance(lastUserId, processed, LocalDateTime.now(clock));
+    }
+
+    private static class ConcurrentPrecomputeException extends RuntimeException {
+    }
+}
@@ -0,0 +1,18 @@
+package com.momo.backend.application.analysis.precompute;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 주간 분석 사전 계산 배치 설정
+ * @param enabled       배치 사용 여부
+ * @param chunkSize     한 번에 읽는 사용자 수 (체크포인트 단위)
+ * @param ratePerSecond 분석 파이프라인에 넣는 초당 최대 요청 수
+ * */
+@ConfigurationProperties(prefix = "momo.analysis.precompute")
+public record WeeklyPrecomputeProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("20") int ratePerSecond
+) {
+}
@@ -0,0 +1,32 @@
+package com.momo.backend.application.analysis.provider;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 감정 분석 모델 호출 설정
+ * @param type                    사용할 구현체 (stub)
+ * @param timeout                 호출 1회 제한 시간
+ * @param maxConcurrentCalls      동시에 진행할 수 있는 모델 호출 수 (bulkhead)
+ * @param bulkheadWait            bulkhead 자리를 기다리는 최대 시간
+ * @param maxAttempts             재시도를 포함한 최대 호출 횟수
+ * @param retryBackoff            첫 재시도 전 대기 시간 (회차마다 2배, 절반은 무작위)
+ * @param maxRetryBackoff         재시도 대기 시간 상한
+ * @param circuitFailureThreshold 서킷을 여는 연속 실패 횟수
+ * @param circuitOpenDuration     서킷이 열린 뒤 시험 호출을 허용하기까지의 시간
+ * */
+@ConfigurationProperties(prefix = "momo.analysis.provider")
+public record AnalysisProviderProperties(
+        @DefaultValue("stub") String type,
+        @DefaultValue("10s") Duration timeout,
+        @DefaultValue("4") int maxConcurrentCalls,
+        @DefaultValue("2s") Duration bulkheadWait,
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("500ms") Duration retryBackoff,
+        @DefaultValue("5s") Duration maxRetryBackoff,
+        @DefaultValue("5") int circuitFailureThreshold,
+        @DefaultValue("30s") Duration circuitOpenDuration
+) {
+}
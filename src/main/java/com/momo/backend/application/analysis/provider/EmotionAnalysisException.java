@@ -0,0 +1,23 @@
+package com.momo.backend.application.analysis.provider;
+
+import lombok.Getter;
+
+/**
+ * 감정 분석 모델 호출 실패
+ * retryable 이면 게이트웨이가 백오프 후 다시 호출한다.
+ * */
+@Getter
+public class EmotionAnalysisException extends RuntimeException {
+
+    private final boolean retryable;
+
+    public EmotionAnalysisException(String message, boolean retryable) {
+        super(message);
+        this.retryable = retryable;
+    }
+
+    public EmotionAnalysisException(String message, boolean retryable, Throwable cause) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+}
@@ -0,0 +1,190 @@
+package com.momo.backend.application.analysis.provider;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 감정 분석 모델 호출 게이트웨이
+ * 느린 모델 호출 하나가 분석 워커를 모두 붙잡지 않도록 호출마다 아래를 적용한다.
+ * - bulkhead: 동시 모델 호출 수 제한. 자리는 타임아웃이 아니라 실제 호출이 끝날 때 반납해 느린 호출이 쌓여도 한도를 넘지 않는다.
+ * - timeout: 호출을 별도 가상 스레드에서 실행하고 제한 시간이 지나면 인터럽트로 취소한다.
+ * - retry: 재시도 가능한 실패는 지수 백오프(절반은 무작위 지터)로 maxAttempts 까지 다시 호출한다.
+ * - circuit breaker: 연속 실패가 쌓이면 일정 시간 호출하지 않고 바로 실패시킨다.
+ * */
+@Slf4j
+@Component
+public class EmotionAnalysisGateway {
+
+    private final EmotionAnalysisProvider provider;
+    private final AnalysisProviderProperties properties;
+    private final Semaphore bulkhead;
+    private final ProviderCircuitBreaker circuitBreaker;
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+    private final MeterRegistry meterRegistry;
+    private final Counter retryCounter;
+    private final Counter bulkheadRejectedCounter;
+    private final Counter circuitRejectedCounter;
+
+    public EmotionAnalysisGateway(EmotionAnalysisProvider provider, AnalysisProviderProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.properties = properties;
+        this.bulkhead = new Semaphore(properties.maxConcurrentCalls());
+        this.circuitBreaker = new ProviderCircuitBreaker(properties.circuitFailureThreshold(),
+                properties.circuitOpenDuration().toNanos(), System::nanoTime);
+        this.meterRegistry = meterRegistry;
+        this.retryCounter = Counter.builder("momo.analysis.provider.retries")
+                .description("감정 분석 모델 재호출 수")
+                .tag("provider", provider.name())
+                .register(meterRegistry);
+        this.bulkheadRejectedCounter = Counter.builder("momo.analysis.provider.rejected")
+                .description("호출하지 못하고 거절된 감정 분석 모델 호출 수")
+                .tags("provider", provider.name(), "reason", "bulkhead")
+                .register(meterRegistry);
+        this.circuitRejectedCounter = Counter.builder("momo.analysis.provider.rejected")
+                .description("호출하지 못하고 거절된 감정 분석 모델 호출 수")
+                .tags("provider", provider.name(), "reason", "circuit_open")
+                .register(meterRegistry);
+        Gauge.builder("momo.analysis.provider.in-flight", bulkhead,
+                        b -> properties.maxConcurrentCalls() - b.availablePermits())
+                .description("진행 중인 감정 분석 모델 호출 수")
+                .tag("provider", provider.name())
+                .register(meterRegistry);
+        Gauge.builder("momo.analysis.provider.circuit.state", circuitBreaker, c -> c.state().ordinal())
+                .description("서킷 상태 (0: closed, 1: half-open, 2: open)")
+                .tag("provider", provider.name())
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        callers.shutdownNow();
+    }
+
+    public EmotionNarrative analyze(EmotionAnalysisRequest request) {
+        int maxAttempts = Math.max(properties.maxAttempts(), 1);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call(request);
+            } catch (EmotionAnalysisException e) {
+                if (!e.isRetryable() || attempt >= maxAttempts) {
+                    throw e;
+                }
+                long backoffMillis = backoffMillis(attempt);
+                log.debug("감정 분석 모델 재시도 - 모델: {}, 시도: {}/{}, 대기: {}ms, 원인: {}",
+                        provider.name(), attempt, maxAttempts, backoffMillis, e.getMessage());
+                retryCounter.increment();
+                sleep(backoffMillis);
+            }
+        }
+    }
+
+    private EmotionNarrative call(EmotionAnalysisRequest request) {
+        acquireBulkhead();
+        if (!circuitBreaker.tryAcquire()) {
+            bulkhead.release();
+            circuitRejectedCounter.increment();
+            throw new EmotionAnalysisException("감정 분석 모델 호출이 일시 중단되었습니다. (circuit open)", false);
+        }
+
+        Future<EmotionNarrative> future;
+        try {
+            future = callers.submit(() -> {
+                try {
+                    return provider.analyze(request);
+                } finally {
+                    bulkhead.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            bulkhead.release();
+            circuitBreaker.onIgnored();
+            throw new EmotionAnalysisException("감정 분석 모델 호출을 시작하지 못했습니다. (종료 중)", false, e);
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            EmotionNarrative result = future.get(properties.timeout().toMillis(), TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess();
+            record("success", startedAt);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onFailure();
+            record("timeout", startedAt);
+            throw new EmotionAnalysisException("감정 분석 모델 응답 시간 초과 (" + properties.timeout() + ")", true, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            boolean retryable = !(cause instanceof EmotionAnalysisException failure) || failure.isRetryable();
+            // 재시도할 수 없는 실패는 입력 문제이므로 모델 상태(서킷)에 반영하지 않는다
+            if (retryable) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            record("failure", startedAt);
+            throw new EmotionAnalysisException("감정 분석 모델 호출 실패: " + cause.getMessage(), retryable, cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            circuitBreaker.onIgnored();
+            Thread.currentThread().interrupt();
+            throw new EmotionAnalysisException("감정 분석 모델 호출 대기 중 중단되었습니다.", false, e);
+        }
+    }
+
+    private void acquireBulkhead() {
+        try {
+            if (!bulkhead.tryAcquire(properties.bulkheadWait().toMillis(), TimeUnit.MILLISECONDS)) {
+                bulkheadRejectedCounter.increment();
+                throw new EmotionAnalysisException("감정 분석 모델 동시 호출 한도 초과", true);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmotionAnalysisException("감정 분석 모델 호출 대기 중 중단되었습니다.", false, e);
+        }
+    }
+
+    /**
+     * attempt 회차 실패 후 대기 시간: min(base * 2^(attempt-1), max) 의 절반 + 나머지 절반 안에서 무작위
+     * 여러 워커가 같은 순간 실패해도 재호출 시점이 흩어지도록 한다.
+     * */
+    private long backoffMillis(int attempt) {
+        long base = properties.retryBackoff().toMillis();
+        long capped = Math.min(base << Math.min(attempt - 1, 20), properties.maxRetryBackoff().toMillis());
+        long half = capped / 2;
+        return half + ThreadLocalRandom.current().nextLong(capped - half + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmotionAnalysisException("감정 분석 모델 재시도 대기 중 중단되었습니다.", false, e);
+        }
+    }
+
+    private void record(String outcome, long startedAt) {
+        Timer.builder("momo.analysis.provider.calls")
+                .description("감정 분석 모델 호출 시간")
+                .tags("provider", provider.name(), "outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+}
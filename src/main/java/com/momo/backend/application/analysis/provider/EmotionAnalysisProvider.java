@@ -0,0 +1,14 @@
+package com.momo.backend.application.analysis.provider;
+
+/**
+ * 감정 분석 모델 연동 SPI
+ * 기간 통계를 참고해 요약문(EmotionNarrative)을 만든다.
+ * 구현체는 호출 1건만 책임지고, 타임아웃/동시 호출 제한/재시도/서킷 브레이커는 EmotionAnalysisGateway 가 감싼다.
+ * 재시도하면 안 되는 실패(잘못된 입력 등)는 retryable=false 인 EmotionAnalysisException 으로 알린다.
+ * */
+public interface EmotionAnalysisProvider {
+
+    String name();
+
+    EmotionNarrative analyze(EmotionAnalysisRequest request);
+}
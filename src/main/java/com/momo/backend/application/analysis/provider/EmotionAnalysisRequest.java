@@ -0,0 +1,21 @@
+package com.momo.backend.application.analysis.provider;
+
+import com.momo.backend.application.analysis.rollup.EmotionStatistics;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.domain.diary.repository.DiaryAnalysisRow;
+
+import java.util.List;
+
+/**
+ * 감정 분석 모델 호출 입력
+ * @param statistics 부분 집계로 계산한 기간 통계 (요약문 작성에 참고)
+ * */
+public record EmotionAnalysisRequest(
+        AnalysisType analysisType,
+        EmotionStatistics statistics,
+        List<DiaryAnalysisRow> diaries
+) {
+    public EmotionAnalysisRequest {
+        diaries = List.copyOf(diaries);
+    }
+}
@@ -0,0 +1,12 @@
+package com.momo.backend.application.analysis.provider;
+
+/**
+ * 감정 분석 모델이 만드는 서술 결과
+ * 통계(기분 점수, 주요 감정 등)는 부분 집계에서 계산하므로 모델은 요약문만 책임진다.
+ * @param modelVersion 요약문을 만든 모델 버전 (피드백 정확도를 모델 버전별로 집계한다)
+ * */
+public record EmotionNarrative(
+        String summary,
+        String modelVersion
+) {
+}
@@ -0,0 +1,82 @@
+package com.momo.backend.application.analysis.provider;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 횟수 기반 서킷 브레이커
+ * CLOSED: 모두 허용, 연속 실패가 임계치에 닿으면 OPEN
+ * OPEN: 모두 거절, openDuration 이 지나면 시험 호출 1건만 허용(HALF_OPEN)
+ * HALF_OPEN: 시험 호출이 성공하면 CLOSED, 실패하면 다시 OPEN
+ * 모델 호출 1건(수백 ms)마다 한 번씩 불리므로 단순하게 동기화한다.
+ * */
+final class ProviderCircuitBreaker {
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoTime;
+
+    private volatile State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    ProviderCircuitBreaker(int failureThreshold, long openNanos, LongSupplier nanoTime) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    State state() {
+        return state;
+    }
+
+    /**
+     * 호출해도 되는지 확인한다. true 를 받았으면 결과를 onSuccess/onFailure/onIgnored 중 하나로 알려야 한다.
+     * */
+    synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && nanoTime.getAsLong() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+        }
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * 모델 상태와 무관하게 끝난 호출(워커 중단 등). 시험 호출이었다면 다음 호출이 다시 시험하도록 OPEN 으로 돌린다.
+     * */
+    synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoTime.getAsLong();
+        consecutiveFailures = 0;
+    }
+}
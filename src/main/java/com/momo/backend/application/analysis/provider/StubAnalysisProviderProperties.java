@@ -0,0 +1,26 @@
+package com.momo.backend.application.analysis.provider;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 로컬 stub 분석 모델 설정 (외부 모델 없이 처리량/지연 꼬리 시험용)
+ * @param latency         호출마다 기본으로 걸리는 시간
+ * @param latencyJitter   기본 시간에 더하는 무작위 시간의 상한
+ * @param slowCallRate    slowCallLatency 만큼 느리게 응답하는 호출 비율 (0~1)
+ * @param slowCallLatency 느린 호출의 응답 시간
+ * @param failureRate     실패(재시도 가능)로 응답하는 호출 비율 (0~1)
+ * @param seed            지연/실패 순서를 정하는 난수 시드 (같은 시드, 같은 호출 순서면 같은 결과)
+ * */
+@ConfigurationProperties(prefix = "momo.analysis.provider.stub")
+public record StubAnalysisProviderProperties(
+        @DefaultValue("300ms") Duration latency,
+        @DefaultValue("200ms") Duration latencyJitter,
+        @DefaultValue("0") double slowCallRate,
+        @DefaultValue("15s") Duration slowCallLatency,
+        @DefaultValue("0") double failureRate,
+        @DefaultValue("42") long seed
+) {
+}
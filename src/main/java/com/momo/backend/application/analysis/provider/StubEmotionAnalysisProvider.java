@@ -0,0 +1,72 @@
+package com.momo.backend.application.analysis.provider;
+
+import com.momo.backend.application.analysis.rollup.EmotionStatistics;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 stub 분석 모델
+ * 요약문은 기간 통계로 만든 고정 문장이고, 응답 지연과 실패는 설정된 분포대로 흉내 낸다.
+ * 호출 순번과 시드로 난수를 만들기 때문에 같은 설정으로 같은 순서로 호출하면 지연/실패 순서가 재현된다.
+ * */
+@Component
+@ConditionalOnProperty(prefix = "momo.analysis.provider", name = "type", havingValue = "stub", matchIfMissing = true)
+public class StubEmotionAnalysisProvider implements EmotionAnalysisProvider {
+
+    private static final String MODEL_VERSION = "stub-1";
+
+    private final StubAnalysisProviderProperties properties;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public StubEmotionAnalysisProvider(StubAnalysisProviderProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public String name() {
+        return "stub";
+    }
+
+    @Override
+    public EmotionNarrative analyze(EmotionAnalysisRequest request) {
+        if (request.diaries().isEmpty()) {
+            throw new EmotionAnalysisException("분석할 일기가 없습니다.", false);
+        }
+
+        SplittableRandom random = new SplittableRandom(properties.seed() + sequence.getAndIncrement());
+        boolean slow = random.nextDouble() < properties.slowCallRate();
+        boolean failed = random.nextDouble() < properties.failureRate();
+        long jitterMillis = properties.latencyJitter().toMillis();
+        long latencyMillis = slow
+                ? properties.slowCallLatency().toMillis()
+                : properties.latency().toMillis() + (jitterMillis > 0 ? random.nextLong(jitterMillis + 1) : 0);
+
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            // 게이트웨이 타임아웃으로 취소된 호출
+            Thread.currentThread().interrupt();
+            throw new EmotionAnalysisException("stub 분석 호출이 취소되었습니다.", false, e);
+        }
+        if (failed) {
+            throw new EmotionAnalysisException("stub 분석 실패 (설정된 실패율)", true);
+        }
+        EmotionStatistics statistics = request.statistics();
+        return new EmotionNarrative(String.format(
+                "%s 동안 작성한 일기 %d개에서 '%s' 감정이 가장 많이 나타났습니다. 전반적인 기분은 %s입니다.",
+                periodLabelOf(request.analysisType()), statistics.diaryCount(), statistics.dominantEmotions().get(0),
+                statistics.overallMood()), MODEL_VERSION);
+    }
+
+    private String periodLabelOf(AnalysisType analysisType) {
+        return switch (analysisType) {
+            case DAILY -> "오늘 하루";
+            case WEEKLY -> "지난 한 주";
+            case MONTHLY -> "지난 한 달";
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.momo.backend.application.analysis.recommendation;
+
+import com.momo.backend.domain.diary.entity.EmotionType;
+
+/**
+ * 추천 규칙 한 줄
+ * @param emotionType 주요 감정 조건 (null 이면 모두 허용)
+ * @param riskLevel 위험도 조건 (null 이면 모두 허용)
+ * @param minMoodBand 기분 점수 구간 하한 (1-10, 포함)
+ * @param maxMoodBand 기분 점수 구간 상한 (1-10, 포함)
+ * */
+record RecommendationRule(
+        EmotionType emotionType,
+        String riskLevel,
+        int minMoodBand,
+        int maxMoodBand,
+        RecommendationTemplate template
+) {
+    static final int MIN_MOOD_BAND = 1;
+    static final int MAX_MOOD_BAND = 10;
+
+    boolean matches(EmotionType emotion, String risk, int moodBand) {
+        return (emotionType == null || emotionType == emotion)
+                && (riskLevel == null || riskLevel.equals(risk))
+                && minMoodBand <= moodBand && moodBand <= maxMoodBand;
+    }
+
+    // 조건이 걸린 항목 수, 클수록 먼저 고른다
+    int specificity() {
+        int specificity = emotionType != null ? 1 : 0;
+        specificity += riskLevel != null ? 1 : 0;
+        return specificity + (minMoodBand > MIN_MOOD_BAND || maxMoodBand < MAX_MOOD_BAND ? 1 : 0);
+    }
+}
@@ -0,0 +1,158 @@
+package com.momo.backend.application.analysis.recommendation;
+
+import com.momo.backend.application.analysis.rollup.EmotionStatistics;
+import com.momo.backend.domain.diary.entity.EmotionType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 추천 규칙 색인 (불변)
+ * (주요 감정, 위험도, 기분 점수 구간)의 모든 조합에 대해 고를 추천을 미리 계산해 배열에 둔다.
+ * 조합은 (감정 8 + 없음) x 위험도 3 x 구간 10 = 270칸이라 규칙이 수백 개여도 만들 때 한 번만 훑으면 되고,
+ * 조회는 칸 번호 계산 한 번이다.
+ * */
+final class RecommendationRuleIndex {
+
+    private static final String ANY = "*";
+    private static final List<String> RISK_LEVELS = List.of("low", "medium", "high");
+    private static final EmotionType[] EMOTION_TYPES = EmotionType.values();
+    private static final int EMOTION_SLOTS = EMOTION_TYPES.length + 1; // 0 은 주요 감정 없음
+    private static final int BANDS = RecommendationRule.MAX_MOOD_BAND - RecommendationRule.MIN_MOOD_BAND + 1;
+    private static final Map<String, EmotionType> EMOTION_BY_NAME = new HashMap<>();
+
+    static {
+        for (EmotionType type : EMOTION_TYPES) {
+            EMOTION_BY_NAME.put(EmotionStatistics.emotionNameOf(type), type);
+        }
+    }
+
+    private final List<List<RecommendationTemplate>> cells;
+    private final int ruleCount;
+
+    private RecommendationRuleIndex(List<List<RecommendationTemplate>> cells, int ruleCount) {
+        this.cells = cells;
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * 규칙 파일 형식은 analysis/recommendation-rules.tsv 주석 참고
+     * @param limit 한 분석에 담을 최대 추천 수
+     * */
+    static RecommendationRuleIndex load(InputStream inputStream, int limit) throws IOException {
+        List<RecommendationRule> rules = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.strip();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                rules.add(parse(trimmed, lineNumber));
+            }
+        }
+        return compile(rules, limit);
+    }
+
+    static RecommendationRuleIndex compile(List<RecommendationRule> rules, int limit) {
+        // 구체적인 규칙 먼저, 같으면 파일 순서 (정렬은 안정적이다)
+        List<RecommendationRule> ordered = rules.stream()
+                .sorted(Comparator.comparingInt(RecommendationRule::specificity).reversed())
+                .toList();
+
+        List<List<RecommendationTemplate>> cells = new ArrayList<>(EMOTION_SLOTS * RISK_LEVELS.size() * BANDS);
+        Set<String> types = new HashSet<>();
+        for (int emotionSlot = 0; emotionSlot < EMOTION_SLOTS; emotionSlot++) {
+            EmotionType emotion = emotionSlot == 0 ? null : EMOTION_TYPES[emotionSlot - 1];
+            for (String risk : RISK_LEVELS) {
+                for (int band = RecommendationRule.MIN_MOOD_BAND; band <= RecommendationRule.MAX_MOOD_BAND; band++) {
+                    List<RecommendationTemplate> selected = new ArrayList<>(limit);
+                    types.clear();
+                    for (RecommendationRule rule : ordered) {
+                        if (selected.size() == limit) {
+                            break;
+                        }
+                        if (rule.matches(emotion, risk, band) && types.add(rule.template().type())) {
+                            selected.add(rule.template());
+                        }
+                    }
+                    cells.add(List.copyOf(selected));
+                }
+            }
+        }
+        return new RecommendationRuleIndex(List.copyOf(cells), rules.size());
+    }
+
+    List<RecommendationTemplate> select(EmotionStatistics statistics) {
+        return cells.get(cellOf(statistics));
+    }
+
+    int ruleCount() {
+        return ruleCount;
+    }
+
+    private static int cellOf(EmotionStatistics statistics) {
+        List<String> dominantEmotions = statistics.dominantEmotions();
+        EmotionType emotion = dominantEmotions.isEmpty() ? null : EMOTION_BY_NAME.get(dominantEmotions.get(0));
+        int emotionSlot = emotion == null ? 0 : emotion.ordinal() + 1;
+        int risk = Math.max(RISK_LEVELS.indexOf(statistics.riskLevel()), 0);
+        return (emotionSlot * RISK_LEVELS.size() + risk) * BANDS + moodBandOf(statistics.moodScore())
+                - RecommendationRule.MIN_MOOD_BAND;
+    }
+
+    static int moodBandOf(double moodScore) {
+        return Math.min(Math.max((int) moodScore, RecommendationRule.MIN_MOOD_BAND), RecommendationRule.MAX_MOOD_BAND);
+    }
+
+    private static RecommendationRule parse(String line, int lineNumber) {
+        String[] fields = line.split("\t");
+        if (fields.length != 8) {
+            throw invalid(lineNumber, line);
+        }
+        try {
+            EmotionType emotionType = null;
+            if (!ANY.equals(fields[0])) {
+                emotionType = EMOTION_BY_NAME.get(fields[0]);
+                if (emotionType == null) {
+                    throw invalid(lineNumber, line);
+                }
+            }
+            String riskLevel = ANY.equals(fields[1]) ? null : fields[1];
+            if (riskLevel != null && !RISK_LEVELS.contains(riskLevel)) {
+                throw invalid(lineNumber, line);
+            }
+            int minMoodBand = RecommendationRule.MIN_MOOD_BAND;
+            int maxMoodBand = RecommendationRule.MAX_MOOD_BAND;
+            if (!ANY.equals(fields[2])) {
+                String[] range = fields[2].split("-");
+                minMoodBand = Integer.parseInt(range[0]);
+                maxMoodBand = range.length > 1 ? Integer.parseInt(range[1]) : minMoodBand;
+                if (range.length > 2 || minMoodBand < RecommendationRule.MIN_MOOD_BAND
+                        || maxMoodBand > RecommendationRule.MAX_MOOD_BAND || minMoodBand > maxMoodBand) {
+                    throw invalid(lineNumber, line);
+                }
+            }
+            RecommendationTemplate template = new RecommendationTemplate(fields[3], fields[4], fields[5],
+                    Integer.parseInt(fields[6]), fields[7]);
+            return new RecommendationRule(emotionType, riskLevel, minMoodBand, maxMoodBand, template);
+        } catch (NumberFormatException e) {
+            throw invalid(lineNumber, line);
+        }
+    }
+
+    private static IllegalArgumentException invalid(int lineNumber, String line) {
+        return new IllegalArgumentException("추천 규칙 형식 오류 - " + lineNumber + "행: " + line);
+    }
+}
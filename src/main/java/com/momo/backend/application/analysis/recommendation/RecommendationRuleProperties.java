@@ -0,0 +1,20 @@
+package com.momo.backend.application.analysis.recommendation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 추천 규칙 설정
+ * @param location 규칙 파일 위치 (classpath: 또는 file:)
+ * @param reloadInterval 규칙 파일 변경 확인 주기
+ * @param limit 한 분석에 담을 최대 추천 수
+ * */
+@ConfigurationProperties(prefix = "momo.analysis.recommendation")
+public record RecommendationRuleProperties(
+        @DefaultValue("classpath:analysis/recommendation-rules.tsv") String location,
+        @DefaultValue("PT1M") Duration reloadInterval,
+        @DefaultValue("4") int limit
+) {
+}
@@ -0,0 +1,114 @@
+package com.momo.backend.application.analysis.recommendation;
+
+import com.momo.backend.application.analysis.rollup.EmotionStatistics;
+import com.momo.backend.domain.analysis.entity.AnalysisRecommendation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 감정 통계에 맞는 추천 활동
+ * 규칙 파일을 불변 색인(RecommendationRuleIndex)으로 만들어 두고, 파일이 바뀌면 새 색인을 만든 뒤 참조만 바꾼다.
+ * 조회 중인 스레드는 바꾸기 전 색인을 끝까지 보므로 잠금이 없고, 새 파일에 오류가 있으면 기존 색인을 유지한다.
+ * */
+@Slf4j
+@Component
+public class RecommendationRules {
+
+    private final RecommendationRuleProperties properties;
+    private final Resource resource;
+    private final Counter reloadSuccessCounter;
+    private final Counter reloadFailureCounter;
+
+    private volatile RecommendationRuleIndex index;
+    private long loadedLastModified;
+
+    public RecommendationRules(RecommendationRuleProperties properties, ResourceLoader resourceLoader,
+                               MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.resource = resourceLoader.getResource(properties.location());
+        // 기동 시에는 규칙이 없으면 분석 결과를 만들 수 없으므로 실패시킨다
+        this.loadedLastModified = lastModified();
+        this.index = load();
+        log.info("추천 규칙 로드 - 위치: {}, 규칙 수: {}", properties.location(), index.ruleCount());
+
+        this.reloadSuccessCounter = reloadCounter(meterRegistry, "success");
+        this.reloadFailureCounter = reloadCounter(meterRegistry, "failure");
+        Gauge.builder("momo.analysis.recommendation.rules", this, rules -> rules.index.ruleCount())
+                .description("적용 중인 추천 규칙 수")
+                .register(meterRegistry);
+    }
+
+    public List<AnalysisRecommendation> recommend(EmotionStatistics statistics) {
+        List<RecommendationTemplate> templates = index.select(statistics);
+        List<AnalysisRecommendation> recommendations = new ArrayList<>(templates.size());
+        for (RecommendationTemplate template : templates) {
+            recommendations.add(template.toRecommendation());
+        }
+        return recommendations;
+    }
+
+    @Scheduled(fixedDelayString = "${momo.analysis.recommendation.reload-interval:PT1M}")
+    public synchronized void reloadIfChanged() {
+        long lastModified = lastModified();
+        if (lastModified == loadedLastModified) {
+            return;
+        }
+        // 오류가 난 파일을 주기마다 다시 읽지 않도록 시각은 먼저 기록한다
+        loadedLastModified = lastModified;
+        reload();
+    }
+
+    /**
+     * 규칙 파일을 다시 읽어 색인을 바꾼다.
+     * @return 새 색인을 적용했으면 true, 파일에 오류가 있어 기존 색인을 유지했으면 false
+     * */
+    public synchronized boolean reload() {
+        try {
+            RecommendationRuleIndex reloaded = load();
+            index = reloaded;
+            reloadSuccessCounter.increment();
+            log.info("추천 규칙 다시 로드 - 규칙 수: {}", reloaded.ruleCount());
+            return true;
+        } catch (RuntimeException e) {
+            reloadFailureCounter.increment();
+            log.warn("추천 규칙 다시 로드 실패, 기존 규칙 유지 - 위치: {}", properties.location(), e);
+            return false;
+        }
+    }
+
+    private RecommendationRuleIndex load() {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return RecommendationRuleIndex.load(inputStream, properties.limit());
+        } catch (IOException e) {
+            throw new UncheckedIOException("추천 규칙 파일을 읽을 수 없습니다: " + properties.location(), e);
+        }
+    }
+
+    // 파일이 사라지는 등 시각을 알 수 없으면 0
+    private long lastModified() {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static Counter reloadCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("momo.analysis.recommendation.reloads")
+                .description("추천 규칙 다시 로드 횟수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
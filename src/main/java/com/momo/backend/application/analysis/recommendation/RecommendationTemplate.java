@@ -0,0 +1,19 @@
+package com.momo.backend.application.analysis.recommendation;
+
+import com.momo.backend.domain.analysis.entity.AnalysisRecommendation;
+
+/**
+ * 추천 활동 내용 (규칙 색인이 들고 있는 불변 값)
+ * */
+record RecommendationTemplate(
+        String type,
+        String title,
+        String description,
+        int duration,
+        String priority
+) {
+    // 분석 엔티티의 값 컬렉션에 들어가므로 호출마다 새로 만든다
+    AnalysisRecommendation toRecommendation() {
+        return new AnalysisRecommendation(type, title, description, duration, priority);
+    }
+}
@@ -0,0 +1,149 @@
+package com.momo.backend.application.analysis.rollup;
+
+import com.momo.backend.domain.analysis.entity.DailyEmotionPartial;
+import com.momo.backend.domain.analysis.entity.EmotionCounts;
+import com.momo.backend.domain.analysis.repository.DailyEmotionPartialRepository;
+import com.momo.backend.domain.diary.entity.EmotionType;
+import com.momo.backend.domain.diary.event.DiariesImportedEvent;
+import com.momo.backend.domain.diary.event.DiaryChangedEvent;
+import com.momo.backend.domain.diary.repository.DiaryCalendarRow;
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일기 변경을 (사용자, 일) 감정 부분 집계에 반영한다.
+ * 그날 일기의 감정 타입만 다시 읽어(커버링 인덱스) 통째로 다시 계산하므로 작성/수정/삭제를 구분하지 않는다.
+ *
+ * 일기 트랜잭션이 커밋된 뒤 별도 트랜잭션에서 갱신하므로 부분 집계가 실패해도 일기 저장은 되돌려지지 않는다.
+ * 같은 날의 동시 갱신은 부분 집계 행 잠금으로 줄을 세우고, 첫 행 INSERT 의 유니크 키 경합은 다시 읽어 재시도한다.
+ * 그래도 실패하면 행을 지워 두고, 분석 시 EmotionRollup 이 일기 수와 맞지 않는 기간을 일기로 다시 채운다.
+ * */
+@Slf4j
+@Component
+public class DailyEmotionPartialProjector {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final DiaryRepository diaryRepository;
+    private final DailyEmotionPartialRepository partialRepository;
+    private final TransactionTemplate requiresNew;
+
+    public DailyEmotionPartialProjector(DiaryRepository diaryRepository,
+                                        DailyEmotionPartialRepository partialRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.diaryRepository = diaryRepository;
+        this.partialRepository = partialRepository;
+        // 커밋 후 단계에서는 끝난 일기 트랜잭션에 참여하지 않도록 새 트랜잭션을 연다
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(DiaryChangedEvent event) {
+        refreshDay(event.userId(), event.diaryDate());
+    }
+
+    /**
+     * 일괄 가져오기는 건별로 반영하지 않고 커밋 후 사용자 전체를 다시 만든다.
+     * */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void on(DiariesImportedEvent event) {
+        rebuildUser(event.userId());
+    }
+
+    /**
+     * 하루 부분 집계를 커밋된 일기 기준으로 새 트랜잭션에서 다시 계산한다. 실패해도 예외를 던지지 않는다.
+     * */
+    public void refreshDay(Long userId, LocalDate date) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                requiresNew.executeWithoutResult(status -> recalculateDay(userId, date));
+                return;
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    reconcileLater(userId, date, e);
+                    return;
+                }
+                log.debug("감정 부분 집계 동시 갱신 충돌, 재시도 - 사용자: {}, 일: {}, 시도: {}", userId, date, attempt);
+            } catch (RuntimeException e) {
+                reconcileLater(userId, date, e);
+                return;
+            }
+        }
+    }
+
+    private void recalculateDay(Long userId, LocalDate date) {
+        // 행을 먼저 잠근 뒤 일기를 읽으므로, 뒤에 잠금을 얻은 갱신은 앞선 갱신이 본 일기를 모두 본다
+        DailyEmotionPartial partial = partialRepository.findForUpdate(userId, date).orElse(null);
+        List<DiaryCalendarRow> rows = diaryRepository.findCalendarRows(userId, date, date);
+        if (rows.isEmpty()) {
+            if (partial != null) {
+                partialRepository.delete(partial);
+            }
+            return;
+        }
+        upsert(userId, date, rows, partial);
+        // 첫 행 INSERT 의 유니크 키 경합을 커밋 전에 드러내 재시도 대상으로 만든다
+        partialRepository.flush();
+    }
+
+    /**
+     * 사용자의 전체 부분 집계를 일기 테이블 기준으로 다시 만든다.
+     * */
+    @Transactional
+    public void rebuildUser(Long userId) {
+        Map<LocalDate, List<DiaryCalendarRow>> rowsByDate = diaryRepository.findAllCalendarRows(userId).stream()
+                .collect(Collectors.groupingBy(DiaryCalendarRow::diaryDate, TreeMap::new, Collectors.toList()));
+        Map<LocalDate, DailyEmotionPartial> existingByDate = partialRepository.findByUserId(userId).stream()
+                .collect(Collectors.toMap(DailyEmotionPartial::getPartialDate, Function.identity()));
+
+        rowsByDate.forEach((date, rows) -> upsert(userId, date, rows, existingByDate.remove(date)));
+        // 일기가 모두 사라진 날의 부분 집계 제거
+        partialRepository.deleteAll(existingByDate.values());
+        log.debug("감정 부분 집계 재구성 - 사용자: {}, 일 수: {}", userId, rowsByDate.size());
+    }
+
+    private void upsert(Long userId, LocalDate date, List<DiaryCalendarRow> rows, DailyEmotionPartial partial) {
+        EmotionCounts counts = EmotionCounts.empty();
+        double moodScoreSum = 0;
+        for (DiaryCalendarRow row : rows) {
+            EmotionType emotionType = EmotionType.from(row.emotionType());
+            counts = counts.plus(emotionType);
+            moodScoreSum += EmotionStatistics.moodScoreOf(emotionType);
+        }
+        if (partial == null) {
+            partialRepository.save(new DailyEmotionPartial(userId, date, counts, moodScoreSum));
+        } else {
+            partial.update(counts, moodScoreSum);
+        }
+    }
+
+    private void reconcileLater(Long userId, LocalDate date, RuntimeException cause) {
+        log.error("감정 부분 집계 갱신 실패, 분석 시 일기로 다시 계산한다 - 사용자: {}, 일: {}", userId, date, cause);
+        try {
+            // 어긋난 값을 남기지 않는다 - 행이 없으면 합계가 일기 수와 달라져 EmotionRollup 이 다시 채운다
+            requiresNew.executeWithoutResult(status -> partialRepository.findByUserIdAndPartialDate(userId, date)
+                    .ifPresent(partialRepository::delete));
+        } catch (RuntimeException e) {
+            log.warn("감정 부분 집계 행 삭제 실패 - 사용자: {}, 일: {}", userId, date, e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.momo.backend.application.analysis.rollup;
+
+import com.momo.backend.domain.analysis.entity.AnalysisPeriod;
+import com.momo.backend.domain.analysis.entity.DailyEmotionPartial;
+import com.momo.backend.domain.analysis.entity.EmotionCounts;
+import com.momo.backend.domain.analysis.repository.DailyEmotionPartialRepository;
+import com.momo.backend.domain.diary.entity.EmotionType;
+import com.momo.backend.domain.diary.repository.DiaryAnalysisRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 주간/월간 감정 통계를 일 단위 부분 집계를 합쳐 만든다.
+ * 월간(약 30일)이라도 일기 본문을 다시 읽지 않고 작은 행 30개를 합치면 된다.
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmotionRollup {
+
+    private final DailyEmotionPartialRepository partialRepository;
+    private final DailyEmotionPartialProjector partialProjector;
+
+    /**
+     * @return 기간 안에 일기가 없으면 empty
+     * */
+    public Optional<EmotionStatistics> fromPartials(Long userId, AnalysisPeriod period) {
+        List<DailyEmotionPartial> partials =
+                partialRepository.findByUserIdAndPartialDateBetween(userId, period.startDate(), period.endDate());
+        EmotionCounts counts = EmotionCounts.empty();
+        double moodScoreSum = 0;
+        for (DailyEmotionPartial partial : partials) {
+            counts = counts.merge(partial.getEmotionCounts());
+            moodScoreSum += partial.getMoodScoreSum();
+        }
+        return counts.total() == 0 ? Optional.empty() : Optional.of(EmotionStatistics.of(counts, moodScoreSum));
+    }
+
+    /**
+     * 분석 작업용. 부분 집계 합계가 실제 일기 수와 다르면(도입 전 일기 등) 일기로 계산하고 빠진 날을 채운다.
+     * @param diaries 같은 기간의 일기 (모델 입력으로 이미 읽은 것)
+     * */
+    public EmotionStatistics statistics(Long userId, AnalysisPeriod period, List<DiaryAnalysisRow> diaries) {
+        if (diaries.isEmpty()) {
+            throw new IllegalStateException("분석할 일기가 없습니다.");
+        }
+        Optional<EmotionStatistics> rolledUp = fromPartials(userId, period);
+        if (rolledUp.isPresent() && rolledUp.get().diaryCount() == diaries.size()) {
+            return rolledUp.get();
+        }
+
+        log.info("감정 부분 집계 누락, 일기로 다시 계산 - 사용자: {}, 기간: {} ~ {}",
+                userId, period.startDate(), period.endDate());
+        // 날짜마다 자기 트랜잭션에서 갱신하므로 일부 날이 실패해도 분석은 계속한다
+        diaries.stream()
+                .map(DiaryAnalysisRow::diaryDate)
+                .distinct()
+                .forEach(date -> partialProjector.refreshDay(userId, date));
+        return recompute(diaries);
+    }
+
+    /**
+     * 부분 집계 없이 일기 전체로 통계를 계산한다.
+     * */
+    public static EmotionStatistics recompute(List<DiaryAnalysisRow> diaries) {
+        EmotionCounts counts = EmotionCounts.empty();
+        double moodScoreSum = 0;
+        for (DiaryAnalysisRow diary : diaries) {
+            EmotionType emotionType = EmotionType.from(diary.emotionType());
+            counts = counts.plus(emotionType);
+            moodScoreSum += EmotionStatistics.moodScoreOf(emotionType);
+        }
+        return EmotionStatistics.of(counts, moodScoreSum);
+    }
+}
@@ -0,0 +1,87 @@
+package com.momo.backend.application.analysis.rollup;
+
+import com.momo.backend.domain.analysis.entity.EmotionCounts;
+import com.momo.backend.domain.diary.entity.EmotionType;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 기간 감정 통계 (모델 없이 감정 타입만으로 계산되는 부분)
+ * 기분 점수는 감정 타입별 점수의 평균이고, 주요 감정은 많이 기록된 순서 상위 3개다.
+ * @param moodScore 1-10
+ * @param riskLevel low, medium, high
+ * */
+public record EmotionStatistics(
+        int diaryCount,
+        double moodScore,
+        List<String> dominantEmotions,
+        String riskLevel,
+        String overallMood
+) {
+    private static final int DOMINANT_EMOTION_LIMIT = 3;
+
+    public EmotionStatistics {
+        dominantEmotions = List.copyOf(dominantEmotions);
+    }
+
+    public static EmotionStatistics of(EmotionCounts counts, double moodScoreSum) {
+        int diaryCount = counts.total();
+        if (diaryCount == 0) {
+            throw new IllegalStateException("분석할 일기가 없습니다.");
+        }
+        double moodScore = Math.round(moodScoreSum / diaryCount * 10) / 10.0;
+        List<String> dominantEmotions = Arrays.stream(EmotionType.values())
+                .filter(type -> counts.countOf(type) > 0)
+                .sorted(Comparator.comparingInt(counts::countOf).reversed())
+                .limit(DOMINANT_EMOTION_LIMIT)
+                .map(EmotionStatistics::emotionNameOf)
+                .toList();
+        return new EmotionStatistics(diaryCount, moodScore, dominantEmotions, riskLevelOf(moodScore),
+                overallMoodOf(moodScore));
+    }
+
+    public static double moodScoreOf(EmotionType emotionType) {
+        return switch (emotionType) {
+            case HAPPY -> 9.0;
+            case EXCITED -> 8.5;
+            case CALM -> 7.0;
+            case NEUTRAL -> 5.5;
+            case TIRED -> 4.0;
+            case ANXIOUS -> 3.0;
+            case SAD -> 2.5;
+            case ANGRY -> 2.5;
+        };
+    }
+
+    public static String emotionNameOf(EmotionType emotionType) {
+        return switch (emotionType) {
+            case HAPPY -> "joy";
+            case EXCITED -> "excitement";
+            case CALM -> "calm";
+            case NEUTRAL -> "neutral";
+            case TIRED -> "fatigue";
+            case ANXIOUS -> "anxiety";
+            case SAD -> "sadness";
+            case ANGRY -> "anger";
+        };
+    }
+
+    static String riskLevelOf(double moodScore) {
+        if (moodScore < 3.0) {
+            return "high";
+        }
+        return moodScore < 5.0 ? "medium" : "low";
+    }
+
+    static String overallMoodOf(double moodScore) {
+        if (moodScore >= 7.0) {
+            return "좋음";
+        }
+        if (moodScore >= 5.0) {
+            return "보통";
+        }
+        return moodScore >= 3.5 ? "다소 가라앉음" : "우울감";
+    }
+}
@@ -0,0 +1,50 @@
+package com.momo.backend.application.diary;
+
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import com.momo.backend.domain.diary.entity.Diary;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이징용 불투명 커서 (diaryDate, id)
+ * 클라이언트는 값을 해석하지 않고 nextCursor 를 그대로 다음 요청에 전달한다.
+ * */
+public record DiaryCursor(LocalDate diaryDate, Long id) {
+
+    private static final char DELIMITER = '_';
+
+    public static DiaryCursor of(Diary diary) {
+        return new DiaryCursor(diary.getDiaryDate(), diary.getId());
+    }
+
+    /**
+     * 빈 문자열은 첫 페이지를 의미하므로 null 을 반환한다.
+     * */
+    public static DiaryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new BusinessException(ErrorCode.INVALID_DIARY_CURSOR);
+            }
+            return new DiaryCursor(
+                    LocalDate.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_DIARY_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = diaryDate.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
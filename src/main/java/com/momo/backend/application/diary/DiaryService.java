@@ -0,0 +1,146 @@
+package com.momo.backend.application.diary;
+
+import com.momo.backend.application.diary.today.TodayDiaryCache;
+import com.momo.backend.application.diary.write.DiaryWriteBehind;
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import com.momo.backend.domain.diary.entity.Diary;
+import com.momo.backend.domain.diary.entity.EmotionType;
+import com.momo.backend.domain.diary.event.DiaryChangedEvent;
+import com.momo.backend.domain.diary.event.DiaryChangedEvent.ChangeType;
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import com.momo.backend.domain.diary.repository.DiarySearchCondition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DiaryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final DiaryRepository diaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodayDiaryCache todayDiaryCache;
+    private final Clock clock;
+    private final DiaryWriteBehind diaryWriteBehind;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * write-behind 가 켜져 있으면 배치 커밋을 기다리는 동안 커넥션을 잡지 않도록 트랜잭션 없이 시작하고,
+     * 꺼져 있거나 큐가 가득 차면 단건 트랜잭션으로 저장한다.
+     * */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Diary createDiary(Long userId, String emotionType, String content) {
+        EmotionType.from(emotionType);
+        LocalDate diaryDate = LocalDate.now(clock);
+
+        return diaryWriteBehind.create(userId, emotionType, content, diaryDate)
+                .orElseGet(() -> transactionTemplate.execute(status -> {
+                    Diary diary = diaryRepository.save(Diary.builder()
+                            .userId(userId)
+                            .emotionType(emotionType)
+                            .content(content)
+                            .diaryDate(diaryDate)
+                            .build());
+                    publishChanged(diary, ChangeType.CREATED);
+                    return diary;
+                }));
+    }
+
+    /**
+     * 오프셋 페이징 (page 는 1부터 시작)
+     * */
+    public Page<Diary> getDiaryPage(Long userId, DiarySearchCondition condition, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return diaryRepository.findPage(userId, condition, PageRequest.of(Math.max(page - 1, 0), pageSize));
+    }
+
+    /**
+     * 키셋(커서) 페이징
+     * size + 1 건을 읽어 다음 페이지 존재 여부를 판단하므로 COUNT 쿼리가 필요 없다.
+     * */
+    public DiarySlice getDiarySlice(Long userId, DiarySearchCondition condition, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        DiaryCursor decoded = DiaryCursor.decode(cursor);
+        List<Diary> diaries = diaryRepository.findSliceBefore(
+                userId,
+                condition,
+                decoded != null ? decoded.diaryDate() : null,
+                decoded != null ? decoded.id() : null,
+                pageSize + 1
+        );
+
+        if (diaries.size() <= pageSize) {
+            return new DiarySlice(diaries, null);
+        }
+        List<Diary> page = diaries.subList(0, pageSize);
+        return new DiarySlice(page, DiaryCursor.of(page.get(pageSize - 1)).encode());
+    }
+
+    public Diary getDiary(Long userId, Long diaryId) {
+        return findOwnedDiary(userId, diaryId);
+    }
+
+    /**
+     * 조건부 조회용 - 엔티티(본문)를 읽지 않고 버전 컬럼만 조회한다.
+     * */
+    public long getDiaryVersion(Long userId, Long diaryId) {
+        return diaryRepository.findVersionByIdAndUserId(diaryId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.DIARY_NOT_FOUND));
+    }
+
+    /**
+     * @param expectedVersion If-Match 로 받은 버전 (null 이면 검사하지 않음)
+     * */
+    @Transactional
+    public Diary updateDiary(Long userId, Long diaryId, String emotionType, String content, Long expectedVersion) {
+        EmotionType.from(emotionType);
+        Diary diary = findOwnedDiary(userId, diaryId);
+        if (expectedVersion != null && !expectedVersion.equals(diary.getVersion())) {
+            throw new BusinessException(ErrorCode.DIARY_VERSION_MISMATCH);
+        }
+        diary.update(emotionType, content);
+        publishChanged(diary, ChangeType.UPDATED);
+        return diary;
+    }
+
+    @Transactional
+    public void deleteDiary(Long userId, Long diaryId) {
+        Diary diary = findOwnedDiary(userId, diaryId);
+        diaryRepository.delete(diary);
+        publishChanged(diary, ChangeType.DELETED);
+    }
+
+    /**
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션을 열지 않는다. (미스 시 리포지토리 조회만 트랜잭션으로 실행)
+     * */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<DiarySnapshot> getTodayDiary(Long userId) {
+        return todayDiaryCache.get(userId, today ->
+                diaryRepository.findFirstByUserIdAndDiaryDateOrderByIdDesc(userId, today).map(DiarySnapshot::from));
+    }
+
+    private void publishChanged(Diary diary, ChangeType changeType) {
+        eventPublisher.publishEvent(DiaryChangedEvent.of(diary, changeType));
+    }
+
+    private Diary findOwnedDiary(Long userId, Long diaryId) {
+        return diaryRepository.findByIdAndUserId(diaryId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.DIARY_NOT_FOUND));
+    }
+}
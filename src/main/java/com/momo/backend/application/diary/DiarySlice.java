@@ -0,0 +1,14 @@
+package com.momo.backend.application.diary;
+
+import com.momo.backend.domain.diary.entity.Diary;
+
+import java.util.List;
+
+/**
+ * 커서 페이징 결과 (nextCursor 가 null 이면 마지막 페이지)
+ * */
+public record DiarySlice(
+        List<Diary> diaries,
+        String nextCursor
+) {
+}
@@ -0,0 +1,33 @@
+package com.momo.backend.application.diary;
+
+import com.momo.backend.domain.diary.entity.Diary;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 보관용 불변 일기 스냅샷 (영속성 컨텍스트와 분리된 값)
+ * */
+public record DiarySnapshot(
+        Long id,
+        Long userId,
+        String emotionType,
+        String content,
+        LocalDate diaryDate,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version
+) {
+    public static DiarySnapshot from(Diary diary) {
+        return new DiarySnapshot(
+                diary.getId(),
+                diary.getUserId(),
+                diary.getEmotionType(),
+                diary.getContent(),
+                diary.getDiaryDate(),
+                diary.getCreatedAt(),
+                diary.getUpdatedAt(),
+                diary.getVersion()
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package com.momo.backend.application.diary.calendar;
+
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * (사용자, 월) 캘린더 스냅샷 LRU 캐시
+ * 접근 순서 LinkedHashMap 으로 구현하며, 조회도 순서를 바꾸므로 모든 접근을 동기화한다.
+ *
+ * 프로젝션 행은 지웠다 다시 만들면 버전이 0 부터 다시 시작하므로 버전 비교만으로는 조회 요청이 읽어 둔 오래된 행을 막을 수 없다.
+ * 그래서 갱신·무효화마다 세대(generation)를 올리고, 무효화는 엔트리를 지우는 대신 빈 엔트리(툼스톤)로 바꾼다.
+ * 조회 요청은 DB 를 읽기 전 세대를 받아 두었다가 그 사이 세대가 바뀌었으면 읽은 값을 저장하지 않는다.
+ * */
+@Component
+public class DiaryCalendarCache {
+
+    private final Map<CacheKey, Entry> entries;
+    // 모든 키가 공유하는 단조 증가 세대 - 툼스톤이 LRU 로 밀려나도 그 사이의 무효화를 놓치지 않는다
+    private long generations;
+
+    public DiaryCalendarCache(DiaryCalendarProperties properties) {
+        int capacity = properties.cacheCapacity();
+        this.entries = new LinkedHashMap<>(Math.min(capacity, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public synchronized DiaryCalendarSnapshot get(Long userId, YearMonth yearMonth) {
+        Entry entry = entries.get(new CacheKey(userId, yearMonth));
+        return entry != null ? entry.snapshot() : null;
+    }
+
+    /**
+     * 조회 요청이 프로젝션 행을 읽기 전에 받아 두는 세대 (putLoaded 에 그대로 넘긴다)
+     * */
+    public synchronized long generation(Long userId, YearMonth yearMonth) {
+        Entry entry = entries.get(new CacheKey(userId, yearMonth));
+        return entry != null ? entry.generation() : generations;
+    }
+
+    /**
+     * 조회 요청이 읽은 스냅샷 저장
+     * 읽는 사이 이 달이 갱신·무효화되었으면(세대가 바뀜) 커밋 전 또는 삭제 전 값일 수 있으므로 버린다.
+     * */
+    public synchronized void putLoaded(DiaryCalendarSnapshot snapshot, long generation) {
+        CacheKey key = new CacheKey(snapshot.userId(), snapshot.yearMonth());
+        Entry current = entries.get(key);
+        boolean unchanged = current != null ? current.generation() == generation : generations == generation;
+        if (unchanged && !isOlder(snapshot, current)) {
+            entries.put(key, new Entry(snapshot, generation));
+        }
+    }
+
+    /**
+     * 커밋 후 갱신 결과 저장
+     * 이미 더 최신 버전이 캐시되어 있으면 무시한다. (늦게 끝난 이전 갱신이 최신 값을 덮어쓰는 것을 막는다)
+     * 툼스톤 위에는 버전과 상관없이 저장한다. (지워졌다 다시 만들어진 행)
+     * */
+    public synchronized void putIfNewer(DiaryCalendarSnapshot snapshot) {
+        CacheKey key = new CacheKey(snapshot.userId(), snapshot.yearMonth());
+        Entry current = entries.get(key);
+        if (!isOlder(snapshot, current)) {
+            entries.put(key, new Entry(snapshot, ++generations));
+        }
+    }
+
+    public synchronized void evict(Long userId, YearMonth yearMonth) {
+        entries.put(new CacheKey(userId, yearMonth), Entry.tombstone(++generations));
+    }
+
+    public synchronized void evictUser(Long userId) {
+        long generation = ++generations;
+        entries.replaceAll((key, entry) -> key.userId().equals(userId) ? Entry.tombstone(generation) : entry);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private boolean isOlder(DiaryCalendarSnapshot candidate, Entry current) {
+        return current != null && current.snapshot() != null && candidate.version() < current.snapshot().version();
+    }
+
+    private record CacheKey(Long userId, YearMonth yearMonth) {
+    }
+
+    /**
+     * @param snapshot null 이면 툼스톤 (무효화됨, 다음 조회가 DB 에서 다시 읽는다)
+     * */
+    private record Entry(DiaryCalendarSnapshot snapshot, long generation) {
+
+        static Entry tombstone(long generation) {
+            return new Entry(null, generation);
+        }
+    }
+}
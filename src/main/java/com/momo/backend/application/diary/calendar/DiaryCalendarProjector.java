@@ -0,0 +1,194 @@
+package com.momo.backend.application.diary.calendar;
+
+import com.momo.backend.domain.diary.entity.CalendarMonthDays;
+import com.momo.backend.domain.diary.entity.DiaryCalendarMonth;
+import com.momo.backend.domain.diary.entity.EmotionType;
+import com.momo.backend.domain.diary.event.DiariesImportedEvent;
+import com.momo.backend.domain.diary.event.DiaryChangedEvent;
+import com.momo.backend.domain.diary.repository.DiaryCalendarMonthRepository;
+import com.momo.backend.domain.diary.repository.DiaryCalendarRow;
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일기 변경을 (사용자, 월) 캘린더 프로젝션에 반영한다.
+ * 같은 날짜에 일기가 여러 개면 ID 가 가장 큰 일기를 표시한다.
+ *
+ * 일기 트랜잭션이 커밋된 뒤 별도 트랜잭션에서 바뀐 달을 커밋된 일기 기준으로 다시 만든다.
+ * 그래서 프로젝션 갱신이 실패해도 일기 저장은 되돌려지지 않고, 이벤트 처리 순서와 상관없이 마지막 갱신이 최신 상태가 된다.
+ * 같은 달을 동시에 갱신하면(버전 충돌, 첫 행 INSERT 의 유니크 키 경합) 다시 읽어 재시도하고,
+ * 그래도 실패하면 프로젝션 행을 지워 조회가 일기 테이블에서 계산하게 한 뒤 재구성 배치에 맡긴다.
+ * */
+@Slf4j
+@Component
+public class DiaryCalendarProjector {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final DiaryRepository diaryRepository;
+    private final DiaryCalendarMonthRepository calendarMonthRepository;
+    private final DiaryCalendarCache calendarCache;
+    private final TransactionTemplate requiresNew;
+
+    public DiaryCalendarProjector(DiaryRepository diaryRepository,
+                                  DiaryCalendarMonthRepository calendarMonthRepository,
+                                  DiaryCalendarCache calendarCache,
+                                  PlatformTransactionManager transactionManager) {
+        this.diaryRepository = diaryRepository;
+        this.calendarMonthRepository = calendarMonthRepository;
+        this.calendarCache = calendarCache;
+        // 커밋 후 단계에서는 끝난 일기 트랜잭션에 참여하지 않도록 새 트랜잭션을 연다
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(DiaryChangedEvent event) {
+        project(event.userId(), YearMonth.from(event.diaryDate()));
+    }
+
+    void project(Long userId, YearMonth yearMonth) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                DiaryCalendarSnapshot snapshot = requiresNew.execute(status -> rebuildMonth(userId, yearMonth));
+                cache(snapshot);
+                return;
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    reconcileLater(userId, yearMonth, e);
+                    return;
+                }
+                log.debug("캘린더 프로젝션 동시 갱신 충돌, 재시도 - 사용자: {}, 월: {}, 시도: {}", userId, yearMonth, attempt);
+            } catch (RuntimeException e) {
+                reconcileLater(userId, yearMonth, e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 일괄 가져오기는 건별로 반영하지 않고 커밋 후 사용자 전체를 다시 만든다.
+     * */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void on(DiariesImportedEvent event) {
+        rebuildUser(event.userId());
+    }
+
+    /**
+     * 한 달 프로젝션을 일기 테이블에서 다시 만든다. (project 의 새 트랜잭션 안에서 호출)
+     * 일기가 없는 달은 행을 지우고 빈 스냅샷(version -1)을 반환한다.
+     * */
+    private DiaryCalendarSnapshot rebuildMonth(Long userId, YearMonth yearMonth) {
+        List<DiaryCalendarRow> rows =
+                diaryRepository.findCalendarRows(userId, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+        Optional<DiaryCalendarMonth> existing =
+                calendarMonthRepository.findByUserIdAndYearMonth(userId, DiaryCalendarMonth.toKey(yearMonth));
+
+        if (rows.isEmpty()) {
+            existing.ifPresent(month -> {
+                calendarMonthRepository.delete(month);
+                calendarMonthRepository.flush();
+            });
+            return new DiaryCalendarSnapshot(userId, yearMonth, CalendarMonthDays.empty(), -1L);
+        }
+
+        CalendarMonthDays days = fold(rows);
+        DiaryCalendarMonth month = existing.orElseGet(() -> new DiaryCalendarMonth(userId, yearMonth, days));
+        month.updateDays(days);
+        return DiaryCalendarSnapshot.from(calendarMonthRepository.saveAndFlush(month), yearMonth);
+    }
+
+    /**
+     * 프로젝션 행을 만들지 않고 일기 테이블에서 한 달 캘린더를 계산한다. (프로젝션이 아직 없는 달의 조회용, version -1)
+     * */
+    public DiaryCalendarSnapshot computeMonth(Long userId, YearMonth yearMonth) {
+        List<DiaryCalendarRow> rows =
+                diaryRepository.findCalendarRows(userId, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+        return new DiaryCalendarSnapshot(userId, yearMonth, fold(rows), -1L);
+    }
+
+    /**
+     * 사용자의 전체 프로젝션을 일기 테이블 기준으로 다시 만든다. (재구성 배치용)
+     * */
+    @Transactional
+    public void rebuildUser(Long userId) {
+        Map<YearMonth, List<DiaryCalendarRow>> rowsByMonth = diaryRepository.findAllCalendarRows(userId).stream()
+                .collect(Collectors.groupingBy(row -> YearMonth.from(row.diaryDate()), TreeMap::new, Collectors.toList()));
+        Map<Integer, DiaryCalendarMonth> existingByKey = calendarMonthRepository.findByUserId(userId).stream()
+                .collect(Collectors.toMap(DiaryCalendarMonth::getYearMonth, Function.identity()));
+
+        rowsByMonth.forEach((yearMonth, rows) -> {
+            CalendarMonthDays days = fold(rows);
+            DiaryCalendarMonth month = existingByKey.remove(DiaryCalendarMonth.toKey(yearMonth));
+            if (month == null) {
+                calendarMonthRepository.save(new DiaryCalendarMonth(userId, yearMonth, days));
+            } else {
+                month.updateDays(days);
+            }
+        });
+        // 일기가 모두 사라진 달의 프로젝션 제거
+        calendarMonthRepository.deleteAll(existingByKey.values());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                calendarCache.evictUser(userId);
+            }
+        });
+        log.debug("캘린더 프로젝션 재구성 - 사용자: {}, 월 수: {}", userId, rowsByMonth.size());
+    }
+
+    // rows 는 (diaryDate, id) 오름차순이므로 같은 날짜는 마지막 행이 남는다
+    private CalendarMonthDays fold(List<DiaryCalendarRow> rows) {
+        CalendarMonthDays days = CalendarMonthDays.empty();
+        for (DiaryCalendarRow row : rows) {
+            days = days.with(row.diaryDate().getDayOfMonth(), row.id(), EmotionType.from(row.emotionType()).getCode());
+        }
+        return days;
+    }
+
+    private void cache(DiaryCalendarSnapshot snapshot) {
+        if (snapshot.version() < 0) {
+            // 일기가 모두 지워져 행이 없어진 달 - 툼스톤으로 바꿔 삭제 전 행을 읽은 조회가 다시 넣지 못하게 한다
+            calendarCache.evict(snapshot.userId(), snapshot.yearMonth());
+        } else {
+            calendarCache.putIfNewer(snapshot);
+        }
+    }
+
+    private void reconcileLater(Long userId, YearMonth yearMonth, RuntimeException cause) {
+        log.error("캘린더 프로젝션 갱신 실패, 재구성 배치에서 다시 만든다 - 사용자: {}, 월: {}", userId, yearMonth, cause);
+        try {
+            // 어긋난 행을 남기지 않는다 - 행이 없으면 조회는 일기 테이블에서 계산한다
+            requiresNew.executeWithoutResult(status -> calendarMonthRepository
+                    .findByUserIdAndYearMonth(userId, DiaryCalendarMonth.toKey(yearMonth))
+                    .ifPresent(calendarMonthRepository::delete));
+        } catch (RuntimeException e) {
+            log.warn("캘린더 프로젝션 행 삭제 실패 - 사용자: {}, 월: {}", userId, yearMonth, e);
+        } finally {
+            // 삭제 커밋 뒤에 무효화해야 그 사이 어긋난 행을 읽은 조회가 캐시에 남지 않는다
+            calendarCache.evict(userId, yearMonth);
+        }
+    }
+}
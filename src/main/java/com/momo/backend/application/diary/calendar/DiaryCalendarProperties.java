@@ -0,0 +1,16 @@
+package com.momo.backend.application.diary.calendar;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 캘린더 프로젝션 설정
+ * @param cacheCapacity  LRU 캐시에 보관할 (사용자, 월) 최대 개수
+ * @param rebuildChunkSize 재구성 작업이 한 번에 조회하는 사용자 수
+ * */
+@ConfigurationProperties(prefix = "momo.diary.calendar")
+public record DiaryCalendarProperties(
+        @DefaultValue("10000") int cacheCapacity,
+        @DefaultValue("500") int rebuildChunkSize
+) {
+}
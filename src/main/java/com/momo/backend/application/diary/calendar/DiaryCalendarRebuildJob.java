@@ -0,0 +1,53 @@
+package com.momo.backend.application.diary.calendar;
+
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 캘린더 프로젝션 재구성 배치
+ * 프로젝션이 일기 테이블과 어긋났을 때(수동 데이터 보정, 장애 등)를 대비해 주기적으로 전체를 다시 만든다.
+ * 사용자 단위로 트랜잭션을 나누므로 한 사용자의 실패가 전체 작업을 멈추지 않는다.
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DiaryCalendarRebuildJob {
+
+    private final DiaryRepository diaryRepository;
+    private final DiaryCalendarProjector calendarProjector;
+    private final DiaryCalendarProperties properties;
+
+    @Scheduled(cron = "${momo.diary.calendar.rebuild-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void rebuildAll() {
+        log.info("캘린더 프로젝션 재구성 시작");
+        long lastUserId = 0L;
+        int rebuilt = 0;
+        int failed = 0;
+
+        while (true) {
+            List<Long> userIds = diaryRepository.findUserIdsAfter(
+                    lastUserId, PageRequest.of(0, properties.rebuildChunkSize()));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            for (Long userId : userIds) {
+                try {
+                    calendarProjector.rebuildUser(userId);
+                    rebuilt++;
+                } catch (RuntimeException e) {
+                    failed++;
+                    log.error("캘린더 프로젝션 재구성 실패 - 사용자: {}", userId, e);
+                }
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+
+        log.info("캘린더 프로젝션 재구성 완료 - 성공: {}, 실패: {}", rebuilt, failed);
+    }
+}
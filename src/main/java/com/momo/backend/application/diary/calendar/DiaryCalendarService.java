@@ -0,0 +1,42 @@
+package com.momo.backend.application.diary.calendar;
+
+import com.momo.backend.domain.diary.entity.DiaryCalendarMonth;
+import com.momo.backend.domain.diary.repository.DiaryCalendarMonthRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+/**
+ * 캘린더 조회: LRU 캐시 -> 프로젝션 행 -> (없으면) 일기 테이블에서 계산 순으로 읽는다.
+ * 조회는 프로젝션을 저장하지 않는다. 프로젝션 행은 일기 쓰기(커밋 후 갱신)와 재구성 배치만 만든다.
+ * 일기 테이블에서 계산한 결과는 버전이 없어 커밋 후 갱신과 순서를 비교할 수 없으므로 캐시하지 않는다.
+ * 행을 읽는 사이 프로젝터가 갱신·삭제했으면 캐시가 읽은 값을 버린다. (DiaryCalendarCache 의 세대 비교)
+ * */
+@Service
+@RequiredArgsConstructor
+public class DiaryCalendarService {
+
+    private final DiaryCalendarMonthRepository calendarMonthRepository;
+    private final DiaryCalendarProjector calendarProjector;
+    private final DiaryCalendarCache calendarCache;
+
+    public DiaryCalendarSnapshot getCalendar(Long userId, YearMonth yearMonth) {
+        DiaryCalendarSnapshot cached = calendarCache.get(userId, yearMonth);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = calendarCache.generation(userId, yearMonth);
+        Optional<DiaryCalendarMonth> month =
+                calendarMonthRepository.findByUserIdAndYearMonth(userId, DiaryCalendarMonth.toKey(yearMonth));
+        if (month.isEmpty()) {
+            return calendarProjector.computeMonth(userId, yearMonth);
+        }
+
+        DiaryCalendarSnapshot snapshot = DiaryCalendarSnapshot.from(month.get(), yearMonth);
+        calendarCache.putLoaded(snapshot, generation);
+        return snapshot;
+    }
+}
@@ -0,0 +1,21 @@
+package com.momo.backend.application.diary.calendar;
+
+import com.momo.backend.domain.diary.entity.CalendarMonthDays;
+import com.momo.backend.domain.diary.entity.DiaryCalendarMonth;
+
+import java.time.YearMonth;
+
+/**
+ * 캐시에 보관하는 캘린더 프로젝션 스냅샷
+ * version 은 프로젝션 행의 버전으로, 오래된 스냅샷이 최신 값을 덮어쓰지 못하게 하는 데 사용한다.
+ * */
+public record DiaryCalendarSnapshot(
+        Long userId,
+        YearMonth yearMonth,
+        CalendarMonthDays days,
+        long version
+) {
+    public static DiaryCalendarSnapshot from(DiaryCalendarMonth month, YearMonth yearMonth) {
+        return new DiaryCalendarSnapshot(month.getUserId(), yearMonth, month.getDays(), month.getVersion());
+    }
+}
@@ -0,0 +1,101 @@
+package com.momo.backend.application.diary.content;
+
+import com.momo.backend.domain.diary.entity.DiaryContentCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일기 본문 재압축 배치
+ * 헤더 도입 전 행(UTF-8 원문)과 압축 대상인데 원문으로 남은 행을 현재 포맷으로 다시 저장한다.
+ * 엔티티를 거치지 않으므로 updated_at 은 바뀌지 않고, 읽은 뒤 사용자가 수정한 행은 content 비교 조건으로 건너뛴다.
+ * */
+@Slf4j
+@Component
+public class DiaryContentCompactionJob {
+
+    private static final String SELECT_SQL = """
+            select id, content
+            from diary
+            where id > ?
+            order by id
+            limit ?
+            """;
+    private static final String UPDATE_SQL = "update diary set content = ? where id = ? and content = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DiaryContentProperties properties;
+
+    public DiaryContentCompactionJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                     DiaryContentProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @Scheduled(cron = "${momo.diary.content.recompact-cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void recompactAll() {
+        log.info("일기 본문 재압축 시작");
+        long lastId = 0L;
+        long scanned = 0;
+        int rewritten = 0;
+        long savedBytes = 0;
+
+        while (true) {
+            List<StoredContent> rows = jdbcTemplate.query(SELECT_SQL,
+                    (resultSet, rowNum) -> new StoredContent(resultSet.getLong("id"), resultSet.getBytes("content")),
+                    lastId, properties.recompactChunkSize());
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> updates = new ArrayList<>();
+            for (StoredContent row : rows) {
+                if (DiaryContentCodec.needsRecompaction(row.content())) {
+                    byte[] encoded = DiaryContentCodec.encode(DiaryContentCodec.decode(row.content()));
+                    updates.add(new Object[]{encoded, row.id(), row.content()});
+                    savedBytes += row.content().length - encoded.length;
+                }
+            }
+            if (!updates.isEmpty()) {
+                int[][] results = transactionTemplate.execute(status ->
+                        jdbcTemplate.batchUpdate(UPDATE_SQL, updates, updates.size(),
+                                (statement, update) -> {
+                                    statement.setBytes(1, (byte[]) update[0]);
+                                    statement.setLong(2, (Long) update[1]);
+                                    statement.setBytes(3, (byte[]) update[2]);
+                                }));
+                rewritten += countUpdated(results);
+            }
+
+            scanned += rows.size();
+            lastId = rows.get(rows.size() - 1).id();
+        }
+
+        log.info("일기 본문 재압축 완료 - 검사: {}, 재저장: {}, 절감(추정): {} bytes", scanned, rewritten, savedBytes);
+    }
+
+    private int countUpdated(int[][] results) {
+        int updated = 0;
+        if (results == null) {
+            return updated;
+        }
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // 드라이버에 따라 배치 결과가 SUCCESS_NO_INFO(-2) 일 수 있다
+                updated += count != 0 ? 1 : 0;
+            }
+        }
+        return updated;
+    }
+
+    private record StoredContent(long id, byte[] content) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.momo.backend.application.diary.content;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 일기 본문 저장 포맷 설정
+ * @param recompactChunkSize 재압축 작업이 한 번에 읽고 갱신하는 행 수
+ * */
+@ConfigurationProperties(prefix = "momo.diary.content")
+public record DiaryContentProperties(
+        @DefaultValue("500") int recompactChunkSize
+) {
+}
@@ -0,0 +1,64 @@
+package com.momo.backend.application.diary.search;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한국어 검색용 문자 바이그램 토크나이저
+ * 형태소 분석 없이도 조사·어미가 붙은 어절("행복했다", "행복한")이 같은 바이그램("행복")을 공유하므로 부분 일치 검색이 된다.
+ * 글자/숫자가 아닌 문자를 경계로 어절을 나누고, 한 글자 어절은 유니그램으로 색인한다.
+ * 용어는 두 글자를 (c1 << 16 | c2) 로 묶은 int 키로 표현해 문자열 할당을 피한다.
+ * */
+final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    static int unigram(char c) {
+        return c << 16;
+    }
+
+    static char firstChar(int term) {
+        return (char) (term >>> 16);
+    }
+
+    static char secondChar(int term) {
+        return (char) term;
+    }
+
+    /**
+     * @return 용어 -> 출현 횟수 (등장 순서 유지)
+     * */
+    static Map<Integer, Integer> termFrequencies(String text) {
+        Map<Integer, Integer> frequencies = new LinkedHashMap<>();
+        char previous = 0;
+        int tokenLength = 0;
+        for (int i = 0, length = text.length(); i <= length; i++) {
+            char c = i < length ? normalize(text.charAt(i)) : 0;
+            if (c == 0) {
+                if (tokenLength == 1) {
+                    frequencies.merge(unigram(previous), 1, Integer::sum);
+                }
+                tokenLength = 0;
+                continue;
+            }
+            if (tokenLength > 0) {
+                frequencies.merge(bigram(previous, c), 1, Integer::sum);
+            }
+            previous = c;
+            tokenLength++;
+        }
+        return frequencies;
+    }
+
+    /**
+     * 글자/숫자가 아니면 0 (어절 경계)
+     * */
+    static char normalize(char c) {
+        return Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : 0;
+    }
+}
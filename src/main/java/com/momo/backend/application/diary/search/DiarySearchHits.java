@@ -0,0 +1,17 @@
+package com.momo.backend.application.diary.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 한 페이지의 일기 ID (순위순) 와 전체 일치 건수
+ * */
+public record DiarySearchHits(
+        List<Long> diaryIds,
+        long totalCount
+) {
+    private static final DiarySearchHits EMPTY = new DiarySearchHits(List.of(), 0L);
+
+    public static DiarySearchHits empty() {
+        return EMPTY;
+    }
+}
@@ -0,0 +1,18 @@
+package com.momo.backend.application.diary.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 일기 검색 설정
+ * @param idleExpiry     이 시간 동안 검색하지 않은 사용자의 색인은 메모리에서 내린다
+ * @param maxQueryLength 검색어 최대 길이
+ * */
+@ConfigurationProperties(prefix = "momo.diary.search")
+public record DiarySearchProperties(
+        @DefaultValue("PT30M") Duration idleExpiry,
+        @DefaultValue("100") int maxQueryLength
+) {
+}
@@ -0,0 +1,134 @@
+package com.momo.backend.application.diary.search;
+
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import com.momo.backend.domain.diary.entity.Diary;
+import com.momo.backend.domain.diary.event.DiariesImportedEvent;
+import com.momo.backend.domain.diary.event.DiaryChangedEvent;
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import com.momo.backend.domain.diary.repository.DiarySearchCondition;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일기 본문 전문 검색
+ * DB 의 LIKE '%...%' 대신 사용자별 인메모리 바이그램 역색인으로 검색하고, 결과 페이지의 일기만 DB 에서 읽는다.
+ * 색인은 사용자의 첫 검색 때 적재되어 일기 변경 이벤트로 유지되며, 오래 검색하지 않으면 내려간다.
+ * */
+@Slf4j
+@Service
+public class DiarySearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ConcurrentHashMap<Long, UserDiaryIndex> indexes = new ConcurrentHashMap<>();
+    private final DiaryRepository diaryRepository;
+    private final DiarySearchProperties properties;
+    private final Timer searchTimer;
+
+    public DiarySearchService(DiaryRepository diaryRepository, DiarySearchProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.diaryRepository = diaryRepository;
+        this.properties = properties;
+        this.searchTimer = Timer.builder("momo.diary.search.latency")
+                .description("일기 검색 색인 조회 시간 (DB 조회 제외)")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("momo.diary.search.indexed.users", indexes, ConcurrentHashMap::size)
+                .description("메모리에 적재된 사용자 색인 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * page 는 1부터 시작
+     * */
+    public Page<Diary> search(Long userId, String query, DiarySearchCondition condition, int page, int size) {
+        if (query == null || query.isBlank() || query.length() > properties.maxQueryLength()) {
+            throw new BusinessException(ErrorCode.INVALID_SEARCH_QUERY);
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageRequest pageRequest = PageRequest.of(Math.max(page - 1, 0), pageSize);
+
+        UserDiaryIndex index = loadedIndex(userId);
+        DiarySearchHits hits = searchTimer.record(() ->
+                index.search(query, condition, (int) pageRequest.getOffset(), pageSize));
+
+        Map<Long, Diary> diariesById = diaryRepository.findAllById(hits.diaryIds()).stream()
+                .collect(Collectors.toMap(Diary::getId, Function.identity()));
+        List<Diary> ranked = hits.diaryIds().stream()
+                .map(diariesById::get)
+                .filter(diary -> diary != null && diary.isOwnedBy(userId))
+                .toList();
+
+        return new PageImpl<>(ranked, pageRequest, hits.totalCount());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(DiaryChangedEvent event) {
+        UserDiaryIndex index = indexes.get(event.userId());
+        if (index == null) {
+            // 아직 적재되지 않은 사용자는 첫 검색 때 DB 에서 최신 상태로 적재된다
+            return;
+        }
+        if (event.changeType() == DiaryChangedEvent.ChangeType.DELETED) {
+            index.remove(event.diaryId());
+        } else {
+            index.upsert(event.diaryId(), event.diaryDate(), event.emotionType(), event.content());
+        }
+    }
+
+    /**
+     * 일괄 가져오기 후에는 색인을 버리고 다음 검색 때 다시 적재한다.
+     * */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(DiariesImportedEvent event) {
+        indexes.remove(event.userId());
+    }
+
+    @Scheduled(fixedDelayString = "PT5M")
+    public void evictIdleIndexes() {
+        long threshold = System.nanoTime() - properties.idleExpiry().toNanos();
+        indexes.values().removeIf(index -> index.ready().isDone() && index.lastAccessedAt() - threshold < 0);
+    }
+
+    /**
+     * 같은 사용자의 동시 첫 검색은 한 번만 적재하고 나머지는 적재 완료를 기다린다.
+     * */
+    private UserDiaryIndex loadedIndex(Long userId) {
+        UserDiaryIndex index = indexes.computeIfAbsent(userId, id -> new UserDiaryIndex());
+        if (index.tryStartLoading()) {
+            try {
+                long startedAt = System.nanoTime();
+                index.load(diaryRepository.findSearchRows(userId));
+                log.debug("일기 검색 색인 적재 - 사용자: {}, 일기 수: {}, 소요: {}ms",
+                        userId, index.documentCount(), (System.nanoTime() - startedAt) / 1_000_000);
+            } catch (RuntimeException e) {
+                indexes.remove(userId, index);
+                index.failLoading(e);
+                throw e;
+            }
+        }
+        try {
+            index.ready().join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("일기 검색 색인 적재 실패 - 사용자: " + userId, e.getCause());
+        }
+        return index;
+    }
+}
@@ -0,0 +1,131 @@
+package com.momo.backend.application.diary.search;
+
+import java.util.Arrays;
+
+/**
+ * 델타 + 가변 길이(varint) 인코딩 포스팅 리스트
+ * 일기 ID 오름차순으로 [이전 ID 와의 차이, 출현 횟수] 를 연속 저장한다.
+ * 새 일기는 대부분 ID 가 가장 크므로 뒤에 이어 붙이고, 그 외(수정·삭제·순서가 어긋난 ID)는 다시 인코딩한다.
+ * 동기화는 소유자인 {@link UserDiaryIndex} 가 담당한다.
+ * */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int count;
+    private long lastDocId;
+
+    void add(long docId, int frequency) {
+        if (docId > lastDocId) {
+            append(docId, frequency);
+            return;
+        }
+        long[] docIds = new long[count + 1];
+        int[] frequencies = new int[count + 1];
+        decode(docIds, frequencies);
+
+        int insertAt = Arrays.binarySearch(docIds, 0, count, docId);
+        if (insertAt >= 0) {
+            frequencies[insertAt] = frequency;
+            reencode(docIds, frequencies, count);
+            return;
+        }
+        insertAt = -insertAt - 1;
+        System.arraycopy(docIds, insertAt, docIds, insertAt + 1, count - insertAt);
+        System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, count - insertAt);
+        docIds[insertAt] = docId;
+        frequencies[insertAt] = frequency;
+        reencode(docIds, frequencies, count + 1);
+    }
+
+    void remove(long docId) {
+        long[] docIds = new long[count];
+        int[] frequencies = new int[count];
+        decode(docIds, frequencies);
+
+        int index = Arrays.binarySearch(docIds, docId);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(docIds, index + 1, docIds, index, count - index - 1);
+        System.arraycopy(frequencies, index + 1, frequencies, index, count - index - 1);
+        reencode(docIds, frequencies, count - 1);
+    }
+
+    int count() {
+        return count;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * 배열 길이는 count() 이상이어야 한다.
+     * */
+    void decode(long[] docIds, int[] frequencies) {
+        long docId = 0;
+        int position = 0;
+        for (int i = 0; i < count; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            docId += delta;
+
+            int frequency = 0;
+            shift = 0;
+            do {
+                b = data[position++];
+                frequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            docIds[i] = docId;
+            frequencies[i] = frequency;
+        }
+    }
+
+    int sizeInBytes() {
+        return data.length;
+    }
+
+    private void append(long docId, int frequency) {
+        ensureCapacity(length + 15);
+        writeVarLong(docId - lastDocId);
+        writeVarLong(frequency);
+        lastDocId = docId;
+        count++;
+    }
+
+    private void reencode(long[] docIds, int[] frequencies, int newCount) {
+        data = new byte[Math.max(8, newCount * 4)];
+        length = 0;
+        count = 0;
+        lastDocId = 0;
+        for (int i = 0; i < newCount; i++) {
+            append(docIds[i], frequencies[i]);
+        }
+        if (data.length > length * 2 && data.length > 8) {
+            data = Arrays.copyOf(data, Math.max(8, length));
+        }
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > data.length) {
+            data = Arrays.copyOf(data, Math.max(required, data.length * 2));
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.momo.backend.application.diary.search;
+
+import com.momo.backend.domain.diary.repository.DiarySearchCondition;
+import com.momo.backend.domain.diary.repository.DiarySearchRow;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한 사용자의 일기 역색인 (바이그램 -> 포스팅 리스트)
+ *
+ * 최초 검색 시 DB 에서 한 번 적재하고, 이후에는 일기 변경 이벤트로 증분 갱신한다.
+ * 적재 중에 들어온 변경은 바로 반영하고 해당 일기 ID 를 기록해 두어,
+ * 적재 시작 시점의 (더 오래된) DB 행이 이를 덮어쓰지 않게 한다.
+ * */
+final class UserDiaryIndex {
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<Integer, PostingList> postings = new HashMap<>();
+    private long totalLength;
+
+    private final AtomicBoolean loadStarted = new AtomicBoolean();
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+    private Set<Long> changedWhileLoading = new HashSet<>();
+
+    private volatile long lastAccessedAt = System.nanoTime();
+
+    /**
+     * 적재를 맡을 스레드 하나만 true 를 받는다.
+     * */
+    boolean tryStartLoading() {
+        return loadStarted.compareAndSet(false, true);
+    }
+
+    void load(List<DiarySearchRow> rows) {
+        lock.writeLock().lock();
+        try {
+            for (DiarySearchRow row : rows) {
+                if (!changedWhileLoading.contains(row.id())) {
+                    add(row.id(), row.diaryDate(), row.emotionType(), row.content());
+                }
+            }
+            changedWhileLoading = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready.complete(null);
+    }
+
+    void failLoading(Throwable cause) {
+        ready.completeExceptionally(cause);
+    }
+
+    CompletableFuture<Void> ready() {
+        return ready;
+    }
+
+    void upsert(Long diaryId, LocalDate diaryDate, String emotionType, String content) {
+        lock.writeLock().lock();
+        try {
+            markChanged(diaryId);
+            removeDocument(diaryId);
+            add(diaryId, diaryDate, emotionType, content);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long diaryId) {
+        lock.writeLock().lock();
+        try {
+            markChanged(diaryId);
+            removeDocument(diaryId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 검색어 어절을 포함하는 일기를 BM25 점수순(동점이면 최신순)으로 정렬해 offset 부터 limit 건 반환한다.
+     * */
+    DiarySearchHits search(String query, DiarySearchCondition condition, int offset, int limit) {
+        lastAccessedAt = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            List<int[]> clauses = toClauses(query);
+            if (clauses.isEmpty() || documents.isEmpty()) {
+                return DiarySearchHits.empty();
+            }
+
+            Map<Long, Double> scores = null;
+            for (int[] clauseTerms : clauses) {
+                Map<Long, Double> clauseScores = scoreClause(clauseTerms, condition, scores);
+                if (clauseScores.isEmpty()) {
+                    return DiarySearchHits.empty();
+                }
+                if (scores != null) {
+                    Map<Long, Double> previousScores = scores;
+                    clauseScores.replaceAll((docId, score) -> score + previousScores.get(docId));
+                }
+                scores = clauseScores;
+            }
+
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(this::compareRank);
+
+            List<Long> pageIds = ranked.stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            return new DiarySearchHits(pageIds, ranked.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 점수 내림차순, 동점이면 최신 일기(날짜, ID 내림차순) 먼저
+    private int compareRank(Map.Entry<Long, Double> left, Map.Entry<Long, Double> right) {
+        int byScore = Double.compare(right.getValue(), left.getValue());
+        if (byScore != 0) {
+            return byScore;
+        }
+        int byDate = documents.get(right.getKey()).diaryDate().compareTo(documents.get(left.getKey()).diaryDate());
+        return byDate != 0 ? byDate : Long.compare(right.getKey(), left.getKey());
+    }
+
+    long lastAccessedAt() {
+        return lastAccessedAt;
+    }
+
+    int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 어절 단위 절(clause)로 나눈다. 일기는 모든 절을 만족해야 한다.
+     * 두 글자 이상 어절은 바이그램 전부가 각각 하나의 절이 되고,
+     * 한 글자 어절은 그 글자를 포함한 모든 용어 중 하나만 있으면 되는 절이 된다.
+     * */
+    private List<int[]> toClauses(String query) {
+        List<int[]> clauses = new ArrayList<>();
+        for (Integer term : BigramTokenizer.termFrequencies(query).keySet()) {
+            if (BigramTokenizer.secondChar(term) != 0) {
+                clauses.add(new int[]{term});
+                continue;
+            }
+            char c = BigramTokenizer.firstChar(term);
+            int[] matching = postings.keySet().stream()
+                    .filter(candidate -> BigramTokenizer.firstChar(candidate) == c || BigramTokenizer.secondChar(candidate) == c)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            clauses.add(matching);
+        }
+        return clauses;
+    }
+
+    /**
+     * @param candidates null 이 아니면 이 일기들만 점수를 매긴다. (이전 절과의 교집합)
+     * */
+    private Map<Long, Double> scoreClause(int[] terms, DiarySearchCondition condition, Map<Long, Double> candidates) {
+        Map<Long, Double> clauseScores = new HashMap<>();
+        double averageLength = Math.max(1.0, (double) totalLength / documents.size());
+
+        for (int term : terms) {
+            PostingList postingList = postings.get(term);
+            if (postingList == null) {
+                continue;
+            }
+            int count = postingList.count();
+            long[] docIds = new long[count];
+            int[] frequencies = new int[count];
+            postingList.decode(docIds, frequencies);
+
+            double idf = Math.log(1 + (documents.size() - count + 0.5) / (count + 0.5));
+            for (int i = 0; i < count; i++) {
+                long docId = docIds[i];
+                if (candidates != null && !candidates.containsKey(docId)) {
+                    continue;
+                }
+                Document document = documents.get(docId);
+                if (!document.matches(condition)) {
+                    continue;
+                }
+                double tf = frequencies[i];
+                double score = idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * document.length() / averageLength));
+                clauseScores.merge(docId, score, Double::sum);
+            }
+        }
+        return clauseScores;
+    }
+
+    private void add(Long diaryId, LocalDate diaryDate, String emotionType, String content) {
+        Map<Integer, Integer> frequencies = BigramTokenizer.termFrequencies(content);
+        int[] terms = new int[frequencies.size()];
+        int length = 0;
+        int index = 0;
+        for (Map.Entry<Integer, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), key -> new PostingList()).add(diaryId, entry.getValue());
+            terms[index++] = entry.getKey();
+            length += entry.getValue();
+        }
+        documents.put(diaryId, new Document(diaryDate, emotionType, length, terms));
+        totalLength += length;
+    }
+
+    private void removeDocument(Long diaryId) {
+        Document removed = documents.remove(diaryId);
+        if (removed == null) {
+            return;
+        }
+        for (int term : removed.terms()) {
+            PostingList postingList = postings.get(term);
+            postingList.remove(diaryId);
+            if (postingList.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= removed.length();
+    }
+
+    private void markChanged(Long diaryId) {
+        if (changedWhileLoading != null) {
+            changedWhileLoading.add(diaryId);
+        }
+    }
+
+    /**
+     * @param terms 이 일기에 등장한 용어 (삭제 시 포스팅 정리용)
+     * */
+    private record Document(LocalDate diaryDate, String emotionType, int length, int[] terms) {
+
+        boolean matches(DiarySearchCondition condition) {
+            return (condition.emotionType() == null || condition.emotionType().equals(emotionType))
+                    && (condition.startDate() == null || !diaryDate.isBefore(condition.startDate()));
+        }
+    }
+}
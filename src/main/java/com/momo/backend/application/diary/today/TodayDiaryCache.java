@@ -0,0 +1,129 @@
+package com.momo.backend.application.diary.today;
+
+import com.momo.backend.application.diary.DiarySnapshot;
+import com.momo.backend.domain.diary.event.DiariesImportedEvent;
+import com.momo.backend.domain.diary.event.DiaryChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 사용자별 '오늘 일기' 캐시
+ * - 일기가 없다는 결과도 캐시한다. (네거티브 캐시)
+ * - 고정 TTL 대신 조회한 날의 자정(서비스 시간대 기준)에 만료된다.
+ * - 일기 작성·수정·삭제가 커밋되면 무효화한다.
+ *
+ * 무효화는 엔트리를 지우지 않고 세대(generation)를 올린 무효 엔트리로 바꾼다.
+ * 커밋 전에 DB 를 읽은 조회 요청은 자신이 본 세대와 현재 세대가 달라 결과를 저장하지 못하므로,
+ * "일기 없음" 같은 오래된 값이 자정까지 남는 일이 없다.
+ * */
+@Component
+public class TodayDiaryCache {
+
+    // 무효 엔트리를 바로 지우면 세대 정보가 사라지므로 진행 중인 조회가 끝날 만큼 유예한 뒤 정리한다
+    private static final Duration PURGE_GRACE = Duration.ofMinutes(1);
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Clock clock;
+
+    public TodayDiaryCache(Clock clock, MeterRegistry meterRegistry) {
+        this.clock = clock;
+        FunctionCounter.builder("momo.diary.today.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("오늘 일기 캐시 조회 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("momo.diary.today.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("오늘 일기 캐시 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("momo.diary.today.cache.size", entries, ConcurrentHashMap::size)
+                .description("오늘 일기 캐시 엔트리 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param loader 오늘 날짜를 받아 DB 에서 오늘 일기를 읽는 함수
+     * */
+    public Optional<DiarySnapshot> get(Long userId, Function<LocalDate, Optional<DiarySnapshot>> loader) {
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.isFresh(clock.instant())) {
+            hits.increment();
+            return Optional.ofNullable(entry.diary());
+        }
+        misses.increment();
+
+        long generation = entry != null ? entry.generation() : 0L;
+        LocalDate today = LocalDate.now(clock);
+        Optional<DiarySnapshot> loaded = loader.apply(today);
+
+        Instant nextMidnight = today.plusDays(1).atStartOfDay(clock.getZone()).toInstant();
+        Entry loadedEntry = new Entry(generation, loaded.orElse(null), nextMidnight);
+        entries.compute(userId, (key, current) -> isSameGeneration(current, generation) ? loadedEntry : current);
+        return loaded;
+    }
+
+    public void invalidate(Long userId) {
+        Instant now = clock.instant();
+        entries.compute(userId, (key, current) -> Entry.invalidated(current == null ? 1L : current.generation() + 1, now));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(DiaryChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(DiariesImportedEvent event) {
+        invalidate(event.userId());
+    }
+
+    /**
+     * 자정이 지난 엔트리 정리
+     * */
+    @Scheduled(fixedDelayString = "PT10M")
+    public void purgeExpired() {
+        Instant threshold = clock.instant().minus(PURGE_GRACE);
+        entries.values().removeIf(entry -> entry.expiresAt().isBefore(threshold));
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    private boolean isSameGeneration(Entry current, long generation) {
+        return current == null ? generation == 0L : current.generation() == generation;
+    }
+
+    /**
+     * @param diary null 이면 오늘 작성한 일기가 없음
+     * */
+    private record Entry(long generation, DiarySnapshot diary, Instant expiresAt) {
+
+        static Entry invalidated(long generation, Instant now) {
+            return new Entry(generation, null, now);
+        }
+
+        boolean isFresh(Instant now) {
+            return now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.momo.backend.application.diary.transfer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import com.momo.backend.domain.diary.entity.Diary;
+import com.momo.backend.domain.diary.entity.DiaryContentCodec;
+import com.momo.backend.domain.diary.entity.EmotionType;
+import com.momo.backend.domain.diary.event.DiariesImportedEvent;
+import com.momo.backend.presentation.dto.diary.response.DiaryInfo;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일기 NDJSON 일괄 내보내기/가져오기
+ * 두 방향 모두 한 줄(일기 1건)씩 처리하므로 일기 수와 관계없이 메모리 사용량이 일정하다.
+ * */
+@Slf4j
+@Service
+public class DiaryTransferService {
+
+    private static final String EXPORT_SQL = """
+            select id, emotion_type, content, diary_date, created_at, updated_at
+            from diary
+            where user_id = ?
+            order by diary_date, id
+            """;
+    private static final int EXPORT_FETCH_SIZE = 500;
+    // 이 건수마다 한 트랜잭션으로 커밋해 트랜잭션과 영속성 컨텍스트가 커지지 않게 한다 (INSERT 는 hibernate.jdbc.batch_size 단위로 묶여 전송)
+    private static final int IMPORT_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter lineWriter;
+
+    public DiaryTransferService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                EntityManager entityManager, ApplicationEventPublisher eventPublisher,
+                                ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.lineWriter = objectMapper.writerFor(DiaryInfo.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 엔티티를 거치지 않고 JDBC 커서(fetch size)로 읽은 행을 바로 한 줄씩 쓴다.
+     * PostgreSQL 은 트랜잭션 안에서만 커서 단위로 가져오므로 읽기 전용 트랜잭션으로 감싼다.
+     * */
+    public int exportDiaries(Long userId, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // 루트 값 사이 기본 구분자(공백) 대신 줄마다 개행을 직접 쓴다
+            generator.setRootValueSeparator(null);
+            Integer exported = readOnlyTransaction.execute(status -> {
+                int[] count = {0};
+                jdbcTemplate.query(
+                        connection -> {
+                            PreparedStatement statement = connection.prepareStatement(EXPORT_SQL);
+                            statement.setLong(1, userId);
+                            statement.setFetchSize(EXPORT_FETCH_SIZE);
+                            return statement;
+                        },
+                        (RowCallbackHandler) resultSet -> {
+                            DiaryInfo diaryInfo = new DiaryInfo(
+                                    resultSet.getLong("id"),
+                                    resultSet.getString("emotion_type"),
+                                    DiaryContentCodec.decode(resultSet.getBytes("content")),
+                                    resultSet.getObject("diary_date", LocalDate.class).toString(),
+                                    resultSet.getObject("created_at", LocalDateTime.class).toString(),
+                                    resultSet.getObject("updated_at", LocalDateTime.class).toString()
+                            );
+                            writeLine(generator, diaryInfo);
+                            count[0]++;
+                        }
+                );
+                return count[0];
+            });
+            generator.flush();
+            log.info("일기 내보내기 완료 - 사용자: {}, 건수: {}", userId, exported);
+            return exported != null ? exported : 0;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 스트림을 한 줄씩 파싱해 IMPORT_CHUNK_SIZE 건씩 별도 트랜잭션으로 저장한다. 원본 id/createdAt/updatedAt 은 무시하고 새로 발급한다.
+     * 잘못된 줄을 만나면 그 앞 줄까지만 저장하고, 몇 건이 저장되었는지 담아 실패시킨다. (그 줄부터 고쳐 다시 올리면 된다)
+     * 가져오기 완료 이벤트는 청크마다 보내지 않고 끝날 때 별도 트랜잭션에서 발행한다. 저장 실패나 연결 끊김으로 중간에 끝나도
+     * 이미 커밋된 행이 있으면 발행해, 커밋 후 프로젝션·캐시가 사용자 단위로 다시 만들어진다.
+     * */
+    public int importDiaries(Long userId, InputStream inputStream) throws IOException {
+        List<Diary> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        int imported = 0;
+        BusinessException rejected = null;
+        try {
+            try (MappingIterator<DiaryInfo> records = objectMapper.readerFor(DiaryInfo.class).readValues(inputStream)) {
+                while (records.hasNextValue()) {
+                    chunk.add(toDiary(userId, records.nextValue(), imported + chunk.size() + 1));
+                    if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                        imported += persist(chunk);
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                rejected = new BusinessException(ErrorCode.INVALID_IMPORT_RECORD,
+                        (imported + chunk.size() + 1) + "번째 줄을 읽을 수 없습니다.");
+            } catch (BusinessException e) {
+                rejected = e;
+            }
+            imported += persist(chunk);
+        } finally {
+            publishImported(userId, imported);
+        }
+
+        if (rejected != null) {
+            log.info("일기 가져오기 중단 - 사용자: {}, 저장: {}, 사유: {}", userId, imported, rejected.getMessage());
+            throw new BusinessException(ErrorCode.INVALID_IMPORT_RECORD,
+                    rejected.getMessage() + " 앞선 " + imported + "건은 저장되었습니다.");
+        }
+        log.info("일기 가져오기 완료 - 사용자: {}, 건수: {}", userId, imported);
+        return imported;
+    }
+
+    private int persist(List<Diary> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        writeTransaction.executeWithoutResult(status -> chunk.forEach(entityManager::persist));
+        int persisted = chunk.size();
+        chunk.clear();
+        return persisted;
+    }
+
+    private void publishImported(Long userId, int imported) {
+        if (imported == 0) {
+            return;
+        }
+        try {
+            writeTransaction.executeWithoutResult(status ->
+                    eventPublisher.publishEvent(new DiariesImportedEvent(userId, imported)));
+        } catch (RuntimeException e) {
+            // 원래 예외를 가리지 않는다 - 캘린더는 재구성 배치가 다시 맞춘다
+            log.error("일기 가져오기 이벤트 발행 실패 - 사용자: {}, 저장: {}", userId, imported, e);
+        }
+    }
+
+    private Diary toDiary(Long userId, DiaryInfo record, int lineNumber) {
+        if (record.content() == null || record.content().isBlank() || record.diaryDate() == null) {
+            throw new BusinessException(ErrorCode.INVALID_IMPORT_RECORD,
+                    lineNumber + "번째 줄에 일기 내용 또는 날짜가 없습니다.");
+        }
+        try {
+            EmotionType.from(record.emotionType());
+            return Diary.builder()
+                    .userId(userId)
+                    .emotionType(record.emotionType())
+                    .content(record.content())
+                    .diaryDate(LocalDate.parse(record.diaryDate()))
+                    .build();
+        } catch (BusinessException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_IMPORT_RECORD,
+                    lineNumber + "번째 줄의 감정 타입 또는 날짜 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private void writeLine(JsonGenerator generator, DiaryInfo diaryInfo) {
+        try {
+            lineWriter.writeValue(generator, diaryInfo);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.momo.backend.application.diary.write;
+
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import com.momo.backend.domain.diary.entity.Diary;
+import com.momo.backend.domain.diary.event.DiaryChangedEvent;
+import com.momo.backend.domain.diary.event.DiaryChangedEvent.ChangeType;
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 일기 작성 write-behind
+ * 저녁 피크(22~23시)에 요청마다 INSERT + 커밋하면 커밋(WAL fsync)이 병목이 되므로,
+ * 요청을 큐에 모아 전용 스레드가 batchSize 건씩 한 트랜잭션으로 저장한다.
+ * id 는 pooled 시퀀스(diary_seq, allocationSize 50)에서 미리 받아 두므로 INSERT 는 JDBC 배치 한 번으로 나가고,
+ * 요청 스레드는 자기 배치가 커밋된 뒤 id 가 채워진 일기를 돌려받는다.
+ * 대기 시간이 지나면 아직 배치에 들어가지 않은 요청만 취소하고 503 을 돌려준다.
+ * 이미 커밋 중인 배치에 들어간 요청은 결과를 끝까지 기다려, 503 을 받은 클라이언트의 재시도가 일기를 중복으로 만들지 않게 한다.
+ * */
+@Slf4j
+@Component
+public class DiaryWriteBehind {
+
+    private static final long IDLE_POLL_MILLIS = 200;
+
+    private final DiaryWriteBehindProperties properties;
+    private final DiaryRepository diaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingDiary> queue;
+    private final Counter commitCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    private volatile boolean running;
+    private Thread committer;
+
+    public DiaryWriteBehind(DiaryWriteBehindProperties properties, DiaryRepository diaryRepository,
+                            ApplicationEventPublisher eventPublisher, TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.diaryRepository = diaryRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.commitCounter = Counter.builder("momo.diary.write-behind.commits")
+                .description("write-behind 배치 커밋 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("momo.diary.write-behind.batch.size")
+                .description("커밋 한 번에 저장한 일기 수")
+                .register(meterRegistry);
+        Gauge.builder("momo.diary.write-behind.queue.size", queue, BlockingQueue::size)
+                .description("커밋을 기다리는 작성 요청 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        running = true;
+        committer = Thread.ofPlatform()
+                .name("diary-write-behind")
+                .daemon()
+                .start(this::commitLoop);
+        log.info("일기 write-behind 시작 - 배치 크기: {}, 대기 시간: {}", properties.batchSize(), properties.linger());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (committer != null) {
+            // 남은 큐를 비우고 끝나도록 기다린다
+            committer.join(properties.awaitTimeout().toMillis());
+        }
+    }
+
+    /**
+     * 작성 요청을 큐에 넣고 해당 배치가 커밋될 때까지 기다린다.
+     * @return 큐가 가득 찼거나 꺼져 있어 받지 못했으면 empty (호출자가 단건 저장)
+     * */
+    public Optional<Diary> create(Long userId, String emotionType, String content, LocalDate diaryDate) {
+        if (!running) {
+            return Optional.empty();
+        }
+        PendingDiary pending = new PendingDiary(userId, emotionType, content, diaryDate);
+        if (!queue.offer(pending)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(pending.result().get(properties.awaitTimeout().toMillis(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            log.warn("일기 write-behind 커밋 대기 시간 초과 - 사용자: {}", userId);
+            return Optional.of(cancelOrAwait(pending));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.of(cancelOrAwait(pending));
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    /**
+     * 아직 배치에 들어가지 않았으면 큐에서 빼고 503 으로 돌려보내고, 이미 커밋 중이면 그 결과를 기다린다.
+     * 배치에 들어간 요청은 commit 에서 반드시 완료(성공 또는 실패)된다.
+     * */
+    private Diary cancelOrAwait(PendingDiary pending) {
+        if (pending.cancel()) {
+            queue.remove(pending);
+            throw new BusinessException(ErrorCode.DIARY_WRITE_DELAYED);
+        }
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new IllegalStateException("일기 저장에 실패했습니다.", cause);
+    }
+
+    private void commitLoop() {
+        List<PendingDiary> batch = new ArrayList<>(properties.batchSize());
+        long lingerNanos = properties.linger().toNanos();
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingDiary first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                // 요청 스레드가 대기를 포기한(취소한) 요청은 저장하지 않는다
+                if (first == null || !first.claim()) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < properties.batchSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingDiary next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    if (next.claim()) {
+                        batch.add(next);
+                    }
+                }
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                commit(batch);
+                break;
+            } catch (RuntimeException e) {
+                log.error("일기 write-behind 처리 중 예외", e);
+            } finally {
+                batch.clear();
+            }
+        }
+
+        // 중단된 경우 남은 요청은 실패로 돌려보낸다
+        PendingDiary left;
+        while ((left = queue.poll()) != null) {
+            left.result().completeExceptionally(new BusinessException(ErrorCode.DIARY_WRITE_DELAYED));
+        }
+        log.info("일기 write-behind 종료");
+    }
+
+    private void commit(List<PendingDiary> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<Diary> saved = transactionTemplate.execute(status -> insert(batch));
+            commitCounter.increment();
+            batchSizeSummary.record(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(saved.get(i));
+            }
+        } catch (RuntimeException e) {
+            // 한 건 때문에 배치 전체가 실패하지 않도록 건별로 다시 저장한다
+            log.warn("일기 배치 저장 실패, 건별로 재시도 - 건수: {}", batch.size(), e);
+            for (PendingDiary pending : batch) {
+                try {
+                    List<Diary> saved = transactionTemplate.execute(status -> insert(List.of(pending)));
+                    commitCounter.increment();
+                    batchSizeSummary.record(1);
+                    pending.result().complete(saved.get(0));
+                } catch (RuntimeException single) {
+                    pending.result().completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    private List<Diary> insert(List<PendingDiary> batch) {
+        // 재시도 때 롤백된 엔티티(id/version 이 채워진)를 재사용하지 않도록 매번 새로 만든다
+        List<Diary> diaries = diaryRepository.saveAll(batch.stream().map(PendingDiary::toDiary).toList());
+        // 커밋 시점 flush 를 기다리지 않고 일기 INSERT 를 한 번의 JDBC 배치로 보낸다
+        diaryRepository.flush();
+        for (Diary diary : diaries) {
+            eventPublisher.publishEvent(DiaryChangedEvent.of(diary, ChangeType.CREATED));
+        }
+        return diaries;
+    }
+
+    private record PendingDiary(Long userId, String emotionType, String content, LocalDate diaryDate,
+                                CompletableFuture<Diary> result, AtomicReference<State> state) {
+
+        PendingDiary(Long userId, String emotionType, String content, LocalDate diaryDate) {
+            this(userId, emotionType, content, diaryDate, new CompletableFuture<>(), new AtomicReference<>(State.QUEUED));
+        }
+
+        /**
+         * 커밋 스레드가 배치에 넣기 전에 호출한다. 요청 스레드가 먼저 취소했으면 false
+         * */
+        boolean claim() {
+            return state.compareAndSet(State.QUEUED, State.CLAIMED);
+        }
+
+        /**
+         * 요청 스레드가 대기를 포기할 때 호출한다. 이미 배치에 들어갔으면 false
+         * */
+        boolean cancel() {
+            return state.compareAndSet(State.QUEUED, State.CANCELLED);
+        }
+
+        Diary toDiary() {
+            return Diary.builder()
+                    .userId(userId)
+                    .emotionType(emotionType)
+                    .content(content)
+                    .diaryDate(diaryDate)
+                    .build();
+        }
+    }
+
+    private enum State {
+        QUEUED, CLAIMED, CANCELLED
+    }
+}
@@ -0,0 +1,24 @@
+package com.momo.backend.application.diary.write;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 일기 작성 write-behind 설정
+ * @param enabled       켜면 작성 요청을 큐에 모아 배치로 INSERT/커밋한다
+ * @param batchSize     한 트랜잭션에 묶는 최대 건수 (diary_seq allocationSize, hibernate.jdbc.batch_size 와 맞춘다)
+ * @param linger        첫 요청 이후 배치를 채우기 위해 기다리는 최대 시간
+ * @param queueCapacity 대기 큐 크기 - 가득 차면 해당 요청은 즉시 단건 저장한다
+ * @param awaitTimeout  요청 스레드가 자기 배치의 커밋을 기다리는 최대 시간
+ * */
+@ConfigurationProperties(prefix = "momo.diary.write-behind")
+public record DiaryWriteBehindProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("20ms") Duration linger,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("10s") Duration awaitTimeout
+) {
+}
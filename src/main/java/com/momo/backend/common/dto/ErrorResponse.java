@@ -1,4 +1,19 @@
 package com.momo.backend.common.dto;
 
-public record ErrorResponse() {
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "공통 에러 응답 DTO")
+public record ErrorResponse(
+        @Schema(description = "성공 여부", example = "false")
+        boolean success,
+
+        @Schema(description = "에러 코드", example = "DIARY_NOT_FOUND")
+        String code,
+
+        @Schema(description = "에러 메시지", example = "일기를 찾을 수 없습니다.")
+        String message
+) {
+    public static ErrorResponse of(String code, String message) {
+        return new ErrorResponse(false, code, message);
+    }
 }
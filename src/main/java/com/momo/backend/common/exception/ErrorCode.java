@@ -0,0 +1,36 @@
+package com.momo.backend.common.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum ErrorCode {
+
+    // 공통
+    INVALID_INPUT(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "같은 데이터가 동시에 변경되었습니다. 다시 시도해주세요."),
+
+    // 일기
+    DIARY_NOT_FOUND(HttpStatus.NOT_FOUND, "일기를 찾을 수 없습니다."),
+    INVALID_DIARY_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서 값입니다."),
+    INVALID_EMOTION_TYPE(HttpStatus.BAD_REQUEST, "지원하지 않는 감정 타입입니다."),
+    INVALID_SEARCH_QUERY(HttpStatus.BAD_REQUEST, "검색어는 1자 이상 100자 이하로 입력해주세요."),
+    INVALID_IMPORT_RECORD(HttpStatus.BAD_REQUEST, "가져올 일기 데이터 형식이 올바르지 않습니다."),
+    DIARY_VERSION_MISMATCH(HttpStatus.PRECONDITION_FAILED, "일기가 그사이 수정되었습니다. 다시 조회한 뒤 시도해주세요."),
+    DIARY_CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "같은 일기가 동시에 수정되었습니다. 다시 시도해주세요."),
+    DIARY_WRITE_DELAYED(HttpStatus.SERVICE_UNAVAILABLE, "일기 저장이 지연되고 있습니다. 잠시 후 목록에서 확인해주세요."),
+
+    // 분석
+    ANALYSIS_NOT_FOUND(HttpStatus.NOT_FOUND, "분석 결과를 찾을 수 없습니다."),
+    INVALID_ANALYSIS_TYPE(HttpStatus.BAD_REQUEST, "지원하지 않는 분석 타입입니다."),
+    INVALID_ANALYSIS_STATUS(HttpStatus.BAD_REQUEST, "지원하지 않는 분석 상태입니다."),
+    NO_DIARY_TO_ANALYZE(HttpStatus.BAD_REQUEST, "분석할 일기가 없습니다."),
+    INVALID_FEEDBACK_TYPE(HttpStatus.BAD_REQUEST, "지원하지 않는 피드백 타입입니다."),
+    ANALYSIS_NOT_COMPLETED(HttpStatus.CONFLICT, "완료된 분석에만 피드백을 남길 수 있습니다."),
+    ANALYSIS_BACKLOG_FULL(HttpStatus.TOO_MANY_REQUESTS, "분석 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+
+    private final HttpStatus status;
+    private final String message;
+}
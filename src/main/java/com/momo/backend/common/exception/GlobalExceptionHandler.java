@@ -0,0 +1,67 @@
+package com.momo.backend.common.exception;
+
+import com.momo.backend.common.dto.ErrorResponse;
+import com.momo.backend.domain.diary.entity.Diary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        log.warn("비즈니스 예외 발생 - 코드: {}, 메시지: {}", errorCode.name(), e.getMessage());
+        // SSE/NDJSON 엔드포인트(Accept 가 JSON 이 아님)에서도 오류 본문을 쓸 수 있도록 타입을 고정한다
+        return ResponseEntity.status(errorCode.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponse.of(errorCode.name(), e.getMessage()));
+    }
+
+    @ExceptionHandler(RetryLaterException.class)
+    public ResponseEntity<ErrorResponse> handleRetryLaterException(RetryLaterException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        log.warn("요청 거절, 재시도 안내 - 코드: {}, 재시도: {}초 후", errorCode.name(), e.getRetryAfter().toSeconds());
+        return ResponseEntity.status(errorCode.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponse.of(errorCode.name(), e.getMessage()));
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+        // 일기 외 엔티티(분석, 분석 작업, 배치 체크포인트)의 충돌을 일기 오류로 안내하지 않는다
+        ErrorCode errorCode = Diary.class.getName().equals(e.getPersistentClassName())
+                ? ErrorCode.DIARY_CONCURRENT_MODIFICATION
+                : ErrorCode.CONCURRENT_MODIFICATION;
+        log.warn("동시 수정 충돌 - 엔티티: {}, ID: {}", e.getPersistentClassName(), e.getIdentifier());
+        return ResponseEntity.status(errorCode.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponse.of(errorCode.name(), errorCode.getMessage()));
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException e) {
+        FieldError fieldError = e.getBindingResult().getFieldError();
+        String message = fieldError != null ? fieldError.getDefaultMessage() : ErrorCode.INVALID_INPUT.getMessage();
+        log.warn("요청 값 검증 실패 - 메시지: {}", message);
+        return ResponseEntity.status(ErrorCode.INVALID_INPUT.getStatus())
+                .body(ErrorResponse.of(ErrorCode.INVALID_INPUT.name(), message));
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatchException(MethodArgumentTypeMismatchException e) {
+        log.warn("요청 파라미터 타입 불일치 - 파라미터: {}", e.getName());
+        return ResponseEntity.status(ErrorCode.INVALID_INPUT.getStatus())
+                .body(ErrorResponse.of(ErrorCode.INVALID_INPUT.name(), ErrorCode.INVALID_INPUT.getMessage()));
+    }
+}
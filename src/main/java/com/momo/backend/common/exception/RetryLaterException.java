@@ -0,0 +1,19 @@
+package com.momo.backend.common.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 잠시 후 다시 시도하면 처리될 수 있는 거절 - 응답에 Retry-After 헤더를 붙인다.
+ * */
+@Getter
+public class RetryLaterException extends BusinessException {
+
+    private final Duration retryAfter;
+
+    public RetryLaterException(ErrorCode errorCode, Duration retryAfter) {
+        super(errorCode);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,134 @@
+package com.momo.backend.domain.analysis.entity;
+
+import com.momo.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 감정 분석
+ * 생성 시 processing 으로 저장되고, 분석 작업(AnalysisJob)이 끝나면 결과와 함께 completed/failed 로 바뀐다.
+ * contentHash 는 분석한 일기들의 (id, version) 과 타입/기간으로 만든 해시로, 같은 입력의 재요청에 결과를 재사용한다.
+ * */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "analysis",
+        indexes = {
+                @Index(name = "idx_analysis_user_list", columnList = "user_id, id desc"),
+                @Index(name = "idx_analysis_user_hash", columnList = "user_id, content_hash")
+        }
+)
+public class Analysis extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "analysis_seq_generator")
+    @SequenceGenerator(name = "analysis_seq_generator", sequenceName = "analysis_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "analysis_type", nullable = false, length = 10)
+    private AnalysisType analysisType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private AnalysisStatus status;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "diary_count", nullable = false)
+    private int diaryCount;
+
+    @Column(name = "overall_mood", length = 50)
+    private String overallMood;
+
+    @Column(name = "mood_score")
+    private Double moodScore;
+
+    @Column(name = "risk_level", length = 10)
+    private String riskLevel;
+
+    @Column(name = "summary", columnDefinition = "text")
+    private String summary;
+
+    @ElementCollection
+    @CollectionTable(name = "analysis_dominant_emotion", joinColumns = @JoinColumn(name = "analysis_id"))
+    @OrderColumn(name = "position")
+    @Column(name = "emotion", nullable = false, length = 30)
+    private List<String> dominantEmotions = new ArrayList<>();
+
+    @ElementCollection
+    @CollectionTable(name = "analysis_recommendation", joinColumns = @JoinColumn(name = "analysis_id"))
+    @OrderColumn(name = "position")
+    private List<AnalysisRecommendation> recommendations = new ArrayList<>();
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "model_version", length = 50)
+    private String modelVersion;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Builder
+    private Analysis(Long userId, AnalysisType analysisType, AnalysisPeriod period, int diaryCount) {
+        this.userId = userId;
+        this.analysisType = analysisType;
+        this.status = AnalysisStatus.PROCESSING;
+        this.startDate = period.startDate();
+        this.endDate = period.endDate();
+        this.diaryCount = diaryCount;
+    }
+
+    public void complete(AnalysisResult result, String modelVersion, String contentHash, LocalDateTime completedAt) {
+        this.status = AnalysisStatus.COMPLETED;
+        this.modelVersion = modelVersion;
+        this.contentHash = contentHash;
+        this.overallMood = result.overallMood();
+        this.moodScore = result.moodScore();
+        this.riskLevel = result.riskLevel();
+        this.summary = result.summary();
+        this.dominantEmotions.clear();
+        this.dominantEmotions.addAll(result.dominantEmotions());
+        this.recommendations.clear();
+        this.recommendations.addAll(result.recommendations());
+        this.completedAt = completedAt;
+    }
+
+    public void fail(String reason, LocalDateTime failedAt) {
+        this.status = AnalysisStatus.FAILED;
+        this.failureReason = reason;
+        this.completedAt = failedAt;
+    }
+
+    public AnalysisPeriod getPeriod() {
+        return new AnalysisPeriod(startDate, endDate);
+    }
+
+    public boolean isOwnedBy(Long userId) {
+        return this.userId.equals(userId);
+    }
+}
@@ -0,0 +1,72 @@
+package com.momo.backend.domain.analysis.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 분석 배치 진행 위치
+ * 사용자 id 순으로 청크를 처리할 때마다 마지막 사용자 id 를 남겨, 재시작 후 같은 실행일이면 그 다음부터 이어서 처리한다.
+ * */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "analysis_batch_checkpoint")
+public class AnalysisBatchCheckpoint {
+
+    @Id
+    @Column(name = "batch_name", length = 50)
+    private String batchName;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Column(name = "last_user_id", nullable = false)
+    private long lastUserId;
+
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 여러 인스턴스가 같은 배치를 동시에 진행하면 체크포인트 저장이 충돌해 한쪽이 멈춘다
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public AnalysisBatchCheckpoint(String batchName, LocalDate runDate, LocalDateTime now) {
+        this.batchName = batchName;
+        restart(runDate, now);
+    }
+
+    public void restart(LocalDate runDate, LocalDateTime now) {
+        this.runDate = runDate;
+        this.lastUserId = 0L;
+        this.processedCount = 0;
+        this.completed = false;
+        this.updatedAt = now;
+    }
+
+    public void advance(long lastUserId, int processed, LocalDateTime now) {
+        this.lastUserId = lastUserId;
+        this.processedCount += processed;
+        this.updatedAt = now;
+    }
+
+    public void complete(LocalDateTime now) {
+        this.completed = true;
+        this.updatedAt = now;
+    }
+
+    public boolean isPendingOn(LocalDate date) {
+        return !completed && runDate.equals(date);
+    }
+}
@@ -0,0 +1,63 @@
+package com.momo.backend.domain.analysis.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분석 결과 피드백 (추가만 하는 로그)
+ * 수정/삭제하지 않으며, 모델 버전별 정확도 집계는 기동 시 이 로그에서 다시 만든다.
+ * 모아서 한 번에 INSERT 하므로 id 는 pooled 시퀀스에서 미리 받는다.
+ * */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "analysis_feedback",
+        indexes = @Index(name = "idx_analysis_feedback_analysis", columnList = "analysis_id")
+)
+public class AnalysisFeedback {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "analysis_feedback_seq_generator")
+    @SequenceGenerator(name = "analysis_feedback_seq_generator", sequenceName = "analysis_feedback_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "analysis_id", nullable = false)
+    private Long analysisId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "feedback_type", nullable = false, length = 20)
+    private FeedbackType feedbackType;
+
+    @Column(name = "accurate", nullable = false)
+    private boolean accurate;
+
+    @Column(name = "model_version", nullable = false, length = 50)
+    private String modelVersion;
+
+    @Column(name = "comment", length = 500)
+    private String comment;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    private AnalysisFeedback(Long analysisId, Long userId, FeedbackType feedbackType, boolean accurate,
+                             String modelVersion, String comment, LocalDateTime createdAt) {
+        this.analysisId = analysisId;
+        this.userId = userId;
+        this.feedbackType = feedbackType;
+        this.accurate = accurate;
+        this.modelVersion = modelVersion;
+        this.comment = comment;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,88 @@
+package com.momo.backend.domain.analysis.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분석 작업 큐 항목
+ * 디스패처의 메모리 큐는 작업 id/사용자/분석 타입만 들고, 상태는 이 테이블에 남겨 재시작 시 QUEUED/RUNNING 작업을 다시 넣는다.
+ * */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "analysis_job",
+        indexes = {
+                @Index(name = "idx_analysis_job_state", columnList = "state, id")
+        }
+)
+public class AnalysisJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "analysis_job_seq_generator")
+    @SequenceGenerator(name = "analysis_job_seq_generator", sequenceName = "analysis_job_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "analysis_id", nullable = false, unique = true)
+    private Long analysisId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "analysis_type", nullable = false, length = 10)
+    private AnalysisType analysisType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 20)
+    private AnalysisJobState state;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "enqueued_at", nullable = false)
+    private LocalDateTime enqueuedAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public AnalysisJob(Analysis analysis, LocalDateTime enqueuedAt) {
+        this.analysisId = analysis.getId();
+        this.userId = analysis.getUserId();
+        this.analysisType = analysis.getAnalysisType();
+        this.state = AnalysisJobState.QUEUED;
+        this.enqueuedAt = enqueuedAt;
+    }
+
+    public void start(LocalDateTime startedAt) {
+        this.state = AnalysisJobState.RUNNING;
+        this.attempts++;
+        this.startedAt = startedAt;
+    }
+
+    public void succeed(LocalDateTime finishedAt) {
+        this.state = AnalysisJobState.SUCCEEDED;
+        this.finishedAt = finishedAt;
+        this.lastError = null;
+    }
+
+    public void fail(String error, LocalDateTime finishedAt) {
+        this.state = AnalysisJobState.FAILED;
+        this.finishedAt = finishedAt;
+        this.lastError = error;
+    }
+}
@@ -0,0 +1,9 @@
+package com.momo.backend.domain.analysis.entity;
+
+public enum AnalysisJobState {
+    QUEUED, RUNNING, SUCCEEDED, FAILED;
+
+    public boolean isPending() {
+        return this == QUEUED || this == RUNNING;
+    }
+}
@@ -0,0 +1,9 @@
+package com.momo.backend.domain.analysis.entity;
+
+import java.time.LocalDate;
+
+/**
+ * 분석 대상 기간 (양 끝 포함)
+ * */
+public record AnalysisPeriod(LocalDate startDate, LocalDate endDate) {
+}
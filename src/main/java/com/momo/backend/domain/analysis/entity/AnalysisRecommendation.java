@@ -0,0 +1,36 @@
+package com.momo.backend.domain.analysis.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Embeddable
+public class AnalysisRecommendation {
+
+    @Column(name = "type", nullable = false, length = 20)
+    private String type;
+
+    @Column(name = "title", nullable = false, length = 100)
+    private String title;
+
+    @Column(name = "description", nullable = false, length = 500)
+    private String description;
+
+    @Column(name = "duration", nullable = false)
+    private int duration;
+
+    @Column(name = "priority", nullable = false, length = 10)
+    private String priority;
+
+    public AnalysisRecommendation(String type, String title, String description, int duration, String priority) {
+        this.type = type;
+        this.title = title;
+        this.description = description;
+        this.duration = duration;
+        this.priority = priority;
+    }
+}
@@ -0,0 +1,22 @@
+package com.momo.backend.domain.analysis.entity;
+
+import java.util.List;
+
+/**
+ * 감정 분석 결과 값
+ * @param moodScore 1-10
+ * @param riskLevel low, medium, high
+ * */
+public record AnalysisResult(
+        String overallMood,
+        double moodScore,
+        List<String> dominantEmotions,
+        String riskLevel,
+        String summary,
+        List<AnalysisRecommendation> recommendations
+) {
+    public AnalysisResult {
+        dominantEmotions = List.copyOf(dominantEmotions);
+        recommendations = List.copyOf(recommendations);
+    }
+}
@@ -0,0 +1,32 @@
+package com.momo.backend.domain.analysis.entity;
+
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 분석 상태 - processing 에서 completed 또는 failed 로 한 번만 바뀐다.
+ * */
+@Getter
+@RequiredArgsConstructor
+public enum AnalysisStatus {
+    PROCESSING("processing"),
+    COMPLETED("completed"),
+    FAILED("failed");
+
+    private final String value;
+
+    public boolean isFinished() {
+        return this != PROCESSING;
+    }
+
+    public static AnalysisStatus from(String value) {
+        for (AnalysisStatus status : values()) {
+            if (status.value.equals(value)) {
+                return status;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_ANALYSIS_STATUS);
+    }
+}
@@ -0,0 +1,35 @@
+package com.momo.backend.domain.analysis.entity;
+
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 분석 타입 - 기준일을 포함해 거슬러 올라가는 일수로 분석 대상 기간이 정해진다.
+ * */
+@Getter
+@RequiredArgsConstructor
+public enum AnalysisType {
+    DAILY("daily", 1),
+    WEEKLY("weekly", 7),
+    MONTHLY("monthly", 30);
+
+    private final String value;
+    private final int days;
+
+    public AnalysisPeriod periodEndingAt(LocalDate endDate) {
+        return new AnalysisPeriod(endDate.minusDays(days - 1L), endDate);
+    }
+
+    public static AnalysisType from(String value) {
+        for (AnalysisType type : values()) {
+            if (type.value.equals(value)) {
+                return type;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_ANALYSIS_TYPE);
+    }
+}
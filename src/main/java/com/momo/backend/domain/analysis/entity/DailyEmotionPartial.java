@@ -0,0 +1,58 @@
+package com.momo.backend.domain.analysis.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자/일 단위 감정 부분 집계
+ * 일기 작성·수정·삭제가 커밋된 뒤 그날 값으로 다시 계산된다.
+ * 주간/월간 통계는 일기를 다시 읽지 않고 기간 안의 부분 집계를 합쳐서 만든다.
+ * */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "analysis_daily_partial",
+        uniqueConstraints = @UniqueConstraint(name = "uk_analysis_daily_partial_user_date", columnNames = {"user_id", "partial_date"})
+)
+public class DailyEmotionPartial {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "partial_date", nullable = false)
+    private LocalDate partialDate;
+
+    @Column(name = "diary_count", nullable = false)
+    private int diaryCount;
+
+    @Column(name = "mood_score_sum", nullable = false)
+    private double moodScoreSum;
+
+    @Column(name = "emotion_counts", nullable = false, length = EmotionCounts.MAX_ENCODED_BYTES)
+    private byte[] emotionCounts;
+
+    public DailyEmotionPartial(Long userId, LocalDate partialDate, EmotionCounts emotionCounts, double moodScoreSum) {
+        this.userId = userId;
+        this.partialDate = partialDate;
+        update(emotionCounts, moodScoreSum);
+    }
+
+    public EmotionCounts getEmotionCounts() {
+        return EmotionCounts.decode(emotionCounts);
+    }
+
+    public void update(EmotionCounts emotionCounts, double moodScoreSum) {
+        this.emotionCounts = emotionCounts.encode();
+        this.diaryCount = emotionCounts.total();
+        this.moodScoreSum = moodScoreSum;
+    }
+}
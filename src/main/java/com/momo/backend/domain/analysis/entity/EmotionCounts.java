@@ -0,0 +1,92 @@
+package com.momo.backend.domain.analysis.entity;
+
+import com.momo.backend.domain.diary.entity.EmotionType;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 감정 타입별 일기 수 값 객체
+ * 감정 타입이 8개뿐이라 상위 감정(dominant emotion)을 구하는 데 근사 스케치 대신 정확한 카운트를 그대로 둔다.
+ * 0이 아닌 타입만 [감정 코드(1byte), 개수(4byte)] 로 직렬화한다.
+ * 불변 객체이며 변경 메서드는 새 인스턴스를 반환한다.
+ * */
+public final class EmotionCounts {
+
+    // 감정 코드 최댓값 (EmotionType 을 늘리면 함께 늘린다)
+    public static final int MAX_CODE = 8;
+    public static final int MAX_ENCODED_BYTES = MAX_CODE * (1 + Integer.BYTES);
+
+    private static final EmotionCounts EMPTY = new EmotionCounts(new int[MAX_CODE]);
+
+    private final int[] counts; // index = 감정 코드 - 1
+
+    private EmotionCounts(int[] counts) {
+        this.counts = counts;
+    }
+
+    public static EmotionCounts empty() {
+        return EMPTY;
+    }
+
+    public static EmotionCounts decode(byte[] bytes) {
+        int[] counts = new int[MAX_CODE];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            int index = EmotionType.fromCode(buffer.get()).getCode() - 1;
+            counts[index] = buffer.getInt();
+        }
+        return new EmotionCounts(counts);
+    }
+
+    public byte[] encode() {
+        int nonZero = 0;
+        for (int count : counts) {
+            nonZero += count != 0 ? 1 : 0;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(nonZero * (1 + Integer.BYTES));
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                buffer.put((byte) (i + 1));
+                buffer.putInt(counts[i]);
+            }
+        }
+        return buffer.array();
+    }
+
+    public EmotionCounts plus(EmotionType emotionType) {
+        int[] added = Arrays.copyOf(counts, counts.length);
+        added[emotionType.getCode() - 1]++;
+        return new EmotionCounts(added);
+    }
+
+    public EmotionCounts merge(EmotionCounts other) {
+        int[] merged = Arrays.copyOf(counts, counts.length);
+        for (int i = 0; i < merged.length; i++) {
+            merged[i] += other.counts[i];
+        }
+        return new EmotionCounts(merged);
+    }
+
+    public int countOf(EmotionType emotionType) {
+        return counts[emotionType.getCode() - 1];
+    }
+
+    public int total() {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof EmotionCounts other && Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+}
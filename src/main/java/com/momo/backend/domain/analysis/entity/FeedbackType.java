@@ -0,0 +1,28 @@
+package com.momo.backend.domain.analysis.entity;
+
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 분석 결과 피드백 대상
+ * */
+@Getter
+@RequiredArgsConstructor
+public enum FeedbackType {
+    EMOTION_ANALYSIS("emotion_analysis"),
+    RECOMMENDATIONS("recommendations"),
+    OVERALL("overall");
+
+    private final String value;
+
+    public static FeedbackType from(String value) {
+        for (FeedbackType type : values()) {
+            if (type.value.equals(value)) {
+                return type;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_FEEDBACK_TYPE);
+    }
+}
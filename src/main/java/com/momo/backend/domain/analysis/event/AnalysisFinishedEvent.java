@@ -0,0 +1,13 @@
+package com.momo.backend.domain.analysis.event;
+
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+
+/**
+ * 분석이 completed 또는 failed 로 끝남
+ * */
+public record AnalysisFinishedEvent(
+        Long analysisId,
+        Long userId,
+        AnalysisStatus status
+) {
+}
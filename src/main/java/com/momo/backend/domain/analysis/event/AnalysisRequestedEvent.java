@@ -0,0 +1,14 @@
+package com.momo.backend.domain.analysis.event;
+
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+
+/**
+ * 분석 작업이 저장됨 - 커밋 후 디스패처 큐에 넣는다.
+ * */
+public record AnalysisRequestedEvent(
+        Long jobId,
+        Long analysisId,
+        Long userId,
+        AnalysisType analysisType
+) {
+}
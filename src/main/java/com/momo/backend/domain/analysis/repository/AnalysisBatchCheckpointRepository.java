@@ -0,0 +1,7 @@
+package com.momo.backend.domain.analysis.repository;
+
+import com.momo.backend.domain.analysis.entity.AnalysisBatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AnalysisBatchCheckpointRepository extends JpaRepository<AnalysisBatchCheckpoint, String> {
+}
@@ -0,0 +1,16 @@
+package com.momo.backend.domain.analysis.repository;
+
+import com.momo.backend.domain.analysis.entity.AnalysisFeedback;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface AnalysisFeedbackRepository extends JpaRepository<AnalysisFeedback, Long> {
+
+    @Query("select new com.momo.backend.domain.analysis.repository.FeedbackTallyRow(" +
+            "f.feedbackType, f.modelVersion, f.accurate, count(f)) " +
+            "from AnalysisFeedback f " +
+            "group by f.feedbackType, f.modelVersion, f.accurate")
+    List<FeedbackTallyRow> tallyAll();
+}
@@ -0,0 +1,12 @@
+package com.momo.backend.domain.analysis.repository;
+
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+
+/**
+ * 피드백 제출 시 확인하는 분석 상태/모델 버전
+ * */
+public record AnalysisFeedbackTarget(
+        AnalysisStatus status,
+        String modelVersion
+) {
+}
@@ -0,0 +1,24 @@
+package com.momo.backend.domain.analysis.repository;
+
+import com.momo.backend.domain.analysis.entity.AnalysisJob;
+import com.momo.backend.domain.analysis.entity.AnalysisJobState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AnalysisJobRepository extends JpaRepository<AnalysisJob, Long> {
+
+    @Query("select new com.momo.backend.domain.analysis.repository.QueuedAnalysisJob(j.id, j.userId, j.analysisType) " +
+            "from AnalysisJob j where j.state in :states order by j.id")
+    List<QueuedAnalysisJob> findQueuedByStateIn(@Param("states") Collection<AnalysisJobState> states);
+
+    // 재시작 시 중단된 작업을 다시 실행 대상으로 돌린다
+    @Modifying
+    @Query("update AnalysisJob j set j.state = com.momo.backend.domain.analysis.entity.AnalysisJobState.QUEUED " +
+            "where j.state = com.momo.backend.domain.analysis.entity.AnalysisJobState.RUNNING")
+    int requeueRunning();
+}
@@ -0,0 +1,31 @@
+package com.momo.backend.domain.analysis.repository;
+
+import com.momo.backend.domain.analysis.entity.AnalysisPeriod;
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 분석 목록용 조회 결과 (요약문, 주요 감정, 추천 컬렉션 제외)
+ * @param totalCount 필터 조건에 맞는 전체 건수 (같은 쿼리에서 윈도 함수로 센다)
+ * */
+public record AnalysisListRow(
+        Long id,
+        AnalysisType analysisType,
+        AnalysisStatus status,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer diaryCount,
+        String overallMood,
+        Double moodScore,
+        String riskLevel,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt,
+        Long totalCount
+) {
+    public AnalysisPeriod period() {
+        return new AnalysisPeriod(startDate, endDate);
+    }
+}
@@ -0,0 +1,23 @@
+package com.momo.backend.domain.analysis.repository;
+
+import com.momo.backend.domain.analysis.entity.Analysis;
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface AnalysisRepository extends JpaRepository<Analysis, Long>, AnalysisRepositoryCustom {
+
+    Optional<Analysis> findByIdAndUserId(Long id, Long userId);
+
+    Optional<Analysis> findFirstByUserIdAndStatusOrderByIdDesc(Long userId, AnalysisStatus status);
+
+    Optional<Analysis> findFirstByUserIdAndContentHashAndStatusOrderByIdDesc(Long userId, String contentHash,
+                                                                            AnalysisStatus status);
+
+    @Query("select new com.momo.backend.domain.analysis.repository.AnalysisFeedbackTarget(a.status, a.modelVersion) " +
+            "from Analysis a where a.id = :id and a.userId = :userId")
+    Optional<AnalysisFeedbackTarget> findFeedbackTarget(@Param("id") Long id, @Param("userId") Long userId);
+}
@@ -0,0 +1,18 @@
+package com.momo.backend.domain.analysis.repository;
+
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface AnalysisRepositoryCustom {
+
+    /**
+     * 목록 페이지 조회 (목록에 필요한 컬럼만 DTO 로 읽는다)
+     * 전체 건수는 윈도 함수로 같은 쿼리에서 받으므로 보통 쿼리 한 번이고,
+     * 범위를 벗어난 페이지(결과 없음)일 때만 count 쿼리를 따로 실행한다.
+     * status/analysisType 이 null 이면 필터하지 않는다.
+     * */
+    Page<AnalysisListRow> findListPage(Long userId, AnalysisStatus status, AnalysisType analysisType,
+                                       Pageable pageable);
+}
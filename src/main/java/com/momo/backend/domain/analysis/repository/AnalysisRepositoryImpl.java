@@ -0,0 +1,68 @@
+package com.momo.backend.domain.analysis.repository;
+
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class AnalysisRepositoryImpl implements AnalysisRepositoryCustom {
+
+    private static final String LIST_SELECT = "select new com.momo.backend.domain.analysis.repository.AnalysisListRow(" +
+            "a.id, a.analysisType, a.status, a.startDate, a.endDate, a.diaryCount, " +
+            "a.overallMood, a.moodScore, a.riskLevel, a.createdAt, a.completedAt, count(*) over ()) " +
+            "from Analysis a";
+
+    private final EntityManager em;
+
+    @Override
+    public Page<AnalysisListRow> findListPage(Long userId, AnalysisStatus status, AnalysisType analysisType,
+                                              Pageable pageable) {
+        String where = whereClause(status, analysisType);
+
+        // 필터는 값이 있을 때만 붙여 사용자 범위를 (user_id, id desc) 인덱스로 읽게 한다
+        TypedQuery<AnalysisListRow> contentQuery = em.createQuery(
+                LIST_SELECT + where + " order by a.id desc", AnalysisListRow.class);
+        bindCondition(contentQuery, userId, status, analysisType);
+        List<AnalysisListRow> content = contentQuery
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            if (!content.isEmpty()) {
+                return content.get(0).totalCount();
+            }
+            TypedQuery<Long> countQuery = em.createQuery("select count(a) from Analysis a" + where, Long.class);
+            bindCondition(countQuery, userId, status, analysisType);
+            return countQuery.getSingleResult();
+        });
+    }
+
+    private String whereClause(AnalysisStatus status, AnalysisType analysisType) {
+        StringBuilder where = new StringBuilder(" where a.userId = :userId");
+        if (status != null) {
+            where.append(" and a.status = :status");
+        }
+        if (analysisType != null) {
+            where.append(" and a.analysisType = :analysisType");
+        }
+        return where.toString();
+    }
+
+    private void bindCondition(TypedQuery<?> query, Long userId, AnalysisStatus status, AnalysisType analysisType) {
+        query.setParameter("userId", userId);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (analysisType != null) {
+            query.setParameter("analysisType", analysisType);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.momo.backend.domain.analysis.repository;
+
+import com.momo.backend.domain.analysis.entity.DailyEmotionPartial;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface DailyEmotionPartialRepository extends JpaRepository<DailyEmotionPartial, Long> {
+
+    Optional<DailyEmotionPartial> findByUserIdAndPartialDate(Long userId, LocalDate partialDate);
+
+    /**
+     * 같은 날 부분 집계를 동시에 다시 계산하지 않도록 행을 잠그고 읽는다.
+     * */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from DailyEmotionPartial p where p.userId = :userId and p.partialDate = :partialDate")
+    Optional<DailyEmotionPartial> findForUpdate(@Param("userId") Long userId, @Param("partialDate") LocalDate partialDate);
+
+    List<DailyEmotionPartial> findByUserIdAndPartialDateBetween(Long userId, LocalDate from, LocalDate to);
+
+    List<DailyEmotionPartial> findByUserId(Long userId);
+}
@@ -0,0 +1,14 @@
+package com.momo.backend.domain.analysis.repository;
+
+import com.momo.backend.domain.analysis.entity.FeedbackType;
+
+/**
+ * 피드백 로그 집계 결과 (피드백 타입, 모델 버전, 정확 여부별 건수)
+ * */
+public record FeedbackTallyRow(
+        FeedbackType feedbackType,
+        String modelVersion,
+        boolean accurate,
+        long count
+) {
+}
@@ -0,0 +1,13 @@
+package com.momo.backend.domain.analysis.repository;
+
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+
+/**
+ * 디스패처 큐 항목 - 레인(분석 타입)과 사용자별 순번을 정하는 데 필요한 값만 담는다.
+ * */
+public record QueuedAnalysisJob(
+        Long jobId,
+        Long userId,
+        AnalysisType analysisType
+) {
+}
@@ -0,0 +1,87 @@
+package com.momo.backend.domain.diary.entity;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 한 달 캘린더 프로젝션 값 객체 (일자 -> 일기 ID, 감정 코드)
+ * 일기가 있는 날짜만 [일(1byte), 감정 코드(1byte), 일기 ID(8byte)] 로 직렬화하므로 한 달 최대 310byte 를 넘지 않는다.
+ * 불변 객체이며 변경 메서드는 새 인스턴스를 반환한다.
+ * */
+public final class CalendarMonthDays {
+
+    public static final int MAX_DAYS = 31;
+    public static final int MAX_ENCODED_BYTES = MAX_DAYS * (2 + Long.BYTES);
+
+    private static final CalendarMonthDays EMPTY = new CalendarMonthDays(new long[MAX_DAYS], new byte[MAX_DAYS]);
+
+    private final long[] diaryIds;      // index = day - 1, 0 이면 일기 없음
+    private final byte[] emotionCodes;
+
+    private CalendarMonthDays(long[] diaryIds, byte[] emotionCodes) {
+        this.diaryIds = diaryIds;
+        this.emotionCodes = emotionCodes;
+    }
+
+    public static CalendarMonthDays empty() {
+        return EMPTY;
+    }
+
+    public static CalendarMonthDays decode(byte[] bytes) {
+        long[] diaryIds = new long[MAX_DAYS];
+        byte[] emotionCodes = new byte[MAX_DAYS];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            int index = buffer.get() - 1;
+            emotionCodes[index] = buffer.get();
+            diaryIds[index] = buffer.getLong();
+        }
+        return new CalendarMonthDays(diaryIds, emotionCodes);
+    }
+
+    public byte[] encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(count() * (2 + Long.BYTES));
+        for (int i = 0; i < MAX_DAYS; i++) {
+            if (diaryIds[i] != 0) {
+                buffer.put((byte) (i + 1));
+                buffer.put(emotionCodes[i]);
+                buffer.putLong(diaryIds[i]);
+            }
+        }
+        return buffer.array();
+    }
+
+    public CalendarMonthDays with(int day, long diaryId, byte emotionCode) {
+        long[] newIds = Arrays.copyOf(diaryIds, MAX_DAYS);
+        byte[] newCodes = Arrays.copyOf(emotionCodes, MAX_DAYS);
+        newIds[day - 1] = diaryId;
+        newCodes[day - 1] = emotionCode;
+        return new CalendarMonthDays(newIds, newCodes);
+    }
+
+    public CalendarMonthDays without(int day) {
+        return with(day, 0L, (byte) 0);
+    }
+
+    public boolean has(int day) {
+        return diaryIds[day - 1] != 0;
+    }
+
+    public long diaryIdAt(int day) {
+        return diaryIds[day - 1];
+    }
+
+    public byte emotionCodeAt(int day) {
+        return emotionCodes[day - 1];
+    }
+
+    public int count() {
+        int count = 0;
+        for (long diaryId : diaryIds) {
+            if (diaryId != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,67 @@
+package com.momo.backend.domain.diary.entity;
+
+import com.momo.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "diary",
+        indexes = {
+                // 목록(커서)·캘린더·오늘 일기 조회가 모두 (user_id, diary_date) 범위 탐색이므로 인덱스 순서를 정렬 순서와 맞춘다
+                // emotion_type 까지 담아 캘린더 조회가 테이블을 읽지 않게 한다 (PostgreSQL 은 schema.sql 에서 INCLUDE 로 생성)
+                @Index(name = "idx_diary_user_date_id", columnList = "user_id, diary_date desc, id desc, emotion_type")
+        }
+)
+public class Diary extends BaseTimeEntity {
+
+    // PostgreSQL 파티션 테이블의 기본키는 (id, diary_date) 라 DB 가 id 유일성을 보장하지 않는다.
+    // id 는 항상 diary_seq 에서 받고 직접 지정해 저장하는 경로가 없으므로 중복되지 않는다. (schema.sql 참고)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "diary_seq_generator")
+    @SequenceGenerator(name = "diary_seq_generator", sequenceName = "diary_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "emotion_type", nullable = false, length = 20)
+    private String emotionType;
+
+    // 본문은 DiaryContentCodec 포맷(헤더 바이트 + 압축/원문)으로 저장한다
+    @Convert(converter = DiaryContentConverter.class)
+    @Column(name = "content", nullable = false, columnDefinition = "bytea")
+    private String content;
+
+    @Column(name = "diary_date", nullable = false)
+    private LocalDate diaryDate;
+
+    // 낙관적 락 겸 ETag 원천 - 본문을 읽지 않고 버전만 조회해 조건부 요청을 판단한다
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Builder
+    private Diary(Long userId, String emotionType, String content, LocalDate diaryDate) {
+        this.userId = userId;
+        this.emotionType = emotionType;
+        this.content = content;
+        this.diaryDate = diaryDate;
+    }
+
+    public void update(String emotionType, String content) {
+        this.emotionType = emotionType;
+        this.content = content;
+    }
+
+    public boolean isOwnedBy(Long userId) {
+        return this.userId.equals(userId);
+    }
+}
@@ -0,0 +1,59 @@
+package com.momo.backend.domain.diary.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+/**
+ * 사용자/월 단위 캘린더 프로젝션
+ * 일기 작성·수정·삭제가 커밋된 뒤 별도 트랜잭션에서 커밋된 일기 기준으로 다시 만들어지며(DiaryCalendarProjector),
+ * 캘린더 조회는 일기 본문을 읽지 않고 이 행 하나만 읽는다. 일기가 모두 지워진 달은 행을 지운다.
+ * */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "diary_calendar_month",
+        uniqueConstraints = @UniqueConstraint(name = "uk_diary_calendar_user_month", columnNames = {"user_id", "year_month"})
+)
+public class DiaryCalendarMonth {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // yyyyMM (예: 202501)
+    @Column(name = "year_month", nullable = false)
+    private int yearMonth;
+
+    @Column(name = "days", nullable = false, length = CalendarMonthDays.MAX_ENCODED_BYTES)
+    private byte[] days;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    public DiaryCalendarMonth(Long userId, YearMonth yearMonth, CalendarMonthDays days) {
+        this.userId = userId;
+        this.yearMonth = toKey(yearMonth);
+        this.days = days.encode();
+    }
+
+    public static int toKey(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+
+    public CalendarMonthDays getDays() {
+        return CalendarMonthDays.decode(days);
+    }
+
+    public void updateDays(CalendarMonthDays days) {
+        this.days = days.encode();
+    }
+}
@@ -0,0 +1,130 @@
+package com.momo.backend.domain.diary.entity;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 일기 본문 저장 포맷
+ * [0xFE][원본 길이(varint)][raw deflate] : 압축
+ * [0xFF][UTF-8]                         : 압축하지 않음 (짧거나 압축 이득이 없는 본문)
+ * 그 외                                  : 헤더 도입 전 행 - 전체가 UTF-8
+ * UTF-8 인코딩 결과에는 0xFE, 0xFF 바이트가 나오지 않으므로 헤더와 기존 행이 겹치지 않는다.
+ * */
+public final class DiaryContentCodec {
+
+    public static final byte DEFLATED = (byte) 0xFE;
+    public static final byte RAW = (byte) 0xFF;
+
+    // 이보다 짧은 본문은 압축해도 헤더/사전 비용 때문에 거의 줄지 않는다
+    public static final int COMPRESSION_THRESHOLD = 256;
+
+    private DiaryContentCodec() {
+    }
+
+    public static byte[] encode(String content) {
+        byte[] utf8 = content.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length >= COMPRESSION_THRESHOLD) {
+            byte[] deflated = deflate(utf8);
+            if (deflated.length < utf8.length + 1) {
+                return deflated;
+            }
+        }
+        byte[] raw = new byte[utf8.length + 1];
+        raw[0] = RAW;
+        System.arraycopy(utf8, 0, raw, 1, utf8.length);
+        return raw;
+    }
+
+    public static String decode(byte[] stored) {
+        if (stored.length == 0) {
+            return "";
+        }
+        return switch (stored[0]) {
+            case DEFLATED -> inflate(stored);
+            case RAW -> new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+            default -> new String(stored, StandardCharsets.UTF_8);
+        };
+    }
+
+    /**
+     * 현재 포맷으로 다시 저장해야 하는 값인지 (헤더 없는 기존 행, 또는 압축 대상인데 원문으로 남은 행)
+     * */
+    public static boolean needsRecompaction(byte[] stored) {
+        if (stored.length == 0) {
+            return true;
+        }
+        return switch (stored[0]) {
+            case DEFLATED -> false;
+            case RAW -> stored.length - 1 >= COMPRESSION_THRESHOLD
+                    && deflate(stored, 1, stored.length - 1).length < stored.length;
+            default -> true;
+        };
+    }
+
+    private static byte[] deflate(byte[] utf8) {
+        return deflate(utf8, 0, utf8.length);
+    }
+
+    private static byte[] deflate(byte[] input, int offset, int length) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(input, offset, length);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length / 2 + 8);
+            out.write(DEFLATED);
+            writeVarint(out, length);
+            byte[] buffer = new byte[Math.min(length + 64, 8192)];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(buffer);
+                out.write(buffer, 0, written);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String inflate(byte[] stored) {
+        int position = 1;
+        int rawLength = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = stored[position++];
+            rawLength |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(stored, position, stored.length - position);
+            byte[] utf8 = new byte[rawLength];
+            int filled = 0;
+            // 원본 길이만큼 채우면 끝 (raw deflate 는 스트림 끝 확인용 더미 바이트 없이도 여기서 멈춘다)
+            while (filled < rawLength) {
+                int inflated = inflater.inflate(utf8, filled, rawLength - filled);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary() || inflater.finished())) {
+                    throw new IllegalStateException("압축된 일기 본문이 손상되었습니다.");
+                }
+                filled += inflated;
+            }
+            return new String(utf8, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 일기 본문이 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+}
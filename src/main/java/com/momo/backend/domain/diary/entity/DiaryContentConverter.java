@@ -0,0 +1,21 @@
+package com.momo.backend.domain.diary.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 일기 본문을 저장 시 압축하고 조회 시 복원한다. 엔티티/API 에서는 계속 String 으로 다룬다.
+ * */
+@Converter
+public class DiaryContentConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String content) {
+        return content == null ? null : DiaryContentCodec.encode(content);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        return stored == null ? null : DiaryContentCodec.decode(stored);
+    }
+}
@@ -0,0 +1,52 @@
+package com.momo.backend.domain.diary.entity;
+
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일기 감정 타입
+ * code 는 캘린더 프로젝션 등 압축 저장용 식별자이므로 한번 정한 값은 변경하지 않는다.
+ * */
+@Getter
+@RequiredArgsConstructor
+public enum EmotionType {
+
+    HAPPY("happy", (byte) 1),
+    EXCITED("excited", (byte) 2),
+    CALM("calm", (byte) 3),
+    NEUTRAL("neutral", (byte) 4),
+    TIRED("tired", (byte) 5),
+    ANXIOUS("anxious", (byte) 6),
+    SAD("sad", (byte) 7),
+    ANGRY("angry", (byte) 8);
+
+    private static final EmotionType[] BY_CODE = new EmotionType[Byte.MAX_VALUE + 1];
+
+    static {
+        for (EmotionType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final String value;
+    private final byte code;
+
+    public static EmotionType from(String value) {
+        for (EmotionType type : values()) {
+            if (type.value.equals(value)) {
+                return type;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_EMOTION_TYPE);
+    }
+
+    public static EmotionType fromCode(byte code) {
+        EmotionType type = code > 0 ? BY_CODE[code] : null;
+        if (type == null) {
+            throw new IllegalArgumentException("알 수 없는 감정 코드: " + code);
+        }
+        return type;
+    }
+}
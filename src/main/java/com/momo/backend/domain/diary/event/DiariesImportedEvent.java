@@ -0,0 +1,11 @@
+package com.momo.backend.domain.diary.event;
+
+/**
+ * 일기 일괄 가져오기 완료 이벤트
+ * 건별 DiaryChangedEvent 대신 커밋 후 한 번 발행되며, 파생 데이터는 사용자 단위로 다시 만든다.
+ * */
+public record DiariesImportedEvent(
+        Long userId,
+        int importedCount
+) {
+}
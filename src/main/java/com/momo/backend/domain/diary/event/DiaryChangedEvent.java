@@ -0,0 +1,28 @@
+package com.momo.backend.domain.diary.event;
+
+import com.momo.backend.domain.diary.entity.Diary;
+
+import java.time.LocalDate;
+
+/**
+ * 일기 작성·수정·삭제 이벤트
+ * 캘린더 프로젝션, 캐시 등 일기에서 파생된 데이터를 갱신하는 데 사용한다.
+ * */
+public record DiaryChangedEvent(
+        Long userId,
+        Long diaryId,
+        LocalDate diaryDate,
+        String emotionType,
+        String content,
+        ChangeType changeType
+) {
+    public static DiaryChangedEvent of(Diary diary, ChangeType changeType) {
+        return new DiaryChangedEvent(
+                diary.getUserId(), diary.getId(), diary.getDiaryDate(), diary.getEmotionType(), diary.getContent(),
+                changeType);
+    }
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+}
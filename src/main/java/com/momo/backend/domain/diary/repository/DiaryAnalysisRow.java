@@ -0,0 +1,15 @@
+package com.momo.backend.domain.diary.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 감정 분석 입력용 조회 결과
+ * */
+public record DiaryAnalysisRow(
+        Long id,
+        LocalDate diaryDate,
+        String emotionType,
+        String content,
+        Long version
+) {
+}
@@ -0,0 +1,14 @@
+package com.momo.backend.domain.diary.repository;
+
+import com.momo.backend.domain.diary.entity.DiaryCalendarMonth;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface DiaryCalendarMonthRepository extends JpaRepository<DiaryCalendarMonth, Long> {
+
+    Optional<DiaryCalendarMonth> findByUserIdAndYearMonth(Long userId, int yearMonth);
+
+    List<DiaryCalendarMonth> findByUserId(Long userId);
+}
@@ -0,0 +1,13 @@
+package com.momo.backend.domain.diary.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 캘린더 프로젝션 재구성용 조회 결과 (본문 제외)
+ * */
+public record DiaryCalendarRow(
+        Long id,
+        LocalDate diaryDate,
+        String emotionType
+) {
+}
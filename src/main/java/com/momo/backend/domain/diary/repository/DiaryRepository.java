@@ -0,0 +1,68 @@
+package com.momo.backend.domain.diary.repository;
+
+import com.momo.backend.domain.diary.entity.Diary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface DiaryRepository extends JpaRepository<Diary, Long>, DiaryRepositoryCustom {
+
+    Optional<Diary> findByIdAndUserId(Long id, Long userId);
+
+    Optional<Diary> findFirstByUserIdAndDiaryDateOrderByIdDesc(Long userId, LocalDate diaryDate);
+
+    @Query("select new com.momo.backend.domain.diary.repository.DiaryCalendarRow(d.id, d.diaryDate, d.emotionType) " +
+            "from Diary d " +
+            "where d.userId = :userId and d.diaryDate between :from and :to " +
+            "order by d.diaryDate asc, d.id asc")
+    List<DiaryCalendarRow> findCalendarRows(@Param("userId") Long userId,
+                                            @Param("from") LocalDate from,
+                                            @Param("to") LocalDate to);
+
+    @Query("select new com.momo.backend.domain.diary.repository.DiaryCalendarRow(d.id, d.diaryDate, d.emotionType) " +
+            "from Diary d " +
+            "where d.userId = :userId " +
+            "order by d.diaryDate asc, d.id asc")
+    List<DiaryCalendarRow> findAllCalendarRows(@Param("userId") Long userId);
+
+    @Query("select new com.momo.backend.domain.diary.repository.DiaryAnalysisRow(d.id, d.diaryDate, d.emotionType, d.content, d.version) " +
+            "from Diary d " +
+            "where d.userId = :userId and d.diaryDate between :from and :to " +
+            "order by d.diaryDate asc, d.id asc")
+    List<DiaryAnalysisRow> findAnalysisRows(@Param("userId") Long userId,
+                                            @Param("from") LocalDate from,
+                                            @Param("to") LocalDate to);
+
+    @Query("select new com.momo.backend.domain.diary.repository.DiaryVersionRow(d.id, d.version) " +
+            "from Diary d " +
+            "where d.userId = :userId and d.diaryDate between :from and :to")
+    List<DiaryVersionRow> findVersionRows(@Param("userId") Long userId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+
+    @Query("select d.version from Diary d where d.id = :id and d.userId = :userId")
+    Optional<Long> findVersionByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 색인의 PostingList 는 id 오름차순으로 들어와야 끝에 붙이기만 한다 (파티션 테이블은 id 순서를 보장하지 않는다)
+    @Query("select new com.momo.backend.domain.diary.repository.DiarySearchRow(d.id, d.diaryDate, d.emotionType, d.content) " +
+            "from Diary d " +
+            "where d.userId = :userId " +
+            "order by d.id")
+    List<DiarySearchRow> findSearchRows(@Param("userId") Long userId);
+
+    @Query("select distinct d.userId from Diary d where d.userId > :afterUserId order by d.userId")
+    List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    @Query("select distinct d.userId from Diary d " +
+            "where d.userId > :afterUserId and d.diaryDate between :from and :to " +
+            "order by d.userId")
+    List<Long> findActiveUserIdsAfter(@Param("afterUserId") Long afterUserId,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to,
+                                      Pageable pageable);
+}
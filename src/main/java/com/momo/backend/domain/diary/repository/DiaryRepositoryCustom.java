@@ -0,0 +1,24 @@
+package com.momo.backend.domain.diary.repository;
+
+import com.momo.backend.domain.diary.entity.Diary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DiaryRepositoryCustom {
+
+    /**
+     * 오프셋 페이징 조회 (OFFSET + COUNT 쿼리 발생, 하위 호환용)
+     * */
+    Page<Diary> findPage(Long userId, DiarySearchCondition condition, Pageable pageable);
+
+    /**
+     * 키셋(커서) 페이징 조회
+     * (diaryDate, id) 가 커서보다 작은 행부터 인덱스를 그대로 따라 limit 건만 읽는다.
+     * cursorDate/cursorId 가 null 이면 첫 페이지를 조회한다.
+     * */
+    List<Diary> findSliceBefore(Long userId, DiarySearchCondition condition,
+                                LocalDate cursorDate, Long cursorId, int limit);
+}
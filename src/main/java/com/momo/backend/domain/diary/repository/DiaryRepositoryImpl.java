@@ -0,0 +1,78 @@
+package com.momo.backend.domain.diary.repository;
+
+import com.momo.backend.domain.diary.entity.Diary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class DiaryRepositoryImpl implements DiaryRepositoryCustom {
+
+    private static final String ORDER_BY_LATEST = " order by d.diaryDate desc, d.id desc";
+
+    private final EntityManager em;
+
+    @Override
+    public Page<Diary> findPage(Long userId, DiarySearchCondition condition, Pageable pageable) {
+        String where = whereClause(condition);
+
+        TypedQuery<Diary> contentQuery = em.createQuery("select d from Diary d" + where + ORDER_BY_LATEST, Diary.class);
+        bindCondition(contentQuery, userId, condition);
+        List<Diary> content = contentQuery
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        TypedQuery<Long> countQuery = em.createQuery("select count(d) from Diary d" + where, Long.class);
+        bindCondition(countQuery, userId, condition);
+
+        return new PageImpl<>(content, pageable, countQuery.getSingleResult());
+    }
+
+    @Override
+    public List<Diary> findSliceBefore(Long userId, DiarySearchCondition condition,
+                                       LocalDate cursorDate, Long cursorId, int limit) {
+        StringBuilder jpql = new StringBuilder("select d from Diary d").append(whereClause(condition));
+        boolean hasCursor = cursorDate != null && cursorId != null;
+        if (hasCursor) {
+            // 행 값 비교로 작성해야 (user_id, diary_date, id) 인덱스에서 바로 seek 한다
+            jpql.append(" and (d.diaryDate, d.id) < (:cursorDate, :cursorId)");
+        }
+        jpql.append(ORDER_BY_LATEST);
+
+        TypedQuery<Diary> query = em.createQuery(jpql.toString(), Diary.class);
+        bindCondition(query, userId, condition);
+        if (hasCursor) {
+            query.setParameter("cursorDate", cursorDate);
+            query.setParameter("cursorId", cursorId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    private String whereClause(DiarySearchCondition condition) {
+        StringBuilder where = new StringBuilder(" where d.userId = :userId");
+        if (condition.emotionType() != null) {
+            where.append(" and d.emotionType = :emotionType");
+        }
+        if (condition.startDate() != null) {
+            where.append(" and d.diaryDate >= :startDate");
+        }
+        return where.toString();
+    }
+
+    private void bindCondition(TypedQuery<?> query, Long userId, DiarySearchCondition condition) {
+        query.setParameter("userId", userId);
+        if (condition.emotionType() != null) {
+            query.setParameter("emotionType", condition.emotionType());
+        }
+        if (condition.startDate() != null) {
+            query.setParameter("startDate", condition.startDate());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.momo.backend.domain.diary.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 일기 목록 조회 필터 (null 이면 해당 조건은 적용하지 않음)
+ * */
+public record DiarySearchCondition(
+        String emotionType,
+        LocalDate startDate
+) {
+}
@@ -0,0 +1,14 @@
+package com.momo.backend.domain.diary.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 검색 인덱스 구성용 조회 결과
+ * */
+public record DiarySearchRow(
+        Long id,
+        LocalDate diaryDate,
+        String emotionType,
+        String content
+) {
+}
@@ -0,0 +1,10 @@
+package com.momo.backend.domain.diary.repository;
+
+/**
+ * 일기 id 와 행 버전 (분석 결과 재사용 판단용)
+ * */
+public record DiaryVersionRow(
+        Long id,
+        Long version
+) {
+}
@@ -0,0 +1,21 @@
+package com.momo.backend.infra.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * 서비스 기준 시계
+ * '오늘' 판단과 자정 만료 계산이 모두 이 시계를 사용한다. (사용자별 시간대가 생기기 전까지는 KST 고정)
+ * */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock(@Value("${momo.zone:Asia/Seoul}") String zone) {
+        return Clock.system(ZoneId.of(zone));
+    }
+}
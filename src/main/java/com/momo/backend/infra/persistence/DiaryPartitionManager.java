@@ -0,0 +1,115 @@
+package com.momo.backend.infra.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 일기 월 파티션 관리
+ * diary 가 파티션 테이블(PostgreSQL, db/postgresql/schema.sql)일 때만 동작하고, H2 등 일반 테이블이면 아무것도 하지 않는다.
+ * 이번 달부터 monthsAhead 달 뒤까지의 파티션이 없으면 만든다.
+ * 그보다 먼 날짜의 일기(가져오기 등)는 기본 파티션에 들어가므로, 그 달 파티션을 만들 때 같은 트랜잭션에서 행을 옮겨 붙인다.
+ * */
+@Slf4j
+@Component
+public class DiaryPartitionManager {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String PARTITIONED_CHECK_SQL =
+            "select count(*) from pg_partitioned_table p join pg_class c on c.oid = p.partrelid where c.relname = 'diary'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DiaryPartitionProperties properties;
+    private final Clock clock;
+
+    public DiaryPartitionManager(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                 DiaryPartitionProperties properties, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        ensurePartitions();
+    }
+
+    @Scheduled(cron = "${momo.diary.partition.maintain-cron:0 10 3 * * *}", zone = "Asia/Seoul")
+    public void ensurePartitions() {
+        if (!isPartitioned()) {
+            return;
+        }
+        YearMonth current = YearMonth.now(clock);
+        for (int i = 0; i <= properties.monthsAhead(); i++) {
+            createIfAbsent(current.plusMonths(i));
+        }
+    }
+
+    private void createIfAbsent(YearMonth yearMonth) {
+        String partition = "diary_p" + yearMonth.format(SUFFIX);
+        LocalDate from = yearMonth.atDay(1);
+        LocalDate to = yearMonth.plusMonths(1).atDay(1);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (exists(partition)) {
+                    return;
+                }
+                if (defaultHasRows(from, to)) {
+                    moveFromDefault(partition, from, to);
+                } else {
+                    jdbcTemplate.execute("create table " + partition
+                            + " partition of diary for values from ('" + from + "') to ('" + to + "')");
+                }
+            });
+        } catch (DataAccessException e) {
+            log.error("일기 파티션 생성 실패 - 월: {}", yearMonth, e);
+        }
+    }
+
+    /**
+     * 기본 파티션에 그 달 행이 있으면 PARTITION OF 로 바로 만들 수 없으므로,
+     * 빈 테이블을 만들어 행을 옮긴 뒤 붙인다. 옮기는 동안 기본 파티션에 쓰기가 끼어들지 않게 잠근다.
+     * */
+    private void moveFromDefault(String partition, LocalDate from, LocalDate to) {
+        jdbcTemplate.execute("lock table diary_default in exclusive mode");
+        jdbcTemplate.execute("create table " + partition + " (like diary including defaults including constraints)");
+        int moved = jdbcTemplate.update("insert into " + partition
+                + " select * from diary_default where diary_date >= ? and diary_date < ?", from, to);
+        jdbcTemplate.update("delete from diary_default where diary_date >= ? and diary_date < ?", from, to);
+        jdbcTemplate.execute("alter table diary attach partition " + partition
+                + " for values from ('" + from + "') to ('" + to + "')");
+        log.info("기본 파티션의 일기를 새 파티션으로 옮김 - 파티션: {}, 건수: {}", partition, moved);
+    }
+
+    private boolean exists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("select to_regclass(?) is not null", Boolean.class, table));
+    }
+
+    private boolean defaultHasRows(LocalDate from, LocalDate to) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select exists (select 1 from diary_default where diary_date >= ? and diary_date < ?)",
+                Boolean.class, from, to));
+    }
+
+    private boolean isPartitioned() {
+        try {
+            Integer count = jdbcTemplate.queryForObject(PARTITIONED_CHECK_SQL, Integer.class);
+            return count != null && count > 0;
+        } catch (DataAccessException e) {
+            // PostgreSQL 이 아니면 카탈로그 테이블이 없다
+            return false;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.momo.backend.infra.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 일기 테이블 파티션 설정
+ * @param monthsAhead 이번 달 이후 미리 만들어 둘 월 파티션 수
+ * */
+@ConfigurationProperties(prefix = "momo.diary.partition")
+public record DiaryPartitionProperties(
+        @DefaultValue("3") int monthsAhead
+) {
+}
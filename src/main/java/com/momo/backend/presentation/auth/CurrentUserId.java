@@ -0,0 +1,14 @@
+package com.momo.backend.presentation.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청한 사용자의 ID 를 받는 컨트롤러 파라미터 (CurrentUserIdArgumentResolver 가 채운다)
+ * */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUserId {
+}
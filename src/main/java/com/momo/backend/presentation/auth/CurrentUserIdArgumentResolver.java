@@ -0,0 +1,29 @@
+package com.momo.backend.presentation.auth;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * 요청한 사용자 ID 를 결정하는 유일한 지점
+ * 아직 인증(spring-security)이 붙지 않아 모든 요청을 기본 사용자로 본다.
+ * 인증을 붙일 때는 이 클래스만 SecurityContext 의 사용자 ID 를 읽도록 바꾸면 컨트롤러는 그대로 둘 수 있다.
+ * */
+public class CurrentUserIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    static final Long DEFAULT_USER_ID = 1L;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUserId.class)
+                && Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Long resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        return DEFAULT_USER_ID;
+    }
+}
@@ -1,10 +1,18 @@
 package com.momo.backend.presentation.controller;
 
+import com.momo.backend.application.analysis.AnalysisCreation;
+import com.momo.backend.application.analysis.AnalysisService;
+import com.momo.backend.application.analysis.feedback.AnalysisFeedbackService;
 import com.momo.backend.common.dto.BaseResponse;
 import com.momo.backend.common.dto.PaginationInfo;
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import com.momo.backend.domain.analysis.repository.AnalysisListRow;
+import com.momo.backend.presentation.auth.CurrentUserId;
 import com.momo.backend.presentation.dto.analysis.request.AnalysisCreateRequest;
 import com.momo.backend.presentation.dto.analysis.request.AnalysisFeedbackRequest;
 import com.momo.backend.presentation.dto.analysis.response.*;
+import com.momo.backend.presentation.sse.AnalysisEventStreams;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
@@ -17,9 +25,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -30,6 +41,10 @@ import java.util.List;
 @RestController
 public class AnalysisController {
 
+    private final AnalysisService analysisService;
+    private final AnalysisFeedbackService analysisFeedbackService;
+    private final AnalysisEventStreams analysisEventStreams;
+
     /**
      * AI 감정 분석 생성
      * */
@@ -58,6 +73,10 @@ public class AnalysisController {
                                         "diaryCount": 5,
                                         "estimatedTime": "30초",
                                         "message": "AI가 감정을 분석 중입니다...",
+                                        "preliminaryResult": {
+                                          "moodScore": 6.8,
+                                          "dominantEmotions": ["joy", "fatigue"]
+                                        },
                                         "createdAt": "2025-01-07T15:30:00Z"
                                       }
                                     }
@@ -74,36 +93,31 @@ public class AnalysisController {
                     responseCode = "401",
                     description = "인증 실패",
                     content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "분석 대기열 포화 - Retry-After 헤더(초) 이후 다시 요청",
+                    content = @Content(mediaType = "application/json")
             )
     })
     @Operation(
             summary = "AI 감정 분석 생성",
-            description = "인증된 사용자의 일기를 대상으로 AI 감정 분석을 요청합니다. 분석 타입에 따라 대상 기간이 결정됩니다."
+            description = "인증된 사용자의 일기를 대상으로 AI 감정 분석을 요청합니다. 분석 타입에 따라 대상 기간이 결정됩니다. "
+                    + "기간 안 일기가 지난 완료 분석 이후 바뀌지 않았으면 새로 분석하지 않고 그 결과(completed)를 바로 돌려줍니다."
     )
     public ResponseEntity<BaseResponse<AnalysisCreateResponse>> createAnalysis(
+            @Parameter(hidden = true) @CurrentUserId Long userId,
             @RequestBody @Valid AnalysisCreateRequest request
     ) {
         log.info("AI 감정 분석 생성 요청 - 분석 타입: {}", request.analysisType());
 
-        // Mock 데이터 생성
-        AnalyzedPeriod mockPeriod =
-                new AnalyzedPeriod("2025-01-01", "2025-01-07");
+        AnalysisCreation creation = analysisService.createAnalysis(userId, request.analysisType());
+        AnalysisCreateResponse createResponse = AnalysisCreateResponse.from(creation);
 
-        AnalysisCreateResponse mockResponse = new AnalysisCreateResponse(
-                67890L,
-                request.analysisType(),
-                "processing",
-                mockPeriod,
-                5,  // 분석 대상 일기 수
-                "30초",
-                "AI가 감정을 분석 중입니다...",
-                "2025-01-07T15:30:00Z"
-        );
-
-        BaseResponse<AnalysisCreateResponse> response = new BaseResponse<>(true, mockResponse);
+        BaseResponse<AnalysisCreateResponse> response = new BaseResponse<>(true, createResponse);
 
         log.info("AI 감정 분석 생성 응답 - ID: {}, 타입: {}, 상태: {}",
-                mockResponse.analysisId(), mockResponse.analysisType(), mockResponse.status());
+                createResponse.analysisId(), createResponse.analysisType(), createResponse.status());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -174,49 +188,68 @@ public class AnalysisController {
             description = "인증된 사용자의 특정 감정 분석 결과를 조회합니다."
     )
     public ResponseEntity<BaseResponse<AnalysisDetail>> getAnalysis(
+            @Parameter(hidden = true) @CurrentUserId Long userId,
             @PathVariable("id") Long id
     ) {
         log.info("특정 분석 결과 조회 요청 - ID: {}", id);
 
-        // Mock 데이터 생성
-        AnalyzedPeriod mockPeriod = new AnalyzedPeriod("2025-01-01", "2025-01-07");
+        AnalysisDetail detail = AnalysisDetail.from(analysisService.getAnalysis(userId, id));
+        BaseResponse<AnalysisDetail> response = new BaseResponse<>(true, detail);
 
-        EmotionDetail mockEmotion = new EmotionDetail(
-                "우울감",
-                3.2,
-                List.of("sadness", "fatigue", "apathy"),
-                "medium",
-                "지난 주 동안 다소 우울한 기분이 지속되었습니다..."
-        );
-
-        List<Recommendation> mockRecommendations = List.of(
-                new Recommendation("walking", "가벼운 산책",
-                        "10-15분 정도 집 근처를 천천히 걸어보세요.", 15, "high"),
-                new Recommendation("meditation", "호흡 명상",
-                        "5분간 깊은 호흡으로 마음을 진정시켜보세요.", 5, "medium"),
-                new Recommendation("shower", "따뜻한 샤워",
-                        "따뜻한 물로 몸과 마음을 이완시켜보세요.", 10, "medium"),
-                new Recommendation("nap", "짧은 낮잠",
-                        "20분 정도 짧은 휴식을 취해보세요.", 20, "low")
-        );
+        log.info("특정 분석 결과 조회 응답 - ID: {}, 상태: {}", detail.analysisId(), detail.status());
+        return ResponseEntity.ok(response);
+    }
 
-        AnalysisDetail mockResponse = new AnalysisDetail(
-                id,  // 요청받은 ID 그대로 사용
-                "weekly",
-                "completed",
-                mockPeriod,
-                5,
-                mockEmotion,
-                mockRecommendations,
-                "2025-01-07T15:30:00Z",
-                "2025-01-07T15:30:45Z"
-        );
+    /**
+     * 분석 진행 상황 스트림 (SSE)
+     * */
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "스트림 연결 성공",
+                    content = @Content(
+                            mediaType = "text/event-stream",
+                            examples = @ExampleObject(
+                                    name = "분석 진행 이벤트",
+                                    summary = "연결 직후 status, 완료 시 status + analysis 후 종료",
+                                    value = """
+                                    event:status
+                                    data:{"analysisId":67890,"status":"processing"}
 
-        BaseResponse<AnalysisDetail> response = new BaseResponse<>(true, mockResponse);
+                                    event:status
+                                    data:{"analysisId":67890,"status":"completed"}
 
-        log.info("특정 분석 결과 조회 응답 - ID: {}, 상태: {}, 기분: {}",
-                id, mockResponse.status(), mockResponse.emotionAnalysis().overallMood());
-        return ResponseEntity.ok(response);
+                                    event:analysis
+                                    data:{"analysisId":67890,"analysisType":"weekly","status":"completed", ...}
+                                    """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "분석 결과를 찾을 수 없음",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @Parameter(name = "id", description = "분석 ID", example = "67890")
+    @Operation(
+            summary = "분석 진행 상황 스트림",
+            description = "분석 상태를 Server-Sent Events 로 받습니다. 연결 직후 현재 상태(status)를 보내고, "
+                    + "분석이 끝나면 최종 상태와 분석 상세(analysis)를 보낸 뒤 연결을 닫습니다. "
+                    + "이미 끝난 분석이면 바로 결과를 보내고 닫습니다. 상세 조회 폴링 대신 사용합니다."
+    )
+    public SseEmitter streamAnalysisEvents(
+            @Parameter(hidden = true) @CurrentUserId Long userId,
+            @PathVariable("id") Long id
+    ) {
+        log.info("분석 진행 스트림 연결 요청 - ID: {}", id);
+        return analysisEventStreams.subscribe(userId, id);
     }
 
     /**
@@ -299,6 +332,7 @@ public class AnalysisController {
             description = "인증된 사용자의 감정 분석 결과 목록을 페이징으로 조회합니다. 상태와 분석 타입으로 필터링 가능합니다."
     )
     public ResponseEntity<BaseResponse<AnalysisListResponse>> getAnalysisList(
+            @Parameter(hidden = true) @CurrentUserId Long userId,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String status,
@@ -307,53 +341,22 @@ public class AnalysisController {
         log.info("분석 결과 목록 조회 요청 - 페이지: {}, 크기: {}, 상태: {}, 타입: {}",
                 page, size, status, analysisType);
 
-        // Mock 데이터 생성
-        List<AnalysisListItem> mockAnalyses = List.of(
-                new AnalysisListItem(
-                        67892L,
-                        "weekly",
-                        "completed",
-                        new AnalyzedPeriod("2025-01-08", "2025-01-14"),
-                        6,
-                        new EmotionSummary("보통", 6.5, "low"),
-                        "2025-01-14T20:00:00Z",
-                        "2025-01-14T20:00:35Z"
-                ),
-                new AnalysisListItem(
-                        67890L,
-                        "weekly",
-                        "completed",
-                        new AnalyzedPeriod("2025-01-01", "2025-01-07"),
-                        5,
-                        new EmotionSummary("우울감", 3.2, "medium"),
-                        "2025-01-07T15:30:00Z",
-                        "2025-01-07T15:30:45Z"
-                ),
-                new AnalysisListItem(
-                        67889L,
-                        "daily",
-                        "processing",
-                        new AnalyzedPeriod("2025-01-06", "2025-01-06"),
-                        1,
-                        null,  // processing 상태라 감정 분석 결과 없음
-                        "2025-01-06T22:15:00Z",
-                        null   // 아직 완료되지 않음
-                )
-        );
+        Page<AnalysisListRow> analysisPage = analysisService.getAnalysisPage(userId, status, analysisType, page, size);
+        List<AnalysisListItem> analyses = analysisPage.getContent().stream().map(AnalysisListItem::from).toList();
 
-        PaginationInfo mockPagination = new PaginationInfo(
-                page,           // currentPage
-                3,              // totalPages
-                45L,            // totalCount
-                page < 3,       // hasNext
-                page > 1        // hasPrevious
+        PaginationInfo pagination = new PaginationInfo(
+                analysisPage.getNumber() + 1,       // currentPage
+                analysisPage.getTotalPages(),       // totalPages
+                analysisPage.getTotalElements(),    // totalCount
+                analysisPage.hasNext(),             // hasNext
+                analysisPage.hasPrevious()          // hasPrevious
         );
 
-        AnalysisListResponse mockResponse = new AnalysisListResponse(mockAnalyses, mockPagination);
-        BaseResponse<AnalysisListResponse> response = new BaseResponse<>(true, mockResponse);
+        AnalysisListResponse listResponse = new AnalysisListResponse(analyses, pagination);
+        BaseResponse<AnalysisListResponse> response = new BaseResponse<>(true, listResponse);
 
         log.info("분석 결과 목록 조회 응답: 분석 수 {}, 페이지 {}/{}",
-                mockAnalyses.size(), page, mockPagination.totalPages());
+                analyses.size(), pagination.currentPage(), pagination.totalPages());
         return ResponseEntity.ok(response);
     }
 
@@ -429,47 +432,17 @@ public class AnalysisController {
             summary = "최신 분석 결과 조회",
             description = "인증된 사용자의 가장 최신 완료된 감정 분석 결과를 조회합니다."
     )
-    public ResponseEntity<BaseResponse<AnalysisDetail>> getLatestAnalysis() {
+    public ResponseEntity<BaseResponse<AnalysisDetail>> getLatestAnalysis(@Parameter(hidden = true) @CurrentUserId Long userId) {
         log.info("최신 분석 결과 조회 요청");
 
-        // Mock 데이터 생성 - 최신 완료된 분석 결과
-        AnalyzedPeriod mockPeriod = new AnalyzedPeriod("2025-01-08", "2025-01-14");
-
-        EmotionDetail mockEmotion = new EmotionDetail(
-                "보통",
-                6.5,
-                List.of("calm", "neutral", "content"),
-                "low",
-                "이번 주는 전반적으로 안정적인 감정 상태를 보이고 있습니다."
-        );
-
-        List<Recommendation> mockRecommendations = List.of(
-                new Recommendation(
-                        "walking", "꾸준한 산책",
-                        "좋은 컨디션을 유지하기 위해 매일 15분씩 산책해보세요.", 15, "medium"
-                ),
-                new Recommendation(
-                        "meditation", "감사 명상",
-                        "현재의 안정감을 더욱 깊이 느껴보는 시간을 가져보세요.", 10, "low"
-                )
-        );
-
-        AnalysisDetail mockResponse = new AnalysisDetail(
-                67892L,  // 최신 분석 ID
-                "weekly",
-                "completed",
-                mockPeriod,
-                6,
-                mockEmotion,
-                mockRecommendations,
-                "2025-01-14T20:00:00Z",
-                "2025-01-14T20:00:35Z"
-        );
+        AnalysisDetail latest = analysisService.getLatestAnalysis(userId)
+                .map(AnalysisDetail::from)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ANALYSIS_NOT_FOUND, "완료된 분석 결과를 찾을 수 없습니다."));
 
-        BaseResponse<AnalysisDetail> response = new BaseResponse<>(true, mockResponse);
+        BaseResponse<AnalysisDetail> response = new BaseResponse<>(true, latest);
 
         log.info("최신 분석 결과 조회 응답 - ID: {}, 상태: {}, 기분: {}",
-                mockResponse.analysisId(), mockResponse.status(), mockResponse.emotionAnalysis().overallMood());
+                latest.analysisId(), latest.status(), latest.emotionAnalysis().overallMood());
         return ResponseEntity.ok(response);
     }
 
@@ -506,6 +479,11 @@ public class AnalysisController {
                     description = "잘못된 요청 (필수값 누락, 유효성 검증 실패)",
                     content = @Content(mediaType = "application/json")
             ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "아직 완료되지 않은 분석",
+                    content = @Content(mediaType = "application/json")
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "인증 실패",
@@ -518,17 +496,64 @@ public class AnalysisController {
             description = "인증된 사용자가 특정 분석 결과에 대한 피드백을 제출합니다. AI 학습 개선에 활용됩니다."
     )
     public ResponseEntity<BaseResponse<String>> submitFeedback(
+            @Parameter(hidden = true) @CurrentUserId Long userId,
             @PathVariable("id") Long id,
             @RequestBody @Valid AnalysisFeedbackRequest request
     ) {
         log.info("분석 결과 피드백 제출 요청 - 분석 ID: {}, 정확성: {}, 피드백 타입: {}",
                 id, request.isAccurate(), request.feedbackType());
 
-        // Mock 응답 - 피드백 접수 완료 메시지
+        analysisFeedbackService.submitFeedback(userId, id, request.isAccurate(), request.feedbackType(),
+                request.comment());
+
         String responseMessage = "피드백이 제출되었습니다. 더 나은 분석을 위해 활용하겠습니다.";
         BaseResponse<String> response = new BaseResponse<>(true, responseMessage);
 
         log.info("분석 결과 피드백 제출 응답 - 분석 ID: {}, 메시지: {}", id, responseMessage);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * 피드백 기반 분석 정확도 조회
+     * */
+    @GetMapping("/feedback/accuracy")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "분석 정확도 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BaseResponse.class),
+                            examples = @ExampleObject(
+                                    name = "분석 정확도 조회 성공",
+                                    summary = "분석 정확도 조회 성공 응답",
+                                    value = """
+                                {
+                                  "success": true,
+                                  "data": [
+                                    {
+                                      "feedbackType": "emotion_analysis",
+                                      "modelVersion": "stub-1",
+                                      "accurateCount": 42,
+                                      "inaccurateCount": 8,
+                                      "accuracy": 0.84
+                                    }
+                                  ]
+                                }
+                                """
+                            )
+                    )
+            )
+    })
+    @Operation(
+            summary = "분석 정확도 조회",
+            description = "저장된 피드백을 피드백 타입/모델 버전별로 집계한 정확/부정확 건수와 정확도를 조회합니다. "
+                    + "집계는 주기적으로(기본 1분) 다시 만들므로 방금 제출한 피드백은 다음 집계부터 반영됩니다."
+    )
+    public ResponseEntity<BaseResponse<List<FeedbackAccuracyItem>>> getFeedbackAccuracy() {
+        List<FeedbackAccuracyItem> accuracy = analysisFeedbackService.getAccuracy().stream()
+                .map(FeedbackAccuracyItem::from)
+                .toList();
+        return ResponseEntity.ok(new BaseResponse<>(true, accuracy));
+    }
+}
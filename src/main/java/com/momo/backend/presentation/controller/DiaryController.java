@@ -1,11 +1,25 @@
 package com.momo.backend.presentation.controller;
 
+import com.momo.backend.application.diary.DiaryService;
+import com.momo.backend.application.diary.DiarySlice;
+import com.momo.backend.application.diary.DiarySnapshot;
+import com.momo.backend.application.diary.calendar.DiaryCalendarService;
+import com.momo.backend.application.diary.calendar.DiaryCalendarSnapshot;
+import com.momo.backend.application.diary.search.DiarySearchService;
+import com.momo.backend.application.diary.transfer.DiaryTransferService;
 import com.momo.backend.common.dto.BaseResponse;
 import com.momo.backend.common.dto.PaginationInfo;
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import com.momo.backend.domain.diary.entity.Diary;
+import com.momo.backend.domain.diary.repository.DiarySearchCondition;
+import com.momo.backend.presentation.auth.CurrentUserId;
 import com.momo.backend.presentation.dto.diary.request.DiaryCreateRequest;
 import com.momo.backend.presentation.dto.diary.request.DiaryUpdateRequest;
+import com.momo.backend.presentation.dto.diary.response.DiaryCalendarCompactResponse;
 import com.momo.backend.presentation.dto.diary.response.DiaryCalendarResponse;
 import com.momo.backend.presentation.dto.diary.response.DiaryCreateResponse;
+import com.momo.backend.presentation.dto.diary.response.DiaryImportResponse;
 import com.momo.backend.presentation.dto.diary.response.DiaryInfo;
 import com.momo.backend.presentation.dto.diary.response.DiaryListResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,14 +34,21 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
-import java.util.Map;
 
 @Tag(name = "감정 일기 컨트롤러", description = "감정 일기 관리 API - 인증 필요")
 @Slf4j
@@ -36,6 +57,11 @@ import java.util.Map;
 @RestController
 public class DiaryController {
 
+    private final DiaryService diaryService;
+    private final DiaryCalendarService diaryCalendarService;
+    private final DiarySearchService diarySearchService;
+    private final DiaryTransferService diaryTransferService;
+
     // 감정 일기 작성
     @PostMapping
     @ApiResponses(value = {
@@ -80,29 +106,23 @@ public class DiaryController {
             description = "인증된 사용자의 감정 일기를 작성합니다. emotionType과 content가 필요합니다."
     )
     public ResponseEntity<BaseResponse<DiaryCreateResponse>> createDiary(
+            @Parameter(hidden = true) @CurrentUserId Long userId,
             @RequestBody @Valid DiaryCreateRequest request
     ) {
         log.info("감정 일기 작성 요청 - 감정: {}, 내용 길이: {}", request.emotionType(), request.content().length());
 
-        // Mock 데이터 생성
-        LocalDateTime now = LocalDateTime.now();
-        DiaryCreateResponse mockResponse = new DiaryCreateResponse(
-                12345L,
-                request.emotionType(),
-                request.content(),
-                LocalDate.now(),  // 오늘 날짜
-                now,              // 생성일시
-                now               // 수정일시 (처음 생성시에는 동일)
-        );
+        Diary diary = diaryService.createDiary(userId, request.emotionType(), request.content());
+        DiaryCreateResponse createResponse = DiaryCreateResponse.from(diary);
 
-        BaseResponse<DiaryCreateResponse> response = new BaseResponse<>(true, mockResponse);
+        BaseResponse<DiaryCreateResponse> response = new BaseResponse<>(true, createResponse);
 
-        log.info("감정 일기 작성 응답: ID {}, 감정 {}", mockResponse.id(), mockResponse.emotionType());
+        log.info("감정 일기 작성 응답: ID {}, 감정 {}", createResponse.id(), createResponse.emotionType());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     /**
      * 감정 일기 목록 조회(페이징)
+     * cursor 파라미터가 있으면 키셋(커서) 페이징, 없으면 기존 page/size 오프셋 페이징으로 동작한다.
      * */
     @GetMapping
     @ApiResponses(value = {
@@ -160,57 +180,238 @@ public class DiaryController {
             @Parameter(name = "page", description = "페이지 번호 (1부터 시작)", example = "1"),
             @Parameter(name = "size", description = "페이지 크기", example = "20"),
             @Parameter(name = "emotionType", description = "감정 타입 필터", example = "happy"),
-            @Parameter(name = "startDate", description = "조회 시작 날짜", example = "2025-01-01")
+            @Parameter(name = "startDate", description = "조회 시작 날짜", example = "2025-01-01"),
+            @Parameter(name = "cursor", description = "커서 페이징용 커서 (빈 값이면 첫 페이지, 이후에는 응답의 nextCursor 사용)", example = "")
     })
     @Operation(
             summary = "감정 일기 목록 조회",
-            description = "인증된 사용자의 감정 일기 목록을 페이징으로 조회합니다. 감정 타입과 날짜로 필터링 가능합니다."
+            description = "인증된 사용자의 감정 일기 목록을 페이징으로 조회합니다. 감정 타입과 날짜로 필터링 가능합니다. "
+                    + "cursor 파라미터를 전달하면 전체 개수 없이 nextCursor 기반으로 조회합니다."
     )
     public ResponseEntity<BaseResponse<DiaryListResponse>> getDiaries(
+            @Parameter(hidden = true) @CurrentUserId Long userId,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String emotionType,
-            @RequestParam(required = false) String startDate
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) String cursor
     ) {
-        log.info("감정 일기 목록 조회 요청 - 페이지: {}, 크기: {}, 감정: {}, 시작날짜: {}",
-                page, size, emotionType, startDate);
-
-        // Mock 데이터 생성
-        List<DiaryInfo> mockDiaries = List.of(
-                new DiaryInfo(
-                        12345L,
-                        "happy",
-                        "오늘은 정말 좋은 하루였다. 친구들과 맛있는 음식도 먹고 영화도 봤다.",
-                        "2025-01-04",
-                        "2025-01-04T22:30:00Z",
-                        "2025-01-04T22:30:00Z"
-                ),
-                new DiaryInfo(
-                        12344L,
-                        "calm",
-                        "조용한 카페에서 책을 읽으며 평온한 시간을 보냈다.",
-                        "2025-01-03",
-                        "2025-01-03T21:15:00Z",
-                        "2025-01-03T21:15:00Z"
-                )
+        log.info("감정 일기 목록 조회 요청 - 페이지: {}, 크기: {}, 감정: {}, 시작날짜: {}, 커서: {}",
+                page, size, emotionType, startDate, cursor);
+
+        DiarySearchCondition condition = new DiarySearchCondition(emotionType, startDate);
+
+        if (cursor != null) {
+            DiarySlice slice = diaryService.getDiarySlice(userId, condition, cursor, size);
+            List<DiaryInfo> diaries = slice.diaries().stream().map(DiaryInfo::from).toList();
+            BaseResponse<DiaryListResponse> response =
+                    new BaseResponse<>(true, DiaryListResponse.ofCursor(diaries, slice.nextCursor()));
+
+            log.info("감정 일기 목록 조회 응답(커서): 일기 수 {}, 다음 커서 {}", diaries.size(), slice.nextCursor());
+            return ResponseEntity.ok(response);
+        }
+
+        Page<Diary> diaryPage = diaryService.getDiaryPage(userId, condition, page, size);
+        List<DiaryInfo> diaries = diaryPage.getContent().stream().map(DiaryInfo::from).toList();
+
+        PaginationInfo pagination = new PaginationInfo(
+                diaryPage.getNumber() + 1,      // currentPage
+                diaryPage.getTotalPages(),      // totalPages
+                diaryPage.getTotalElements(),   // totalCount
+                diaryPage.hasNext(),            // hasNext
+                diaryPage.hasPrevious()         // hasPrevious
         );
 
-        PaginationInfo mockPagination = new PaginationInfo(
-                page,           // currentPage
-                5,              // totalPages
-                98L,            // totalCount
-                page < 5,       // hasNext
-                page > 1        // hasPrevious
+        BaseResponse<DiaryListResponse> response =
+                new BaseResponse<>(true, DiaryListResponse.ofPage(diaries, pagination));
+
+        log.info("감정 일기 목록 조회 응답: 일기 수 {}, 페이지 {}/{}",
+                diaries.size(), pagination.currentPage(), pagination.totalPages());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 감정 일기 본문 검색(페이징)
+     * */
+    @GetMapping("/search")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "감정 일기 검색 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = DiaryListResponse.class),
+                            examples = @ExampleObject(
+                                    name = "감정 일기 검색 성공",
+                                    summary = "감정 일기 검색 성공 응답 (관련도순)",
+                                    value = """
+                                    {
+                                      "success": true,
+                                      "data": {
+                                        "diaries": [
+                                          {
+                                            "id": 12344,
+                                            "emotionType": "calm",
+                                            "content": "조용한 카페에서 책을 읽으며 평온한 시간을 보냈다.",
+                                            "diaryDate": "2025-01-03",
+                                            "createdAt": "2025-01-03T21:15:00Z",
+                                            "updatedAt": "2025-01-03T21:15:00Z"
+                                          }
+                                        ],
+                                        "pagination": {
+                                          "currentPage": 1,
+                                          "totalPages": 1,
+                                          "totalCount": 1,
+                                          "hasNext": false,
+                                          "hasPrevious": false
+                                        },
+                                        "nextCursor": null
+                                      }
+                                    }
+                                    """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (검색어 누락 또는 100자 초과)",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @Parameters({
+            @Parameter(name = "q", description = "검색어", example = "카페"),
+            @Parameter(name = "page", description = "페이지 번호 (1부터 시작)", example = "1"),
+            @Parameter(name = "size", description = "페이지 크기", example = "20"),
+            @Parameter(name = "emotionType", description = "감정 타입 필터", example = "calm"),
+            @Parameter(name = "startDate", description = "조회 시작 날짜", example = "2025-01-01")
+    })
+    @Operation(
+            summary = "감정 일기 검색",
+            description = "인증된 사용자의 감정 일기 본문을 검색합니다. 관련도순으로 정렬되며 감정 타입과 날짜로 필터링 가능합니다."
+    )
+    public ResponseEntity<BaseResponse<DiaryListResponse>> searchDiaries(
+            @Parameter(hidden = true) @CurrentUserId Long userId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String emotionType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate
+    ) {
+        log.info("감정 일기 검색 요청 - 검색어 길이: {}, 페이지: {}, 크기: {}, 감정: {}, 시작날짜: {}",
+                q.length(), page, size, emotionType, startDate);
+
+        Page<Diary> diaryPage = diarySearchService.search(
+                userId, q, new DiarySearchCondition(emotionType, startDate), page, size);
+        List<DiaryInfo> diaries = diaryPage.getContent().stream().map(DiaryInfo::from).toList();
+
+        PaginationInfo pagination = new PaginationInfo(
+                diaryPage.getNumber() + 1,      // currentPage
+                diaryPage.getTotalPages(),      // totalPages
+                diaryPage.getTotalElements(),   // totalCount
+                diaryPage.hasNext(),            // hasNext
+                diaryPage.hasPrevious()         // hasPrevious
         );
 
-        DiaryListResponse mockResponse = new DiaryListResponse(mockDiaries, mockPagination);
-        BaseResponse<DiaryListResponse> response = new BaseResponse<>(true, mockResponse);
+        BaseResponse<DiaryListResponse> response =
+                new BaseResponse<>(true, DiaryListResponse.ofPage(diaries, pagination));
 
-        log.info("감정 일기 목록 조회 응답: 일기 수 {}, 페이지 {}/{}",
-                mockDiaries.size(), page, mockPagination.totalPages());
+        log.info("감정 일기 검색 응답: 일기 수 {}, 전체 {}", diaries.size(), pagination.totalCount());
         return ResponseEntity.ok(response);
     }
 
+    // 감정 일기 내보내기 (NDJSON)
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "감정 일기 내보내기 성공 - 한 줄에 일기 1건",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            examples = @ExampleObject(
+                                    name = "감정 일기 내보내기 성공",
+                                    value = """
+                                {"id":12345,"emotionType":"happy","content":"오늘은 정말 좋은 하루였다.","diaryDate":"2025-01-04","createdAt":"2025-01-04T22:30:00","updatedAt":"2025-01-04T22:30:00"}
+                                {"id":12346,"emotionType":"calm","content":"조용한 하루.","diaryDate":"2025-01-05","createdAt":"2025-01-05T21:10:00","updatedAt":"2025-01-05T21:10:00"}
+                                """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @Operation(
+            summary = "감정 일기 내보내기",
+            description = "인증된 사용자의 모든 감정 일기를 날짜 오름차순의 NDJSON 으로 스트리밍합니다."
+    )
+    public ResponseEntity<StreamingResponseBody> exportDiaries(@Parameter(hidden = true) @CurrentUserId Long userId) {
+        log.info("감정 일기 내보내기 요청");
+
+        StreamingResponseBody body = outputStream -> diaryTransferService.exportDiaries(userId, outputStream);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"diaries.ndjson\"")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // 감정 일기 가져오기 (NDJSON)
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "감정 일기 가져오기 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = DiaryImportResponse.class),
+                            examples = @ExampleObject(
+                                    name = "감정 일기 가져오기 성공",
+                                    value = """
+                                {
+                                  "success": true,
+                                  "data": {
+                                    "importedCount": 365
+                                  }
+                                }
+                                """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "형식이 올바르지 않은 줄이 포함됨 - 그 앞 줄까지만 저장됨 (메시지에 저장 건수 포함)",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @Operation(
+            summary = "감정 일기 가져오기",
+            description = "내보내기 형식(NDJSON)의 감정 일기를 일괄 저장합니다. id 와 생성/수정일시는 새로 발급됩니다."
+    )
+    public ResponseEntity<BaseResponse<DiaryImportResponse>> importDiaries(
+            @Parameter(hidden = true) @CurrentUserId Long userId,
+            InputStream inputStream
+    ) throws IOException {
+        log.info("감정 일기 가져오기 요청");
+
+        int importedCount = diaryTransferService.importDiaries(userId, inputStream);
+        BaseResponse<DiaryImportResponse> response = new BaseResponse<>(true, new DiaryImportResponse(importedCount));
+
+        log.info("감정 일기 가져오기 응답 - 건수: {}", importedCount);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     // 특정 감정 일기 조회
     @GetMapping("/{id}")
     @ApiResponses(value = {
@@ -239,6 +440,10 @@ public class DiaryController {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "If-None-Match 의 ETag 와 같음 - 변경 없음 (본문 없음)"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "일기를 찾을 수 없음",
@@ -253,25 +458,32 @@ public class DiaryController {
     @Parameter(name = "id", description = "일기 ID", example = "12345")
     @Operation(
             summary = "특정 감정 일기 조회",
-            description = "인증된 사용자의 특정 감정 일기를 조회합니다."
+            description = "인증된 사용자의 특정 감정 일기를 조회합니다. If-None-Match 가 현재 ETag 와 같으면 304 로 응답합니다."
     )
-    public ResponseEntity<BaseResponse<DiaryInfo>> getDiary(@PathVariable("id") Long id) {
+    public ResponseEntity<BaseResponse<DiaryInfo>> getDiary(
+            @Parameter(hidden = true) @CurrentUserId Long userId,
+            @PathVariable("id") Long id,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @Parameter(hidden = true) WebRequest webRequest
+    ) {
         log.info("특정 감정 일기 조회 요청 - ID: {}", id);
 
-        // Mock 데이터 생성
-        DiaryInfo mockResponse = new DiaryInfo(
-                id,  // 요청받은 ID 그대로 사용
-                "happy",
-                "오늘은 정말 좋은 하루였다. 친구들과 맛있는 음식도 먹고 영화도 봤다.",
-                "2025-01-04",
-                "2025-01-04T22:30:00Z",
-                "2025-01-04T22:30:00Z"
-        );
+        // 조건부 요청이면 버전 컬럼만 읽어 먼저 비교한다 (변경 없으면 본문을 읽지 않음)
+        if (ifNoneMatch != null
+                && webRequest.checkNotModified(DiaryETags.diary(id, diaryService.getDiaryVersion(userId, id)))) {
+            log.info("특정 감정 일기 조회 응답 - ID: {}, 변경 없음(304)", id);
+            return null;
+        }
 
-        BaseResponse<DiaryInfo> response = new BaseResponse<>(true, mockResponse);
+        Diary diary = diaryService.getDiary(userId, id);
+        DiaryInfo diaryInfo = DiaryInfo.from(diary);
 
-        log.info("특정 감정 일기 조회 응답 - ID: {}, 감정: {}", id, mockResponse.emotionType());
-        return ResponseEntity.ok(response);
+        BaseResponse<DiaryInfo> response = new BaseResponse<>(true, diaryInfo);
+
+        log.info("특정 감정 일기 조회 응답 - ID: {}, 감정: {}", id, diaryInfo.emotionType());
+        return ResponseEntity.ok()
+                .eTag(DiaryETags.diary(diary.getId(), diary.getVersion()))
+                .body(response);
     }
 
     /**
@@ -315,6 +527,11 @@ public class DiaryController {
                     description = "잘못된 요청 (필수값 누락, 유효성 검증 실패)",
                     content = @Content(mediaType = "application/json")
             ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match 의 ETag 가 현재 일기 버전과 다름 (다른 곳에서 먼저 수정됨)",
+                    content = @Content(mediaType = "application/json")
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "인증 실패",
@@ -324,29 +541,29 @@ public class DiaryController {
     @Parameter(name = "id", description = "수정할 일기 ID", example = "12345")
     @Operation(
             summary = "감정 일기 수정",
-            description = "인증된 사용자의 특정 감정 일기를 수정합니다. 감정 타입과 일기 내용이 필요합니다."
+            description = "인증된 사용자의 특정 감정 일기를 수정합니다. 감정 타입과 일기 내용이 필요합니다. "
+                    + "If-Match 로 조회 시 받은 ETag 를 보내면 그사이 수정된 경우 412 로 거절합니다."
     )
     public ResponseEntity<BaseResponse<DiaryInfo>> updateDiary(
+            @Parameter(hidden = true) @CurrentUserId Long userId,
             @PathVariable("id") Long id,
-            @RequestBody @Valid DiaryUpdateRequest request
+            @RequestBody @Valid DiaryUpdateRequest request,
+            @Parameter(description = "조회 시 받은 ETag (선택)", example = "\"d12345-3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
         log.info("감정 일기 수정 요청 - ID: {}, 감정: {}, 내용 길이: {}",
                 id, request.emotionType(), request.content().length());
 
-        // Mock 데이터 생성 (수정된 내용 반영)
-        DiaryInfo mockResponse = new DiaryInfo(
-                id,  // 요청받은 ID 그대로 사용
-                request.emotionType(),  // 수정된 감정 타입
-                request.content(),      // 수정된 내용
-                "2025-01-04",          // 일기 날짜는 변경되지 않음
-                "2025-01-04T22:30:00Z", // 생성일시는 변경되지 않음
-                "2025-01-04T23:15:00Z"  // 수정일시는 현재 시간으로 업데이트
-        );
+        Diary diary = diaryService.updateDiary(userId, id, request.emotionType(), request.content(),
+                DiaryETags.expectedVersion(ifMatch, id));
+        DiaryInfo diaryInfo = DiaryInfo.from(diary);
 
-        BaseResponse<DiaryInfo> response = new BaseResponse<>(true, mockResponse);
+        BaseResponse<DiaryInfo> response = new BaseResponse<>(true, diaryInfo);
 
-        log.info("감정 일기 수정 응답 - ID: {}, 새로운 감정: {}", id, mockResponse.emotionType());
-        return ResponseEntity.ok(response);
+        log.info("감정 일기 수정 응답 - ID: {}, 새로운 감정: {}", id, diaryInfo.emotionType());
+        return ResponseEntity.ok()
+                .eTag(DiaryETags.diary(diary.getId(), diary.getVersion()))
+                .body(response);
     }
 
     // 감정 일기 삭제
@@ -387,11 +604,13 @@ public class DiaryController {
             description = "인증된 사용자의 특정 감정 일기를 삭제합니다."
     )
     public ResponseEntity<BaseResponse<String>> deleteDiary(
+            @Parameter(hidden = true) @CurrentUserId Long userId,
             @PathVariable("id") Long id
     ) {
         log.info("감정 일기 삭제 요청 - ID: {}", id);
 
-        // Mock 응답 - 삭제 성공 메시지 반환
+        diaryService.deleteDiary(userId, id);
+
         BaseResponse<String> response = new BaseResponse<>(true, "일기가 삭제되었습니다");
 
         log.info("감정 일기 삭제 응답 - ID: {} 삭제 완료", id);
@@ -400,13 +619,14 @@ public class DiaryController {
 
     /**
      * 감정 일기 캘린더 조회
+     * format=compact 또는 Accept: application/vnd.momo.calendar.compact+json 이면 압축 포맷으로 응답한다.
      * */
     @GetMapping("/calendar")
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
                     description = "캘린더 형태 일기 조회 성공",
-                    content = @Content(
+                    content = {@Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = DiaryCalendarResponse.class),
                             examples = @ExampleObject(
@@ -436,7 +656,31 @@ public class DiaryController {
                                 }
                                 """
                             )
-                    )
+                    ), @Content(
+                            mediaType = DiaryCalendarCompactResponse.MEDIA_TYPE,
+                            schema = @Schema(implementation = DiaryCalendarCompactResponse.class),
+                            examples = @ExampleObject(
+                                    name = "캘린더 형태 일기 조회 성공 (압축 포맷)",
+                                    summary = "format=compact 응답",
+                                    value = """
+                                {
+                                  "success": true,
+                                  "data": {
+                                    "year": 2025,
+                                    "month": 1,
+                                    "days": [[12345, 1], null, [12346, 7], [12347, 3], null],
+                                    "emotions": {"1": "happy", "2": "excited", "3": "calm", "4": "neutral",
+                                                 "5": "tired", "6": "anxious", "7": "sad", "8": "angry"},
+                                    "emotionsVersion": 1
+                                  }
+                                }
+                                """
+                            )
+                    )}
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "If-None-Match 의 ETag 와 같음 - 변경 없음 (본문 없음)"
             ),
             @ApiResponse(
                     responseCode = "400",
@@ -451,36 +695,60 @@ public class DiaryController {
     })
     @Parameters({
             @Parameter(name = "year", description = "조회할 년도", example = "2025"),
-            @Parameter(name = "month", description = "조회할 월 (1-12)", example = "1")
+            @Parameter(name = "month", description = "조회할 월 (1-12)", example = "1"),
+            @Parameter(name = "format", description = "응답 포맷 (compact 이면 압축 포맷)", example = "compact")
     })
     @Operation(
             summary = "캘린더 형태로 일기 조회",
             description = "인증된 사용자의 특정 년월에 작성된 일기를 캘린더 형태로 조회합니다."
     )
-    public ResponseEntity<BaseResponse<DiaryCalendarResponse>> getDiaryCalendar(
+    public ResponseEntity<? extends BaseResponse<?>> getDiaryCalendar(
+            @Parameter(hidden = true) @CurrentUserId Long userId,
             @RequestParam int year,
-            @RequestParam int month
+            @RequestParam int month,
+            @RequestParam(required = false) String format,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @Parameter(hidden = true) WebRequest webRequest
     ) {
-        log.info("캘린더 형태 일기 조회 요청 - 년도: {}, 월: {}", year, month);
+        log.info("캘린더 형태 일기 조회 요청 - 년도: {}, 월: {}, 포맷: {}", year, month, format);
 
-        // Mock 데이터 생성 - 해당 월의 일기 데이터
-        Map<String, DiaryCalendarResponse.CalendarDayInfo> mockCalendar = Map.of(
-                "2025-01-01", new DiaryCalendarResponse.CalendarDayInfo(12345L, "happy"),
-                "2025-01-03", new DiaryCalendarResponse.CalendarDayInfo(12346L, "sad"),
-                "2025-01-04", new DiaryCalendarResponse.CalendarDayInfo(12347L, "calm")
-        );
+        if (month < 1 || month > 12) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "조회할 월은 1-12 사이여야 합니다.");
+        }
 
-        DiaryCalendarResponse mockResponse = new DiaryCalendarResponse(
-                year,
-                month,
-                mockCalendar
-        );
+        DiaryCalendarSnapshot snapshot = diaryCalendarService.getCalendar(userId, YearMonth.of(year, month));
+
+        boolean compact = isCompactFormat(format, accept);
+        // 스냅샷은 대부분 캐시에서 오므로 ETag 비교만으로 DB 조회와 응답 본문을 모두 아낀다
+        String eTag = DiaryETags.calendar(snapshot, compact);
+        if (webRequest.checkNotModified(eTag)) {
+            log.info("캘린더 형태 일기 조회 응답 - 년도: {}, 월: {}, 변경 없음(304)", year, month);
+            return null;
+        }
+
+        if (compact) {
+            BaseResponse<DiaryCalendarCompactResponse> response =
+                    new BaseResponse<>(true, DiaryCalendarCompactResponse.from(snapshot));
+
+            log.info("캘린더 형태 일기 조회 응답(압축) - 년도: {}, 월: {}, 일기 수: {}",
+                    year, month, snapshot.days().count());
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(DiaryCalendarCompactResponse.MEDIA_TYPE))
+                    .eTag(eTag)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(response);
+        }
 
-        BaseResponse<DiaryCalendarResponse> response = new BaseResponse<>(true, mockResponse);
+        DiaryCalendarResponse calendarResponse = DiaryCalendarResponse.from(snapshot);
+
+        BaseResponse<DiaryCalendarResponse> response = new BaseResponse<>(true, calendarResponse);
 
         log.info("캘린더 형태 일기 조회 응답 - 년도: {}, 월: {}, 일기 수: {}",
-                year, month, mockCalendar.size());
-        return ResponseEntity.ok(response);
+                year, month, calendarResponse.calendar().size());
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(response);
     }
 
     // 오늘 일기 조회
@@ -511,6 +779,10 @@ public class DiaryController {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "If-None-Match 의 ETag 와 같음 - 변경 없음 (본문 없음)"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "오늘 작성된 일기를 찾을 수 없음",
@@ -526,22 +798,32 @@ public class DiaryController {
             summary = "오늘 일기 조회",
             description = "인증된 사용자의 오늘 작성된 일기를 조회합니다."
     )
-    public ResponseEntity<BaseResponse<DiaryInfo>> getTodayDiary() {
+    public ResponseEntity<BaseResponse<DiaryInfo>> getTodayDiary(
+            @Parameter(hidden = true) @CurrentUserId Long userId,
+            @Parameter(hidden = true) WebRequest webRequest
+    ) {
         log.info("오늘 일기 조회 요청");
 
-        // Mock 데이터 생성 - 오늘 일기
-        DiaryInfo mockResponse = new DiaryInfo(
-                12345L,
-                "happy",
-                "오늘은 정말 좋은 하루였다.",
-                "2025-01-04",  // 오늘 날짜
-                "2025-01-04T22:30:00Z",
-                "2025-01-04T22:30:00Z"
-        );
+        DiarySnapshot snapshot = diaryService.getTodayDiary(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.DIARY_NOT_FOUND, "오늘 작성된 일기를 찾을 수 없습니다."));
 
-        BaseResponse<DiaryInfo> response = new BaseResponse<>(true, mockResponse);
+        String eTag = DiaryETags.diary(snapshot.id(), snapshot.version());
+        if (webRequest.checkNotModified(eTag)) {
+            log.info("오늘 일기 조회 응답 - ID: {}, 변경 없음(304)", snapshot.id());
+            return null;
+        }
 
-        log.info("오늘 일기 조회 응답 - ID: {}, 감정: {}", mockResponse.id(), mockResponse.emotionType());
-        return ResponseEntity.ok(response);
+        DiaryInfo diaryInfo = DiaryInfo.from(snapshot);
+        BaseResponse<DiaryInfo> response = new BaseResponse<>(true, diaryInfo);
+
+        log.info("오늘 일기 조회 응답 - ID: {}, 감정: {}", diaryInfo.id(), diaryInfo.emotionType());
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(response);
+    }
+
+    private boolean isCompactFormat(String format, String accept) {
+        return DiaryCalendarCompactResponse.FORMAT.equalsIgnoreCase(format)
+                || (accept != null && accept.contains(DiaryCalendarCompactResponse.MEDIA_TYPE));
     }
 }
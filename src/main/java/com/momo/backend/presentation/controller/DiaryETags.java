@@ -0,0 +1,52 @@
+package com.momo.backend.presentation.controller;
+
+import com.momo.backend.application.diary.calendar.DiaryCalendarSnapshot;
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import com.momo.backend.domain.diary.entity.DiaryCalendarMonth;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 일기 응답 ETag 생성/해석
+ * 일기: "d{id}-{version}" (행 버전)
+ * 캘린더: "c{yyyyMM}-{days 해시}[-compact]" - 프로젝션 행은 재구성 시 지우고 다시 만들어 버전이 되돌아갈 수 있으므로 내용 해시를 쓴다.
+ * */
+final class DiaryETags {
+
+    private static final String ANY = "*";
+
+    private DiaryETags() {
+    }
+
+    static String diary(Long id, Long version) {
+        return "\"d" + id + "-" + version + "\"";
+    }
+
+    static String calendar(DiaryCalendarSnapshot snapshot, boolean compact) {
+        String hash = DigestUtils.md5DigestAsHex(snapshot.days().encode());
+        return "\"c" + DiaryCalendarMonth.toKey(snapshot.yearMonth()) + "-" + hash + (compact ? "-compact" : "") + "\"";
+    }
+
+    /**
+     * If-Match 헤더에서 해당 일기의 버전을 꺼낸다.
+     * @return 헤더가 없거나 "*" 이면 null (버전 검사 생략)
+     * */
+    static Long expectedVersion(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String prefix = "\"d" + id + "-";
+        for (String tag : ifMatch.split(",")) {
+            String trimmed = tag.trim();
+            // If-Match 는 강한 비교만 허용하므로 약한 ETag(W/)는 일치하지 않는 것으로 본다
+            if (trimmed.startsWith(prefix) && trimmed.endsWith("\"") && trimmed.length() > prefix.length() + 1) {
+                try {
+                    return Long.parseLong(trimmed.substring(prefix.length(), trimmed.length() - 1));
+                } catch (NumberFormatException ignored) {
+                    // 다음 태그 확인
+                }
+            }
+        }
+        throw new BusinessException(ErrorCode.DIARY_VERSION_MISMATCH);
+    }
+}
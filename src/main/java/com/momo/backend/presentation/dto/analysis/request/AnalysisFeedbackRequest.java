@@ -3,6 +3,7 @@ package com.momo.backend.presentation.dto.analysis.request;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 @Schema(description = "분석 결과 피드백 제출 요청")
 public record AnalysisFeedbackRequest(
@@ -16,6 +17,7 @@ public record AnalysisFeedbackRequest(
         String feedbackType,
 
         @Schema(description = "피드백 코멘트", example = "분석이 정확해요. 실제로 우울한 기분이었거든요.")
+        @Size(max = 500, message = "피드백 코멘트는 500자 이하로 입력해주세요.")
         String comment
 ) {
 }
\ No newline at end of file
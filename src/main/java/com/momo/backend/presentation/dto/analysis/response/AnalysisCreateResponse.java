@@ -1,7 +1,12 @@
 package com.momo.backend.presentation.dto.analysis.response;
 
+import com.momo.backend.application.analysis.AnalysisCreation;
+import com.momo.backend.application.analysis.AnalysisSnapshot;
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.time.Duration;
+
 @Schema(description = "AI 감정 분석 생성 응답")
 public record AnalysisCreateResponse(
         @Schema(description = "분석 ID", example = "67890")
@@ -25,8 +30,42 @@ public record AnalysisCreateResponse(
         @Schema(description = "안내 메시지", example = "AI가 감정을 분석 중입니다...")
         String message,
 
+        @Schema(description = "예비 감정 결과 (이미 완료된 분석을 재사용한 경우 null)")
+        PreliminaryResult preliminaryResult,
+
         @Schema(description = "생성일시", example = "2025-01-07T15:30:00Z")
         String createdAt
 ) {
+    public static AnalysisCreateResponse from(AnalysisCreation creation) {
+        AnalysisSnapshot analysis = creation.analysis();
+        return new AnalysisCreateResponse(
+                analysis.id(),
+                analysis.analysisType().getValue(),
+                analysis.status().getValue(),
+                AnalyzedPeriod.from(analysis.period()),
+                analysis.diaryCount(),
+                formatDuration(creation.estimatedTime()),
+                messageOf(analysis.status()),
+                creation.preliminary() != null ? PreliminaryResult.from(creation.preliminary()) : null,
+                analysis.createdAt().toString()
+        );
+    }
+
+    private static String messageOf(AnalysisStatus status) {
+        return switch (status) {
+            case PROCESSING -> "AI가 감정을 분석 중입니다...";
+            case COMPLETED -> "감정 분석이 완료되었습니다.";
+            case FAILED -> "감정 분석에 실패했습니다. 다시 시도해주세요.";
+        };
+    }
 
+    // 예: 30초, 1분 30초
+    private static String formatDuration(Duration duration) {
+        long seconds = Math.max(duration.toSeconds(), 0);
+        if (seconds < 60) {
+            return seconds + "초";
+        }
+        long remainder = seconds % 60;
+        return remainder == 0 ? (seconds / 60) + "분" : (seconds / 60) + "분 " + remainder + "초";
+    }
 }
\ No newline at end of file
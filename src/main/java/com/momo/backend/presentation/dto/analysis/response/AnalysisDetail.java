@@ -1,5 +1,6 @@
 package com.momo.backend.presentation.dto.analysis.response;
 
+import com.momo.backend.application.analysis.AnalysisSnapshot;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 
@@ -32,4 +33,19 @@ public record AnalysisDetail(
         @Schema(description = "완료일시", example = "2025-01-07T15:30:45Z")
         String completedAt
 ) {
+    public static AnalysisDetail from(AnalysisSnapshot analysis) {
+        return new AnalysisDetail(
+                analysis.id(),
+                analysis.analysisType().getValue(),
+                analysis.status().getValue(),
+                AnalyzedPeriod.from(analysis.period()),
+                analysis.diaryCount(),
+                analysis.result() != null ? EmotionDetail.from(analysis.result()) : null,
+                analysis.result() != null
+                        ? analysis.result().recommendations().stream().map(Recommendation::from).toList()
+                        : List.of(),
+                analysis.createdAt().toString(),
+                analysis.completedAt() != null ? analysis.completedAt().toString() : null
+        );
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.momo.backend.presentation.dto.analysis.response;
 
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import com.momo.backend.domain.analysis.repository.AnalysisListRow;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "분석 목록 항목 (목록용)")
@@ -28,4 +30,19 @@ public record AnalysisListItem(
         @Schema(description = "완료일시 (완료된 경우만)", example = "2025-01-07T15:30:45Z")
         String completedAt
 ) {
+    public static AnalysisListItem from(AnalysisListRow row) {
+        EmotionSummary summary = row.status() == AnalysisStatus.COMPLETED
+                ? new EmotionSummary(row.overallMood(), row.moodScore(), row.riskLevel())
+                : null;
+        return new AnalysisListItem(
+                row.id(),
+                row.analysisType().getValue(),
+                row.status().getValue(),
+                AnalyzedPeriod.from(row.period()),
+                row.diaryCount(),
+                summary,
+                row.createdAt().toString(),
+                row.completedAt() != null ? row.completedAt().toString() : null
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.momo.backend.presentation.dto.analysis.response;
+
+import com.momo.backend.application.analysis.AnalysisSnapshot;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "분석 진행 SSE status 이벤트")
+public record AnalysisStatusEvent(
+        @Schema(description = "분석 ID", example = "67890")
+        Long analysisId,
+
+        @Schema(description = "분석 상태", example = "processing", allowableValues = {"processing", "completed", "failed"})
+        String status
+) {
+    public static AnalysisStatusEvent from(AnalysisSnapshot analysis) {
+        return new AnalysisStatusEvent(analysis.id(), analysis.status().getValue());
+    }
+}
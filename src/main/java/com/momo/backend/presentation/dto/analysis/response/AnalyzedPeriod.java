@@ -1,5 +1,6 @@
 package com.momo.backend.presentation.dto.analysis.response;
 
+import com.momo.backend.domain.analysis.entity.AnalysisPeriod;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "분석 대상 기간")
@@ -10,4 +11,7 @@ public record AnalyzedPeriod(
         @Schema(description = "종료 날짜", example = "2025-01-07")
         String endDate
 ) {
+    public static AnalyzedPeriod from(AnalysisPeriod period) {
+        return new AnalyzedPeriod(period.startDate().toString(), period.endDate().toString());
+    }
 }
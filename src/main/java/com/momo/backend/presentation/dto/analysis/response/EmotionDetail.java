@@ -1,5 +1,6 @@
 package com.momo.backend.presentation.dto.analysis.response;
 
+import com.momo.backend.domain.analysis.entity.AnalysisResult;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 
@@ -20,4 +21,13 @@ public record EmotionDetail(
         @Schema(description = "분석 요약", example = "지난 주 동안 다소 우울한 기분이 지속되었습니다...")
         String summary
 ) {
+    public static EmotionDetail from(AnalysisResult result) {
+        return new EmotionDetail(
+                result.overallMood(),
+                result.moodScore(),
+                result.dominantEmotions(),
+                result.riskLevel(),
+                result.summary()
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.momo.backend.presentation.dto.analysis.response;
+
+import com.momo.backend.application.analysis.feedback.FeedbackAccuracy;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "피드백 타입/모델 버전별 분석 정확도")
+public record FeedbackAccuracyItem(
+        @Schema(description = "피드백 타입", example = "emotion_analysis")
+        String feedbackType,
+
+        @Schema(description = "분석 모델 버전", example = "stub-1")
+        String modelVersion,
+
+        @Schema(description = "정확하다는 피드백 수", example = "42")
+        long accurateCount,
+
+        @Schema(description = "부정확하다는 피드백 수", example = "8")
+        long inaccurateCount,
+
+        @Schema(description = "정확도 (0-1)", example = "0.84")
+        double accuracy
+) {
+    public static FeedbackAccuracyItem from(FeedbackAccuracy accuracy) {
+        return new FeedbackAccuracyItem(
+                accuracy.feedbackType().getValue(),
+                accuracy.modelVersion(),
+                accuracy.accurateCount(),
+                accuracy.inaccurateCount(),
+                Math.round(accuracy.accuracy() * 1000) / 1000.0
+        );
+    }
+}
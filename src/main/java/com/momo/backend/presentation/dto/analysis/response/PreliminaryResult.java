@@ -0,0 +1,19 @@
+package com.momo.backend.presentation.dto.analysis.response;
+
+import com.momo.backend.application.analysis.lexicon.PreliminaryEmotion;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "예비 감정 결과 (AI 분석 완료 전 어휘 사전 기반 추정)")
+public record PreliminaryResult(
+        @Schema(description = "예비 기분 점수 (1-10)", example = "6.8")
+        double moodScore,
+
+        @Schema(description = "예비 주요 감정", example = "[\"joy\", \"fatigue\"]")
+        List<String> dominantEmotions
+) {
+    public static PreliminaryResult from(PreliminaryEmotion preliminary) {
+        return new PreliminaryResult(preliminary.moodScore(), preliminary.dominantEmotions());
+    }
+}
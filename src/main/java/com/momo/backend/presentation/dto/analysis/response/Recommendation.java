@@ -1,5 +1,6 @@
 package com.momo.backend.presentation.dto.analysis.response;
 
+import com.momo.backend.domain.analysis.entity.AnalysisRecommendation;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "AI 추천사항")
@@ -19,4 +20,13 @@ public record Recommendation(
         @Schema(description = "우선순위", example = "high", allowableValues = {"low", "medium", "high"})
         String priority
 ) {
+    public static Recommendation from(AnalysisRecommendation recommendation) {
+        return new Recommendation(
+                recommendation.getType(),
+                recommendation.getTitle(),
+                recommendation.getDescription(),
+                recommendation.getDuration(),
+                recommendation.getPriority()
+        );
+    }
 }
\ No newline at end of file
@@ -5,7 +5,8 @@ import jakarta.validation.constraints.NotBlank;
 
 @Schema(description = "감정 일기 작성 요청")
 public record DiaryCreateRequest(
-        @Schema(description = "감정 타입", example = "happy")
+        @Schema(description = "감정 타입", example = "happy",
+                allowableValues = {"happy", "excited", "calm", "neutral", "tired", "anxious", "sad", "angry"})
         @NotBlank(message = "감정 타입은 필수입니다.")
         String emotionType,
 
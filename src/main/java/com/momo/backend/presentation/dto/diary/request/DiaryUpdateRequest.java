@@ -5,7 +5,8 @@ import jakarta.validation.constraints.NotBlank;
 
 @Schema(description = "감정 일기 수정 요청")
 public record DiaryUpdateRequest(
-        @Schema(description = "감정 타입", example = "calm")
+        @Schema(description = "감정 타입", example = "calm",
+                allowableValues = {"happy", "excited", "calm", "neutral", "tired", "anxious", "sad", "angry"})
         @NotBlank(message = "감정 타입은 필수입니다.")
         String emotionType,
 
@@ -0,0 +1,62 @@
+package com.momo.backend.presentation.dto.diary.response;
+
+import com.momo.backend.application.diary.calendar.DiaryCalendarSnapshot;
+import com.momo.backend.domain.diary.entity.CalendarMonthDays;
+import com.momo.backend.domain.diary.entity.EmotionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캘린더 압축 응답
+ * 날짜 문자열 키 대신 (일 - 1) 인덱스 배열에 [일기 ID, 감정 코드] 를 담고,
+ * 감정 코드 -> 감정 타입 사전을 함께 내려 클라이언트가 캐시해 둘 수 있게 한다.
+ * */
+@Schema(description = "캘린더 형태 일기 조회 응답 (압축 포맷)")
+public record DiaryCalendarCompactResponse(
+        @Schema(description = "조회 년도", example = "2025")
+        int year,
+
+        @Schema(description = "조회 월", example = "1")
+        int month,
+
+        @Schema(description = "일자별 [일기 ID, 감정 코드] 배열 (index 0 = 1일, 일기가 없는 날은 null)",
+                example = "[[12345, 1], null, [12346, 7], [12347, 3]]")
+        long[][] days,
+
+        @Schema(description = "감정 코드 사전 (코드 -> 감정 타입)", example = "{\"1\": \"happy\", \"3\": \"calm\", \"7\": \"sad\"}")
+        Map<Integer, String> emotions,
+
+        @Schema(description = "감정 코드 사전 버전 (값이 같으면 캐시한 사전을 그대로 사용)", example = "1")
+        int emotionsVersion
+) {
+    public static final String MEDIA_TYPE = "application/vnd.momo.calendar.compact+json";
+    public static final String FORMAT = "compact";
+
+    // 감정 코드가 추가·변경되면 올린다
+    private static final int EMOTIONS_VERSION = 1;
+    private static final Map<Integer, String> EMOTIONS = createEmotionDictionary();
+
+    public static DiaryCalendarCompactResponse from(DiaryCalendarSnapshot snapshot) {
+        YearMonth yearMonth = snapshot.yearMonth();
+        CalendarMonthDays days = snapshot.days();
+
+        long[][] compactDays = new long[yearMonth.lengthOfMonth()][];
+        for (int day = 1; day <= compactDays.length; day++) {
+            if (days.has(day)) {
+                compactDays[day - 1] = new long[]{days.diaryIdAt(day), days.emotionCodeAt(day)};
+            }
+        }
+        return new DiaryCalendarCompactResponse(
+                yearMonth.getYear(), yearMonth.getMonthValue(), compactDays, EMOTIONS, EMOTIONS_VERSION);
+    }
+
+    private static Map<Integer, String> createEmotionDictionary() {
+        Map<Integer, String> emotions = new LinkedHashMap<>();
+        Arrays.stream(EmotionType.values()).forEach(type -> emotions.put((int) type.getCode(), type.getValue()));
+        return Collections.unmodifiableMap(emotions);
+    }
+}
@@ -1,6 +1,11 @@
 package com.momo.backend.presentation.dto.diary.response;
 
+import com.momo.backend.application.diary.calendar.DiaryCalendarSnapshot;
+import com.momo.backend.domain.diary.entity.CalendarMonthDays;
+import com.momo.backend.domain.diary.entity.EmotionType;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Schema(description = "캘린더 형태 일기 조회 응답")
@@ -22,4 +27,20 @@ public record DiaryCalendarResponse(
             @Schema(description = "감정 타입", example = "happy")
             String emotionType
     ) {}
-}
\ No newline at end of file
+
+    public static DiaryCalendarResponse from(DiaryCalendarSnapshot snapshot) {
+        YearMonth yearMonth = snapshot.yearMonth();
+        CalendarMonthDays days = snapshot.days();
+
+        Map<String, CalendarDayInfo> calendar = new LinkedHashMap<>();
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            if (days.has(day)) {
+                calendar.put(
+                        yearMonth.atDay(day).toString(),
+                        new CalendarDayInfo(days.diaryIdAt(day), EmotionType.fromCode(days.emotionCodeAt(day)).getValue())
+                );
+            }
+        }
+        return new DiaryCalendarResponse(yearMonth.getYear(), yearMonth.getMonthValue(), calendar);
+    }
+}
@@ -1,5 +1,6 @@
 package com.momo.backend.presentation.dto.diary.response;
 
+import com.momo.backend.domain.diary.entity.Diary;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -24,4 +25,14 @@ public record DiaryCreateResponse(
         @Schema(description = "수정일시", example = "2025-01-04T22:30:00Z")
         LocalDateTime updatedAt
 ) {
+    public static DiaryCreateResponse from(Diary diary) {
+        return new DiaryCreateResponse(
+                diary.getId(),
+                diary.getEmotionType(),
+                diary.getContent(),
+                diary.getDiaryDate(),
+                diary.getCreatedAt(),
+                diary.getUpdatedAt()
+        );
+    }
 }
@@ -0,0 +1,10 @@
+package com.momo.backend.presentation.dto.diary.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "감정 일기 가져오기 응답")
+public record DiaryImportResponse(
+        @Schema(description = "가져온 일기 수", example = "365")
+        int importedCount
+) {
+}
@@ -1,5 +1,7 @@
 package com.momo.backend.presentation.dto.diary.response;
 
+import com.momo.backend.application.diary.DiarySnapshot;
+import com.momo.backend.domain.diary.entity.Diary;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "일기 정보")
@@ -22,4 +24,25 @@ public record DiaryInfo(
         @Schema(description = "수정일시", example = "2025-01-04T22:30:00Z")
         String updatedAt
 ) {
-}
\ No newline at end of file
+    public static DiaryInfo from(Diary diary) {
+        return new DiaryInfo(
+                diary.getId(),
+                diary.getEmotionType(),
+                diary.getContent(),
+                diary.getDiaryDate().toString(),
+                diary.getCreatedAt().toString(),
+                diary.getUpdatedAt().toString()
+        );
+    }
+
+    public static DiaryInfo from(DiarySnapshot diary) {
+        return new DiaryInfo(
+                diary.id(),
+                diary.emotionType(),
+                diary.content(),
+                diary.diaryDate().toString(),
+                diary.createdAt().toString(),
+                diary.updatedAt().toString()
+        );
+    }
+}
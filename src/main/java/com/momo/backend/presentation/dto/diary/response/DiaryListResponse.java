@@ -9,8 +9,17 @@ public record DiaryListResponse(
         @Schema(description = "일기 목록")
         List<DiaryInfo> diaries,
 
-        @Schema(description = "페이징 정보")
-        PaginationInfo pagination
+        @Schema(description = "페이징 정보 (커서 모드에서는 null)")
+        PaginationInfo pagination,
+
+        @Schema(description = "다음 페이지 커서 (커서 모드에서만 사용, 마지막 페이지면 null)", example = "MjAyNS0wMS0wM18xMjM0NA")
+        String nextCursor
 ) {
+    public static DiaryListResponse ofPage(List<DiaryInfo> diaries, PaginationInfo pagination) {
+        return new DiaryListResponse(diaries, pagination, null);
+    }
 
+    public static DiaryListResponse ofCursor(List<DiaryInfo> diaries, String nextCursor) {
+        return new DiaryListResponse(diaries, null, nextCursor);
+    }
 }
@@ -0,0 +1,18 @@
+package com.momo.backend.presentation.sse;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 분석 진행 SSE 설정
+ * @param timeout           연결 유지 최대 시간 (지나면 서버가 닫고 EventSource 가 다시 연결한다)
+ * @param heartbeatInterval 유휴 연결 확인용 주석 이벤트 간격 (momo.analysis.events.heartbeat-interval 로 @Scheduled 에서 읽음)
+ * */
+@ConfigurationProperties(prefix = "momo.analysis.events")
+public record AnalysisEventProperties(
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("30s") Duration heartbeatInterval
+) {
+}
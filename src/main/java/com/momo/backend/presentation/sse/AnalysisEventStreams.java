@@ -0,0 +1,152 @@
+package com.momo.backend.presentation.sse;
+
+import com.momo.backend.application.analysis.AnalysisService;
+import com.momo.backend.application.analysis.AnalysisSnapshot;
+import com.momo.backend.domain.analysis.event.AnalysisFinishedEvent;
+import com.momo.backend.presentation.dto.analysis.response.AnalysisDetail;
+import com.momo.backend.presentation.dto.analysis.response.AnalysisStatusEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 분석 진행 SSE 스트림
+ * SseEmitter 는 비동기 서블릿 응답이라 대기 중인 연결이 스레드를 붙잡지 않는다. 분석 id 별 구독 목록만 메모리에 둔다.
+ * 연결 시 현재 상태(status)를 보내고, 분석이 끝나면 상태와 최종 결과(analysis)를 보낸 뒤 닫는다.
+ * 이벤트 전송은 분석 워커가 느린 클라이언트에 막히지 않도록 가상 스레드에서 한다.
+ * */
+@Slf4j
+@Component
+public class AnalysisEventStreams {
+
+    private static final String STATUS_EVENT = "status";
+    private static final String RESULT_EVENT = "analysis";
+
+    private final AnalysisService analysisService;
+    private final AnalysisEventProperties properties;
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AnalysisEventStreams(AnalysisService analysisService, AnalysisEventProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.analysisService = analysisService;
+        this.properties = properties;
+        Gauge.builder("momo.analysis.events.connections", subscribers,
+                        map -> map.values().stream().mapToInt(Set::size).sum())
+                .description("분석 진행 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        senders.shutdownNow();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        subscribers.clear();
+    }
+
+    /**
+     * 본인 분석이 아니거나 없으면 스트림을 열기 전에 ANALYSIS_NOT_FOUND 로 실패한다.
+     * */
+    public SseEmitter subscribe(Long userId, Long analysisId) {
+        AnalysisSnapshot current = analysisService.getAnalysis(userId, analysisId);
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        if (current.status().isFinished()) {
+            sendFinished(emitter, current);
+            return emitter;
+        }
+
+        register(analysisId, emitter);
+        send(emitter, STATUS_EVENT, AnalysisStatusEvent.from(current));
+
+        // 등록 직전에 끝나 완료 이벤트를 놓쳤을 수 있으므로 한 번 더 확인한다
+        AnalysisSnapshot latest = analysisService.getAnalysis(userId, analysisId);
+        if (latest.status().isFinished()) {
+            finish(analysisId, latest);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(AnalysisFinishedEvent event) {
+        if (!subscribers.containsKey(event.analysisId())) {
+            return;
+        }
+        senders.execute(() -> finish(event.analysisId(), analysisService.getAnalysis(event.userId(), event.analysisId())));
+    }
+
+    /**
+     * 프록시/로드밸런서의 유휴 연결 종료를 막고, 끊긴 클라이언트를 찾아 정리한다.
+     * */
+    @Scheduled(fixedDelayString = "${momo.analysis.events.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        subscribers.forEach((analysisId, emitters) -> emitters.forEach(emitter -> senders.execute(() -> {
+            try {
+                emitter.send(SseEmitter.event().comment("ping"));
+            } catch (IOException | IllegalStateException e) {
+                unregister(analysisId, emitter);
+                emitter.complete();
+            }
+        })));
+    }
+
+    private void register(Long analysisId, SseEmitter emitter) {
+        // 추가/삭제를 같은 키의 compute 안에서 해 finish 가 꺼내 간 목록에 뒤늦게 추가되는 일이 없게 한다
+        subscribers.compute(analysisId, (id, emitters) -> {
+            Set<SseEmitter> target = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            target.add(emitter);
+            return target;
+        });
+        emitter.onCompletion(() -> unregister(analysisId, emitter));
+        emitter.onTimeout(() -> unregister(analysisId, emitter));
+        emitter.onError(e -> unregister(analysisId, emitter));
+    }
+
+    private void unregister(Long analysisId, SseEmitter emitter) {
+        subscribers.computeIfPresent(analysisId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private void finish(Long analysisId, AnalysisSnapshot analysis) {
+        Set<SseEmitter> emitters = subscribers.remove(analysisId);
+        if (emitters == null) {
+            return;
+        }
+        log.debug("분석 완료 SSE 전송 - 분석: {}, 상태: {}, 연결: {}", analysisId, analysis.status(), emitters.size());
+        emitters.forEach(emitter -> sendFinished(emitter, analysis));
+    }
+
+    private void sendFinished(SseEmitter emitter, AnalysisSnapshot analysis) {
+        if (send(emitter, STATUS_EVENT, AnalysisStatusEvent.from(analysis))
+                && send(emitter, RESULT_EVENT, AnalysisDetail.from(analysis))) {
+            emitter.complete();
+        }
+    }
+
+    private boolean send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 닫힌 연결
+            log.debug("분석 SSE 전송 실패 - 이벤트: {}, 원인: {}", name, e.getMessage());
+            emitter.complete();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+-- 일기 본문 압축 저장 전환 (text -> bytea)
+-- 운영은 ddl-auto: validate 이므로 배포 전에 수동으로 적용한다.
+-- 기존 행은 헤더 없는 UTF-8 그대로 옮겨지며, DiaryContentCodec 가 그대로 읽는다.
+-- 이후 재압축 배치(momo.diary.content.recompact-cron)가 현재 포맷으로 다시 저장한다.
+ALTER TABLE diary
+    ALTER COLUMN content TYPE bytea USING convert_to(content, 'UTF8');
@@ -0,0 +1,107 @@
+-- 기존 일반 diary 테이블을 월 파티션 테이블로 옮기는 마이그레이션 (운영 1회 수동 적용)
+-- 애플리케이션을 내린 점검 시간에 한 트랜잭션으로 실행한다. 중간에 실패하면 아무것도 바뀌지 않는다.
+--   psql -v ON_ERROR_STOP=1 -f diary-partitioning.sql
+-- 새 파티션 테이블(diary_partitioned)을 만들어 행을 복사하고, 건수를 확인한 뒤 이름을 바꿔 교체한다.
+-- 기존 테이블은 diary_legacy 로 남으므로 확인 후 직접 삭제한다.
+-- diary-content-bytea.sql, diary-version.sql 을 먼저 적용한 상태여야 한다.
+
+BEGIN;
+
+-- 0) 전제 확인 - 이미 옮겼거나 선행 스크립트를 빠뜨렸으면 멈춘다
+DO $$
+DECLARE
+    diary_kind "char";
+BEGIN
+    SELECT c.relkind INTO diary_kind FROM pg_class c WHERE c.oid = to_regclass('diary');
+    IF diary_kind IS NULL THEN
+        RAISE EXCEPTION 'diary 테이블이 없습니다. 새 DB 는 schema.sql 이 파티션 테이블로 만듭니다.';
+    ELSIF diary_kind = 'p' THEN
+        RAISE EXCEPTION 'diary 는 이미 파티션 테이블입니다.';
+    END IF;
+    IF to_regclass('diary_legacy') IS NOT NULL OR to_regclass('diary_partitioned') IS NOT NULL THEN
+        RAISE EXCEPTION '이전 마이그레이션의 diary_legacy/diary_partitioned 가 남아 있습니다. 확인 후 정리하고 다시 실행하세요.';
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = current_schema() AND table_name = 'diary' AND column_name = 'version') THEN
+        RAISE EXCEPTION 'diary.version 컬럼이 없습니다. diary-version.sql 을 먼저 적용하세요.';
+    END IF;
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_schema = current_schema() AND table_name = 'diary' AND column_name = 'content') <> 'bytea' THEN
+        RAISE EXCEPTION 'diary.content 가 bytea 가 아닙니다. diary-content-bytea.sql 을 먼저 적용하세요.';
+    END IF;
+END $$;
+
+-- 복사하는 동안 쓰기가 끼어들지 않도록 잠근다
+LOCK TABLE diary IN ACCESS EXCLUSIVE MODE;
+
+-- 1) 새 테이블과 이름이 겹치는 기존 기본키/인덱스 이름을 비운다
+DO $$
+DECLARE
+    pkey_name text;
+BEGIN
+    SELECT conname INTO pkey_name FROM pg_constraint WHERE conrelid = 'diary'::regclass AND contype = 'p';
+    IF pkey_name IS NOT NULL THEN
+        EXECUTE format('ALTER TABLE diary RENAME CONSTRAINT %I TO diary_legacy_pkey', pkey_name);
+    END IF;
+END $$;
+ALTER INDEX IF EXISTS idx_diary_user_date_id RENAME TO idx_diary_legacy_user_date_id;
+
+-- 2) 새 파티션 테이블 (schema.sql 의 diary 와 같은 정의)
+CREATE TABLE diary_partitioned (
+    id           bigint       NOT NULL,
+    user_id      bigint       NOT NULL,
+    emotion_type varchar(20)  NOT NULL,
+    content      bytea        NOT NULL,
+    diary_date   date         NOT NULL,
+    version      bigint       NOT NULL DEFAULT 0,
+    created_at   timestamp(6) NOT NULL,
+    updated_at   timestamp(6) NOT NULL,
+    CONSTRAINT diary_pkey PRIMARY KEY (id, diary_date)
+) PARTITION BY RANGE (diary_date);
+
+-- 데이터가 있는 월 파티션을 먼저 만들고(기본 파티션에 쌓이지 않도록), 나머지는 기본 파티션이 받는다.
+-- 이번 달 이후 파티션은 기동 시 DiaryPartitionManager 가 만든다.
+DO $$
+DECLARE
+    month_start date;
+BEGIN
+    FOR month_start IN
+        SELECT DISTINCT date_trunc('month', diary_date)::date FROM diary
+    LOOP
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF diary_partitioned FOR VALUES FROM (%L) TO (%L)',
+            'diary_p' || to_char(month_start, 'YYYYMM'), month_start, (month_start + interval '1 month')::date);
+    END LOOP;
+END $$;
+CREATE TABLE diary_default PARTITION OF diary_partitioned DEFAULT;
+
+-- 3) 복사 후 건수 확인
+INSERT INTO diary_partitioned (id, user_id, emotion_type, content, diary_date, version, created_at, updated_at)
+SELECT id, user_id, emotion_type, content, diary_date, version, created_at, updated_at
+FROM diary;
+
+DO $$
+DECLARE
+    legacy_count bigint;
+    copied_count bigint;
+BEGIN
+    SELECT count(*) INTO legacy_count FROM diary;
+    SELECT count(*) INTO copied_count FROM diary_partitioned;
+    IF legacy_count <> copied_count THEN
+        RAISE EXCEPTION '복사 건수가 다릅니다 (기존 %, 복사 %)', legacy_count, copied_count;
+    END IF;
+END $$;
+
+CREATE INDEX idx_diary_user_date_id
+    ON diary_partitioned (user_id, diary_date DESC, id DESC) INCLUDE (emotion_type);
+
+-- 4) 교체
+ALTER TABLE diary RENAME TO diary_legacy;
+ALTER TABLE diary_partitioned RENAME TO diary;
+
+COMMIT;
+
+ANALYZE diary;
+
+-- 5) 애플리케이션 기동·확인 후
+-- DROP TABLE diary_legacy;
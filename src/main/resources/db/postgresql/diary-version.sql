@@ -0,0 +1,4 @@
+-- 일기 낙관적 락/ETag 용 버전 컬럼 추가
+-- 운영은 ddl-auto: validate 이므로 배포 전에 수동으로 적용한다.
+ALTER TABLE diary
+    ADD COLUMN version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,163 @@
+-- 일기/분석 테이블 관리 스키마 (PostgreSQL)
+-- spring.sql.init 으로 애플리케이션 시작 시 JPA 보다 먼저 실행되며, 모든 문장은 반복 실행해도 안전해야 한다.
+-- 기존 데이터를 바꾸는 변경은 여기에 두지 않고 별도 마이그레이션 스크립트(diary-*.sql)로 수동 적용한다.
+-- H2(테스트)에서는 실행하지 않고 엔티티 매핑대로 일반 테이블을 만든다.
+
+CREATE SEQUENCE IF NOT EXISTS diary_seq START WITH 1 INCREMENT BY 50;
+
+-- diary_date 월 단위 범위 파티션. 파티션 키가 기본키에 포함되어야 하므로 (id, diary_date) 를 기본키로 둔다.
+-- 그래서 DB 는 id 만의 유일성을 보장하지 않는다. id 는 diary_seq 에서만 받고(엔티티 @SequenceGenerator,
+-- 가져오기도 새 엔티티로 저장) id 를 지정해 넣는 경로가 없으므로 중복될 수 없다. id 를 직접 넣는 스크립트를 만들지 말 것.
+-- 월 파티션은 DiaryPartitionManager 가 시작 시/매일 앞으로 몇 달치를 미리 만든다.
+--
+-- ddl-auto 로 이미 일반 테이블 diary 가 만들어진 DB 에서는 CREATE TABLE IF NOT EXISTS 가 그냥 지나가고
+-- 아래 파티션 생성이 "not partitioned" 로 실패하므로, 테이블 종류를 직접 확인해 원인을 밝히고 기동을 멈춘다.
+-- 기존 DB 는 diary-partitioning.sql 로 먼저 옮긴다.
+-- DO 블록($$) 안의 ; 때문에 이 스크립트는 나누지 않고 한 번에 실행한다. (spring.sql.init.separator)
+DO $$
+DECLARE
+    diary_kind "char";
+BEGIN
+    SELECT c.relkind INTO diary_kind
+    FROM pg_class c
+    WHERE c.oid = to_regclass('diary');
+
+    IF diary_kind IS NULL THEN
+        CREATE TABLE diary (
+            id           bigint       NOT NULL,
+            user_id      bigint       NOT NULL,
+            emotion_type varchar(20)  NOT NULL,
+            content      bytea        NOT NULL,
+            diary_date   date         NOT NULL,
+            version      bigint       NOT NULL DEFAULT 0,
+            created_at   timestamp(6) NOT NULL,
+            updated_at   timestamp(6) NOT NULL,
+            CONSTRAINT diary_pkey PRIMARY KEY (id, diary_date)
+        ) PARTITION BY RANGE (diary_date);
+    ELSIF diary_kind <> 'p' THEN
+        RAISE EXCEPTION 'diary 테이블이 파티션 테이블이 아닙니다 (relkind=%). db/postgresql/diary-partitioning.sql 로 옮긴 뒤 다시 기동하세요.',
+            diary_kind;
+    END IF;
+END $$;
+
+-- 월 파티션 범위 밖(가져오기로 들어온 과거 날짜 등)의 행을 받는다
+-- 먼 미래 날짜의 행은 그 달 파티션을 만들 때 DiaryPartitionManager 가 새 파티션으로 옮긴다
+CREATE TABLE IF NOT EXISTS diary_default PARTITION OF diary DEFAULT;
+
+-- 목록·캘린더·오늘 일기 조회용. 캘린더(id, diary_date, emotion_type)는 테이블을 읽지 않는 index-only scan 이 된다.
+-- 엔티티의 @Index 와 이름이 같아 ddl-auto 가 따로 만들지 않는다.
+CREATE INDEX IF NOT EXISTS idx_diary_user_date_id
+    ON diary (user_id, diary_date DESC, id DESC) INCLUDE (emotion_type);
+
+-- 감정 분석 (운영은 ddl-auto: validate 이므로 여기서 만든다)
+CREATE SEQUENCE IF NOT EXISTS analysis_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS analysis_job_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS analysis (
+    id             bigint       NOT NULL PRIMARY KEY,
+    user_id        bigint       NOT NULL,
+    analysis_type  varchar(10)  NOT NULL,
+    status         varchar(20)  NOT NULL,
+    start_date     date         NOT NULL,
+    end_date       date         NOT NULL,
+    diary_count    integer      NOT NULL,
+    overall_mood   varchar(50),
+    mood_score     float(53),
+    risk_level     varchar(10),
+    summary        text,
+    content_hash   varchar(64),
+    model_version  varchar(50),
+    failure_reason varchar(500),
+    completed_at   timestamp(6),
+    version        bigint       NOT NULL DEFAULT 0,
+    created_at     timestamp(6) NOT NULL,
+    updated_at     timestamp(6) NOT NULL
+);
+ALTER TABLE analysis ADD COLUMN IF NOT EXISTS content_hash varchar(64);
+ALTER TABLE analysis ADD COLUMN IF NOT EXISTS model_version varchar(50);
+-- 목록 조회용 커버링 인덱스 (목록 컬럼을 INCLUDE 해 요약문/컬렉션 없이 인덱스만 읽는다)
+CREATE INDEX IF NOT EXISTS idx_analysis_user_list ON analysis (user_id, id DESC)
+    INCLUDE (analysis_type, status, start_date, end_date, diary_count, overall_mood, mood_score, risk_level,
+             created_at, completed_at);
+DROP INDEX IF EXISTS idx_analysis_user_created;
+-- 같은 입력(일기 id/버전, 타입, 기간)의 완료 분석 재사용 조회
+CREATE INDEX IF NOT EXISTS idx_analysis_user_hash ON analysis (user_id, content_hash);
+
+CREATE TABLE IF NOT EXISTS analysis_dominant_emotion (
+    analysis_id bigint      NOT NULL REFERENCES analysis (id),
+    position    integer     NOT NULL,
+    emotion     varchar(30) NOT NULL,
+    PRIMARY KEY (analysis_id, position)
+);
+
+CREATE TABLE IF NOT EXISTS analysis_recommendation (
+    analysis_id bigint       NOT NULL REFERENCES analysis (id),
+    position    integer      NOT NULL,
+    type        varchar(20)  NOT NULL,
+    title       varchar(100) NOT NULL,
+    description varchar(500) NOT NULL,
+    duration    integer      NOT NULL,
+    priority    varchar(10)  NOT NULL,
+    PRIMARY KEY (analysis_id, position)
+);
+
+CREATE TABLE IF NOT EXISTS analysis_job (
+    id            bigint       NOT NULL PRIMARY KEY,
+    analysis_id   bigint       NOT NULL UNIQUE,
+    user_id       bigint       NOT NULL,
+    analysis_type varchar(10)  NOT NULL,
+    state         varchar(20)  NOT NULL,
+    attempts      integer      NOT NULL,
+    enqueued_at   timestamp(6) NOT NULL,
+    started_at    timestamp(6),
+    finished_at   timestamp(6),
+    last_error    varchar(500),
+    version       bigint       NOT NULL DEFAULT 0
+);
+CREATE INDEX IF NOT EXISTS idx_analysis_job_state ON analysis_job (state, id);
+
+-- 사용자/일 단위 감정 부분 집계 (주간/월간 통계 롤업용)
+CREATE TABLE IF NOT EXISTS analysis_daily_partial (
+    id             bigint           GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id        bigint           NOT NULL,
+    partial_date   date             NOT NULL,
+    diary_count    integer          NOT NULL,
+    mood_score_sum double precision NOT NULL,
+    emotion_counts bytea            NOT NULL,
+    CONSTRAINT uk_analysis_daily_partial_user_date UNIQUE (user_id, partial_date)
+);
+
+-- 사용자/월 단위 캘린더 프로젝션 (일기 커밋 후 갱신, days 는 CalendarMonthDays 인코딩)
+CREATE TABLE IF NOT EXISTS diary_calendar_month (
+    id         bigint  GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    bigint  NOT NULL,
+    year_month integer NOT NULL,
+    days       bytea   NOT NULL,
+    version    bigint  NOT NULL DEFAULT 0,
+    CONSTRAINT uk_diary_calendar_user_month UNIQUE (user_id, year_month)
+);
+
+-- 분석 배치 체크포인트 (재시작 후 이어서 처리)
+CREATE TABLE IF NOT EXISTS analysis_batch_checkpoint (
+    batch_name      varchar(50)  NOT NULL PRIMARY KEY,
+    run_date        date         NOT NULL,
+    last_user_id    bigint       NOT NULL,
+    processed_count integer      NOT NULL,
+    completed       boolean      NOT NULL,
+    updated_at      timestamp(6) NOT NULL,
+    version         bigint       NOT NULL DEFAULT 0
+);
+
+-- 분석 결과 피드백 (추가만 하는 로그, 모델 정확도 집계는 모든 노드가 이 테이블에서 주기적으로 다시 만든다)
+CREATE SEQUENCE IF NOT EXISTS analysis_feedback_seq START WITH 1 INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS analysis_feedback (
+    id            bigint       NOT NULL PRIMARY KEY,
+    analysis_id   bigint       NOT NULL,
+    user_id       bigint       NOT NULL,
+    feedback_type varchar(20)  NOT NULL,
+    accurate      boolean      NOT NULL,
+    model_version varchar(50)  NOT NULL,
+    comment       varchar(500),
+    created_at    timestamp(6) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_analysis_feedback_analysis ON analysis_feedback (analysis_id);
@@ -0,0 +1,38 @@
+package com.momo.backend.application.analysis;
+
+import com.momo.backend.domain.analysis.entity.AnalysisPeriod;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.domain.diary.repository.DiaryVersionRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalysisContentHashTest {
+
+    private static final AnalysisPeriod PERIOD = new AnalysisPeriod(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 7));
+    private static final List<DiaryVersionRow> DIARIES = List.of(new DiaryVersionRow(1L, 0L), new DiaryVersionRow(2L, 3L));
+
+    @Test
+    void 조회_순서와_무관하게_같은_해시를_만든다() {
+        assertThat(AnalysisContentHash.of(AnalysisType.WEEKLY, PERIOD, DIARIES))
+                .isEqualTo(AnalysisContentHash.of(AnalysisType.WEEKLY, PERIOD, DIARIES.reversed()));
+    }
+
+    @Test
+    void 일기_수정_추가와_타입_기간이_다르면_해시가_바뀐다() {
+        String hash = AnalysisContentHash.of(AnalysisType.WEEKLY, PERIOD, DIARIES);
+
+        assertThat(AnalysisContentHash.of(AnalysisType.WEEKLY, PERIOD,
+                List.of(new DiaryVersionRow(1L, 0L), new DiaryVersionRow(2L, 4L)))).isNotEqualTo(hash);
+        assertThat(AnalysisContentHash.of(AnalysisType.WEEKLY, PERIOD,
+                List.of(new DiaryVersionRow(1L, 0L), new DiaryVersionRow(2L, 3L), new DiaryVersionRow(3L, 0L))))
+                .isNotEqualTo(hash);
+        assertThat(AnalysisContentHash.of(AnalysisType.MONTHLY, PERIOD, DIARIES)).isNotEqualTo(hash);
+        assertThat(AnalysisContentHash.of(AnalysisType.WEEKLY,
+                new AnalysisPeriod(PERIOD.startDate().plusDays(1), PERIOD.endDate().plusDays(1)), DIARIES))
+                .isNotEqualTo(hash);
+    }
+}
@@ -0,0 +1,57 @@
+package com.momo.backend.application.analysis.feedback;
+
+import com.momo.backend.domain.analysis.entity.FeedbackType;
+import com.momo.backend.domain.analysis.repository.AnalysisFeedbackRepository;
+import com.momo.backend.domain.analysis.repository.FeedbackTallyRow;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class FeedbackAccuracyTallyTest {
+
+    private final AnalysisFeedbackRepository feedbackRepository = mock(AnalysisFeedbackRepository.class);
+    private final FeedbackAccuracyTally tally = new FeedbackAccuracyTally(feedbackRepository);
+
+    @Test
+    void 피드백_로그_집계를_타입과_모델_버전별로_묶는다() {
+        given(feedbackRepository.tallyAll()).willReturn(List.of(
+                new FeedbackTallyRow(FeedbackType.OVERALL, "stub-1", true, 4),
+                new FeedbackTallyRow(FeedbackType.OVERALL, "stub-1", false, 1),
+                new FeedbackTallyRow(FeedbackType.OVERALL, "stub-2", false, 1),
+                new FeedbackTallyRow(FeedbackType.EMOTION_ANALYSIS, "stub-1", true, 2)));
+
+        tally.load();
+
+        assertThat(tally.snapshot()).containsExactly(
+                new FeedbackAccuracy(FeedbackType.EMOTION_ANALYSIS, "stub-1", 2, 0),
+                new FeedbackAccuracy(FeedbackType.OVERALL, "stub-1", 4, 1),
+                new FeedbackAccuracy(FeedbackType.OVERALL, "stub-2", 0, 1));
+        assertThat(tally.snapshot().get(1).accuracy()).isEqualTo(0.8);
+    }
+
+    @Test
+    void 다시_집계하면_로그의_값으로_바꾸고_실패하면_이전_집계를_유지한다() {
+        given(feedbackRepository.tallyAll())
+                .willReturn(List.of(new FeedbackTallyRow(FeedbackType.OVERALL, "stub-1", true, 1)))
+                // 다른 노드가 저장한 피드백도 로그에 있으므로 다음 집계에 들어온다
+                .willReturn(List.of(new FeedbackTallyRow(FeedbackType.OVERALL, "stub-1", true, 3)))
+                .willThrow(new DataAccessResourceFailureException("집계 실패"));
+
+        tally.load();
+        assertThat(tally.snapshot())
+                .containsExactly(new FeedbackAccuracy(FeedbackType.OVERALL, "stub-1", 1, 0));
+
+        tally.refresh();
+        assertThat(tally.snapshot())
+                .containsExactly(new FeedbackAccuracy(FeedbackType.OVERALL, "stub-1", 3, 0));
+
+        tally.refresh();
+        assertThat(tally.snapshot())
+                .containsExactly(new FeedbackAccuracy(FeedbackType.OVERALL, "stub-1", 3, 0));
+    }
+}
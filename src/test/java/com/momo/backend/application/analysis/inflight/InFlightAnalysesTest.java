@@ -0,0 +1,95 @@
+package com.momo.backend.application.analysis.inflight;
+
+import com.momo.backend.application.analysis.AnalysisCreation;
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import com.momo.backend.domain.analysis.entity.AnalysisPeriod;
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.domain.analysis.event.AnalysisFinishedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InFlightAnalysesTest {
+
+    private static final Long ANALYSIS_ID = 10L;
+    private static final InFlightAnalysisKey KEY = new InFlightAnalysisKey(1L, AnalysisType.WEEKLY,
+            new AnalysisPeriod(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 7)));
+
+    private final InFlightAnalyses inFlightAnalyses = new InFlightAnalyses(
+            new InFlightAnalysisProperties(Duration.ofMinutes(30)), new SimpleMeterRegistry());
+
+    @Test
+    void 동시에_들어온_같은_요청은_한_번만_생성한다() throws Exception {
+        AtomicInteger creates = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        AnalysisCreation creation = new AnalysisCreation(null, Duration.ofSeconds(3), null);
+        Supplier<AnalysisCreation> slowCreator = () -> {
+            creates.incrementAndGet();
+            inFlightAnalyses.attach(KEY, ANALYSIS_ID);
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return creation;
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<Future<AnalysisCreation>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> inFlightAnalyses.coalesce(KEY, slowCreator)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<AnalysisCreation> future : futures) {
+                assertThat(future.get()).isSameAs(creation);
+            }
+        }
+
+        assertThat(creates).hasValue(1);
+        // 작업이 끝나기 전의 재시도도 같은 분석을 받는다
+        assertThat(inFlightAnalyses.coalesce(KEY, slowCreator)).isSameAs(creation);
+        assertThat(creates).hasValue(1);
+    }
+
+    @Test
+    void 분석이_끝나면_엔트리를_지운다() {
+        inFlightAnalyses.coalesce(KEY, () -> {
+            inFlightAnalyses.attach(KEY, ANALYSIS_ID);
+            return new AnalysisCreation(null, Duration.ZERO, null);
+        });
+        assertThat(inFlightAnalyses.size()).isEqualTo(1);
+
+        inFlightAnalyses.on(new AnalysisFinishedEvent(ANALYSIS_ID, KEY.userId(), AnalysisStatus.FAILED));
+
+        assertThat(inFlightAnalyses.size()).isZero();
+    }
+
+    @Test
+    void 작업을_만들지_않았거나_생성에_실패하면_바로_지운다() {
+        inFlightAnalyses.coalesce(KEY, () -> new AnalysisCreation(null, Duration.ZERO, null));
+        assertThat(inFlightAnalyses.size()).isZero();
+
+        assertThatThrownBy(() -> inFlightAnalyses.coalesce(KEY, () -> {
+            inFlightAnalyses.attach(KEY, ANALYSIS_ID);
+            throw new BusinessException(ErrorCode.NO_DIARY_TO_ANALYZE);
+        })).isInstanceOf(BusinessException.class);
+        assertThat(inFlightAnalyses.size()).isZero();
+    }
+}
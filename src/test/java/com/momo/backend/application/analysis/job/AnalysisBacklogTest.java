@@ -0,0 +1,85 @@
+package com.momo.backend.application.analysis.job;
+
+import com.momo.backend.common.exception.ErrorCode;
+import com.momo.backend.common.exception.RetryLaterException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AnalysisBacklogTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final AnalysisBacklog backlog = new AnalysisBacklog(
+            new AnalysisBacklogProperties(100, 50, Duration.ofSeconds(10), Duration.ofSeconds(60)),
+            clock, new SimpleMeterRegistry());
+
+    @Test
+    void high_water_mark_에서_거절하고_low_water_mark_이하에서_다시_받는다() {
+        assertThatCode(() -> backlog.admit(99)).doesNotThrowAnyException();
+
+        assertThatThrownBy(() -> backlog.admit(100))
+                .isInstanceOf(RetryLaterException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ANALYSIS_BACKLOG_FULL);
+        // 경계 사이에서는 거절 상태를 유지한다
+        assertThatThrownBy(() -> backlog.admit(70)).isInstanceOf(RetryLaterException.class);
+
+        assertThatCode(() -> backlog.admit(50)).doesNotThrowAnyException();
+        assertThatCode(() -> backlog.admit(70)).doesNotThrowAnyException();
+        assertThat(backlog.isSaturated()).isFalse();
+    }
+
+    @Test
+    void Retry_After_는_최근_처리_속도로_계산한다() {
+        // 처리 속도를 모르면 상한
+        assertThat(backlog.retryAfter(100)).isEqualTo(Duration.ofSeconds(60));
+
+        // 10초 동안 초당 2건
+        for (int second = 0; second < 10; second++) {
+            backlog.recordDrained();
+            backlog.recordDrained();
+            clock.advance(Duration.ofSeconds(1));
+        }
+
+        assertThat(backlog.drainRate()).isEqualTo(2.0);
+        // low-water mark(50)까지 줄어들 60건 / 초당 2건
+        assertThat(backlog.retryAfter(110)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(backlog.retryAfter(1_000)).isEqualTo(Duration.ofSeconds(60));
+
+        // 구간이 지나면 처리 속도는 0 으로 돌아간다
+        clock.advance(Duration.ofSeconds(11));
+        assertThat(backlog.drainRate()).isZero();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-03-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.momo.backend.application.analysis.job;
+
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalysisEtaEstimatorTest {
+
+    private final AnalysisEtaEstimator estimator = new AnalysisEtaEstimator(
+            new AnalysisJobProperties(2, Duration.ofSeconds(30), 0.5, 6, 2, 1), new SimpleMeterRegistry());
+
+    @Test
+    void 측정값이_없으면_설정된_예상_시간을_쓴다() {
+        assertThat(estimator.estimate(AnalysisType.WEEKLY, 5, idle())).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void 소요_시간은_구간별_지수_이동_평균으로_반영한다() {
+        estimator.record(AnalysisType.WEEKLY, 5, Duration.ofSeconds(4).toNanos());
+        estimator.record(AnalysisType.WEEKLY, 6, Duration.ofSeconds(8).toNanos());
+
+        assertThat(estimator.estimate(AnalysisType.WEEKLY, 7, idle())).isEqualTo(Duration.ofSeconds(6));
+        // 다른 구간은 아직 측정값이 없다
+        assertThat(estimator.estimate(AnalysisType.WEEKLY, 1, idle())).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void 빈_자리가_없으면_같은_레인의_앞선_작업만큼_대기_시간을_더한다() {
+        estimator.record(AnalysisType.DAILY, 1, Duration.ofSeconds(2).toNanos());
+
+        // 동시 실행 2: 실행 중 1건이면 바로 실행, 실행 중 2건 + 대기 1건이면 한 바퀴, 대기 3건이면 두 바퀴를 기다린다
+        assertThat(estimator.estimate(AnalysisType.DAILY, 1, ahead(1, 0, 0, 0))).isEqualTo(Duration.ofSeconds(2));
+        assertThat(estimator.estimate(AnalysisType.DAILY, 1, ahead(2, 1, 0, 0))).isEqualTo(Duration.ofSeconds(4));
+        assertThat(estimator.estimate(AnalysisType.DAILY, 1, ahead(2, 3, 0, 0))).isEqualTo(Duration.ofSeconds(6));
+    }
+
+    @Test
+    void 다른_레인이_밀려_있어도_그_레인의_가중치_몫만큼만_기다린다() {
+        estimator.record(AnalysisType.DAILY, 1, Duration.ofSeconds(6).toNanos());
+
+        // 일간 6 : 월간 1 - 일간 작업 1건이 꺼내지는 동안 월간은 1/6 차례만 가져가므로 (1 + 1/6) / 2 바퀴
+        Duration daily = estimator.estimate(AnalysisType.DAILY, 1, ahead(2, 0, 0, 12));
+
+        assertThat(daily).isCloseTo(Duration.ofMillis(9_500), Duration.ofMillis(1));
+        // 전체 대기 작업 수로 계산하면 6.5 바퀴를 기다려 45초라고 답했을 것이다
+        assertThat(daily).isLessThan(Duration.ofSeconds(12));
+    }
+
+    @Test
+    void 다른_레인의_차례는_그_레인에_남은_작업_수까지만_센다() {
+        estimator.record(AnalysisType.MONTHLY, 1, Duration.ofSeconds(6).toNanos());
+
+        // 월간 대기 12건 + 새 작업 13차례 동안 일간은 78차례를 받을 수 있지만 남은 1건만 가져간다: 14 / 2 = 7 바퀴
+        assertThat(estimator.estimate(AnalysisType.MONTHLY, 1, ahead(2, 1, 0, 12)))
+                .isEqualTo(Duration.ofSeconds(6 + 7 * 6));
+    }
+
+    @Test
+    void 일기_수_구간() {
+        assertThat(AnalysisEtaEstimator.bucketOf(0)).isZero();
+        assertThat(AnalysisEtaEstimator.bucketOf(1)).isZero();
+        assertThat(AnalysisEtaEstimator.bucketOf(3)).isEqualTo(1);
+        assertThat(AnalysisEtaEstimator.bucketOf(7)).isEqualTo(2);
+        assertThat(AnalysisEtaEstimator.bucketOf(8)).isEqualTo(3);
+        assertThat(AnalysisEtaEstimator.bucketOf(31)).isEqualTo(4);
+    }
+
+    private static AnalysisJobsAhead idle() {
+        return ahead(0, 0, 0, 0);
+    }
+
+    private static AnalysisJobsAhead ahead(int running, int daily, int weekly, int monthly) {
+        int[] queued = new int[AnalysisType.values().length];
+        queued[AnalysisType.DAILY.ordinal()] = daily;
+        queued[AnalysisType.WEEKLY.ordinal()] = weekly;
+        queued[AnalysisType.MONTHLY.ordinal()] = monthly;
+        return new AnalysisJobsAhead(running, queued);
+    }
+}
@@ -0,0 +1,99 @@
+package com.momo.backend.application.analysis.job;
+
+import com.momo.backend.domain.analysis.entity.Analysis;
+import com.momo.backend.domain.analysis.entity.AnalysisJob;
+import com.momo.backend.domain.analysis.entity.AnalysisJobState;
+import com.momo.backend.domain.analysis.entity.AnalysisPeriod;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.domain.analysis.repository.AnalysisJobRepository;
+import com.momo.backend.domain.analysis.repository.AnalysisRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 기동(ApplicationReadyEvent) 시 이전 실행에서 끝나지 못한 작업을 복구하는지 확인한다.
+ * 컨텍스트의 디스패처와 섞이지 않도록 실행기를 목으로 둔 디스패처를 따로 만들어 start 를 직접 호출한다.
+ * */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class AnalysisJobDispatcherTest {
+
+    private static final Long USER_ID = 70_101L;
+
+    @Autowired
+    private AnalysisJobRepository analysisJobRepository;
+    @Autowired
+    private AnalysisRepository analysisRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final AnalysisJobRunner runner = mock(AnalysisJobRunner.class);
+    private AnalysisJobDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    void 기동하면_중단된_RUNNING_과_QUEUED_작업을_다시_실행하고_끝난_작업은_두지_않는다() {
+        AnalysisJob queued = saveJob(job -> {
+        });
+        AnalysisJob interrupted = saveJob(job -> job.start(LocalDateTime.now()));
+        AnalysisJob succeeded = saveJob(job -> {
+            job.start(LocalDateTime.now());
+            job.succeed(LocalDateTime.now());
+        });
+
+        dispatcher = new AnalysisJobDispatcher(runner,
+                new AnalysisBacklog(new AnalysisBacklogProperties(2000, 1000, Duration.ofSeconds(30), Duration.ofSeconds(60)),
+                        Clock.systemUTC(), new SimpleMeterRegistry()),
+                analysisJobRepository, transactionTemplate,
+                new AnalysisJobProperties(2, Duration.ofSeconds(30), 0.2, 6, 2, 1), new SimpleMeterRegistry());
+        dispatcher.start();
+
+        assertThat(analysisJobRepository.findById(interrupted.getId()).orElseThrow().getState())
+                .isEqualTo(AnalysisJobState.QUEUED);
+        verify(runner, timeout(2_000)).run(queued.getId());
+        verify(runner, timeout(2_000)).run(interrupted.getId());
+        verify(runner, after(500).never()).run(succeeded.getId());
+    }
+
+    private AnalysisJob saveJob(Consumer<AnalysisJob> state) {
+        return transactionTemplate.execute(status -> {
+            LocalDate endDate = LocalDate.of(2025, 1, 31);
+            Analysis analysis = analysisRepository.save(Analysis.builder()
+                    .userId(USER_ID)
+                    .analysisType(AnalysisType.DAILY)
+                    .period(new AnalysisPeriod(endDate, endDate))
+                    .diaryCount(1)
+                    .build());
+            AnalysisJob job = new AnalysisJob(analysis, LocalDateTime.now());
+            state.accept(job);
+            return analysisJobRepository.save(job);
+        });
+    }
+}
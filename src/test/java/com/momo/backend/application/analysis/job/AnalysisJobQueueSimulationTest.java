@@ -0,0 +1,193 @@
+package com.momo.backend.application.analysis.job;
+
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.domain.analysis.repository.QueuedAnalysisJob;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 치우친 부하에서 레인/사용자 순번 대기열과 단일 FIFO 의 대기 시간 비교 (가상 시간 이산 사건 시뮬레이션)
+ * 50명이 30분 동안 일간/주간/월간 분석을 고르게 요청하는 가운데, 한 사용자가 1분 시점에 월간 분석 200건을 한꺼번에 넣는다.
+ * 실행 자리 4개, 작업 소요 시간은 일간 1초/주간 3초/월간 10초로 둔다.
+ * */
+class AnalysisJobQueueSimulationTest {
+
+    private static final int CONCURRENCY = 4;
+    private static final long DURATION_MILLIS = 30 * 60 * 1_000;
+    private static final int USERS = 50;
+    private static final Long SPAMMER = 999L;
+    private static final int SPAM_JOBS = 200;
+    private static final long SPAM_AT_MILLIS = 60_000;
+
+    @Test
+    void 레인별_p99_대기_시간은_몰아넣기와_무관하게_제한된다() {
+        List<Arrival> arrivals = workload();
+
+        AnalysisJobQueue queue = new AnalysisJobQueue(new AnalysisJobProperties(
+                CONCURRENCY, null, 0.2, 6, 2, 1)::weightOf);
+        Waits lanes = simulate(arrivals, queue::offer, queue::poll);
+
+        ArrayDeque<QueuedAnalysisJob> fifo = new ArrayDeque<>();
+        Waits single = simulate(arrivals, fifo::addLast, fifo::pollFirst);
+
+        // 레인 대기열: 자리가 나는 대로 차례를 받으므로 가장 긴 작업(10초) 안팎에서 끝난다
+        assertThat(lanes.p99(AnalysisType.DAILY)).isLessThanOrEqualTo(10_000);
+        assertThat(lanes.p99(AnalysisType.WEEKLY)).isLessThanOrEqualTo(15_000);
+        // 다른 사용자의 월간 분석은 몰아넣은 사용자와 번갈아 실행된다
+        assertThat(lanes.p99(AnalysisType.MONTHLY)).isLessThanOrEqualTo(20_000);
+        // 몰아넣은 작업도 굶지 않고 모두 실행된다
+        assertThat(lanes.spammerJobs()).isEqualTo(SPAM_JOBS);
+
+        // FIFO: 몰아넣은 작업(200건 x 10초 / 4자리) 뒤에 모두가 줄을 선다
+        assertThat(single.p99(AnalysisType.DAILY)).isGreaterThan(300_000);
+        assertThat(single.p99(AnalysisType.MONTHLY)).isGreaterThan(300_000);
+    }
+
+    @Test
+    void 레인_안에서는_사용자별로_한_건씩_돌아가며_꺼낸다() {
+        AnalysisJobQueue queue = new AnalysisJobQueue(type -> 1);
+        queue.offer(new QueuedAnalysisJob(1L, SPAMMER, AnalysisType.MONTHLY));
+        queue.offer(new QueuedAnalysisJob(2L, SPAMMER, AnalysisType.MONTHLY));
+        queue.offer(new QueuedAnalysisJob(3L, SPAMMER, AnalysisType.MONTHLY));
+        queue.offer(new QueuedAnalysisJob(4L, 1L, AnalysisType.MONTHLY));
+        queue.offer(new QueuedAnalysisJob(5L, 2L, AnalysisType.MONTHLY));
+
+        List<Long> order = new ArrayList<>();
+        QueuedAnalysisJob job;
+        while ((job = queue.poll()) != null) {
+            order.add(job.jobId());
+        }
+
+        assertThat(order).containsExactly(1L, 4L, 5L, 2L, 3L);
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void 모든_레인이_밀려_있으면_가중치_비율로_꺼낸다() {
+        AnalysisJobQueue queue = new AnalysisJobQueue(new AnalysisJobProperties(
+                CONCURRENCY, null, 0.2, 6, 2, 1)::weightOf);
+        long jobId = 0;
+        for (AnalysisType type : AnalysisType.values()) {
+            for (int i = 0; i < 90; i++) {
+                queue.offer(new QueuedAnalysisJob(++jobId, (long) i, type));
+            }
+        }
+
+        Map<AnalysisType, Integer> picked = new EnumMap<>(AnalysisType.class);
+        for (int i = 0; i < 90; i++) {
+            picked.merge(queue.poll().analysisType(), 1, Integer::sum);
+        }
+
+        assertThat(picked).containsEntry(AnalysisType.DAILY, 60)
+                .containsEntry(AnalysisType.WEEKLY, 20)
+                .containsEntry(AnalysisType.MONTHLY, 10);
+    }
+
+    private static List<Arrival> workload() {
+        Random random = new Random(42);
+        List<Arrival> arrivals = new ArrayList<>();
+        long jobId = 0;
+        for (AnalysisType type : AnalysisType.values()) {
+            // 포아송 도착
+            long at = 0;
+            while ((at += (long) (-Math.log(1 - random.nextDouble()) * meanInterArrivalMillis(type))) < DURATION_MILLIS) {
+                arrivals.add(new Arrival(at, new QueuedAnalysisJob(++jobId, 1L + random.nextInt(USERS), type)));
+            }
+        }
+        for (int i = 0; i < SPAM_JOBS; i++) {
+            arrivals.add(new Arrival(SPAM_AT_MILLIS, new QueuedAnalysisJob(++jobId, SPAMMER, AnalysisType.MONTHLY)));
+        }
+        arrivals.sort(Comparator.comparingLong(Arrival::at));
+        return arrivals;
+    }
+
+    private static Waits simulate(List<Arrival> arrivals, Consumer<QueuedAnalysisJob> offer,
+                                  Supplier<QueuedAnalysisJob> poll) {
+        Map<Long, Long> enqueuedAt = new HashMap<>();
+        Waits waits = new Waits();
+        PriorityQueue<Long> completions = new PriorityQueue<>();
+        int free = CONCURRENCY;
+        int next = 0;
+
+        while (next < arrivals.size() || !completions.isEmpty()) {
+            long arrivalAt = next < arrivals.size() ? arrivals.get(next).at() : Long.MAX_VALUE;
+            long completionAt = completions.isEmpty() ? Long.MAX_VALUE : completions.peek();
+            long now;
+            if (arrivalAt <= completionAt) {
+                now = arrivalAt;
+                QueuedAnalysisJob job = arrivals.get(next++).job();
+                enqueuedAt.put(job.jobId(), now);
+                offer.accept(job);
+            } else {
+                now = completions.poll();
+                free++;
+            }
+
+            QueuedAnalysisJob job;
+            while (free > 0 && (job = poll.get()) != null) {
+                free--;
+                completions.add(now + serviceMillis(job.analysisType()));
+                waits.record(job, now - enqueuedAt.get(job.jobId()));
+            }
+        }
+        return waits;
+    }
+
+    private static long serviceMillis(AnalysisType type) {
+        return switch (type) {
+            case DAILY -> 1_000;
+            case WEEKLY -> 3_000;
+            case MONTHLY -> 10_000;
+        };
+    }
+
+    private static long meanInterArrivalMillis(AnalysisType type) {
+        return switch (type) {
+            case DAILY -> 2_000;
+            case WEEKLY -> 6_000;
+            case MONTHLY -> 30_000;
+        };
+    }
+
+    private record Arrival(long at, QueuedAnalysisJob job) {
+    }
+
+    // 몰아넣은 사용자의 대기는 따로 센다
+    private static final class Waits {
+
+        private final Map<AnalysisType, List<Long>> byType = new EnumMap<>(AnalysisType.class);
+        private int spammerJobs;
+
+        void record(QueuedAnalysisJob job, long waitMillis) {
+            if (SPAMMER.equals(job.userId())) {
+                spammerJobs++;
+                return;
+            }
+            byType.computeIfAbsent(job.analysisType(), type -> new ArrayList<>()).add(waitMillis);
+        }
+
+        long p99(AnalysisType type) {
+            List<Long> sorted = new ArrayList<>(byType.get(type));
+            Collections.sort(sorted);
+            return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+        }
+
+        int spammerJobs() {
+            return spammerJobs;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.momo.backend.application.analysis.job;
+
+import com.momo.backend.application.analysis.rollup.EmotionRollup;
+import com.momo.backend.domain.analysis.entity.Analysis;
+import com.momo.backend.domain.analysis.entity.AnalysisJob;
+import com.momo.backend.domain.analysis.entity.AnalysisJobState;
+import com.momo.backend.domain.analysis.entity.AnalysisPeriod;
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.domain.analysis.repository.AnalysisJobRepository;
+import com.momo.backend.domain.analysis.repository.AnalysisRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 분석 작업 실행의 중복 실행 방지(QUEUED → RUNNING 버전 검사)와 실패 기록을 확인한다.
+ * 통계 계산(EmotionRollup)에서 실패시켜 모델 호출 없이 실패 경로를 탄다.
+ * */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class AnalysisJobRunnerTest {
+
+    private static final Long USER_ID = 70_001L;
+
+    @Autowired
+    private AnalysisJobRunner runner;
+    @Autowired
+    private AnalysisJobRepository analysisJobRepository;
+    @Autowired
+    private AnalysisRepository analysisRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @MockBean
+    private EmotionRollup emotionRollup;
+
+    @Test
+    void 이미_시작된_작업이_다시_디스패치되면_실행하지_않는다() {
+        given(emotionRollup.statistics(any(), any(), any())).willThrow(new IllegalStateException("실패"));
+        AnalysisJob job = saveQueuedJob();
+
+        runner.run(job.getId());
+        runner.run(job.getId());
+
+        verify(emotionRollup, times(1)).statistics(any(), any(), any());
+        assertThat(analysisJobRepository.findById(job.getId()).orElseThrow().getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void QUEUED_를_먼저_읽었어도_다른_워커가_먼저_시작하면_버전_충돌로_막힌다() {
+        given(emotionRollup.statistics(any(), any(), any())).willThrow(new IllegalStateException("실패"));
+        AnalysisJob job = saveQueuedJob();
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            AnalysisJob stale = analysisJobRepository.findById(job.getId()).orElseThrow();
+            assertThat(stale.getState()).isEqualTo(AnalysisJobState.QUEUED);
+            // 그 사이 다른 워커가 같은 작업을 시작해 커밋한다
+            CompletableFuture.runAsync(() -> runner.run(job.getId())).join();
+
+            stale.start(LocalDateTime.now());
+            analysisJobRepository.flush();
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        verify(emotionRollup, times(1)).statistics(any(), any(), any());
+        assertThat(analysisJobRepository.findById(job.getId()).orElseThrow().getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void 실패하면_작업과_분석을_FAILED_로_남기고_오류는_500자로_자른다() {
+        given(emotionRollup.statistics(any(), any(), any())).willThrow(new IllegalStateException("x".repeat(800)));
+        AnalysisJob job = saveQueuedJob();
+
+        runner.run(job.getId());
+
+        AnalysisJob failed = analysisJobRepository.findById(job.getId()).orElseThrow();
+        assertThat(failed.getState()).isEqualTo(AnalysisJobState.FAILED);
+        assertThat(failed.getLastError()).hasSize(500).isEqualTo("x".repeat(500));
+        assertThat(failed.getFinishedAt()).isNotNull();
+        Analysis analysis = analysisRepository.findById(job.getAnalysisId()).orElseThrow();
+        assertThat(analysis.getStatus()).isEqualTo(AnalysisStatus.FAILED);
+        assertThat(analysis.getFailureReason()).isEqualTo("분석 중 오류가 발생했습니다.");
+    }
+
+    private AnalysisJob saveQueuedJob() {
+        return transactionTemplate.execute(status -> {
+            LocalDate endDate = LocalDate.of(2025, 1, 31);
+            Analysis analysis = analysisRepository.save(Analysis.builder()
+                    .userId(USER_ID)
+                    .analysisType(AnalysisType.WEEKLY)
+                    .period(new AnalysisPeriod(endDate.minusDays(6), endDate))
+                    .diaryCount(1)
+                    .build());
+            return analysisJobRepository.save(new AnalysisJob(analysis, LocalDateTime.now()));
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package com.momo.backend.application.analysis.latest;
+
+import com.momo.backend.application.analysis.AnalysisSnapshot;
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import com.momo.backend.domain.analysis.event.AnalysisFinishedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatestAnalysisCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final LatestAnalysisCache cache = new LatestAnalysisCache(
+            new LatestAnalysisCacheProperties(Duration.ofHours(1)), new SimpleMeterRegistry());
+
+    @Test
+    void 동시_미스는_한_번만_적재한다() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<Optional<AnalysisSnapshot>> slowLoader = () -> {
+            loads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.empty();
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<Optional<AnalysisSnapshot>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> cache.get(USER_ID, slowLoader)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<Optional<AnalysisSnapshot>> future : futures) {
+                assertThat(future.get()).isEmpty();
+            }
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.hitRatio()).isEqualTo(7 / 8.0);
+    }
+
+    @Test
+    void 완료_이벤트로만_무효화된다() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Optional<AnalysisSnapshot>> loader = () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        };
+
+        cache.get(USER_ID, loader);
+        cache.on(new AnalysisFinishedEvent(10L, USER_ID, AnalysisStatus.FAILED));
+        cache.get(USER_ID, loader);
+        assertThat(loads).hasValue(1);
+
+        cache.on(new AnalysisFinishedEvent(11L, USER_ID, AnalysisStatus.COMPLETED));
+        cache.get(USER_ID, loader);
+        assertThat(loads).hasValue(2);
+    }
+}
@@ -0,0 +1,82 @@
+package com.momo.backend.application.analysis.lexicon;
+
+import com.momo.backend.domain.diary.repository.DiaryAnalysisRow;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 어휘 사전 예비 점수 처리량 측정 (어절/초, 일기 한 건당 시간)
+ * 일기 한 건(약 300자)이 1ms 안에 끝나는지 본다.
+ * ./gradlew benchmark --tests '*LexiconEmotionScorerBenchmarkTest'
+ * */
+@Tag("benchmark")
+class LexiconEmotionScorerBenchmarkTest {
+
+    private static final int DIARIES = 10_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 10;
+    private static final String[] WORDS = {
+            "오늘은", "회사에서", "야근을", "해서", "너무", "피곤했다", "그래도", "저녁에", "친구와", "맛있는",
+            "밥을", "먹어서", "행복했다", "내일", "발표가", "조금", "걱정된다", "날씨가", "좋아서", "산책을",
+            "했더니", "마음이", "편안해졌다", "안", "좋은", "일도", "있었지만", "괜찮았다", "별일", "없는", "하루였다"
+    };
+
+    private final LexiconEmotionScorer scorer = new LexiconEmotionScorer();
+
+    @Test
+    void 어절_처리량과_일기당_시간() {
+        List<String> contents = sampleContents();
+        float[] weights = new float[9];
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            scoreAll(contents, weights);
+        }
+        long tokens = 0;
+        long startedAt = System.nanoTime();
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            tokens += scoreAll(contents, weights);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        double microsPerDiary = elapsedNanos / 1_000.0 / ((long) DIARIES * MEASURE_ROUNDS);
+        System.out.printf("일기 %,d건 x %d회: %,.0f tokens/s, 일기당 %.2fµs%n",
+                DIARIES, MEASURE_ROUNDS, tokens * 1e9 / elapsedNanos, microsPerDiary);
+
+        // 기간 점수(일기 변환 + 정렬 포함)도 한 번 확인
+        List<DiaryAnalysisRow> week = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            week.add(new DiaryAnalysisRow((long) i + 1, LocalDate.of(2025, 1, 1).plusDays(i), "neutral",
+                    contents.get(i), 0L));
+        }
+        assertThat(scorer.score(week).dominantEmotions()).isNotEmpty();
+        assertThat(microsPerDiary).isLessThan(1_000.0);
+    }
+
+    private long scoreAll(List<String> contents, float[] weights) {
+        long tokens = 0;
+        for (String content : contents) {
+            tokens += scorer.accumulate(content, weights);
+        }
+        return tokens;
+    }
+
+    private List<String> sampleContents() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<String> contents = new ArrayList<>(DIARIES);
+        for (int i = 0; i < DIARIES; i++) {
+            StringBuilder content = new StringBuilder();
+            while (content.length() < 300) {
+                content.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(8) == 0 ? ". " : " ");
+            }
+            contents.add(content.toString());
+        }
+        return contents;
+    }
+}
@@ -0,0 +1,45 @@
+package com.momo.backend.application.analysis.lexicon;
+
+import com.momo.backend.domain.diary.repository.DiaryAnalysisRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LexiconEmotionScorerTest {
+
+    private final LexiconEmotionScorer scorer = new LexiconEmotionScorer();
+
+    @Test
+    void 조사와_어미가_붙은_어휘도_어간으로_찾는다() {
+        PreliminaryEmotion result = scorer.score(List.of(
+                diary("neutral", "야근 때문에 너무 피곤했고 내일 발표가 걱정된다.")));
+
+        // 선택 감정 neutral 2.0, 야근 0.6 + 피곤 1.0, 걱정 1.0
+        assertThat(result.dominantEmotions()).containsExactly("neutral", "fatigue", "anxiety");
+    }
+
+    @Test
+    void 부정된_어휘는_세지_않는다() {
+        float[] weights = new float[9];
+
+        int tokens = scorer.accumulate("오늘은 안 좋았다. 기분이 좋아지지 않았다.", weights);
+
+        assertThat(tokens).isEqualTo(6);
+        assertThat(weights).containsOnly(0f);
+    }
+
+    @Test
+    void 본문에_감정_어휘가_없으면_선택한_감정으로_점수를_낸다() {
+        PreliminaryEmotion result = scorer.score(List.of(diary("happy", "점심으로 김밥을 먹었다.")));
+
+        assertThat(result.moodScore()).isEqualTo(9.0);
+        assertThat(result.dominantEmotions()).containsExactly("joy");
+    }
+
+    private DiaryAnalysisRow diary(String emotionType, String content) {
+        return new DiaryAnalysisRow(1L, LocalDate.of(2025, 1, 1), emotionType, content, 0L);
+    }
+}
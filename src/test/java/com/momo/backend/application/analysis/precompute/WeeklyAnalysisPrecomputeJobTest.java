@@ -0,0 +1,127 @@
+package com.momo.backend.application.analysis.precompute;
+
+import com.momo.backend.application.analysis.AnalysisCreation;
+import com.momo.backend.application.analysis.AnalysisService;
+import com.momo.backend.application.analysis.AnalysisSnapshot;
+import com.momo.backend.domain.analysis.entity.AnalysisBatchCheckpoint;
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.domain.analysis.repository.AnalysisBatchCheckpointRepository;
+import com.momo.backend.domain.diary.entity.Diary;
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 체크포인트 다음 사용자부터 이어서 처리하는지와, 다른 인스턴스가 체크포인트를 옮겼을 때 덮어쓰지 않고 멈추는지 확인한다.
+ * 분석 요청은 mock 으로 받아 사용자별 호출만 본다. 다른 테스트의 일기와 섞이지 않도록 먼 실행일을 쓴다.
+ * */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class WeeklyAnalysisPrecomputeJobTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2031, 6, 15);
+    private static final LocalDateTime NOW = RUN_DATE.atTime(2, 0);
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+    @Autowired
+    private AnalysisBatchCheckpointRepository checkpointRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final AnalysisService analysisService = mock(AnalysisService.class);
+    private WeeklyAnalysisPrecomputeJob job;
+
+    @BeforeEach
+    void setUp() {
+        checkpointRepository.deleteAll();
+        if (diaryRepository.findAllCalendarRows(80_001L).isEmpty()) {
+            LongStream.rangeClosed(80_001L, 80_005L).forEach(userId -> diaryRepository.save(Diary.builder()
+                    .userId(userId)
+                    .emotionType("happy")
+                    .content("사전 계산 대상")
+                    .diaryDate(RUN_DATE.minusDays(3))
+                    .build()));
+        }
+        given(analysisService.createAnalysis(anyLong(), eq(AnalysisType.WEEKLY.getValue())))
+                .willAnswer(invocation -> processing(invocation.getArgument(0)));
+
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.of("Asia/Seoul")).toInstant(), ZoneId.of("Asia/Seoul"));
+        job = new WeeklyAnalysisPrecomputeJob(diaryRepository, analysisService, checkpointRepository,
+                transactionTemplate, new WeeklyPrecomputeProperties(true, 2, 1000), clock);
+    }
+
+    @Test
+    void 같은_실행일의_체크포인트가_있으면_그_다음_사용자부터_이어서_처리한다() {
+        AnalysisBatchCheckpoint interrupted = new AnalysisBatchCheckpoint(WeeklyAnalysisPrecomputeJob.BATCH_NAME, RUN_DATE, NOW);
+        interrupted.advance(80_002L, 2, NOW);
+        checkpointRepository.save(interrupted);
+
+        job.run(RUN_DATE);
+
+        verify(analysisService, never()).createAnalysis(eq(80_001L), eq("weekly"));
+        verify(analysisService, never()).createAnalysis(eq(80_002L), eq("weekly"));
+        LongStream.rangeClosed(80_003L, 80_005L)
+                .forEach(userId -> verify(analysisService, times(1)).createAnalysis(eq(userId), eq("weekly")));
+        AnalysisBatchCheckpoint checkpoint = checkpointRepository.findById(WeeklyAnalysisPrecomputeJob.BATCH_NAME).orElseThrow();
+        assertThat(checkpoint.isCompleted()).isTrue();
+        assertThat(checkpoint.getLastUserId()).isEqualTo(80_005L);
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(5);
+    }
+
+    @Test
+    void 다른_인스턴스가_체크포인트를_옮기면_덮어쓰지_않고_멈춘다() {
+        // 첫 청크(80001, 80002)를 처리하는 사이 다른 인스턴스가 80004 까지 진행했다
+        given(analysisService.createAnalysis(80_001L, "weekly")).willAnswer(invocation -> {
+            transactionTemplate.executeWithoutResult(status -> checkpointRepository
+                    .findById(WeeklyAnalysisPrecomputeJob.BATCH_NAME).orElseThrow()
+                    .advance(80_004L, 4, NOW));
+            return processing(80_001L);
+        });
+
+        job.run(RUN_DATE);
+
+        verify(analysisService, never()).createAnalysis(eq(80_003L), eq("weekly"));
+        AnalysisBatchCheckpoint checkpoint = checkpointRepository.findById(WeeklyAnalysisPrecomputeJob.BATCH_NAME).orElseThrow();
+        assertThat(checkpoint.getLastUserId()).isEqualTo(80_004L);
+        assertThat(checkpoint.isCompleted()).isFalse();
+
+        // 실행 중 표시가 풀려 다음 실행은 옮겨진 위치부터 이어서 끝낸다
+        job.run(RUN_DATE);
+
+        verify(analysisService, times(1)).createAnalysis(eq(80_005L), eq("weekly"));
+        verify(analysisService, never()).createAnalysis(eq(80_003L), eq("weekly"));
+        assertThat(checkpointRepository.findById(WeeklyAnalysisPrecomputeJob.BATCH_NAME).orElseThrow().isCompleted()).isTrue();
+    }
+
+    private static AnalysisCreation processing(Long userId) {
+        AnalysisSnapshot analysis = new AnalysisSnapshot(userId, userId, AnalysisType.WEEKLY, AnalysisStatus.PROCESSING,
+                AnalysisType.WEEKLY.periodEndingAt(RUN_DATE), 1, null, NOW, null);
+        return new AnalysisCreation(analysis, Duration.ofSeconds(30), null);
+    }
+}
@@ -0,0 +1,145 @@
+package com.momo.backend.application.analysis.provider;
+
+import com.momo.backend.application.analysis.rollup.EmotionStatistics;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.domain.diary.repository.DiaryAnalysisRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmotionAnalysisGatewayTest {
+
+    private static final EmotionAnalysisRequest REQUEST = new EmotionAnalysisRequest(AnalysisType.DAILY,
+            new EmotionStatistics(1, 9.0, List.of("joy"), "low", "좋음"),
+            List.of(new DiaryAnalysisRow(1L, LocalDate.of(2025, 1, 1), "happy", "좋은 하루", 0L)));
+    private static final EmotionNarrative RESULT = new EmotionNarrative("오늘 하루 동안 'joy' 감정이 가장 많이 나타났습니다.", "stub-1");
+
+    @Test
+    void 제한_시간을_넘긴_호출은_취소하고_재시도한다() {
+        AtomicInteger calls = new AtomicInteger();
+        EmotionAnalysisGateway gateway = gateway(request -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(5_000);
+            }
+            return RESULT;
+        }, properties(3, 5));
+
+        assertThat(gateway.analyze(REQUEST)).isEqualTo(RESULT);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void 재시도할_수_없는_실패는_바로_전달한다() {
+        AtomicInteger calls = new AtomicInteger();
+        EmotionAnalysisGateway gateway = gateway(request -> {
+            calls.incrementAndGet();
+            throw new EmotionAnalysisException("잘못된 입력", false);
+        }, properties(3, 5));
+
+        assertThatThrownBy(() -> gateway.analyze(REQUEST))
+                .isInstanceOf(EmotionAnalysisException.class)
+                .satisfies(e -> assertThat(((EmotionAnalysisException) e).isRetryable()).isFalse());
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void 연속_실패가_임계치에_닿으면_모델을_호출하지_않는다() {
+        AtomicInteger calls = new AtomicInteger();
+        EmotionAnalysisGateway gateway = gateway(request -> {
+            calls.incrementAndGet();
+            throw new EmotionAnalysisException("모델 오류", true);
+        }, properties(1, 3));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> gateway.analyze(REQUEST)).isInstanceOf(EmotionAnalysisException.class);
+        }
+        assertThatThrownBy(() -> gateway.analyze(REQUEST))
+                .isInstanceOf(EmotionAnalysisException.class)
+                .hasMessageContaining("circuit open");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void 동시_호출_수는_bulkhead_한도를_넘지_않는다() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        EmotionAnalysisGateway gateway = gateway(request -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(20);
+            inFlight.decrementAndGet();
+            return RESULT;
+        }, properties(3, 100));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<EmotionNarrative>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> gateway.analyze(REQUEST)));
+            }
+            for (Future<EmotionNarrative> future : futures) {
+                assertThat(future.get()).isEqualTo(RESULT);
+            }
+        }
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void 서킷은_열린_시간이_지나면_시험_호출_성공으로_닫힌다() {
+        long[] now = {0L};
+        ProviderCircuitBreaker circuitBreaker = new ProviderCircuitBreaker(2, 1_000, () -> now[0]);
+
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+        now[0] = 1_000;
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse(); // 시험 호출은 1건만
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.state()).isEqualTo(ProviderCircuitBreaker.State.CLOSED);
+    }
+
+    private EmotionAnalysisGateway gateway(TestProvider provider, AnalysisProviderProperties properties) {
+        return new EmotionAnalysisGateway(new EmotionAnalysisProvider() {
+            @Override
+            public String name() {
+                return "test";
+            }
+
+            @Override
+            public EmotionNarrative analyze(EmotionAnalysisRequest request) {
+                return provider.analyze(request);
+            }
+        }, properties, new SimpleMeterRegistry());
+    }
+
+    private AnalysisProviderProperties properties(int maxAttempts, int circuitFailureThreshold) {
+        return new AnalysisProviderProperties("test", Duration.ofMillis(200), 2, Duration.ofSeconds(5),
+                maxAttempts, Duration.ofMillis(10), Duration.ofMillis(50),
+                circuitFailureThreshold, Duration.ofMinutes(1));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmotionAnalysisException("중단", false, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface TestProvider {
+        EmotionNarrative analyze(EmotionAnalysisRequest request);
+    }
+}
@@ -0,0 +1,96 @@
+package com.momo.backend.application.analysis.provider;
+
+import com.momo.backend.application.analysis.rollup.EmotionRollup;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.domain.diary.repository.DiaryAnalysisRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * stub 모델로 지연 꼬리(느린 호출 1%)와 실패(5%)가 있을 때 게이트웨이 처리량/지연 분포 측정
+ * 타임아웃이 느린 호출을 잘라내 p99 가 slowCallLatency 가 아니라 timeout + 재시도 시간 근처에 머무는지 본다.
+ * ./gradlew benchmark --tests '*StubEmotionAnalysisProviderBenchmarkTest'
+ * */
+@Tag("benchmark")
+class StubEmotionAnalysisProviderBenchmarkTest {
+
+    private static final int WORKERS = 8;
+    private static final int REQUESTS = 800;
+
+    @Test
+    void 지연_꼬리와_실패가_있는_모델의_처리량과_지연() throws Exception {
+        StubEmotionAnalysisProvider provider = new StubEmotionAnalysisProvider(
+                new StubAnalysisProviderProperties(Duration.ofMillis(20), Duration.ofMillis(30),
+                        0.01, Duration.ofSeconds(5), 0.05, 42L));
+        EmotionAnalysisGateway gateway = new EmotionAnalysisGateway(provider,
+                new AnalysisProviderProperties("stub", Duration.ofMillis(200), 4, Duration.ofSeconds(10),
+                        3, Duration.ofMillis(20), Duration.ofMillis(200), 50, Duration.ofSeconds(1)),
+                new SimpleMeterRegistry());
+        List<DiaryAnalysisRow> diaries = sampleDiaries();
+        EmotionAnalysisRequest request = new EmotionAnalysisRequest(AnalysisType.WEEKLY,
+                EmotionRollup.recompute(diaries), diaries);
+
+        long[] latencies = new long[REQUESTS];
+        int failures = 0;
+        long startedAt = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(WORKERS)) {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    long callStartedAt = System.nanoTime();
+                    try {
+                        gateway.analyze(request);
+                        return true;
+                    } catch (EmotionAnalysisException e) {
+                        return false;
+                    } finally {
+                        latencies[index] = System.nanoTime() - callStartedAt;
+                    }
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                failures += future.get() ? 0 : 1;
+            }
+        } finally {
+            gateway.stop();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        System.out.printf("요청 %,d건 / 워커 %d: %.1f req/s, 실패 %d건, p50 %dms, p99 %dms, max %dms%n",
+                REQUESTS, WORKERS, REQUESTS * 1e9 / elapsedNanos, failures,
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99),
+                latencies[latencies.length - 1] / 1_000_000);
+
+        // 느린 호출(5초)은 타임아웃(200ms)으로 잘려야 한다
+        assertThat(latencies[latencies.length - 1]).isLessThan(Duration.ofSeconds(2).toNanos());
+    }
+
+    private long percentileMillis(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000;
+    }
+
+    private List<DiaryAnalysisRow> sampleDiaries() {
+        String[] emotions = {"happy", "calm", "tired", "anxious", "happy", "neutral", "sad"};
+        List<DiaryAnalysisRow> diaries = new ArrayList<>();
+        for (int i = 0; i < emotions.length; i++) {
+            diaries.add(new DiaryAnalysisRow((long) i + 1, LocalDate.of(2025, 1, 1).plusDays(i), emotions[i],
+                    "오늘의 일기", 0L));
+        }
+        return diaries;
+    }
+}
@@ -0,0 +1,87 @@
+package com.momo.backend.application.analysis.recommendation;
+
+import com.momo.backend.application.analysis.rollup.EmotionStatistics;
+import com.momo.backend.domain.diary.entity.EmotionType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 추천 규칙 수백 개에서 선택 지연 측정
+ * 색인 조회(select)와 엔티티 생성까지 포함한 recommend 를 나눠 본다.
+ * ./gradlew benchmark --tests '*RecommendationRuleIndexBenchmarkTest'
+ * */
+@Tag("benchmark")
+class RecommendationRuleIndexBenchmarkTest {
+
+    private static final int RULES = 600;
+    private static final int INPUTS = 4_096;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURE_ROUNDS = 1_000;
+    private static final String[] RISK_LEVELS = {"low", "medium", "high"};
+    private static final String[] TYPES = {"walking", "meditation", "shower", "nap", "journaling", "talking",
+            "stretching", "sleep", "music", "reading"};
+
+    @Test
+    void 규칙_600개_선택_지연() {
+        SplittableRandom random = new SplittableRandom(42);
+        long compileStartedAt = System.nanoTime();
+        RecommendationRuleIndex index = RecommendationRuleIndex.compile(catalog(random), 4);
+        long compileNanos = System.nanoTime() - compileStartedAt;
+        EmotionStatistics[] inputs = inputs(random);
+
+        long sink = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sink += selectAll(index, inputs);
+        }
+        long startedAt = System.nanoTime();
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            sink += selectAll(index, inputs);
+        }
+        double nanosPerSelect = (double) (System.nanoTime() - startedAt) / ((long) INPUTS * MEASURE_ROUNDS);
+
+        System.out.printf("규칙 %d개: 색인 생성 %.1fms, 선택 %.1fns/회 (sink %d)%n",
+                RULES, compileNanos / 1e6, nanosPerSelect, sink);
+        assertThat(nanosPerSelect).isLessThan(1_000.0);
+    }
+
+    private long selectAll(RecommendationRuleIndex index, EmotionStatistics[] inputs) {
+        long selected = 0;
+        for (EmotionStatistics statistics : inputs) {
+            selected += index.select(statistics).size();
+        }
+        return selected;
+    }
+
+    private List<RecommendationRule> catalog(SplittableRandom random) {
+        EmotionType[] emotions = EmotionType.values();
+        List<RecommendationRule> rules = new ArrayList<>(RULES);
+        for (int i = 0; i < RULES; i++) {
+            EmotionType emotion = random.nextInt(4) == 0 ? null : emotions[random.nextInt(emotions.length)];
+            String riskLevel = random.nextInt(3) == 0 ? null : RISK_LEVELS[random.nextInt(RISK_LEVELS.length)];
+            int minMoodBand = 1 + random.nextInt(10);
+            int maxMoodBand = minMoodBand + random.nextInt(11 - minMoodBand);
+            String type = TYPES[random.nextInt(TYPES.length)];
+            rules.add(new RecommendationRule(emotion, riskLevel, minMoodBand, maxMoodBand,
+                    new RecommendationTemplate(type, type + " " + i, "설명 " + i, 5 + random.nextInt(25), "medium")));
+        }
+        return rules;
+    }
+
+    private EmotionStatistics[] inputs(SplittableRandom random) {
+        EmotionType[] emotions = EmotionType.values();
+        EmotionStatistics[] inputs = new EmotionStatistics[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            double moodScore = 1 + random.nextInt(91) / 10.0;
+            String emotion = EmotionStatistics.emotionNameOf(emotions[random.nextInt(emotions.length)]);
+            inputs[i] = new EmotionStatistics(7, moodScore, List.of(emotion),
+                    RISK_LEVELS[random.nextInt(RISK_LEVELS.length)], "보통");
+        }
+        return inputs;
+    }
+}
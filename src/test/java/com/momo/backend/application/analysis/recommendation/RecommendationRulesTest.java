@@ -0,0 +1,78 @@
+package com.momo.backend.application.analysis.recommendation;
+
+import com.momo.backend.application.analysis.rollup.EmotionStatistics;
+import com.momo.backend.domain.analysis.entity.AnalysisRecommendation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecommendationRulesTest {
+
+    private static final EmotionStatistics TIRED_WEEK =
+            new EmotionStatistics(5, 4.2, List.of("fatigue", "neutral"), "medium", "다소 가라앉음");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 구체적인_규칙이_먼저_선택되고_같은_타입은_한_번만_나온다() throws IOException {
+        RecommendationRules rules = rulesFrom(write("""
+                *	*	*	walking	가벼운 산책	설명	15	high
+                *	*	*	nap	짧은 낮잠	설명	20	low
+                fatigue	*	*	nap	낮잠	설명	20	high
+                fatigue	medium	4-5	sleep	이른 취침	설명	30	high
+                anger	*	*	walking	빠르게 걷기	설명	10	high
+                """));
+
+        assertThat(rules.recommend(TIRED_WEEK))
+                .extracting(AnalysisRecommendation::getTitle)
+                .containsExactly("이른 취침", "낮잠", "가벼운 산책");
+    }
+
+    @Test
+    void 파일이_바뀌면_다시_로드하고_오류가_있으면_기존_규칙을_유지한다() throws IOException {
+        Path file = write("*\t*\t*\twalking\t가벼운 산책\t설명\t15\thigh\n");
+        RecommendationRules rules = rulesFrom(file);
+
+        Files.writeString(file, "*\t*\t*\tnap\t짧은 낮잠\t설명\t20\tlow\n");
+        Files.setLastModifiedTime(file, Files.getLastModifiedTime(file).plus(Duration.ofSeconds(1)));
+        rules.reloadIfChanged();
+        assertThat(rules.recommend(TIRED_WEEK)).extracting(AnalysisRecommendation::getType).containsExactly("nap");
+
+        Files.writeString(file, "*\tsevere\t*\tnap\t짧은 낮잠\t설명\t20\tlow\n");
+        Files.setLastModifiedTime(file, Files.getLastModifiedTime(file).plus(Duration.ofSeconds(2)));
+        rules.reloadIfChanged();
+        assertThat(rules.recommend(TIRED_WEEK)).extracting(AnalysisRecommendation::getType).containsExactly("nap");
+    }
+
+    @Test
+    void 기본_규칙은_모든_위험도에_추천을_낸다() {
+        RecommendationRules rules = new RecommendationRules(
+                new RecommendationRuleProperties("classpath:analysis/recommendation-rules.tsv", Duration.ofMinutes(1), 4),
+                new DefaultResourceLoader(), new SimpleMeterRegistry());
+
+        for (String riskLevel : List.of("low", "medium", "high")) {
+            EmotionStatistics statistics = new EmotionStatistics(3, 5.0, List.of("neutral"), riskLevel, "보통");
+            assertThat(rules.recommend(statistics)).isNotEmpty().hasSizeLessThanOrEqualTo(4);
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(directory.resolve("rules.tsv"), content);
+    }
+
+    private RecommendationRules rulesFrom(Path file) {
+        return new RecommendationRules(
+                new RecommendationRuleProperties(file.toUri().toString(), Duration.ofMinutes(1), 4),
+                new DefaultResourceLoader(), new SimpleMeterRegistry());
+    }
+}
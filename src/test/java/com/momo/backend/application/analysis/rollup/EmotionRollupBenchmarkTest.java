@@ -0,0 +1,105 @@
+package com.momo.backend.application.analysis.rollup;
+
+import com.momo.backend.domain.analysis.entity.AnalysisPeriod;
+import com.momo.backend.domain.diary.entity.Diary;
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월간 통계: 일 단위 부분 집계 합산(롤업)과 일기 전체 재계산 비교
+ * 재계산은 기간 일기를 본문까지 읽어(압축 해제 포함) 다시 세고, 롤업은 작은 부분 집계 행만 읽어 합친다.
+ * ./gradlew benchmark --tests '*EmotionRollupBenchmarkTest'
+ * */
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.momo.backend=WARN"
+})
+class EmotionRollupBenchmarkTest {
+
+    private static final long USER_ID_OFFSET = 30_000L;
+    private static final int USERS = 100;
+    private static final int DAYS = 90;
+    private static final LocalDate LAST_DAY = LocalDate.of(2025, 3, 31);
+    private static final String[] EMOTIONS = {"happy", "excited", "calm", "neutral", "tired", "anxious", "sad", "angry"};
+    private static final String CONTENT = "오늘은 회사에서 발표가 있어서 긴장했지만 무사히 끝났다. 저녁에는 친구들과 맛있는 음식을 먹었다. ".repeat(8);
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+    @Autowired
+    private DailyEmotionPartialProjector partialProjector;
+    @Autowired
+    private EmotionRollup emotionRollup;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void 월간_통계_롤업과_전체_재계산_비교() {
+        seed();
+        AnalysisPeriod monthly = new AnalysisPeriod(LAST_DAY.minusDays(29), LAST_DAY);
+
+        // 두 방식의 결과가 같아야 한다
+        for (int user = 0; user < USERS; user++) {
+            long userId = USER_ID_OFFSET + user;
+            assertThat(emotionRollup.fromPartials(userId, monthly).orElseThrow())
+                    .isEqualTo(recompute(userId, monthly));
+        }
+
+        for (int round = 0; round < 3; round++) {
+            long recomputeNanos = measure(() -> {
+                for (int user = 0; user < USERS; user++) {
+                    recompute(USER_ID_OFFSET + user, monthly);
+                }
+            });
+            long rollupNanos = measure(() -> {
+                for (int user = 0; user < USERS; user++) {
+                    emotionRollup.fromPartials(USER_ID_OFFSET + user, monthly).orElseThrow();
+                }
+            });
+            System.out.printf("[%d회차] 월간 통계 %d명: 전체 재계산 %,d us/건, 롤업 %,d us/건 (%.1f배)%n",
+                    round + 1, USERS, recomputeNanos / USERS / 1_000, rollupNanos / USERS / 1_000,
+                    (double) recomputeNanos / rollupNanos);
+        }
+    }
+
+    private EmotionStatistics recompute(long userId, AnalysisPeriod period) {
+        return EmotionRollup.recompute(diaryRepository.findAnalysisRows(userId, period.startDate(), period.endDate()));
+    }
+
+    private void seed() {
+        for (int user = 0; user < USERS; user++) {
+            long userId = USER_ID_OFFSET + user;
+            List<Diary> diaries = new ArrayList<>(DAYS);
+            for (int day = 0; day < DAYS; day++) {
+                diaries.add(Diary.builder()
+                        .userId(userId)
+                        .emotionType(EMOTIONS[(user + day * 3) % EMOTIONS.length])
+                        .content(CONTENT)
+                        .diaryDate(LAST_DAY.minusDays(day))
+                        .build());
+            }
+            transactionTemplate.executeWithoutResult(status -> diaryRepository.saveAll(diaries));
+            partialProjector.rebuildUser(userId);
+        }
+    }
+
+    private long measure(Runnable task) {
+        long startedAt = System.nanoTime();
+        task.run();
+        return System.nanoTime() - startedAt;
+    }
+}
@@ -0,0 +1,59 @@
+package com.momo.backend.application.diary;
+
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DiaryCursorTest {
+
+    @Test
+    void 인코딩한_커서를_그대로_되돌린다() {
+        DiaryCursor cursor = new DiaryCursor(LocalDate.of(2025, 1, 3), 12345L);
+
+        assertThat(DiaryCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 빈_커서는_첫_페이지다() {
+        assertThat(DiaryCursor.decode("")).isNull();
+        assertThat(DiaryCursor.decode(" ")).isNull();
+    }
+
+    /**
+     * 어떤 형태로 깨진 커서든 500 이 아니라 400(INVALID_DIARY_CURSOR)으로 끝나야 한다.
+     * */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "!!!not-base64!!!",
+            "no-delimiter",
+            "2025-01-03_",
+            "_12345",
+            "2025-13-40_1",
+            "2025-01-03_abc",
+            "2025-01-03_99999999999999999999",
+            "2025-01-03_1_2"
+    })
+    void 잘못된_커서는_400_오류로_거절한다(String raw) {
+        String cursor = raw.startsWith("!") ? raw : encode(raw);
+
+        assertThatThrownBy(() -> DiaryCursor.decode(cursor))
+                .isInstanceOfSatisfying(BusinessException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_DIARY_CURSOR);
+                    assertThat(e.getErrorCode().getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                });
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,92 @@
+package com.momo.backend.application.diary.calendar;
+
+import com.momo.backend.domain.diary.entity.CalendarMonthDays;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 버전 비교(putIfNewer)와, 조회 요청이 읽는 사이 갱신·무효화된 경우 읽은 값을 버리는지(세대 비교) 확인한다.
+ * */
+class DiaryCalendarCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final YearMonth MONTH = YearMonth.of(2025, 1);
+
+    private final DiaryCalendarCache cache = new DiaryCalendarCache(new DiaryCalendarProperties(100, 500));
+
+    @Test
+    void 커밋_후_갱신은_더_오래된_버전으로_최신_값을_덮어쓰지_않는다() {
+        cache.putIfNewer(snapshot(3L, 103L));
+        cache.putIfNewer(snapshot(2L, 102L));
+
+        assertThat(cache.get(USER_ID, MONTH).version()).isEqualTo(3L);
+
+        cache.putIfNewer(snapshot(4L, 104L));
+        assertThat(cache.get(USER_ID, MONTH).version()).isEqualTo(4L);
+    }
+
+    @Test
+    void 조회가_읽는_사이_행이_삭제되면_읽어_둔_이전_행을_다시_넣지_못한다() {
+        cache.putIfNewer(snapshot(5L, 105L));
+        cache.evict(USER_ID, MONTH);
+
+        // 조회 요청: 세대를 받고 삭제 전 행(version 5)을 읽었다
+        long generation = cache.generation(USER_ID, MONTH);
+        // 프로젝터: 일기가 모두 지워져 행 삭제 후 툼스톤
+        cache.evict(USER_ID, MONTH);
+        cache.putLoaded(snapshot(5L, 105L), generation);
+
+        assertThat(cache.get(USER_ID, MONTH)).isNull();
+    }
+
+    @Test
+    void 캐시에_없던_달도_읽는_사이_무효화되면_저장하지_않는다() {
+        long generation = cache.generation(USER_ID, MONTH);
+        cache.evictUser(USER_ID);
+        cache.putLoaded(snapshot(1L, 101L), generation);
+
+        assertThat(cache.get(USER_ID, MONTH)).isNull();
+    }
+
+    @Test
+    void 조회가_읽는_사이_커밋_후_갱신이_끝나면_읽은_값은_버리고_갱신값을_유지한다() {
+        long generation = cache.generation(USER_ID, MONTH);
+        cache.putIfNewer(snapshot(0L, 200L));
+        cache.putLoaded(snapshot(7L, 107L), generation);
+
+        // 지웠다 다시 만든 행(version 0)이 이전 행(version 7)보다 최신이다
+        assertThat(cache.get(USER_ID, MONTH).days().diaryIdAt(1)).isEqualTo(200L);
+    }
+
+    @Test
+    void 무효화_뒤에_시작한_조회와_다시_만들어진_행은_저장된다() {
+        cache.putIfNewer(snapshot(9L, 109L));
+        cache.evict(USER_ID, MONTH);
+
+        long generation = cache.generation(USER_ID, MONTH);
+        cache.putLoaded(snapshot(0L, 300L), generation);
+        assertThat(cache.get(USER_ID, MONTH).days().diaryIdAt(1)).isEqualTo(300L);
+
+        cache.evict(USER_ID, MONTH);
+        cache.putIfNewer(snapshot(0L, 301L));
+        assertThat(cache.get(USER_ID, MONTH).days().diaryIdAt(1)).isEqualTo(301L);
+    }
+
+    @Test
+    void 다른_사용자의_엔트리는_무효화하지_않는다() {
+        cache.putIfNewer(snapshot(1L, 101L));
+        cache.putIfNewer(new DiaryCalendarSnapshot(2L, MONTH, CalendarMonthDays.empty().with(1, 201L, (byte) 1), 1L));
+
+        cache.evictUser(USER_ID);
+
+        assertThat(cache.get(USER_ID, MONTH)).isNull();
+        assertThat(cache.get(2L, MONTH)).isNotNull();
+    }
+
+    private static DiaryCalendarSnapshot snapshot(long version, long diaryId) {
+        return new DiaryCalendarSnapshot(USER_ID, MONTH, CalendarMonthDays.empty().with(1, diaryId, (byte) 1), version);
+    }
+}
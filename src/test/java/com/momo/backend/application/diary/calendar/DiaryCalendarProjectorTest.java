@@ -0,0 +1,173 @@
+package com.momo.backend.application.diary.calendar;
+
+import com.momo.backend.domain.diary.entity.Diary;
+import com.momo.backend.domain.diary.entity.DiaryCalendarMonth;
+import com.momo.backend.domain.diary.event.DiaryChangedEvent;
+import com.momo.backend.domain.diary.repository.DiaryCalendarMonthRepository;
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 캘린더 프로젝션의 커밋 후 갱신, 충돌 재시도와 실패 시 행 삭제(reconcileLater),
+ * 조회가 삭제 전 행을 읽은 사이 프로젝터가 행을 지운 경우의 캐시를 확인한다.
+ * 충돌은 실제 저장소에 위임하는 mock 저장소로 만든다. 테스트마다 다른 사용자 id 를 쓴다.
+ * */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class DiaryCalendarProjectorTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 6);
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+    @Autowired
+    private DiaryCalendarMonthRepository calendarMonthRepository;
+    @Autowired
+    private DiaryCalendarProjector calendarProjector;
+    @Autowired
+    private DiaryCalendarService calendarService;
+    @Autowired
+    private DiaryCalendarCache calendarCache;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void 커밋된_일기_변경은_커밋_후_프로젝션과_캐시에_반영된다() {
+        Diary diary = write(91_001L, "happy", MONTH.atDay(3));
+
+        DiaryCalendarMonth month = projection(91_001L).orElseThrow();
+        assertThat(month.getDays().diaryIdAt(3)).isEqualTo(diary.getId());
+        assertThat(calendarCache.get(91_001L, MONTH).days().diaryIdAt(3)).isEqualTo(diary.getId());
+    }
+
+    @Test
+    void 롤백된_일기_변경은_프로젝션에_반영하지_않는다() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Diary diary = diaryRepository.save(diary(91_002L, "sad", MONTH.atDay(4)));
+            eventPublisher.publishEvent(DiaryChangedEvent.of(diary, DiaryChangedEvent.ChangeType.CREATED));
+            status.setRollbackOnly();
+        });
+
+        assertThat(projection(91_002L)).isEmpty();
+    }
+
+    @Test
+    void 동시_갱신_충돌은_다시_읽어_재시도한다() {
+        Diary diary = diaryRepository.save(diary(91_003L, "calm", MONTH.atDay(5)));
+        DiaryCalendarMonthRepository conflicting = delegating();
+        willThrow(conflict(), conflict())
+                .willAnswer(invocation -> calendarMonthRepository.saveAndFlush(invocation.getArgument(0)))
+                .given(conflicting).saveAndFlush(any());
+
+        projector(conflicting).project(91_003L, MONTH);
+
+        verify(conflicting, times(3)).saveAndFlush(any());
+        assertThat(projection(91_003L).orElseThrow().getDays().diaryIdAt(5)).isEqualTo(diary.getId());
+    }
+
+    @Test
+    void 재시도해도_실패하면_행을_지우고_조회는_일기_테이블에서_계산한다() {
+        Diary first = write(91_004L, "happy", MONTH.atDay(1));
+        Diary second = diaryRepository.save(diary(91_004L, "sad", MONTH.atDay(2)));
+        DiaryCalendarMonthRepository conflicting = delegating();
+        willThrow(conflict()).given(conflicting).saveAndFlush(any());
+
+        projector(conflicting).project(91_004L, MONTH);
+
+        verify(conflicting, times(3)).saveAndFlush(any());
+        assertThat(projection(91_004L)).isEmpty();
+        assertThat(calendarCache.get(91_004L, MONTH)).isNull();
+        DiaryCalendarSnapshot computed = calendarService.getCalendar(91_004L, MONTH);
+        assertThat(computed.days().diaryIdAt(1)).isEqualTo(first.getId());
+        assertThat(computed.days().diaryIdAt(2)).isEqualTo(second.getId());
+    }
+
+    @Test
+    void 조회가_읽은_행이_그사이_삭제되면_이전_스냅샷을_캐시에_다시_넣지_않는다() {
+        Diary diary = write(91_005L, "happy", MONTH.atDay(6));
+        calendarCache.evict(91_005L, MONTH);
+
+        // 조회가 행을 읽은 직후, 응답을 캐시에 넣기 전에 일기 삭제가 커밋되고 프로젝터가 행을 지운다
+        DiaryCalendarMonthRepository racing = delegating();
+        willAnswer(invocation -> {
+            Optional<DiaryCalendarMonth> loaded =
+                    calendarMonthRepository.findByUserIdAndYearMonth(invocation.getArgument(0), invocation.getArgument(1));
+            transactionTemplate.executeWithoutResult(status -> {
+                diaryRepository.delete(diaryRepository.findById(diary.getId()).orElseThrow());
+                eventPublisher.publishEvent(DiaryChangedEvent.of(diary, DiaryChangedEvent.ChangeType.DELETED));
+            });
+            return loaded;
+        }).given(racing).findByUserIdAndYearMonth(anyLong(), anyInt());
+
+        DiaryCalendarSnapshot stale = new DiaryCalendarService(racing, calendarProjector, calendarCache)
+                .getCalendar(91_005L, MONTH);
+
+        assertThat(stale.days().has(6)).isTrue();
+        assertThat(projection(91_005L)).isEmpty();
+        assertThat(calendarCache.get(91_005L, MONTH)).isNull();
+        assertThat(calendarService.getCalendar(91_005L, MONTH).days().count()).isZero();
+    }
+
+    private Diary write(Long userId, String emotionType, LocalDate diaryDate) {
+        return transactionTemplate.execute(status -> {
+            Diary diary = diaryRepository.save(diary(userId, emotionType, diaryDate));
+            eventPublisher.publishEvent(DiaryChangedEvent.of(diary, DiaryChangedEvent.ChangeType.CREATED));
+            return diary;
+        });
+    }
+
+    private Optional<DiaryCalendarMonth> projection(Long userId) {
+        return calendarMonthRepository.findByUserIdAndYearMonth(userId, DiaryCalendarMonth.toKey(MONTH));
+    }
+
+    private DiaryCalendarMonthRepository delegating() {
+        return mock(DiaryCalendarMonthRepository.class, delegatesTo(calendarMonthRepository));
+    }
+
+    private DiaryCalendarProjector projector(DiaryCalendarMonthRepository repository) {
+        return new DiaryCalendarProjector(diaryRepository, repository, calendarCache, transactionManager);
+    }
+
+    private static ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException(DiaryCalendarMonth.class, 0L);
+    }
+
+    private static Diary diary(Long userId, String emotionType, LocalDate diaryDate) {
+        return Diary.builder()
+                .userId(userId)
+                .emotionType(emotionType)
+                .content("캘린더 테스트 일기")
+                .diaryDate(diaryDate)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.momo.backend.application.diary.search;
+
+import com.momo.backend.domain.diary.repository.DiarySearchCondition;
+import com.momo.backend.domain.diary.repository.DiarySearchRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserDiaryIndexTest {
+
+    private static final DiarySearchCondition NO_FILTER = new DiarySearchCondition(null, null);
+
+    private UserDiaryIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserDiaryIndex();
+        index.tryStartLoading();
+        index.load(List.of(
+                new DiarySearchRow(1L, LocalDate.of(2025, 1, 1), "happy", "친구들과 카페에서 행복한 시간을 보냈다."),
+                new DiarySearchRow(2L, LocalDate.of(2025, 1, 2), "sad", "비가 와서 하루 종일 우울했다."),
+                new DiarySearchRow(3L, LocalDate.of(2025, 1, 3), "calm", "조용한 카페에서 책을 읽었다. 카페 음악이 좋았다.")
+        ));
+    }
+
+    @Test
+    void 조사가_붙은_어절도_바이그램으로_검색된다() {
+        DiarySearchHits hits = index.search("행복", NO_FILTER, 0, 10);
+
+        assertThat(hits.diaryIds()).containsExactly(1L);
+        assertThat(hits.totalCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 검색어가_많이_등장한_일기가_먼저_나온다() {
+        DiarySearchHits hits = index.search("카페", NO_FILTER, 0, 10);
+
+        assertThat(hits.diaryIds()).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void 모든_어절을_포함해야_한다() {
+        assertThat(index.search("카페 책", NO_FILTER, 0, 10).diaryIds()).containsExactly(3L);
+    }
+
+    @Test
+    void 감정과_시작날짜_필터를_적용한다() {
+        assertThat(index.search("카페", new DiarySearchCondition("happy", null), 0, 10).diaryIds())
+                .containsExactly(1L);
+        assertThat(index.search("카페", new DiarySearchCondition(null, LocalDate.of(2025, 1, 2)), 0, 10).diaryIds())
+                .containsExactly(3L);
+    }
+
+    @Test
+    void 페이지_단위로_잘라서_반환한다() {
+        DiarySearchHits hits = index.search("카페", NO_FILTER, 1, 1);
+
+        assertThat(hits.diaryIds()).containsExactly(1L);
+        assertThat(hits.totalCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 수정과_삭제가_색인에_반영된다() {
+        index.upsert(2L, LocalDate.of(2025, 1, 2), "happy", "날씨는 흐렸지만 카페에 갔다.");
+        assertThat(index.search("우울", NO_FILTER, 0, 10).diaryIds()).isEmpty();
+        assertThat(index.search("카페", NO_FILTER, 0, 10).totalCount()).isEqualTo(3);
+
+        index.remove(3L);
+        assertThat(index.search("카페", NO_FILTER, 0, 10).diaryIds()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 적재_중_변경된_일기는_적재_데이터가_덮어쓰지_않는다() {
+        UserDiaryIndex loading = new UserDiaryIndex();
+        loading.tryStartLoading();
+        loading.upsert(1L, LocalDate.of(2025, 1, 1), "happy", "새로 고친 내용");
+        loading.remove(2L);
+
+        loading.load(List.of(
+                new DiarySearchRow(1L, LocalDate.of(2025, 1, 1), "happy", "예전 내용"),
+                new DiarySearchRow(2L, LocalDate.of(2025, 1, 2), "sad", "삭제된 내용")
+        ));
+
+        assertThat(loading.search("예전", NO_FILTER, 0, 10).diaryIds()).isEmpty();
+        assertThat(loading.search("삭제", NO_FILTER, 0, 10).diaryIds()).isEmpty();
+        assertThat(loading.search("고친", NO_FILTER, 0, 10).diaryIds()).containsExactly(1L);
+    }
+
+    @Test
+    void 한_글자_검색어는_그_글자를_포함한_용어로_찾는다() {
+        assertThat(index.search("책", NO_FILTER, 0, 10).diaryIds()).containsExactly(3L);
+    }
+}
@@ -0,0 +1,136 @@
+package com.momo.backend.application.diary.today;
+
+import com.momo.backend.application.diary.DiarySnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodayDiaryCacheTest {
+
+    private static final Long USER_ID = 1L;
+    // 서비스 시간대 (momo.zone 기본값) - UTC 자정과 9시간 차이가 나도록 일부러 UTC 가 아닌 시간대로 둔다
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final MutableClock clock = new MutableClock(ZonedDateTime.of(2025, 1, 4, 23, 59, 0, 0, ZONE).toInstant());
+    private final TodayDiaryCache cache = new TodayDiaryCache(clock, new SimpleMeterRegistry());
+    private final List<LocalDate> loadedDays = new ArrayList<>();
+
+    @Test
+    void 서비스_시간대의_자정이_지나면_새_날짜로_다시_읽는다() {
+        Function<LocalDate, Optional<DiarySnapshot>> loader = recording(day -> Optional.of(diary(day)));
+
+        assertThat(cache.get(USER_ID, loader)).map(DiarySnapshot::diaryDate).contains(LocalDate.of(2025, 1, 4));
+        clock.advance(Duration.ofSeconds(59));
+        assertThat(cache.get(USER_ID, loader)).map(DiarySnapshot::diaryDate).contains(LocalDate.of(2025, 1, 4));
+
+        // KST 1월 5일 00:00:30 - UTC 로는 아직 1월 4일 15시지만 서비스 시간대 기준으로 날이 바뀌었다
+        clock.advance(Duration.ofSeconds(31));
+        assertThat(cache.get(USER_ID, loader)).map(DiarySnapshot::diaryDate).contains(LocalDate.of(2025, 1, 5));
+
+        assertThat(loadedDays).containsExactly(LocalDate.of(2025, 1, 4), LocalDate.of(2025, 1, 5));
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 일기_없음도_캐시하고_무효화되면_다시_읽는다() {
+        Function<LocalDate, Optional<DiarySnapshot>> empty = recording(day -> Optional.empty());
+
+        assertThat(cache.get(USER_ID, empty)).isEmpty();
+        assertThat(cache.get(USER_ID, empty)).isEmpty();
+        assertThat(loadedDays).hasSize(1);
+
+        cache.invalidate(USER_ID);
+        Function<LocalDate, Optional<DiarySnapshot>> written = recording(day -> Optional.of(diary(day)));
+        assertThat(cache.get(USER_ID, written)).isPresent();
+        assertThat(cache.get(USER_ID, written)).isPresent();
+        assertThat(loadedDays).hasSize(2);
+    }
+
+    @Test
+    void 적재_중에_무효화되면_읽은_값을_저장하지_않는다() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // 일기 작성 커밋 전에 DB 를 읽어 '일기 없음'을 본 조회
+        Function<LocalDate, Optional<DiarySnapshot>> staleLoader = day -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.empty();
+        };
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<Optional<DiarySnapshot>> stale = executor.submit(() -> cache.get(USER_ID, staleLoader));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            // 그 사이 일기 작성이 커밋되어 무효화된다
+            cache.invalidate(USER_ID);
+            release.countDown();
+            assertThat(stale.get()).isEmpty();
+        }
+
+        Function<LocalDate, Optional<DiarySnapshot>> fresh = recording(day -> Optional.of(diary(day)));
+        assertThat(cache.get(USER_ID, fresh)).isPresent();
+        assertThat(loadedDays).hasSize(1);
+    }
+
+    private Function<LocalDate, Optional<DiarySnapshot>> recording(Function<LocalDate, Optional<DiarySnapshot>> loader) {
+        return day -> {
+            loadedDays.add(day);
+            return loader.apply(day);
+        };
+    }
+
+    private static DiarySnapshot diary(LocalDate day) {
+        LocalDateTime writtenAt = day.atTime(22, 0);
+        return new DiarySnapshot(10L, USER_ID, "happy", "오늘 일기", day, writtenAt, writtenAt, 0L);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.momo.backend.application.diary.transfer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import com.momo.backend.domain.diary.entity.Diary;
+import com.momo.backend.domain.diary.event.DiariesImportedEvent;
+import com.momo.backend.domain.diary.repository.DiaryCalendarMonthRepository;
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import com.momo.backend.presentation.dto.diary.response.DiaryInfo;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 내보내기 → 가져오기 왕복과, 잘못된 줄을 만났을 때 앞선 청크까지만 저장되는지 확인한다.
+ * 청크 저장 실패나 연결 끊김으로 중간에 끝나도 커밋된 행이 있으면 가져오기 이벤트가 발행되는지 확인한다.
+ * 테스트마다 다른 사용자 id 를 써서 서로의 일기가 섞이지 않게 한다.
+ * */
+@ActiveProfiles("test")
+@RecordApplicationEvents
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class DiaryTransferServiceTest {
+
+    @Autowired
+    private DiaryTransferService diaryTransferService;
+    @Autowired
+    private DiaryRepository diaryRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private DiaryCalendarMonthRepository calendarMonthRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void 내보낸_일기를_다른_사용자로_가져오면_내용이_그대로다() throws IOException {
+        diaryRepository.saveAll(List.of(
+                diary(90_001L, "happy", "친구들과 맛있는 음식을 먹었다.", LocalDate.of(2025, 1, 1)),
+                diary(90_001L, "sad", "비가 와서 \"우울\"했다.\n내일은 괜찮겠지.", LocalDate.of(2025, 1, 2)),
+                diary(90_001L, "calm", "조용히 책을 읽었다.", LocalDate.of(2025, 1, 2))
+        ));
+
+        ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        assertThat(diaryTransferService.exportDiaries(90_001L, exported)).isEqualTo(3);
+        int imported = diaryTransferService.importDiaries(90_002L, new ByteArrayInputStream(exported.toByteArray()));
+
+        ByteArrayOutputStream reExported = new ByteArrayOutputStream();
+        diaryTransferService.exportDiaries(90_002L, reExported);
+        assertThat(imported).isEqualTo(3);
+        assertThat(contentsOf(reExported)).containsExactlyElementsOf(contentsOf(exported));
+    }
+
+    @Test
+    void 깨진_줄을_만나면_그_앞_줄까지만_저장하고_줄_번호를_알려준다() {
+        String ndjson = line("happy", "첫째 날", "2025-02-01")
+                + line("sad", "둘째 날", "2025-02-02")
+                + "{\"emotionType\":\"happy\",\"content\":\"닫히지 않은 줄\n"
+                + line("calm", "넷째 날", "2025-02-04");
+
+        assertThatThrownBy(() -> diaryTransferService.importDiaries(90_003L, stream(ndjson)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("3번째 줄")
+                .hasMessageContaining("앞선 2건")
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_IMPORT_RECORD);
+        assertThat(diaryRepository.findAllCalendarRows(90_003L)).hasSize(2);
+    }
+
+    @Test
+    void 청크를_넘긴_뒤_잘못된_값을_만나도_커밋된_청크와_앞_줄은_남는다() {
+        StringBuilder ndjson = new StringBuilder();
+        IntStream.range(0, 501).forEach(i -> ndjson.append(line("happy", "일기 " + i, "2025-03-01")));
+        ndjson.append(line("angry-ish", "알 수 없는 감정", "2025-03-02"));
+
+        assertThatThrownBy(() -> diaryTransferService.importDiaries(90_004L, stream(ndjson.toString())))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("502번째 줄")
+                .hasMessageContaining("앞선 501건");
+        assertThat(diaryRepository.findAllCalendarRows(90_004L)).hasSize(501);
+    }
+
+    @Test
+    void 중간_청크_저장이_실패해도_커밋된_청크의_가져오기_이벤트는_발행된다() {
+        // 두 번째 청크 커밋만 실패시킨다 (첫 청크 → 실패 → 이벤트 발행 트랜잭션 순)
+        DiaryTransferService failingService = new DiaryTransferService(jdbcTemplate,
+                failingOnCommit(transactionManager, 2), entityManager, eventPublisher, objectMapper);
+        StringBuilder ndjson = new StringBuilder();
+        IntStream.range(0, 1200).forEach(i -> ndjson.append(line("happy", "일기 " + i, "2025-04-01")));
+
+        assertThatThrownBy(() -> failingService.importDiaries(90_005L, stream(ndjson.toString())))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        assertThat(diaryRepository.findAllCalendarRows(90_005L)).hasSize(500);
+        assertThat(importedCounts(90_005L)).containsExactly(500);
+        assertThat(calendarMonthRepository.findByUserId(90_005L)).hasSize(1);
+    }
+
+    @Test
+    void 읽는_도중_연결이_끊겨도_커밋된_청크의_가져오기_이벤트는_발행된다() {
+        StringBuilder ndjson = new StringBuilder();
+        IntStream.range(0, 501).forEach(i -> ndjson.append(line("calm", "일기 " + i, "2025-05-01")));
+        InputStream disconnected = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("연결 끊김");
+            }
+        };
+
+        assertThatThrownBy(() -> diaryTransferService.importDiaries(90_006L,
+                new SequenceInputStream(stream(ndjson.toString()), disconnected)))
+                .isInstanceOf(IOException.class);
+
+        assertThat(diaryRepository.findAllCalendarRows(90_006L)).hasSize(500);
+        assertThat(importedCounts(90_006L)).containsExactly(500);
+    }
+
+    private List<Integer> importedCounts(Long userId) {
+        return events.stream(DiariesImportedEvent.class)
+                .filter(event -> event.userId().equals(userId))
+                .map(DiariesImportedEvent::importedCount)
+                .toList();
+    }
+
+    /**
+     * failingCommit 번째 커밋을 롤백하고 DataAccessException 으로 실패시킨다.
+     * */
+    private static PlatformTransactionManager failingOnCommit(PlatformTransactionManager delegate, int failingCommit) {
+        AtomicInteger commits = new AtomicInteger();
+        return new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return delegate.getTransaction(definition);
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                if (commits.incrementAndGet() == failingCommit) {
+                    delegate.rollback(status);
+                    throw new DataAccessResourceFailureException("청크 저장 실패");
+                }
+                delegate.commit(status);
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                delegate.rollback(status);
+            }
+        };
+    }
+
+    private List<String> contentsOf(ByteArrayOutputStream ndjson) throws IOException {
+        List<String> contents = new ArrayList<>();
+        for (String line : ndjson.toString(StandardCharsets.UTF_8).split("\n")) {
+            DiaryInfo info = objectMapper.readValue(line, DiaryInfo.class);
+            contents.add(info.diaryDate() + "|" + info.emotionType() + "|" + info.content());
+        }
+        return contents;
+    }
+
+    private String line(String emotionType, String content, String diaryDate) {
+        try {
+            return objectMapper.writeValueAsString(new DiaryInfo(null, emotionType, content, diaryDate, null, null)) + "\n";
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static InputStream stream(String ndjson) {
+        return new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Diary diary(Long userId, String emotionType, String content, LocalDate diaryDate) {
+        return Diary.builder()
+                .userId(userId)
+                .emotionType(emotionType)
+                .content(content)
+                .diaryDate(diaryDate)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.momo.backend.application.diary.write;
+
+import com.momo.backend.application.diary.DiaryService;
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저녁 피크 모사: 동시 작성 요청을 단건 커밋과 write-behind 배치 커밋으로 처리했을 때의 커밋 수/처리량 비교
+ * 커밋 수는 Hibernate 통계의 성공 트랜잭션 수로 잰다. (커밋 후 프로젝션 갱신 트랜잭션 포함)
+ * ./gradlew benchmark --tests '*DiaryWriteBehindLoadTest'
+ * */
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.momo.backend=WARN"
+})
+class DiaryWriteBehindLoadTest {
+
+    private static final int THREADS = 64;
+    private static final int REQUESTS_PER_THREAD = 50;
+    private static final String CONTENT = "오늘은 정말 좋은 하루였다. 친구들과 맛있는 음식도 먹고 영화도 봤다.";
+
+    @Autowired
+    private DiaryService diaryService;
+    @Autowired
+    private DiaryRepository diaryRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void 단건_커밋과_write_behind_비교() throws Exception {
+        int requests = THREADS * REQUESTS_PER_THREAD;
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 사용자별 캘린더 프로젝션 행이 겹치지 않도록 스레드마다 다른 사용자로 작성한다
+        long committedBefore = statistics.getSuccessfulTransactionCount();
+        long directNanos = run(userId -> diaryService.createDiary(userId, "happy", CONTENT), 10_000L);
+        double directCommits = statistics.getSuccessfulTransactionCount() - committedBefore;
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DiaryWriteBehind writeBehind = new DiaryWriteBehind(
+                new DiaryWriteBehindProperties(true, 50, Duration.ofMillis(20), 10_000, Duration.ofSeconds(30)),
+                diaryRepository, eventPublisher, transactionTemplate, meterRegistry);
+        writeBehind.start();
+        long batchedNanos;
+        committedBefore = statistics.getSuccessfulTransactionCount();
+        try {
+            batchedNanos = run(userId -> writeBehind.create(userId, "happy", CONTENT, LocalDate.now()).orElseThrow(),
+                    20_000L);
+        } finally {
+            writeBehind.stop();
+        }
+        double batchedCommits = statistics.getSuccessfulTransactionCount() - committedBefore;
+        double batchCommits = meterRegistry.counter("momo.diary.write-behind.commits").count();
+
+        print("단건 커밋", requests, directCommits, directNanos);
+        print("write-behind", requests, batchedCommits, batchedNanos);
+        System.out.printf("[write-behind] 일기 배치 커밋 %,.0f회, 커밋당 평균 %.1f건%n", batchCommits, requests / batchCommits);
+
+        assertThat(directCommits).isGreaterThanOrEqualTo(requests);
+        assertThat(batchedCommits).isLessThan(directCommits);
+    }
+
+    private long run(UserRequest request, long userIdOffset) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                long userId = userIdOffset + thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        request.create(userId);
+                    }
+                    return null;
+                }));
+            }
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - startedAt;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void print(String label, int requests, double commits, long nanos) {
+        double seconds = nanos / 1_000_000_000.0;
+        System.out.printf("[%s] 요청 %,d건, 커밋 %,.0f회, %.2fs - 커밋 %,.0f/s, 저장 %,.0f건/s, 커밋당 평균 %.1f건%n",
+                label, requests, commits, seconds, commits / seconds, requests / seconds, requests / commits);
+    }
+
+    @FunctionalInterface
+    private interface UserRequest {
+        void create(long userId);
+    }
+}
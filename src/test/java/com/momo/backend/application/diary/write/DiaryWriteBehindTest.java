@@ -0,0 +1,155 @@
+package com.momo.backend.application.diary.write;
+
+import com.momo.backend.common.exception.BusinessException;
+import com.momo.backend.common.exception.ErrorCode;
+import com.momo.backend.domain.diary.entity.Diary;
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 대기 시간 초과 시 요청 스레드와 커밋 스레드의 인계(QUEUED/CLAIMED/CANCELLED)와 배치 실패 시 건별 재시도를 확인한다.
+ * 저장소와 트랜잭션 매니저는 mock 으로 두고, 저장(saveAll)을 래치로 붙잡아 순서를 만든다.
+ * */
+class DiaryWriteBehindTest {
+
+    private static final Duration AWAIT_TIMEOUT = Duration.ofMillis(100);
+
+    private final DiaryRepository diaryRepository = mock(DiaryRepository.class);
+    private final List<Integer> attemptedBatchSizes = new CopyOnWriteArrayList<>();
+    private final List<Long> savedUserIds = new CopyOnWriteArrayList<>();
+    private final ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor();
+    private DiaryWriteBehind writeBehind;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writeBehind.stop();
+        requests.shutdownNow();
+    }
+
+    @Test
+    void 배치에_들어가기_전에_대기_시간이_지나면_취소하고_503_으로_응답하며_저장하지_않는다() throws Exception {
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        start(1, Duration.ofMillis(1), diaries -> {
+            saving.countDown();
+            await(release);
+            return diaries;
+        });
+
+        // 첫 요청이 커밋 스레드를 붙잡은 동안 두 번째 요청은 큐에서 기다리다 시간이 지난다
+        CompletableFuture<Optional<Diary>> first = createAsync(1L);
+        assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> create(2L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.DIARY_WRITE_DELAYED);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isPresent();
+        writeBehind.stop();
+        assertThat(savedUserIds).containsExactly(1L);
+    }
+
+    @Test
+    void 배치에_들어간_뒤_대기_시간이_지나면_커밋_결과를_끝까지_기다린다() throws Exception {
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        start(1, Duration.ofMillis(1), diaries -> {
+            saving.countDown();
+            await(release);
+            return diaries;
+        });
+
+        CompletableFuture<Optional<Diary>> request = createAsync(1L);
+        assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+        // 요청 스레드의 대기 시간이 지난 뒤에 커밋을 끝낸다
+        Thread.sleep(AWAIT_TIMEOUT.toMillis() * 3);
+        assertThat(request).isNotDone();
+        release.countDown();
+
+        Optional<Diary> saved = request.get(5, TimeUnit.SECONDS);
+        assertThat(saved).isPresent();
+        assertThat(saved.get().getUserId()).isEqualTo(1L);
+        assertThat(savedUserIds).containsExactly(1L);
+    }
+
+    @Test
+    void 배치_저장이_실패하면_건별로_다시_저장하고_실패한_건만_오류로_돌려준다() throws Exception {
+        start(3, Duration.ofMillis(500), diaries -> {
+            if (diaries.size() > 1 || diaries.get(0).getUserId().equals(2L)) {
+                throw new DataIntegrityViolationException("저장 실패");
+            }
+            return diaries;
+        });
+
+        CompletableFuture<Optional<Diary>> first = createAsync(1L);
+        CompletableFuture<Optional<Diary>> broken = createAsync(2L);
+        CompletableFuture<Optional<Diary>> third = createAsync(3L);
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isPresent();
+        assertThat(third.get(5, TimeUnit.SECONDS)).isPresent();
+        assertThat(broken).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(DataIntegrityViolationException.class);
+        // 세 요청이 한 배치로 시도된 뒤 건별로 다시 저장되었다
+        assertThat(attemptedBatchSizes).startsWith(3);
+        assertThat(savedUserIds).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    private void start(int batchSize, Duration linger, Function<List<Diary>, List<Diary>> save) {
+        given(diaryRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Diary> batch = invocation.getArgument(0);
+            attemptedBatchSizes.add(batch.size());
+            List<Diary> diaries = save.apply(batch);
+            diaries.forEach(diary -> savedUserIds.add(diary.getUserId()));
+            return diaries;
+        });
+        writeBehind = new DiaryWriteBehind(
+                new DiaryWriteBehindProperties(true, batchSize, linger, 100, AWAIT_TIMEOUT),
+                diaryRepository, mock(ApplicationEventPublisher.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry());
+        writeBehind.start();
+    }
+
+    private Optional<Diary> create(Long userId) {
+        return writeBehind.create(userId, "happy", "write-behind 테스트", LocalDate.of(2025, 1, 4));
+    }
+
+    private CompletableFuture<Optional<Diary>> createAsync(Long userId) {
+        return CompletableFuture.supplyAsync(() -> create(userId), requests);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
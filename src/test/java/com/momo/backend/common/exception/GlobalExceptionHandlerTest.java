@@ -0,0 +1,40 @@
+package com.momo.backend.common.exception;
+
+import com.momo.backend.common.dto.ErrorResponse;
+import com.momo.backend.domain.analysis.entity.AnalysisJob;
+import com.momo.backend.domain.diary.entity.Diary;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 낙관적 락 충돌은 일기일 때만 일기 오류 코드로, 그 외 엔티티는 공통 충돌 코드로 응답한다.
+ * */
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void 일기_충돌은_일기_동시_수정_코드로_응답한다() {
+        ResponseEntity<ErrorResponse> response =
+                handler.handleOptimisticLockingFailure(new ObjectOptimisticLockingFailureException(Diary.class, 1L));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getBody().code()).isEqualTo(ErrorCode.DIARY_CONCURRENT_MODIFICATION.name());
+    }
+
+    @Test
+    void 일기가_아닌_엔티티_충돌은_공통_충돌_코드로_응답한다() {
+        ResponseEntity<ErrorResponse> response =
+                handler.handleOptimisticLockingFailure(new ObjectOptimisticLockingFailureException(AnalysisJob.class, 1L));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getBody().code()).isEqualTo(ErrorCode.CONCURRENT_MODIFICATION.name());
+    }
+}
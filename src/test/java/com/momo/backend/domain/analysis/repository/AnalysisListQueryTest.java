@@ -0,0 +1,108 @@
+package com.momo.backend.domain.analysis.repository;
+
+import com.momo.backend.domain.analysis.entity.Analysis;
+import com.momo.backend.domain.analysis.entity.AnalysisPeriod;
+import com.momo.backend.domain.analysis.entity.AnalysisRecommendation;
+import com.momo.backend.domain.analysis.entity.AnalysisResult;
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.infra.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 분석 목록이 페이지당 쿼리 한 번으로, 요약문/컬렉션 없이 읽히는지 Hibernate 통계로 확인한다.
+ * */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+class AnalysisListQueryTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private AnalysisRepository analysisRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate endDate = LocalDate.of(2025, 1, 31);
+        for (int i = 0; i < 25; i++) {
+            AnalysisType type = i % 2 == 0 ? AnalysisType.WEEKLY : AnalysisType.DAILY;
+            Analysis analysis = analysisRepository.save(Analysis.builder()
+                    .userId(USER_ID)
+                    .analysisType(type)
+                    .period(new AnalysisPeriod(endDate.minusDays(6), endDate))
+                    .diaryCount(5)
+                    .build());
+            if (i % 5 != 0) {
+                analysis.complete(new AnalysisResult("좋음", 7.5, List.of("joy", "calm"), "low", "요약문",
+                        List.of(new AnalysisRecommendation("walking", "산책", "설명", 15, "medium"))),
+                        "stub-1", "hash" + i, LocalDateTime.of(2025, 1, 31, 12, 0));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 목록_페이지는_쿼리_한_번으로_읽는다() {
+        Page<AnalysisListRow> page = analysisRepository.findListPage(USER_ID, null, null, PageRequest.of(1, 10));
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(25);
+        assertThat(page.getContent().get(0).overallMood()).isEqualTo("좋음");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    void 필터를_건_페이지도_쿼리_한_번으로_읽는다() {
+        Page<AnalysisListRow> page = analysisRepository.findListPage(
+                USER_ID, AnalysisStatus.COMPLETED, AnalysisType.WEEKLY, PageRequest.of(0, 3));
+
+        // 짝수 13개 중 5의 배수(0, 10, 20)를 뺀 10개
+        assertThat(page.getTotalElements()).isEqualTo(10);
+        assertThat(page.getContent()).allSatisfy(row -> {
+            assertThat(row.status()).isEqualTo(AnalysisStatus.COMPLETED);
+            assertThat(row.analysisType()).isEqualTo(AnalysisType.WEEKLY);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 범위를_벗어난_페이지만_count_쿼리를_추가로_실행한다() {
+        Page<AnalysisListRow> page = analysisRepository.findListPage(USER_ID, null, null, PageRequest.of(5, 10));
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(25);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,87 @@
+package com.momo.backend.domain.diary.entity;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일기 본문 압축률과 인코딩/디코딩 지연 측정
+ * ./gradlew benchmark --tests '*DiaryContentCodecBenchmarkTest'
+ * */
+@Tag("benchmark")
+class DiaryContentCodecBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURE_ITERATIONS = 50_000;
+
+    private static final String[] SENTENCES = {
+            "오늘은 정말 좋은 하루였다.", "친구들과 맛있는 음식도 먹고 영화도 봤다.",
+            "회사에서 발표가 있어서 긴장했지만 무사히 끝났다.", "비가 와서 하루 종일 집에 있었다.",
+            "운동을 다녀오니 기분이 한결 나아졌다.", "엄마와 통화하면서 오랜만에 많이 웃었다.",
+            "내일은 조금 더 일찍 일어나야겠다.", "별일 없는 평범한 하루였다."
+    };
+
+    @Test
+    void 본문_길이별_압축률과_지연() {
+        for (int sentences : new int[]{3, 10, 30, 100}) {
+            List<String> contents = sampleContents(sentences, 64);
+
+            long rawBytes = 0;
+            long storedBytes = 0;
+            List<byte[]> encoded = new ArrayList<>();
+            for (String content : contents) {
+                byte[] stored = DiaryContentCodec.encode(content);
+                assertThat(DiaryContentCodec.decode(stored)).isEqualTo(content);
+                rawBytes += content.getBytes(StandardCharsets.UTF_8).length;
+                storedBytes += stored.length;
+                encoded.add(stored);
+            }
+
+            long encodeNanos = measure(() -> {
+                for (String content : contents) {
+                    DiaryContentCodec.encode(content);
+                }
+            }) / contents.size();
+            long decodeNanos = measure(() -> {
+                for (byte[] stored : encoded) {
+                    DiaryContentCodec.decode(stored);
+                }
+            }) / contents.size();
+
+            System.out.printf("[문장 %d개] 평균 원문 %,d bytes -> 저장 %,d bytes (%.1f%%), encode %,d ns/op, decode %,d ns/op%n",
+                    sentences, rawBytes / contents.size(), storedBytes / contents.size(),
+                    100.0 * storedBytes / rawBytes, encodeNanos, decodeNanos);
+        }
+    }
+
+    private long measure(Runnable operation) {
+        int iterations = MEASURE_ITERATIONS / 64;
+        for (int i = 0; i < WARMUP_ITERATIONS / 64; i++) {
+            operation.run();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        return (System.nanoTime() - startedAt) / iterations;
+    }
+
+    private List<String> sampleContents(int sentences, int count) {
+        Random random = new Random(sentences);
+        List<String> contents = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder content = new StringBuilder();
+            for (int j = 0; j < sentences; j++) {
+                content.append(SENTENCES[random.nextInt(SENTENCES.length)]).append(' ');
+            }
+            contents.add(content.toString().trim());
+        }
+        return contents;
+    }
+}
@@ -0,0 +1,46 @@
+package com.momo.backend.domain.diary.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiaryContentCodecTest {
+
+    @Test
+    void 짧은_본문은_원문_헤더로_저장된다() {
+        byte[] stored = DiaryContentCodec.encode("오늘은 정말 좋은 하루였다.");
+
+        assertThat(stored[0]).isEqualTo(DiaryContentCodec.RAW);
+        assertThat(DiaryContentCodec.decode(stored)).isEqualTo("오늘은 정말 좋은 하루였다.");
+        assertThat(DiaryContentCodec.needsRecompaction(stored)).isFalse();
+    }
+
+    @Test
+    void 긴_본문은_압축되고_그대로_복원된다() {
+        String content = "친구들과 맛있는 음식도 먹고 영화도 봤다. ".repeat(40);
+
+        byte[] stored = DiaryContentCodec.encode(content);
+
+        assertThat(stored[0]).isEqualTo(DiaryContentCodec.DEFLATED);
+        assertThat(stored.length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(DiaryContentCodec.decode(stored)).isEqualTo(content);
+        assertThat(DiaryContentCodec.needsRecompaction(stored)).isFalse();
+    }
+
+    @Test
+    void 헤더_없는_기존_행은_UTF8_로_읽고_재압축_대상이다() {
+        String content = "헤더 도입 전에 저장된 일기";
+        byte[] legacy = content.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(DiaryContentCodec.decode(legacy)).isEqualTo(content);
+        assertThat(DiaryContentCodec.needsRecompaction(legacy)).isTrue();
+    }
+
+    @Test
+    void 빈_본문도_복원된다() {
+        assertThat(DiaryContentCodec.decode(DiaryContentCodec.encode(""))).isEmpty();
+        assertThat(DiaryContentCodec.decode(new byte[0])).isEmpty();
+    }
+}
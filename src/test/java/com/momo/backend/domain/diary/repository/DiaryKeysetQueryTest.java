@@ -0,0 +1,128 @@
+package com.momo.backend.domain.diary.repository;
+
+import com.momo.backend.domain.diary.entity.Diary;
+import com.momo.backend.infra.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키셋(커서) 조회가 (diaryDate, id) 내림차순으로 빠짐·중복 없이 이어지는지 확인한다.
+ * 같은 날짜에 일기가 여러 개인 경우(페이지 경계가 같은 날짜 중간에 걸리는 경우)와 필터 조합을 함께 본다.
+ * */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+class DiaryKeysetQueryTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+    private static final DiarySearchCondition NO_FILTER = new DiarySearchCondition(null, null);
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Diary jan1Happy;
+    private Diary jan2Sad;
+    private Diary jan3Happy;
+    private Diary jan3Sad;
+    private Diary jan3Calm;
+    private Diary jan3HappyLatest;
+
+    @BeforeEach
+    void setUp() {
+        // id 는 저장 순서대로 커지므로 같은 날짜 안에서는 나중에 저장한 일기가 먼저 나온다
+        jan3Happy = save(USER_ID, "happy", LocalDate.of(2025, 1, 3));
+        jan1Happy = save(USER_ID, "happy", LocalDate.of(2025, 1, 1));
+        jan3Sad = save(USER_ID, "sad", LocalDate.of(2025, 1, 3));
+        jan2Sad = save(USER_ID, "sad", LocalDate.of(2025, 1, 2));
+        jan3Calm = save(USER_ID, "calm", LocalDate.of(2025, 1, 3));
+        jan3HappyLatest = save(USER_ID, "happy", LocalDate.of(2025, 1, 3));
+        save(OTHER_USER_ID, "happy", LocalDate.of(2025, 1, 3));
+        save(OTHER_USER_ID, "happy", LocalDate.of(2025, 1, 2));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void 첫_페이지는_날짜_id_내림차순이다() {
+        List<Diary> firstPage = diaryRepository.findSliceBefore(USER_ID, NO_FILTER, null, null, 3);
+
+        assertThat(ids(firstPage)).containsExactly(jan3HappyLatest.getId(), jan3Calm.getId(), jan3Sad.getId());
+    }
+
+    @Test
+    void 같은_날짜_중간에서_끊겨도_커서로_빠짐_중복_없이_이어진다() {
+        List<Long> all = readAll(NO_FILTER, 2);
+
+        assertThat(all).containsExactly(
+                jan3HappyLatest.getId(), jan3Calm.getId(),
+                jan3Sad.getId(), jan3Happy.getId(),
+                jan2Sad.getId(), jan1Happy.getId());
+    }
+
+    @Test
+    void 커서_행_자체는_다음_페이지에_포함되지_않는다() {
+        List<Diary> next = diaryRepository.findSliceBefore(
+                USER_ID, NO_FILTER, jan3Calm.getDiaryDate(), jan3Calm.getId(), 10);
+
+        assertThat(ids(next)).containsExactly(jan3Sad.getId(), jan3Happy.getId(), jan2Sad.getId(), jan1Happy.getId());
+    }
+
+    @Test
+    void 감정과_시작날짜_필터를_커서와_함께_적용한다() {
+        assertThat(readAll(new DiarySearchCondition("happy", null), 1))
+                .containsExactly(jan3HappyLatest.getId(), jan3Happy.getId(), jan1Happy.getId());
+        assertThat(readAll(new DiarySearchCondition(null, LocalDate.of(2025, 1, 2)), 2))
+                .containsExactly(jan3HappyLatest.getId(), jan3Calm.getId(), jan3Sad.getId(), jan3Happy.getId(),
+                        jan2Sad.getId());
+        assertThat(readAll(new DiarySearchCondition("sad", LocalDate.of(2025, 1, 2)), 1))
+                .containsExactly(jan3Sad.getId(), jan2Sad.getId());
+    }
+
+    /**
+     * 서비스처럼 마지막 행을 커서로 삼아 빈 페이지가 나올 때까지 읽는다.
+     * */
+    private List<Long> readAll(DiarySearchCondition condition, int pageSize) {
+        List<Long> ids = new ArrayList<>();
+        LocalDate cursorDate = null;
+        Long cursorId = null;
+        while (true) {
+            List<Diary> page = diaryRepository.findSliceBefore(USER_ID, condition, cursorDate, cursorId, pageSize);
+            if (page.isEmpty()) {
+                return ids;
+            }
+            ids.addAll(ids(page));
+            Diary last = page.get(page.size() - 1);
+            cursorDate = last.getDiaryDate();
+            cursorId = last.getId();
+        }
+    }
+
+    private Diary save(Long userId, String emotionType, LocalDate diaryDate) {
+        return diaryRepository.save(Diary.builder()
+                .userId(userId)
+                .emotionType(emotionType)
+                .content("내용")
+                .diaryDate(diaryDate)
+                .build());
+    }
+
+    private static List<Long> ids(List<Diary> diaries) {
+        return diaries.stream().map(Diary::getId).toList();
+    }
+}
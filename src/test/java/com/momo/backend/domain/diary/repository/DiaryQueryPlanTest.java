@@ -0,0 +1,68 @@
+package com.momo.backend.domain.diary.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행 계획 회귀 검사 - 캘린더/목록/오늘 일기 조회가 (user_id, diary_date, id) 인덱스를 고르는지만 H2 에서 확인한다.
+ * 테스트 DB(H2)는 엔티티 매핑으로 만든 일반 테이블이므로 PostgreSQL 의 파티션 프루닝과
+ * INCLUDE (emotion_type) 커버링(index-only scan)은 여기서 확인하지 않는다. (PostgreSQL 에서 EXPLAIN 으로 따로 확인)
+ * */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DiaryQueryPlanTest {
+
+    private static final String INDEX_NAME = "IDX_DIARY_USER_DATE_ID";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 캘린더_조회는_인덱스를_탄다() {
+        String plan = explain("""
+                select id, diary_date, emotion_type
+                from diary
+                where user_id = 1 and diary_date between date '2025-01-01' and date '2025-01-31'
+                order by diary_date, id
+                """);
+
+        assertThat(plan.toUpperCase()).contains(INDEX_NAME);
+    }
+
+    @Test
+    void 목록_커서_조회는_인덱스_순서로_읽는다() {
+        String plan = explain("""
+                select *
+                from diary
+                where user_id = 1 and (diary_date, id) < (date '2025-01-31', 100)
+                order by diary_date desc, id desc
+                fetch first 21 rows only
+                """);
+
+        assertThat(plan.toUpperCase()).contains(INDEX_NAME);
+    }
+
+    @Test
+    void 오늘_일기_조회는_인덱스를_탄다() {
+        String plan = explain("""
+                select *
+                from diary
+                where user_id = 1 and diary_date = date '2025-01-04'
+                order by id desc
+                fetch first 1 rows only
+                """);
+
+        assertThat(plan.toUpperCase()).contains(INDEX_NAME);
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class));
+    }
+}
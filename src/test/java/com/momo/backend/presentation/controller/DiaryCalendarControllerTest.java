@@ -0,0 +1,153 @@
+package com.momo.backend.presentation.controller;
+
+import com.momo.backend.domain.diary.entity.Diary;
+import com.momo.backend.domain.diary.entity.EmotionType;
+import com.momo.backend.domain.diary.event.DiaryChangedEvent;
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import com.momo.backend.presentation.dto.diary.response.DiaryCalendarCompactResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 캘린더 조회 ETag - 같은 달 내용이면 304, 일기가 바뀌면 새 ETag, 포맷별로 다른 ETag
+ * 포맷 선택 - format=compact 또는 압축 포맷 Accept 헤더면 압축 응답, 아니면 기본 JSON 응답
+ * 테스트마다 다른 달을 써서 서로의 일기가 섞이지 않게 한다.
+ * */
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class DiaryCalendarControllerTest {
+
+    // CurrentUserIdArgumentResolver 가 돌려주는 기본 사용자
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private DiaryRepository diaryRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void 캘린더가_바뀌지_않았으면_304_로_응답하고_일기가_바뀌면_새_ETag_를_준다() throws Exception {
+        write("happy", LocalDate.of(2024, 11, 3));
+        String etag = calendarETag(2024, 11);
+
+        mockMvc.perform(get("/api/v1/diaries/calendar").param("year", "2024").param("month", "11")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        Diary added = write("sad", LocalDate.of(2024, 11, 5));
+        String newEtag = mockMvc.perform(get("/api/v1/diaries/calendar").param("year", "2024").param("month", "11")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.calendar['2024-11-05'].id").value(added.getId()))
+                .andExpect(jsonPath("$.data.calendar['2024-11-05'].emotionType").value("sad"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    void 같은_내용이라도_압축_포맷은_다른_ETag_를_쓰고_Accept_로_캐시를_나눈다() throws Exception {
+        write("calm", LocalDate.of(2024, 10, 7));
+
+        String jsonEtag = calendarETag(2024, 10);
+        String compactEtag = mockMvc.perform(get("/api/v1/diaries/calendar")
+                        .param("year", "2024").param("month", "10").param("format", "compact"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(compactEtag).isNotNull().isNotEqualTo(jsonEtag);
+        // JSON 응답의 ETag 로 압축 포맷을 물으면 304 가 아니다
+        mockMvc.perform(get("/api/v1/diaries/calendar").param("year", "2024").param("month", "10")
+                        .param("format", "compact").header(HttpHeaders.IF_NONE_MATCH, jsonEtag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void format_파라미터나_Accept_헤더로_압축_포맷을_고른다() throws Exception {
+        Diary diary = write("tired", LocalDate.of(2024, 9, 3));
+
+        mockMvc.perform(get("/api/v1/diaries/calendar").param("year", "2024").param("month", "9"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.calendar['2024-09-03'].id").value(diary.getId()))
+                .andExpect(jsonPath("$.data.days").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/diaries/calendar").param("year", "2024").param("month", "9")
+                        .param("format", DiaryCalendarCompactResponse.FORMAT))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(DiaryCalendarCompactResponse.MEDIA_TYPE))
+                .andExpect(compactCalendar(diary));
+
+        mockMvc.perform(get("/api/v1/diaries/calendar").param("year", "2024").param("month", "9")
+                        .header(HttpHeaders.ACCEPT, DiaryCalendarCompactResponse.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(DiaryCalendarCompactResponse.MEDIA_TYPE))
+                .andExpect(compactCalendar(diary));
+    }
+
+    // 2024-09 는 30일, 3일(index 2)에만 [일기 ID, 감정 코드] 가 있다
+    private static ResultMatcher compactCalendar(Diary diary) {
+        return ResultMatcher.matchAll(
+                jsonPath("$.data.year").value(2024),
+                jsonPath("$.data.month").value(9),
+                jsonPath("$.data.days.length()").value(30),
+                jsonPath("$.data.days[0]").value(nullValue()),
+                jsonPath("$.data.days[2][0]").value(diary.getId()),
+                jsonPath("$.data.days[2][1]").value((int) EmotionType.TIRED.getCode()),
+                jsonPath("$.data.emotions['" + EmotionType.TIRED.getCode() + "']").value("tired"),
+                jsonPath("$.data.emotionsVersion").isNumber(),
+                jsonPath("$.data.calendar").doesNotExist());
+    }
+
+    private String calendarETag(int year, int month) throws Exception {
+        return mockMvc.perform(get("/api/v1/diaries/calendar")
+                        .param("year", String.valueOf(year)).param("month", String.valueOf(month)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private Diary write(String emotionType, LocalDate diaryDate) {
+        return transactionTemplate.execute(status -> {
+            Diary diary = diaryRepository.save(Diary.builder()
+                    .userId(USER_ID)
+                    .emotionType(emotionType)
+                    .content("캘린더 ETag 테스트")
+                    .diaryDate(diaryDate)
+                    .build());
+            eventPublisher.publishEvent(DiaryChangedEvent.of(diary, DiaryChangedEvent.ChangeType.CREATED));
+            return diary;
+        });
+    }
+}
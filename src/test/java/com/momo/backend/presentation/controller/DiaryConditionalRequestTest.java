@@ -0,0 +1,162 @@
+package com.momo.backend.presentation.controller;
+
+import com.momo.backend.domain.diary.entity.Diary;
+import com.momo.backend.domain.diary.event.DiaryChangedEvent;
+import com.momo.backend.domain.diary.repository.DiaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일기 조건부 요청 - If-None-Match(304), If-Match(412), 낙관적 락 충돌(409)
+ * 컨트롤러부터 DB 까지 실제 구성으로 확인한다.
+ * */
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class DiaryConditionalRequestTest {
+
+    // CurrentUserIdArgumentResolver 가 돌려주는 기본 사용자
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private DiaryRepository diaryRepository;
+    @Autowired
+    private ConcurrentWriter concurrentWriter;
+
+    private Long diaryId;
+
+    @BeforeEach
+    void setUp() {
+        diaryId = diaryRepository.save(Diary.builder()
+                .userId(USER_ID)
+                .emotionType("happy")
+                .content("처음 쓴 일기")
+                .diaryDate(LocalDate.of(2025, 1, 4))
+                .build()).getId();
+    }
+
+    @Test
+    void If_None_Match_가_현재_ETag_와_같으면_본문_없이_304_로_응답한다() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/diaries/{id}", diaryId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/diaries/{id}", diaryId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        // 수정된 뒤에는 같은 ETag 로 물어도 새 본문을 받는다
+        update("calm", "고친 일기", null);
+        mockMvc.perform(get("/api/v1/diaries/{id}", diaryId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content").value("고친 일기"));
+    }
+
+    @Test
+    void If_Match_가_그사이_바뀐_버전이면_412_로_거절하고_덮어쓰지_않는다() throws Exception {
+        String staleEtag = mockMvc.perform(get("/api/v1/diaries/{id}", diaryId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String newEtag = update("calm", "먼저 고친 일기", staleEtag)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(staleEtag);
+
+        update("sad", "늦게 고친 일기", staleEtag)
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code").value("DIARY_VERSION_MISMATCH"));
+        assertThat(diaryRepository.findById(diaryId).orElseThrow().getContent()).isEqualTo("먼저 고친 일기");
+    }
+
+    @Test
+    void 커밋_시점에_다른_수정이_먼저_커밋됐으면_409_로_응답한다() throws Exception {
+        // 버전 검사를 통과한 뒤 커밋 전에 다른 트랜잭션이 같은 일기를 고쳐 커밋한다
+        concurrentWriter.arm(diaryId);
+
+        update("sad", "늦게 고친 일기", null)
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("DIARY_CONCURRENT_MODIFICATION"));
+        assertThat(diaryRepository.findById(diaryId).orElseThrow().getContent()).isEqualTo("동시에 고친 일기");
+    }
+
+    private ResultActions update(String emotionType, String content, String ifMatch) throws Exception {
+        MockHttpServletRequestBuilder request = put("/api/v1/diaries/{id}", diaryId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"emotionType\":\"" + emotionType + "\",\"content\":\"" + content + "\"}");
+        if (ifMatch != null) {
+            request.header(HttpHeaders.IF_MATCH, ifMatch);
+        }
+        return mockMvc.perform(request);
+    }
+
+    @TestConfiguration
+    static class ConcurrentWriterConfig {
+
+        @Bean
+        ConcurrentWriter concurrentWriter(DiaryRepository diaryRepository, TransactionTemplate transactionTemplate) {
+            return new ConcurrentWriter(diaryRepository, transactionTemplate);
+        }
+    }
+
+    /**
+     * 수정 트랜잭션 안에서 발행되는 일기 변경 이벤트를 받아, 한 번만 다른 스레드에서 같은 일기를 고쳐 커밋한다.
+     * */
+    static class ConcurrentWriter {
+
+        private final DiaryRepository diaryRepository;
+        private final TransactionTemplate transactionTemplate;
+        private volatile Long targetId;
+
+        ConcurrentWriter(DiaryRepository diaryRepository, TransactionTemplate transactionTemplate) {
+            this.diaryRepository = diaryRepository;
+            this.transactionTemplate = transactionTemplate;
+        }
+
+        void arm(Long diaryId) {
+            targetId = diaryId;
+        }
+
+        @EventListener
+        public void on(DiaryChangedEvent event) {
+            Long id = targetId;
+            if (id == null || !id.equals(event.diaryId())) {
+                return;
+            }
+            targetId = null;
+            CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status ->
+                    diaryRepository.findById(id).orElseThrow().update("calm", "동시에 고친 일기"))).join();
+        }
+    }
+}
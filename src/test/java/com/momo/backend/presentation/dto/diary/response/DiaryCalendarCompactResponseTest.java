@@ -0,0 +1,66 @@
+package com.momo.backend.presentation.dto.diary.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momo.backend.application.diary.calendar.DiaryCalendarSnapshot;
+import com.momo.backend.domain.diary.entity.CalendarMonthDays;
+import com.momo.backend.domain.diary.entity.EmotionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 압축 포맷 응답을 JSON 으로 직렬화한 뒤 감정 코드 사전으로 다시 풀면
+ * 프로젝션(CalendarMonthDays 인코딩)과 같은 일자/일기 ID/감정이 나와야 한다.
+ * */
+class DiaryCalendarCompactResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 압축_포맷을_풀면_프로젝션과_같은_캘린더가_된다() throws Exception {
+        YearMonth yearMonth = YearMonth.of(2024, 2);
+        CalendarMonthDays days = CalendarMonthDays.empty()
+                .with(1, 101L, EmotionType.HAPPY.getCode())
+                .with(14, 114L, EmotionType.SAD.getCode())
+                .with(29, 129L, EmotionType.ANGRY.getCode());
+        // 프로젝션 행에 저장했다 읽은 값으로 응답을 만든다
+        CalendarMonthDays stored = CalendarMonthDays.decode(days.encode());
+
+        DiaryCalendarCompactResponse response =
+                DiaryCalendarCompactResponse.from(new DiaryCalendarSnapshot(1L, yearMonth, stored, 0L));
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(response));
+
+        assertThat(json.get("year").asInt()).isEqualTo(2024);
+        assertThat(json.get("month").asInt()).isEqualTo(2);
+        assertThat(json.get("days")).hasSize(yearMonth.lengthOfMonth());
+
+        CalendarMonthDays decoded = CalendarMonthDays.empty();
+        JsonNode emotions = json.get("emotions");
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            JsonNode entry = json.get("days").get(day - 1);
+            if (entry.isNull()) {
+                continue;
+            }
+            String emotion = emotions.get(entry.get(1).asText()).asText();
+            decoded = decoded.with(day, entry.get(0).asLong(), EmotionType.from(emotion).getCode());
+        }
+
+        assertThat(decoded.encode()).isEqualTo(days.encode());
+        assertThat(decoded.count()).isEqualTo(3);
+    }
+
+    @Test
+    void 감정_코드_사전은_모든_감정을_담는다() {
+        DiaryCalendarCompactResponse response = DiaryCalendarCompactResponse.from(
+                new DiaryCalendarSnapshot(1L, YearMonth.of(2024, 3), CalendarMonthDays.empty(), 0L));
+
+        assertThat(response.days()).hasSize(31).containsOnlyNulls();
+        assertThat(response.emotions()).hasSize(EmotionType.values().length);
+        for (EmotionType type : EmotionType.values()) {
+            assertThat(response.emotions()).containsEntry((int) type.getCode(), type.getValue());
+        }
+    }
+}
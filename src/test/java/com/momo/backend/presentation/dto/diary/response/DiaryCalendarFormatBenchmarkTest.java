@@ -0,0 +1,116 @@
+package com.momo.backend.presentation.dto.diary.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momo.backend.application.diary.calendar.DiaryCalendarSnapshot;
+import com.momo.backend.common.dto.BaseResponse;
+import com.momo.backend.domain.diary.entity.CalendarMonthDays;
+import com.momo.backend.domain.diary.entity.EmotionType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캘린더 기본 포맷 vs 압축 포맷 직렬화 크기/할당량 비교
+ * ./gradlew benchmark --tests '*DiaryCalendarFormatBenchmarkTest'
+ * */
+@Tag("benchmark")
+class DiaryCalendarFormatBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURE_ITERATIONS = 50_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void 한달_캘린더_직렬화_비교() throws Exception {
+        List<DiaryCalendarSnapshot> month = List.of(fullMonth(YearMonth.of(2025, 1)));
+
+        Result standard = measure(month, DiaryCalendarResponse::from);
+        Result compact = measure(month, DiaryCalendarCompactResponse::from);
+        print("1개월", standard, compact);
+
+        assertThat(compact.bytes()).isLessThan(standard.bytes());
+        assertThat(compact.allocatedBytesPerOp()).isLessThan(standard.allocatedBytesPerOp());
+    }
+
+    @Test
+    void 일년_캘린더_직렬화_비교() throws Exception {
+        List<DiaryCalendarSnapshot> year = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            year.add(fullMonth(YearMonth.of(2025, month)));
+        }
+
+        Result standard = measure(year, DiaryCalendarResponse::from);
+        Result compact = measure(year, DiaryCalendarCompactResponse::from);
+        print("12개월", standard, compact);
+
+        assertThat(compact.bytes()).isLessThan(standard.bytes());
+        assertThat(compact.allocatedBytesPerOp()).isLessThan(standard.allocatedBytesPerOp());
+    }
+
+    private Result measure(List<DiaryCalendarSnapshot> snapshots,
+                           Function<DiaryCalendarSnapshot, ?> mapper) throws Exception {
+        long bytes = 0;
+        for (DiaryCalendarSnapshot snapshot : snapshots) {
+            bytes += serialize(snapshot, mapper).length;
+        }
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            serializeAll(snapshots, mapper);
+        }
+
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            serializeAll(snapshots, mapper);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        return new Result(bytes, allocated / MEASURE_ITERATIONS, elapsedNanos / MEASURE_ITERATIONS);
+    }
+
+    private void serializeAll(List<DiaryCalendarSnapshot> snapshots,
+                              Function<DiaryCalendarSnapshot, ?> mapper) throws Exception {
+        for (DiaryCalendarSnapshot snapshot : snapshots) {
+            serialize(snapshot, mapper);
+        }
+    }
+
+    private byte[] serialize(DiaryCalendarSnapshot snapshot,
+                             Function<DiaryCalendarSnapshot, ?> mapper) throws Exception {
+        return objectMapper.writeValueAsBytes(new BaseResponse<>(true, mapper.apply(snapshot)));
+    }
+
+    // 최악의 경우: 매일 일기를 작성한 달
+    private DiaryCalendarSnapshot fullMonth(YearMonth yearMonth) {
+        EmotionType[] emotionTypes = EmotionType.values();
+        CalendarMonthDays days = CalendarMonthDays.empty();
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            long diaryId = 10_000_000L + yearMonth.getMonthValue() * 100L + day;
+            days = days.with(day, diaryId, emotionTypes[day % emotionTypes.length].getCode());
+        }
+        return new DiaryCalendarSnapshot(1L, yearMonth, days, 0L);
+    }
+
+    private void print(String label, Result standard, Result compact) {
+        System.out.printf("[%s] 기본 포맷: %,d bytes, %,d B/op, %,d ns/op%n",
+                label, standard.bytes(), standard.allocatedBytesPerOp(), standard.nanosPerOp());
+        System.out.printf("[%s] 압축 포맷: %,d bytes, %,d B/op, %,d ns/op (크기 %.1f%%, 할당 %.1f%%)%n",
+                label, compact.bytes(), compact.allocatedBytesPerOp(), compact.nanosPerOp(),
+                100.0 * compact.bytes() / standard.bytes(),
+                100.0 * compact.allocatedBytesPerOp() / standard.allocatedBytesPerOp());
+    }
+
+    private record Result(long bytes, long allocatedBytesPerOp, long nanosPerOp) {
+    }
+}
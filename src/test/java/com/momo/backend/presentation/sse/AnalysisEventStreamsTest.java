@@ -0,0 +1,127 @@
+package com.momo.backend.presentation.sse;
+
+import com.momo.backend.application.analysis.AnalysisService;
+import com.momo.backend.application.analysis.AnalysisSnapshot;
+import com.momo.backend.application.analysis.feedback.AnalysisFeedbackService;
+import com.momo.backend.domain.analysis.entity.AnalysisPeriod;
+import com.momo.backend.domain.analysis.entity.AnalysisResult;
+import com.momo.backend.domain.analysis.entity.AnalysisStatus;
+import com.momo.backend.domain.analysis.entity.AnalysisType;
+import com.momo.backend.domain.analysis.event.AnalysisFinishedEvent;
+import com.momo.backend.presentation.auth.CurrentUserIdArgumentResolver;
+import com.momo.backend.presentation.controller.AnalysisController;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 완료 이벤트가 구독 등록보다 먼저 지나간 경우의 재확인과, heartbeat 의 끊긴 연결 정리를 확인한다.
+ * 연결 수는 momo.analysis.events.connections 게이지로 본다.
+ * */
+class AnalysisEventStreamsTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final AnalysisService analysisService = mock(AnalysisService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AnalysisEventStreams streams;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        streams = new AnalysisEventStreams(analysisService,
+                new AnalysisEventProperties(Duration.ofMinutes(30), Duration.ofSeconds(30)), meterRegistry);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new AnalysisController(analysisService, mock(AnalysisFeedbackService.class), streams))
+                .setCustomArgumentResolvers(new CurrentUserIdArgumentResolver())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        streams.stop();
+    }
+
+    @Test
+    void 등록_전에_분석이_끝났어도_재확인으로_최종_결과를_받고_닫힌다() throws Exception {
+        // 첫 조회는 진행 중, 등록 뒤 재확인 때는 이미 완료 (그 사이 완료 이벤트는 구독자가 없어 버려졌다)
+        given(analysisService.getAnalysis(USER_ID, 10L))
+                .willReturn(snapshot(10L, AnalysisStatus.PROCESSING), snapshot(10L, AnalysisStatus.COMPLETED));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/analysis/{id}/events", 10L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body).contains("event:status", "\"status\":\"processing\"",
+                "\"status\":\"completed\"", "event:analysis", "한 주 동안 안정적이었습니다.");
+        assertThat(body.indexOf("event:analysis")).isGreaterThan(body.lastIndexOf("event:status"));
+        assertThat(connections()).isZero();
+    }
+
+    @Test
+    void 완료_이벤트가_구독자_없이_지나간_뒤에는_구독_목록에_남지_않는다() {
+        given(analysisService.getAnalysis(USER_ID, 11L))
+                .willReturn(snapshot(11L, AnalysisStatus.PROCESSING), snapshot(11L, AnalysisStatus.FAILED));
+
+        streams.on(new AnalysisFinishedEvent(11L, USER_ID, AnalysisStatus.FAILED));
+        streams.subscribe(USER_ID, 11L);
+
+        assertThat(connections()).isZero();
+    }
+
+    @Test
+    void heartbeat_는_끊긴_연결만_정리한다() throws InterruptedException {
+        given(analysisService.getAnalysis(USER_ID, 20L)).willReturn(snapshot(20L, AnalysisStatus.PROCESSING));
+        given(analysisService.getAnalysis(USER_ID, 21L)).willReturn(snapshot(21L, AnalysisStatus.PROCESSING));
+        SseEmitter dead = streams.subscribe(USER_ID, 20L);
+        streams.subscribe(USER_ID, 21L);
+        assertThat(connections()).isEqualTo(2);
+
+        // 닫힘 콜백 없이 끊긴 연결 - 이후 전송은 IllegalStateException 으로 실패한다
+        dead.complete();
+        streams.heartbeat();
+
+        awaitConnections(1);
+        assertThat(connections()).isEqualTo(1);
+    }
+
+    private void awaitConnections(int expected) throws InterruptedException {
+        // heartbeat 전송은 가상 스레드에서 비동기로 돈다
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (connections() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private double connections() {
+        return meterRegistry.get("momo.analysis.events.connections").gauge().value();
+    }
+
+    private static AnalysisSnapshot snapshot(Long id, AnalysisStatus status) {
+        AnalysisResult result = status == AnalysisStatus.COMPLETED
+                ? new AnalysisResult("평온", 0.7, List.of("calm"), "low", "한 주 동안 안정적이었습니다.", List.of())
+                : null;
+        return new AnalysisSnapshot(id, USER_ID, AnalysisType.WEEKLY, status,
+                new AnalysisPeriod(LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 12)), 5, result,
+                LocalDateTime.of(2025, 1, 13, 9, 0),
+                status.isFinished() ? LocalDateTime.of(2025, 1, 13, 9, 1) : null);
+    }
+}